@@ -25,15 +25,18 @@ import java.util.stream.Collectors;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
+import io.quarkus.arc.processor.ObserverInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.runtime.RuntimeValue;
 import org.apache.camel.CamelContext;
 import org.apache.camel.quarkus.core.CamelConfig;
 import org.apache.camel.quarkus.core.CamelContextRecorder;
+import org.apache.camel.quarkus.core.CamelLifecycleEventBridge;
 import org.apache.camel.quarkus.core.deployment.spi.CamelBootClockBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelComponentNameResolverBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
@@ -50,8 +53,11 @@ import org.apache.camel.quarkus.core.deployment.spi.RuntimeCamelContextCustomize
 import org.apache.camel.quarkus.core.deployment.util.CamelSupport;
 import org.apache.camel.spi.ModelJAXBContextFactory;
 import org.apache.camel.spi.TypeConverterRegistry;
+import org.jboss.logging.Logger;
 
 public class CamelContextProcessor {
+    private static final Logger LOG = Logger.getLogger(CamelContextProcessor.class);
+
     /**
      * This build step is responsible to assemble a {@link CamelContext} instance.
      *
@@ -130,13 +136,15 @@ public class CamelContextProcessor {
      * @param beanDiscovery build item containing the results of bean discovery
      * @param context       build item containing the CamelContext instance
      * @param recorder      the CamelContext recorder instance
+     * @param config        the Camel build time configuration
      */
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep(onlyIf = EventBridgeEnabled.class)
     public void registerCamelEventBridges(
             BeanDiscoveryFinishedBuildItem beanDiscovery,
             CamelContextBuildItem context,
-            CamelContextRecorder recorder) {
+            CamelContextRecorder recorder,
+            CamelConfig config) {
 
         Set<String> observedLifecycleEvents = beanDiscovery.getObservers()
                 .stream()
@@ -148,20 +156,32 @@ public class CamelContextProcessor {
         // observe events on either the Camel event interface or the concrete event class, and
         // these are located in different packages
         final Pattern pattern = Pattern.compile("org.apache.camel(?!.quarkus).*Event$");
-        Set<String> observedManagementEvents = beanDiscovery.getObservers()
+        List<ObserverInfo> managementEventObservers = beanDiscovery.getObservers()
+                .stream()
+                .filter(observerInfo -> pattern.matcher(observerInfo.getObservedType().name().toString()).matches())
+                .toList();
+        Set<String> observedManagementEvents = managementEventObservers
                 .stream()
                 .map(observerInfo -> observerInfo.getObservedType().name().toString())
-                .filter(className -> pattern.matcher(className).matches())
                 .map(className -> CamelSupport.loadClass(className, Thread.currentThread().getContextClassLoader()))
                 .map(observedEventClass -> observedEventClass.getSimpleName())
                 .collect(Collectors.collectingAndThen(Collectors.toUnmodifiableSet(), HashSet::new));
+        boolean hasAsyncObservers = managementEventObservers.stream().anyMatch(ObserverInfo::isAsync);
+        if (hasAsyncObservers && !config.eventBridge().async().enabled()) {
+            // Firing asynchronously from the exchange thread is only done when explicitly enabled
+            LOG.warnf("@ObservesAsync observers of Camel management events are not notified unless"
+                    + " quarkus.camel.event-bridge.async.enabled is true");
+            hasAsyncObservers = false;
+        }
 
-        if (!observedLifecycleEvents.isEmpty()) {
-            recorder.registerLifecycleEventBridge(context.getCamelContext(), observedLifecycleEvents);
+        int observedLifecycleEventsMask = CamelLifecycleEventBridge.toObservedEventsMask(observedLifecycleEvents);
+        if (observedLifecycleEventsMask != 0) {
+            recorder.registerLifecycleEventBridge(context.getCamelContext(), observedLifecycleEventsMask);
         }
 
         if (!observedManagementEvents.isEmpty()) {
-            recorder.registerManagementEventBridge(context.getCamelContext(), observedManagementEvents);
+            recorder.registerManagementEventBridge(context.getCamelContext(), observedManagementEvents, hasAsyncObservers,
+                    config);
         }
     }
 
@@ -180,6 +200,29 @@ public class CamelContextProcessor {
         runtimeProducer.produce(new RuntimeCamelContextCustomizerBuildItem(recorder.createBacklogTracerCustomizer(config)));
     }
 
+    /**
+     * Run Camel thread pools on virtual threads if quarkus.camel.threads.virtual.enabled=true
+     *
+     * @param recorder          the recorder
+     * @param config            the Camel configuration
+     * @param runtimeProducer   producer of context customizer build item
+     * @param reflectiveClasses producer of reflective class build item
+     */
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = VirtualThreadsEnabled.class)
+    public void enableVirtualThreads(
+            CamelContextRecorder recorder,
+            CamelConfig config,
+            BuildProducer<RuntimeCamelContextCustomizerBuildItem> runtimeProducer,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        runtimeProducer.produce(new RuntimeCamelContextCustomizerBuildItem(recorder.createVirtualThreadPoolFactoryCustomizer(config)));
+        // The virtual thread builder API is accessed reflectively while the project baseline is Java 17
+        reflectiveClasses.produce(ReflectiveClassBuildItem.builder(
+                "java.lang.Thread",
+                "java.lang.Thread$Builder",
+                "java.lang.Thread$Builder$OfVirtual").methods().build());
+    }
+
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
     CamelBootClockBuildItem createCamelBootClock(CamelContextRecorder recorder) {
@@ -218,4 +261,13 @@ public class CamelContextProcessor {
             return config.trace().enabled() || config.trace().standby();
         }
     }
+
+    public static final class VirtualThreadsEnabled implements BooleanSupplier {
+        CamelConfig config;
+
+        @Override
+        public boolean getAsBoolean() {
+            return config.threads().virtual().enabled();
+        }
+    }
 }
@@ -333,6 +333,10 @@ class CamelProcessor {
             recorder.addTypeConverterLoader(typeConverterRegistry, item.getValue());
         }
 
+        // Turn the converters registered so far into the identity keyed lookup table of FastTypeConverter.
+        // Converters added later, e.g. by registry bound TypeConverterLoader beans, are merged into it at runtime
+        recorder.freezeTypeConverterLookupTable(typeConverterRegistry);
+
         return new CamelTypeConverterRegistryBuildItem(typeConverterRegistry);
     }
 
@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import org.apache.camel.Body;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consume;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeProperty;
+import org.apache.camel.Header;
+import org.apache.camel.Headers;
+import org.apache.camel.Message;
+import org.apache.camel.quarkus.core.ConsumeEndpointGetter;
+import org.apache.camel.quarkus.core.ConsumeInvoker;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * Generates the {@link ConsumeInvoker} subclasses of the {@link Consume} annotated methods and the
+ * {@link ConsumeEndpointGetter} subclasses of the endpoint getters of their beans.
+ */
+final class ConsumeInvokerGenerator {
+    private static final String CAMEL_PACKAGE_PREFIX = "org.apache.camel.";
+    private static final DotName CONSUME = DotName.createSimple(Consume.class.getName());
+    private static final DotName BODY = DotName.createSimple(Body.class.getName());
+    private static final DotName HEADER = DotName.createSimple(Header.class.getName());
+    private static final DotName HEADERS = DotName.createSimple(Headers.class.getName());
+    private static final DotName EXCHANGE_PROPERTY = DotName.createSimple(ExchangeProperty.class.getName());
+    private static final DotName EXCHANGE = DotName.createSimple(Exchange.class.getName());
+    private static final DotName MESSAGE = DotName.createSimple(Message.class.getName());
+    private static final DotName CAMEL_CONTEXT = DotName.createSimple(CamelContext.class.getName());
+    private static final DotName MAP = DotName.createSimple(Map.class.getName());
+    private static final DotName THROWABLE = DotName.createSimple(Throwable.class.getName());
+
+    private static final MethodDescriptor BODY_METHOD = MethodDescriptor.ofMethod(ConsumeInvoker.class, "body",
+            Object.class, Exchange.class, Class.class);
+    private static final MethodDescriptor HEADER_METHOD = MethodDescriptor.ofMethod(ConsumeInvoker.class, "header",
+            Object.class, Exchange.class, String.class, Class.class);
+    private static final MethodDescriptor PROPERTY_METHOD = MethodDescriptor.ofMethod(ConsumeInvoker.class, "property",
+            Object.class, Exchange.class, String.class, Class.class);
+    private static final MethodDescriptor GET_MESSAGE = MethodDescriptor.ofMethod(Exchange.class, "getMessage",
+            Message.class);
+    private static final MethodDescriptor GET_CONTEXT = MethodDescriptor.ofMethod(Exchange.class, "getContext",
+            CamelContext.class);
+    private static final MethodDescriptor GET_HEADERS = MethodDescriptor.ofMethod(Message.class, "getHeaders",
+            Map.class);
+    private static final FieldDescriptor VOID = FieldDescriptor.of(ConsumeInvoker.class, "VOID", Object.class);
+
+    private ConsumeInvokerGenerator() {
+    }
+
+    /**
+     * A parameter binding resolved at build time.
+     */
+    record Binding(Kind kind, String name, String type) {
+        enum Kind {
+            BODY,
+            HEADER,
+            HEADERS,
+            PROPERTY,
+            EXCHANGE,
+            MESSAGE,
+            CAMEL_CONTEXT
+        }
+    }
+
+    /**
+     * Resolves the parameter bindings of the given {@link Consume} method.
+     *
+     * @return the bindings or {@code null} if the method needs the bean binding of the Camel bean component, E.g.
+     *         because of parameter annotations other than {@link Body}, {@link Header}, {@link Headers} and
+     *         {@link ExchangeProperty}, primitive parameters, several body parameters, unannotated parameters the
+     *         bean component injects rather than binds to the body (E.g. {@code TypeConverter}, {@code Registry} or the
+     *         exception of the exchange), an asynchronous return type or EIP annotations such as {@code @DynamicRouter}
+     */
+    static List<Binding> bindings(MethodInfo method, IndexView index) {
+        if (Modifier.isPrivate(method.flags()) || Modifier.isPrivate(method.declaringClass().flags())) {
+            return null;
+        }
+        for (AnnotationInstance annotation : method.declaredAnnotations()) {
+            if (annotation.name().toString().startsWith(CAMEL_PACKAGE_PREFIX) && !annotation.name().equals(CONSUME)) {
+                return null;
+            }
+        }
+        final Type returnType = method.returnType();
+        if (returnType.kind() != Type.Kind.VOID && (returnType.name().toString().startsWith(CAMEL_PACKAGE_PREFIX)
+                || returnType.name().toString().startsWith("java.util.concurrent."))) {
+            return null;
+        }
+
+        final List<Binding> bindings = new ArrayList<>(method.parametersCount());
+        boolean body = false;
+        for (MethodParameterInfo parameter : method.parameters()) {
+            final Type type = parameter.type();
+            if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            final String typeName = type.name().toString();
+            final List<AnnotationInstance> camelAnnotations = parameter.declaredAnnotations().stream()
+                    .filter(annotation -> annotation.name().toString().startsWith(CAMEL_PACKAGE_PREFIX))
+                    .toList();
+            if (camelAnnotations.size() > 1) {
+                return null;
+            }
+
+            final Binding binding;
+            if (camelAnnotations.isEmpty()) {
+                if (type.name().equals(EXCHANGE)) {
+                    binding = new Binding(Binding.Kind.EXCHANGE, null, typeName);
+                } else if (type.name().equals(MESSAGE)) {
+                    binding = new Binding(Binding.Kind.MESSAGE, null, typeName);
+                } else if (type.name().equals(CAMEL_CONTEXT)) {
+                    binding = new Binding(Binding.Kind.CAMEL_CONTEXT, null, typeName);
+                } else if (typeName.startsWith(CAMEL_PACKAGE_PREFIX) || isThrowable(type.name(), index)) {
+                    return null;
+                } else {
+                    binding = new Binding(Binding.Kind.BODY, null, typeName);
+                }
+            } else {
+                final AnnotationInstance annotation = camelAnnotations.get(0);
+                if (annotation.name().equals(BODY)) {
+                    binding = new Binding(Binding.Kind.BODY, null, typeName);
+                } else if (annotation.name().equals(HEADER)) {
+                    binding = new Binding(Binding.Kind.HEADER, annotation.value().asString(), typeName);
+                } else if (annotation.name().equals(EXCHANGE_PROPERTY)) {
+                    binding = new Binding(Binding.Kind.PROPERTY, annotation.value().asString(), typeName);
+                } else if (annotation.name().equals(HEADERS) && type.name().equals(MAP)) {
+                    binding = new Binding(Binding.Kind.HEADERS, null, typeName);
+                } else {
+                    return null;
+                }
+            }
+
+            if (binding.kind() == Binding.Kind.BODY) {
+                if (body) {
+                    return null;
+                }
+                body = true;
+            }
+            bindings.add(binding);
+        }
+        return bindings;
+    }
+
+    /**
+     * Whether the given type is a {@link Throwable}, which the bean component binds to the exception of the exchange.
+     * JDK classes are not in the index, so they are checked by loading them.
+     */
+    private static boolean isThrowable(DotName typeName, IndexView index) {
+        DotName current = typeName;
+        while (current != null) {
+            if (current.equals(THROWABLE)) {
+                return true;
+            }
+            final ClassInfo classInfo = index.getClassByName(current);
+            if (classInfo == null) {
+                try {
+                    return Throwable.class.isAssignableFrom(
+                            Class.forName(current.toString(), false, Thread.currentThread().getContextClassLoader()));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    return false;
+                }
+            }
+            current = classInfo.superName();
+        }
+        return false;
+    }
+
+    /**
+     * Generates a {@link ConsumeInvoker} subclass in the package of the declaring class of the given method.
+     *
+     * @param className the name of the class to generate
+     * @param method    the {@link Consume} method
+     * @param bindings  the parameter bindings of the method
+     */
+    static void generateInvoker(ClassOutput classOutput, String className, MethodInfo method, List<Binding> bindings) {
+        final ClassInfo declaringClass = method.declaringClass();
+        try (ClassCreator classCreator = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(className)
+                .superClass(ConsumeInvoker.class)
+                .build()) {
+
+            generateConstructor(classCreator, ConsumeInvoker.class);
+
+            try (MethodCreator invoker = classCreator.getMethodCreator("invoke", Object.class, Object.class,
+                    Exchange.class)) {
+                invoker.setModifiers(Modifier.PROTECTED);
+                invoker.addException(Exception.class);
+                final ResultHandle exchange = invoker.getMethodParam(1);
+                final ResultHandle[] arguments = new ResultHandle[bindings.size()];
+                for (int i = 0; i < arguments.length; i++) {
+                    arguments[i] = bind(invoker, exchange, bindings.get(i));
+                }
+                final ResultHandle result = invoke(invoker, declaringClass, method, invoker.getMethodParam(0),
+                        arguments);
+                if (method.returnType().kind() == Type.Kind.VOID) {
+                    invoker.returnValue(invoker.readStaticField(VOID));
+                } else {
+                    invoker.returnValue(invoker.smartCast(result, Object.class));
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates a {@link ConsumeEndpointGetter} subclass in the package of the declaring class of the given getter.
+     *
+     * @param className      the name of the class to generate
+     * @param endpointGetter the endpoint getter of the bean declaring a {@link Consume} method
+     */
+    static void generateEndpointGetter(ClassOutput classOutput, String className, MethodInfo endpointGetter) {
+        try (ClassCreator classCreator = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(className)
+                .superClass(ConsumeEndpointGetter.class)
+                .build()) {
+
+            generateConstructor(classCreator, ConsumeEndpointGetter.class);
+
+            try (MethodCreator getter = classCreator.getMethodCreator("getEndpointUri", Object.class,
+                    Object.class)) {
+                getter.setModifiers(Modifier.PROTECTED);
+                getter.returnValue(invoke(getter, endpointGetter.declaringClass(), endpointGetter,
+                        getter.getMethodParam(0), new ResultHandle[0]));
+            }
+        }
+    }
+
+    private static void generateConstructor(ClassCreator classCreator, Class<?> superClass) {
+        try (MethodCreator constructor = classCreator.getMethodCreator("<init>", void.class)) {
+            constructor.setModifiers(Modifier.PUBLIC);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(superClass), constructor.getThis());
+            constructor.returnNull();
+        }
+    }
+
+    private static ResultHandle bind(BytecodeCreator creator, ResultHandle exchange, Binding binding) {
+        switch (binding.kind()) {
+        case BODY:
+            return creator.checkCast(
+                    creator.invokeStaticMethod(BODY_METHOD, exchange, creator.loadClass(binding.type())),
+                    binding.type());
+        case HEADER:
+            return creator.checkCast(
+                    creator.invokeStaticMethod(HEADER_METHOD, exchange, creator.load(binding.name()),
+                            creator.loadClass(binding.type())),
+                    binding.type());
+        case PROPERTY:
+            return creator.checkCast(
+                    creator.invokeStaticMethod(PROPERTY_METHOD, exchange, creator.load(binding.name()),
+                            creator.loadClass(binding.type())),
+                    binding.type());
+        case HEADERS:
+            return creator.invokeInterfaceMethod(GET_HEADERS, creator.invokeInterfaceMethod(GET_MESSAGE, exchange));
+        case EXCHANGE:
+            return exchange;
+        case MESSAGE:
+            return creator.invokeInterfaceMethod(GET_MESSAGE, exchange);
+        case CAMEL_CONTEXT:
+            return creator.invokeInterfaceMethod(GET_CONTEXT, exchange);
+        default:
+            throw new IllegalStateException("Unexpected binding " + binding);
+        }
+    }
+
+    private static ResultHandle invoke(BytecodeCreator creator, ClassInfo declaringClass, MethodInfo method,
+            ResultHandle bean, ResultHandle[] arguments) {
+        final MethodDescriptor descriptor = MethodDescriptor.of(method);
+        if (Modifier.isStatic(method.flags())) {
+            return creator.invokeStaticMethod(descriptor, arguments);
+        }
+        final ResultHandle target = creator.checkCast(bean, declaringClass.name().toString());
+        if (declaringClass.isInterface()) {
+            return creator.invokeInterfaceMethod(descriptor, target, arguments);
+        }
+        return creator.invokeVirtualMethod(descriptor, target, arguments);
+    }
+}
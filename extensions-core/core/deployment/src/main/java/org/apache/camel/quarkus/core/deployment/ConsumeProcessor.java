@@ -16,8 +16,10 @@
  */
 package org.apache.camel.quarkus.core.deployment;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -28,13 +30,17 @@ import java.util.stream.Stream;
 
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.recording.RecorderContext;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.runtime.RuntimeValue;
 import jakarta.decorator.Decorator;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -48,6 +54,9 @@ import jakarta.inject.Singleton;
 import org.apache.camel.Consume;
 import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.quarkus.core.CamelCapabilities;
+import org.apache.camel.quarkus.core.CamelConfig;
+import org.apache.camel.quarkus.core.ConsumeEndpointGetter;
+import org.apache.camel.quarkus.core.ConsumeInvoker;
 import org.apache.camel.quarkus.core.ConsumeRecorder;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 import org.apache.camel.util.StringHelper;
@@ -142,9 +151,12 @@ public class ConsumeProcessor {
     @BuildStep
     void generateConsumeRoutes(
             ConsumeRecorder recorder,
+            RecorderContext recorderContext,
+            CamelConfig config,
             CombinedIndexBuildItem index,
             List<CapabilityBuildItem> capabilities,
-            CamelContextBuildItem camelContext) {
+            CamelContextBuildItem camelContext,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses) {
 
         final Collection<AnnotationInstance> consumeAnnotations = index.getIndex().getAnnotations(CONSUME_ANNOTATION);
         if (!consumeAnnotations.isEmpty()) {
@@ -153,6 +165,9 @@ public class ConsumeProcessor {
             final boolean beanCapabilityAvailable = capabilities.stream()
                     .map(CapabilityBuildItem::getName)
                     .anyMatch(CamelCapabilities.BEAN::equals);
+            final boolean directInvocationEnabled = config.consume().directInvocationEnabled();
+            final ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+            final Set<String> generatedClassNames = new HashSet<>();
 
             for (AnnotationInstance annot : consumeAnnotations) {
                 final AnnotationTarget target = annot.target();
@@ -166,18 +181,45 @@ public class ConsumeProcessor {
                     if (beanName == null) {
                         beanName = ConsumeProcessor.uniqueBeanName(declaringClass);
                     }
+                    String endpointMethodName = null;
                     if (annot.value() != null) {
                         uri = annot.value().asString();
                     } else if (annot.value("property") != null) {
-                        runtimeUriOrEndpoint = recorder.getEndpointUri(
-                                camelContext.getCamelContext(),
-                                beanName,
-                                findEndpointMethodName(annot.value("property").asString(), declaringClass, new ArrayList<>()));
+                        endpointMethodName = findEndpointMethodName(annot.value("property").asString(), declaringClass,
+                                new ArrayList<>());
                     } else {
-                        runtimeUriOrEndpoint = recorder.getEndpointUri(
-                                camelContext.getCamelContext(),
-                                beanName,
-                                findEndpointMethodName(methodInfo.name(), declaringClass, new ArrayList<>()));
+                        endpointMethodName = findEndpointMethodName(methodInfo.name(), declaringClass, new ArrayList<>());
+                    }
+
+                    RuntimeValue<ConsumeInvoker> invoker = null;
+                    RuntimeValue<ConsumeEndpointGetter> endpointGetter = null;
+                    List<ConsumeInvokerGenerator.Binding> bindings = null;
+                    if (directInvocationEnabled && !Modifier.isPrivate(declaringClass.flags())) {
+                        bindings = ConsumeInvokerGenerator.bindings(methodInfo, index.getIndex());
+                        if (bindings != null) {
+                            String className = uniqueClassName(generatedClassNames, declaringClass, methodInfo,
+                                    "_ConsumeInvoker");
+                            ConsumeInvokerGenerator.generateInvoker(classOutput, className, methodInfo, bindings);
+                            invoker = recorder.createConsumeInvoker(camelContext.getCamelContext(),
+                                    recorderContext.newInstance(className), beanName);
+                        }
+                        if (endpointMethodName != null) {
+                            MethodInfo endpointMethod = declaringClass.method(endpointMethodName);
+                            if (!Modifier.isPrivate(endpointMethod.flags())) {
+                                String className = uniqueClassName(generatedClassNames, declaringClass, methodInfo,
+                                        "_ConsumeEndpointGetter");
+                                ConsumeInvokerGenerator.generateEndpointGetter(classOutput, className, endpointMethod);
+                                endpointGetter = recorder.createConsumeEndpointGetter(camelContext.getCamelContext(),
+                                        recorderContext.newInstance(className), beanName);
+                            }
+                        }
+                    }
+
+                    if (endpointGetter != null) {
+                        runtimeUriOrEndpoint = recorder.getEndpointUri(endpointGetter);
+                    } else if (endpointMethodName != null) {
+                        runtimeUriOrEndpoint = recorder.getEndpointUri(camelContext.getCamelContext(), beanName,
+                                endpointMethodName);
                     }
                     if (uri == null && runtimeUriOrEndpoint == null) {
                         throw new IllegalStateException("@" + Consume.class.getName() + " on " + methodInfo + " in "
@@ -188,7 +230,7 @@ public class ConsumeProcessor {
                                 + " * via naming convention: if your @Consume method is called myEvent or onMyEvent then getMyEvent() or getMyEventEndpoint() must exist in the same class and return a String or org.apache.camel.Endpoint\n"
                                 + "See https://camel.apache.org/manual/latest/pojo-consuming.html for more details");
                     }
-                    if (!beanCapabilityAvailable) {
+                    if (bindings == null && !beanCapabilityAvailable) {
                         throw new IllegalStateException(
                                 "Add camel-quarkus-bean dependency to be able to use @" + Consume.class.getName()
                                         + " on method:"
@@ -196,7 +238,7 @@ public class ConsumeProcessor {
                                         + " in " + declaringClass.name());
                     }
                     recorder.addConsumeRoute(camelContext.getCamelContext(), routesDefinition, uri, runtimeUriOrEndpoint,
-                            beanName, methodInfo.name());
+                            beanName, methodInfo.name(), invoker);
                     break;
                 }
                 default:
@@ -207,6 +249,15 @@ public class ConsumeProcessor {
         }
     }
 
+    private static String uniqueClassName(Set<String> generatedClassNames, ClassInfo declaringClass, MethodInfo method,
+            String suffix) {
+        String className = declaringClass.name() + "_" + method.name() + suffix;
+        for (int i = 1; !generatedClassNames.add(className); i++) {
+            className = declaringClass.name() + "_" + method.name() + i + suffix;
+        }
+        return className;
+    }
+
     private String findEndpointMethodName(final String propertyName, ClassInfo declaringClass, List<String> triedMethods) {
         /* Here we attempt to mimic what Camel does
          * in org.apache.camel.impl.engine.CamelPostProcessorHelper.doGetEndpointInjection(Object, String, String) */
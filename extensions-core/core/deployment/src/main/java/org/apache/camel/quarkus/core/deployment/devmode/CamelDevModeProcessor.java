@@ -22,7 +22,10 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.BuildSteps;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import org.apache.camel.quarkus.core.CamelConfig;
 import org.apache.camel.quarkus.core.CamelContextRecorder;
+import org.apache.camel.quarkus.core.deployment.CamelContextProcessor.VirtualThreadsEnabled;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 
 import static org.apache.camel.quarkus.core.CamelCapabilities.DSL_MODELINE;
@@ -40,4 +43,15 @@ class CamelDevModeProcessor {
             CamelContextRecorder recorder) {
         recorder.customizeDevModeCamelContext(camelContext.getCamelContext(), capabilities.isMissing(DSL_MODELINE));
     }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = VirtualThreadsEnabled.class)
+    void startVirtualThreadPinningMonitor(
+            CamelConfig config,
+            ShutdownContextBuildItem shutdownContext,
+            CamelContextRecorder recorder) {
+        if (config.threads().virtual().pinningReportEnabled()) {
+            recorder.startVirtualThreadPinningMonitor(config, shutdownContext);
+        }
+    }
 }
@@ -91,6 +91,12 @@ public class CamelCoreDevConsoleProcessor {
                 .metadata(CamelDevUIConstants.CONSOLE_ID_METADATA_KEY, "route")
                 .metadata(CamelDevUIConstants.ALLOWED_OPTIONS_METADATA_KEY, "limit=*"));
 
+        cardPageBuildItem.addPage(Page.webComponentPageBuilder()
+                .title("Startup Profile")
+                .icon("font-awesome-solid:stopwatch")
+                .componentLink("qwc-camel-core-startup-profile.js")
+                .metadata(CamelDevUIConstants.CONSOLE_ID_METADATA_KEY, "startup-profile"));
+
         cardPageBuildItem.addPage(Page.webComponentPageBuilder()
                 .title("Variables")
                 .icon("font-awesome-solid:code")
@@ -156,6 +156,7 @@ public class CamelMainProcessor {
      *                         executed before starting the {@link CamelContext} at {@link ExecutionTime#RUNTIME_INIT}.
      * @param  runtimeTasks    a placeholder to ensure all the runtime task are properly are done.
      * @param  camelMainConfig a {@link CamelMainConfig}
+     * @param  camelConfig     a {@link CamelConfig}
      * @return                 a build item holding a {@link CamelRuntime} instance.
      */
     @BuildStep
@@ -173,7 +174,12 @@ public class CamelMainProcessor {
             CamelMainBuildItem main,
             List<RuntimeCamelContextCustomizerBuildItem> customizers,
             List<CamelRuntimeTaskBuildItem> runtimeTasks,
-            CamelMainConfig camelMainConfig) {
+            CamelMainConfig camelMainConfig,
+            CamelConfig camelConfig) {
+
+        if (camelConfig.startupProfiler().enabled()) {
+            recorder.startStartupProfiler();
+        }
 
         // Run the customizer before starting the context to give a last chance
         // to amend the Camel Context setup.
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import { html } from 'qwc-hot-reload-element';
+import {QwcCamelCore} from "./qwc-camel-core.js";
+import {columnBodyRenderer} from '@vaadin/grid/lit.js';
+import '@vaadin/grid';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+import '@vaadin/vertical-layout';
+
+export class QwcCamelCoreStartupProfile extends QwcCamelCore {
+
+    constructor() {
+        super('startup-profile', {});
+    }
+
+    render() {
+        const steps = super.consoleData()['steps'];
+        if (!steps || steps.length === 0) {
+            return super.redenderNoDataAvailableMessage();
+        }
+
+        return html`
+            <vaadin-grid .items="${steps}" class="consoleData" theme="no-border row-stripes">
+                <vaadin-grid-sort-column
+                        path="offsetMillis"
+                        auto-width
+                        header="Offset (ms)"
+                        ${columnBodyRenderer((item) => super.codeStyleRenderer(item.offsetMillis.toFixed(3)), [])}
+                        resizable>
+                </vaadin-grid-sort-column>
+                <vaadin-grid-sort-column
+                        path="category"
+                        auto-width
+                        header="Category"
+                        ${columnBodyRenderer((item) => super.codeStyleRenderer(item.category), [])}
+                        resizable>
+                </vaadin-grid-sort-column>
+                <vaadin-grid-sort-column
+                        path="name"
+                        auto-width
+                        header="Step"
+                        ${columnBodyRenderer((item) => super.codeStyleRenderer(' '.repeat(item.level * 2) + item.name), [])}
+                        resizable>
+                </vaadin-grid-sort-column>
+                <vaadin-grid-sort-column
+                        path="durationMillis"
+                        auto-width
+                        header="Duration (ms)"
+                        ${columnBodyRenderer((item) => super.codeStyleRenderer(item.durationMillis.toFixed(3)), [])}
+                        resizable>
+                </vaadin-grid-sort-column>
+                <vaadin-grid-sort-column
+                        path="allocatedBytes"
+                        auto-width
+                        header="Allocated (bytes)"
+                        ${columnBodyRenderer((item) => super.codeStyleRenderer(item.allocatedBytes < 0 ? 'n/a' : item.allocatedBytes), [])}
+                        resizable>
+                </vaadin-grid-sort-column>
+            </vaadin-grid>`;
+    }
+}
+
+customElements.define('qwc-camel-core-startup-profile', QwcCamelCoreStartupProfile);
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.deployment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.deployment.builditem.CapabilityBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.Body;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consume;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeProperty;
+import org.apache.camel.Header;
+import org.apache.camel.Headers;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.model.BeanDefinition;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.ProcessDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.quarkus.core.CamelCapabilities;
+import org.apache.camel.quarkus.core.ConsumeInvoker;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsumeInvokerTest {
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .addBuildChainCustomizer(buildCustomizer())
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Consumers.class, PropertyConsumer.class));
+
+    static Consumer<BuildChainBuilder> buildCustomizer() {
+        // camel-bean is on the test classpath, but the capability comes with the camel-quarkus-bean extension
+        return new Consumer<BuildChainBuilder>() {
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+                    @Override
+                    public void execute(BuildContext context) {
+                        context.produce(new CapabilityBuildItem(CamelCapabilities.BEAN, "camel-bean"));
+                    }
+                }).produces(CapabilityBuildItem.class).build();
+            }
+        };
+    }
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate producer;
+
+    @Inject
+    Consumers consumers;
+
+    @Test
+    public void bodyBinding() {
+        assertThat(producer.requestBody("direct:body", 42, String.class)).isEqualTo("Hello 42");
+    }
+
+    @Test
+    public void parameterBindings() {
+        Exchange exchange = producer.request("direct:bindings", e -> {
+            e.getMessage().setBody("body");
+            e.getMessage().setHeader("foo", "bar");
+            e.setProperty("count", "5");
+        });
+        assertThat(exchange.getMessage().getBody()).isEqualTo("body bar 5 true direct://bindings");
+    }
+
+    @Test
+    public void voidMethod() {
+        producer.sendBody("direct:void", "Hello");
+        assertThat(consumers.received).containsExactly("Hello");
+    }
+
+    @Test
+    public void endpointGetter() {
+        assertThat(producer.requestBody("direct:property", "Hello", String.class)).isEqualTo("Hello from property");
+    }
+
+    @Test
+    public void injectedParametersFallBackToBeanComponent() {
+        assertThat(producer.requestBody("direct:typeConverter", "42", String.class)).isEqualTo("43");
+        assertThat(producer.requestBody("direct:exception", "Hello", String.class)).isEqualTo("Hello without exception");
+    }
+
+    @Test
+    public void generatedInvokers() {
+        List<RouteDefinition> routes = context.getCamelContextExtension().getContextPlugin(Model.class)
+                .getRouteDefinitions();
+        assertThat(routes).hasSize(6);
+        for (RouteDefinition route : routes) {
+            String uri = route.getInput().getEndpointUri();
+            if (uri.equals("direct:typeConverter") || uri.equals("direct:exception")) {
+                // the bean component injects these parameters, the generated invoker would bind them to the body
+                assertThat(route.getOutputs()).singleElement().isInstanceOf(BeanDefinition.class);
+            } else {
+                assertThat(route.getOutputs()).singleElement().isInstanceOf(ProcessDefinition.class);
+                ProcessDefinition process = (ProcessDefinition) route.getOutputs().get(0);
+                assertThat(process.getProcessor()).isInstanceOf(ConsumeInvoker.class);
+            }
+        }
+    }
+
+    public static class Consumers {
+        final List<String> received = new CopyOnWriteArrayList<>();
+
+        @Consume("direct:body")
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        @Consume("direct:bindings")
+        public String bindings(@Header("foo") String foo, @Body String body, @ExchangeProperty("count") Integer count,
+                @Headers Map<String, Object> headers, Exchange exchange) {
+            return body + " " + foo + " " + count + " " + headers.containsKey("foo") + " "
+                    + exchange.getFromEndpoint().getEndpointUri();
+        }
+
+        @Consume("direct:void")
+        void received(String body) {
+            received.add(body);
+        }
+
+        @Consume("direct:typeConverter")
+        public String increment(@Body String body, TypeConverter typeConverter) {
+            return String.valueOf(typeConverter.convertTo(Integer.class, body) + 1);
+        }
+
+        @Consume("direct:exception")
+        public String withoutException(@Body String body, Exception exception) {
+            return body + (exception == null ? " without exception" : " with exception");
+        }
+    }
+
+    public static class PropertyConsumer {
+        public String getGreetingEndpoint() {
+            return "direct:property";
+        }
+
+        @Consume(property = "greeting")
+        public String greeting(String body) {
+            return body + " from property";
+        }
+    }
+}
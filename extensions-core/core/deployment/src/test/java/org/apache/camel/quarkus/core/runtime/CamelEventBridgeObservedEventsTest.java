@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.util.Set;
+
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.event.ExchangeCompletedEvent;
+import org.apache.camel.impl.event.ExchangeCreatedEvent;
+import org.apache.camel.impl.event.RouteStartedEvent;
+import org.apache.camel.quarkus.core.CamelLifecycleEventBridge;
+import org.apache.camel.quarkus.core.CamelManagementEventBridge;
+import org.apache.camel.quarkus.core.events.EndpointAddEvent;
+import org.apache.camel.quarkus.core.events.ErrorHandlerAddEvent;
+import org.apache.camel.quarkus.core.events.ServiceAddEvent;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CamelEventBridgeObservedEventsTest {
+
+    @Test
+    public void lifecycleEventsMask() {
+        assertThat(CamelLifecycleEventBridge.toObservedEventsMask(Set.of())).isZero();
+        // Not produced by the lifecycle bridge
+        assertThat(CamelLifecycleEventBridge.toObservedEventsMask(Set.of(ErrorHandlerAddEvent.class.getName()))).isZero();
+
+        int endpointAdd = CamelLifecycleEventBridge.toObservedEventsMask(Set.of(EndpointAddEvent.class.getName()));
+        int serviceAdd = CamelLifecycleEventBridge.toObservedEventsMask(Set.of(ServiceAddEvent.class.getName()));
+        assertThat(endpointAdd).isNotZero();
+        assertThat(serviceAdd).isNotZero().isNotEqualTo(endpointAdd);
+        assertThat(CamelLifecycleEventBridge.toObservedEventsMask(
+                Set.of(EndpointAddEvent.class.getName(), ServiceAddEvent.class.getName())))
+                .isEqualTo(endpointAdd | serviceAdd);
+    }
+
+    @Test
+    public void managementEventsResolvedToTypes() {
+        CamelManagementEventBridge bridge = new CamelManagementEventBridge(Set.of("ExchangeCompletedEvent"));
+
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            DefaultExchange exchange = new DefaultExchange(context);
+            assertThat(bridge.isEnabled(new ExchangeCompletedEvent(exchange))).isTrue();
+            assertThat(bridge.isEnabled(new ExchangeCreatedEvent(exchange))).isFalse();
+        }
+
+        assertThat(bridge.isIgnoreExchangeEvents()).isFalse();
+        assertThat(bridge.isIgnoreExchangeCompletedEvent()).isFalse();
+        assertThat(bridge.isIgnoreExchangeCreatedEvent()).isTrue();
+        assertThat(bridge.isIgnoreExchangeSendingEvents()).isTrue();
+        assertThat(bridge.isIgnoreRouteEvents()).isTrue();
+        assertThat(bridge.isIgnoreCamelContextEvents()).isTrue();
+    }
+
+    @Test
+    public void unknownManagementEventsDisableIgnoreFlags() {
+        CamelManagementEventBridge bridge = new CamelManagementEventBridge(
+                Set.of(RouteStartedEvent.class.getSimpleName(), "MyCustomEvent"));
+
+        assertThat(bridge.isIgnoreRouteEvents()).isFalse();
+        assertThat(bridge.isIgnoreExchangeEvents()).isFalse();
+        assertThat(bridge.isIgnoreCamelContextEvents()).isFalse();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.quarkus.core.AsyncCamelManagementEventBridge;
+import org.apache.camel.spi.CamelEvent.ExchangeCompletedEvent;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class CamelManagementEventBridgeAsyncTest {
+    private static final int EXCHANGE_COUNT = 100;
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    EventHandler handler;
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate template;
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.banner.enabled", "false");
+        props.setProperty("quarkus.camel.event-bridge.async.enabled", "true");
+        props.setProperty("quarkus.camel.event-bridge.async.batch-size", "8");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Test
+    public void eventsDeliveredAsynchronously() {
+        AsyncCamelManagementEventBridge bridge = context.getManagementStrategy()
+                .getEventNotifiers()
+                .stream()
+                .filter(AsyncCamelManagementEventBridge.class::isInstance)
+                .map(AsyncCamelManagementEventBridge.class::cast)
+                .findFirst()
+                .orElseThrow();
+
+        for (int i = 0; i < EXCHANGE_COUNT; i++) {
+            template.sendBody(MyRoutes.FROM_ENDPOINT, i);
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(handler.completed().get()).isEqualTo(EXCHANGE_COUNT);
+            assertThat(handler.completedAsync().get()).isEqualTo(EXCHANGE_COUNT);
+        });
+
+        assertThat(handler.observerThreads())
+                .isNotEmpty()
+                .doesNotContain(Thread.currentThread().getName());
+        assertThat(bridge.getDroppedEvents()).isZero();
+        assertThat(bridge.getDeliveredEvents()).isGreaterThanOrEqualTo(EXCHANGE_COUNT);
+    }
+
+    @ApplicationScoped
+    public static class EventHandler {
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger completedAsync = new AtomicInteger();
+        private final Set<String> observerThreads = new CopyOnWriteArraySet<>();
+
+        public void onExchangeCompleted(@Observes ExchangeCompletedEvent event) {
+            observerThreads.add(Thread.currentThread().getName());
+            completed.incrementAndGet();
+        }
+
+        public void onExchangeCompletedAsync(@ObservesAsync ExchangeCompletedEvent event) {
+            completedAsync.incrementAndGet();
+        }
+
+        public AtomicInteger completed() {
+            return completed;
+        }
+
+        public AtomicInteger completedAsync() {
+            return completedAsync;
+        }
+
+        public Set<String> observerThreads() {
+            return observerThreads;
+        }
+    }
+
+    @ApplicationScoped
+    public static class MyRoutes extends RouteBuilder {
+        public static String FROM_ENDPOINT = "direct://start";
+
+        @Override
+        public void configure() throws Exception {
+            from(FROM_ENDPOINT)
+                    .routeId("asyncEventsRoute")
+                    .log("${body}");
+        }
+    }
+}
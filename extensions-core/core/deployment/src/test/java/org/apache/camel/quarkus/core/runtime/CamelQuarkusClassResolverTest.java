@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.quarkus.core.CamelQuarkusClassResolver;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CamelQuarkusClassResolverTest {
+
+    @Test
+    public void resolvedClassesAndMissesAreCached() {
+        CountingClassResolver resolver = new CountingClassResolver(16);
+
+        assertThat(resolver.resolveClass(String.class.getName())).isEqualTo(String.class);
+        assertThat(resolver.resolveClass(String.class.getName())).isEqualTo(String.class);
+        assertThat(resolver.resolveClass(String.class.getName(), CharSequence.class)).isEqualTo(String.class);
+        assertThat(resolver.loadedNames).containsExactly(String.class.getName());
+
+        assertThat(resolver.resolveClass("org.acme.DoesNotExist")).isNull();
+        assertThat(resolver.resolveClass("org.acme.DoesNotExist")).isNull();
+        assertThat(resolver.loadedNames).containsExactly(String.class.getName(), "org.acme.DoesNotExist");
+
+        assertThat(resolver.getCacheHits()).isEqualTo(2);
+        assertThat(resolver.getNegativeCacheHits()).isEqualTo(1);
+        assertThat(resolver.getCacheMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void additionalClassLoaderInvalidatesMisses() {
+        CountingClassResolver resolver = new CountingClassResolver(16);
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+        };
+
+        resolver.addClassLoader(classLoader);
+        assertThat(resolver.resolveClass("org.acme.DoesNotExist")).isNull();
+        assertThat(resolver.resolveClass("org.acme.DoesNotExist")).isNull();
+        // Application class loader and additional class loader probed once each
+        assertThat(resolver.loadedNames).hasSize(2);
+
+        resolver.addClassLoader(new ClassLoader(getClass().getClassLoader()) {
+        });
+        assertThat(resolver.resolveClass("org.acme.DoesNotExist")).isNull();
+        // The application class loader miss is still cached, the additional class loaders are probed again
+        assertThat(resolver.loadedNames).hasSize(4);
+    }
+
+    @Test
+    public void cacheIsBounded() {
+        CountingClassResolver resolver = new CountingClassResolver(2);
+
+        resolver.resolveClass("org.acme.A");
+        resolver.resolveClass("org.acme.B");
+        resolver.resolveClass("org.acme.C");
+        resolver.resolveClass("org.acme.A");
+        assertThat(resolver.loadedNames).containsExactly("org.acme.A", "org.acme.B", "org.acme.C", "org.acme.A");
+
+        resolver.clearCache();
+        resolver.resolveClass("org.acme.C");
+        assertThat(resolver.loadedNames).hasSize(5);
+    }
+
+    static final class CountingClassResolver extends CamelQuarkusClassResolver {
+        final List<String> loadedNames = new ArrayList<>();
+
+        CountingClassResolver(int cacheMaxSize) {
+            super(CamelQuarkusClassResolverTest.class.getClassLoader(), cacheMaxSize);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, ClassLoader loader) {
+            loadedNames.add(name);
+            return super.loadClass(name, loader);
+        }
+    }
+}
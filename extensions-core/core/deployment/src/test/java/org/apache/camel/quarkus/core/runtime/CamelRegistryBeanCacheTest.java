@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.deployment.builditem.StaticBytecodeRecorderBuildItem;
+import io.quarkus.deployment.recording.BytecodeRecorderImpl;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.apache.camel.quarkus.core.CamelBeanQualifierResolver;
+import org.apache.camel.quarkus.core.deployment.spi.CamelBeanQualifierResolverBuildItem;
+import org.apache.camel.spi.Registry;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CamelRegistryBeanCacheTest {
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .addBuildChainCustomizer(CamelRegistryBeanCacheTest::countArcLookups)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Inject
+    Registry registry;
+
+    @Test
+    public void applicationScopedBeanLookupIsCached() {
+        ApplicationScopedBean first = registry.lookupByNameAndType("application-scoped-bean", ApplicationScopedBean.class);
+        ApplicationScopedBean second = registry.lookupByNameAndType("application-scoped-bean", ApplicationScopedBean.class);
+        assertThat(first).isNotNull().isSameAs(second);
+        assertThat(registry.lookupByName("application-scoped-bean")).isSameAs(first);
+    }
+
+    @Test
+    public void singletonBeanLookupIsCached() {
+        SingletonBean first = registry.lookupByNameAndType("singleton-bean", SingletonBean.class);
+        SingletonBean second = registry.lookupByNameAndType("singleton-bean", SingletonBean.class);
+        assertThat(first).isNotNull().isSameAs(second);
+        assertThat(registry.findSingleByType(SingletonBean.class)).isSameAs(first);
+        assertThat(registry.findSingleByType(SingletonBean.class)).isSameAs(first);
+    }
+
+    @Test
+    public void dependentBeanLookupIsNotCached() {
+        int created = DependentBean.INSTANCES.get();
+        DependentBean first = registry.lookupByNameAndType("dependent-bean", DependentBean.class);
+        DependentBean second = registry.lookupByNameAndType("dependent-bean", DependentBean.class);
+        assertThat(first).isNotNull().isNotSameAs(second);
+        assertThat(DependentBean.INSTANCES.get()).isEqualTo(created + 2);
+    }
+
+    @Test
+    public void lookupWithIncorrectTypeIsNotCached() {
+        assertThat(registry.lookupByNameAndType("application-scoped-bean", ApplicationScopedBean.class)).isNotNull();
+        int lookups = ApplicationScopedBeanLookups.COUNT.get();
+        assertThat(registry.lookupByNameAndType("application-scoped-bean", ApplicationScopedBean.class)).isNotNull();
+        assertThat(ApplicationScopedBeanLookups.COUNT.get()).isEqualTo(lookups);
+
+        // Every lookup with a type the bean does not match has to go to ArC again
+        int mismatchedLookups = MismatchedTypeLookups.COUNT.get();
+        assertThat(registry.lookupByNameAndType("application-scoped-bean", SingletonBean.class)).isNull();
+        assertThat(registry.lookupByNameAndType("application-scoped-bean", SingletonBean.class)).isNull();
+        assertThat(MismatchedTypeLookups.COUNT.get()).isEqualTo(mismatchedLookups + 2);
+    }
+
+    /**
+     * Registers qualifier resolvers counting the lookups of the "application-scoped-bean" name that are not served from
+     * the cache. They resolve no qualifiers, so the beans are still looked up by name.
+     */
+    static void countArcLookups(BuildChainBuilder builder) {
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                String methodName = "execute";
+                BytecodeRecorderImpl recorder = new BytecodeRecorderImpl(true, getClass().getSimpleName(), methodName,
+                        Integer.toString(methodName.hashCode()), true, s -> null);
+                RuntimeValue<CamelBeanQualifierResolver> applicationScopedBeanLookups = recorder
+                        .newInstance(ApplicationScopedBeanLookups.class.getName());
+                RuntimeValue<CamelBeanQualifierResolver> mismatchedTypeLookups = recorder
+                        .newInstance(MismatchedTypeLookups.class.getName());
+                context.produce(new StaticBytecodeRecorderBuildItem(recorder));
+                context.produce(new CamelBeanQualifierResolverBuildItem(ApplicationScopedBean.class,
+                        "application-scoped-bean", applicationScopedBeanLookups));
+                context.produce(new CamelBeanQualifierResolverBuildItem(SingletonBean.class, "application-scoped-bean",
+                        mismatchedTypeLookups));
+            }
+        }).produces(StaticBytecodeRecorderBuildItem.class).produces(CamelBeanQualifierResolverBuildItem.class).build();
+    }
+
+    public static class ApplicationScopedBeanLookups implements CamelBeanQualifierResolver {
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public Annotation[] resolveQualifiers() {
+            COUNT.incrementAndGet();
+            return new Annotation[0];
+        }
+    }
+
+    public static class MismatchedTypeLookups implements CamelBeanQualifierResolver {
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public Annotation[] resolveQualifiers() {
+            COUNT.incrementAndGet();
+            return new Annotation[0];
+        }
+    }
+
+    @Named("application-scoped-bean")
+    @ApplicationScoped
+    public static class ApplicationScopedBean {
+    }
+
+    @Named("singleton-bean")
+    @Singleton
+    public static class SingletonBean {
+    }
+
+    @Named("dependent-bean")
+    @Dependent
+    public static class DependentBean {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public DependentBean() {
+            INSTANCES.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.console.DevConsole;
+import org.apache.camel.console.DevConsoleRegistry;
+import org.apache.camel.quarkus.core.startup.CamelStartupProfiler;
+import org.apache.camel.quarkus.core.startup.ProfilingStartupStepRecorder;
+import org.apache.camel.quarkus.core.startup.StartupProfileDevConsole;
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CamelStartupProfilerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    CamelContext context;
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.banner.enabled", "false");
+        props.setProperty("quarkus.camel.startup-profiler.enabled", "true");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Test
+    public void startupStepsRecorded() {
+        assertThat(CamelStartupProfiler.isRecording()).isFalse();
+        assertThat(context.getCamelContextExtension().getStartupStepRecorder())
+                .isInstanceOf(ProfilingStartupStepRecorder.class);
+
+        List<CamelStartupProfiler.StepRecord> steps = CamelStartupProfiler.getSteps();
+        assertThat(steps)
+                .anySatisfy(step -> {
+                    assertThat(step.category()).isEqualTo("CamelMain");
+                    assertThat(step.name()).isEqualTo("startEngine");
+                    assertThat(step.level()).isZero();
+                })
+                .anySatisfy(step -> {
+                    assertThat(step.name()).contains("profiled");
+                    assertThat(step.level()).isPositive();
+                })
+                .allSatisfy(step -> assertThat(step.durationNanos()).isNotNegative());
+    }
+
+    @Test
+    public void startupProfileDevConsole() {
+        DevConsoleRegistry registry = context.getCamelContextExtension().getContextPlugin(DevConsoleRegistry.class);
+        DevConsole console = registry.getConsole(StartupProfileDevConsole.ID).orElseThrow();
+
+        JsonObject json = (JsonObject) console.call(DevConsole.MediaType.JSON, Map.of());
+        assertThat(json.getBoolean("completed")).isTrue();
+        assertThat((JsonArray) json.get("steps")).isNotEmpty();
+
+        String text = (String) console.call(DevConsole.MediaType.TEXT, Map.of());
+        assertThat(text).contains("CamelMain startEngine");
+    }
+
+    public static class Routes extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:start").routeId("profiled")
+                    .log("${body}");
+        }
+    }
+}
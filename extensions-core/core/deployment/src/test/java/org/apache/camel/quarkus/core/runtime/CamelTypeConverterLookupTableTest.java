@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Converter;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.quarkus.core.FastTypeConverter;
+import org.apache.camel.quarkus.core.TypeConverterLookupTable;
+import org.apache.camel.support.TypeConverterSupport;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CamelTypeConverterLookupTableTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Apple.class, Pear.class, AppleConverter.class));
+
+    @Inject
+    CamelContext context;
+
+    @Test
+    public void lookupTableBuiltAtStaticInit() {
+        assertThat(context.getTypeConverterRegistry()).isInstanceOf(FastTypeConverter.class);
+
+        TypeConverterLookupTable lookupTable = ((FastTypeConverter) context.getTypeConverterRegistry()).getLookupTable();
+        assertThat(lookupTable.isFrozen()).isTrue();
+        assertThat(lookupTable.get(Apple.class, Pear.class)).isNotNull();
+    }
+
+    @Test
+    public void convertThroughLookupTable() {
+        TypeConverter typeConverter = context.getTypeConverter();
+        TypeConverterLookupTable lookupTable = ((FastTypeConverter) context.getTypeConverterRegistry()).getLookupTable();
+
+        Pear pear = typeConverter.convertTo(Pear.class, new Apple("Golden"));
+        assertThat(pear.variety).isEqualTo("Golden");
+
+        assertThat(typeConverter.convertTo(Integer.class, "42")).isEqualTo(42);
+        assertThat(lookupTable.get(String.class, Integer.class)).isNotNull();
+
+        // Pairs without a registered converter are remembered and handled by the regular conversion logic
+        assertThat(typeConverter.convertTo(Pear.class, "Conference")).isNull();
+        assertThat(lookupTable.get(String.class, Pear.class)).isSameAs(TypeConverterLookupTable.NO_CONVERTER);
+
+        // Same instance conversions bypass the table
+        String value = "Hello";
+        assertThat(typeConverter.convertTo(CharSequence.class, value)).isSameAs(value);
+    }
+
+    @Test
+    public void removedConverterIsEvicted() {
+        FastTypeConverter registry = (FastTypeConverter) context.getTypeConverterRegistry();
+        registry.addTypeConverter(Pear.class, Integer.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return (T) new Pear("Pear-" + value);
+            }
+        });
+        assertThat(registry.convertTo(Pear.class, 1).variety).isEqualTo("Pear-1");
+
+        registry.removeTypeConverter(Pear.class, Integer.class);
+        assertThat(registry.getLookupTable().get(Integer.class, Pear.class)).isNull();
+        assertThat(registry.convertTo(Pear.class, 1)).isNull();
+    }
+
+    @Test
+    public void removedConverterInvalidatesMemoizedPairs() {
+        FastTypeConverter registry = (FastTypeConverter) context.getTypeConverterRegistry();
+        TypeConverterLookupTable lookupTable = registry.getLookupTable();
+
+        // Long is resolved through the super type Number converter and memoized
+        registry.addTypeConverter(Pear.class, Number.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return (T) new Pear("Number-" + value);
+            }
+        });
+        assertThat(registry.convertTo(Pear.class, 2L).variety).isEqualTo("Number-2");
+        assertThat(lookupTable.get(Long.class, Pear.class)).isNotNull();
+        assertThat(lookupTable.memoizedSize()).isPositive();
+
+        registry.removeTypeConverter(Pear.class, Number.class);
+        assertThat(lookupTable.get(Long.class, Pear.class)).isNull();
+        assertThat(lookupTable.memoizedSize()).isZero();
+    }
+
+    @Test
+    public void memoizedPairsAreBounded() {
+        TypeConverterLookupTable lookupTable = new TypeConverterLookupTable();
+        lookupTable.freeze();
+        // Array classes of increasing dimensions give enough distinct types for more pairs than the side map keeps
+        Class<?>[] types = new Class<?>[40];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = Array.newInstance(Apple.class, new int[i + 1]).getClass();
+        }
+        for (Class<?> fromType : types) {
+            for (Class<?> toType : types) {
+                lookupTable.memoize(fromType, toType, TypeConverterLookupTable.NO_CONVERTER);
+            }
+        }
+        assertThat(lookupTable.memoizedSize()).isLessThanOrEqualTo(TypeConverterLookupTable.MAX_MEMOIZED_PAIRS);
+        assertThat(lookupTable.get(types[39], types[39])).isSameAs(TypeConverterLookupTable.NO_CONVERTER);
+        assertThat(lookupTable.size()).isZero();
+    }
+
+    @Test
+    public void converterRunsOnlyOnce() {
+        FastTypeConverter registry = (FastTypeConverter) context.getTypeConverterRegistry();
+        AtomicInteger invocations = new AtomicInteger();
+        registry.addTypeConverter(Pear.class, Short.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                invocations.incrementAndGet();
+                return null;
+            }
+        });
+        registry.addTypeConverter(Pear.class, Byte.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                invocations.incrementAndGet();
+                throw new IllegalStateException("Forced");
+            }
+        });
+        try {
+            assertThat(registry.convertTo(Pear.class, (short) 1)).isNull();
+            assertThat(invocations).hasValue(1);
+
+            assertThatThrownBy(() -> registry.convertTo(Pear.class, (byte) 1))
+                    .isInstanceOf(TypeConversionException.class)
+                    .hasRootCauseMessage("Forced");
+            assertThat(invocations).hasValue(2);
+        } finally {
+            registry.removeTypeConverter(Pear.class, Short.class);
+            registry.removeTypeConverter(Pear.class, Byte.class);
+        }
+    }
+
+    @Test
+    public void missedConversionFallsBackOnce() {
+        FastTypeConverter registry = (FastTypeConverter) context.getTypeConverterRegistry();
+        AtomicInteger invocations = new AtomicInteger();
+        registry.addTypeConverter(Pear.class, Float.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                invocations.incrementAndGet();
+                return (T) MISS_VALUE;
+            }
+        });
+        registry.addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return type == Pear.class && value instanceof Float ? (T) new Pear("Fallback-" + value) : null;
+            }
+        }, false);
+        try {
+            assertThat(registry.convertTo(Pear.class, 1.5f).variety).isEqualTo("Fallback-1.5");
+            assertThat(invocations).hasValue(1);
+        } finally {
+            registry.removeTypeConverter(Pear.class, Float.class);
+        }
+    }
+
+    @Converter
+    public static final class AppleConverter {
+        @Converter
+        public static Pear toPear(Apple apple) {
+            return new Pear(apple.variety);
+        }
+    }
+
+    public static final class Apple {
+        final String variety;
+
+        public Apple(String variety) {
+            this.variety = variety;
+        }
+    }
+
+    public static final class Pear {
+        final String variety;
+
+        public Pear(String variety) {
+            this.variety = variety;
+        }
+    }
+}
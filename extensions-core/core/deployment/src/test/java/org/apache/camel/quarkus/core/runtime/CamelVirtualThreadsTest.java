@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.quarkus.core.threads.VirtualThreadPoolFactory;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class CamelVirtualThreadsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate template;
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.banner.enabled", "false");
+        props.setProperty("quarkus.camel.threads.virtual.enabled", "true");
+        props.setProperty("quarkus.camel.threads.virtual.max-concurrency", "3");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Test
+    public void virtualThreadPoolFactoryConfigured() {
+        assertThat(context.getExecutorServiceManager().getThreadPoolFactory())
+                .isInstanceOf(VirtualThreadPoolFactory.class);
+    }
+
+    @Test
+    public void threadsExecuteOnVirtualThread() {
+        String threadClassName = template.requestBody("direct:threads", null, String.class);
+        assertThat(threadClassName).isEqualTo("java.lang.VirtualThread");
+    }
+
+    @Test
+    public void virtualThreadsFollowTheThreadNamePattern() {
+        String threadName = template.requestBody("direct:threadName", null, String.class);
+        assertThat(threadName).startsWith("Camel (" + context.getName() + ") thread #").endsWith(" - Threads");
+    }
+
+    @Test
+    public void maxConcurrencyReplacesMaxPoolSize() throws Exception {
+        ExecutorService executor = context.getExecutorServiceManager().newThreadPool(this, "test", 1, 1);
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 3; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            // a max pool size of 1 would have kept two of them waiting
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            context.getExecutorServiceManager().shutdown(executor);
+        }
+    }
+
+    public static class Routes extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:threads")
+                    .threads(2, 2)
+                    .process(exchange -> exchange.getMessage().setBody(Thread.currentThread().getClass().getName()));
+
+            from("direct:threadName")
+                    .threads(2, 2)
+                    .process(exchange -> exchange.getMessage().setBody(Thread.currentThread().getName()));
+        }
+    }
+}
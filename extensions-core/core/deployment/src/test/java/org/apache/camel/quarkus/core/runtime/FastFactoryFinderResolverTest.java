@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.util.Optional;
+
+import org.apache.camel.quarkus.core.FastFactoryFinderResolver;
+import org.apache.camel.spi.FactoryFinder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FastFactoryFinderResolverTest {
+
+    @Test
+    public void findClass() {
+        FastFactoryFinderResolver resolver = new FastFactoryFinderResolver.Builder()
+                .entry("/META-INF/services/org/apache/camel/component/foo", FooService.class)
+                .entry("META-INF/services/org/apache/camel/language/bar", BarService.class)
+                .build();
+
+        FactoryFinder components = resolver.resolveFactoryFinder(null, "META-INF/services/org/apache/camel/component/");
+        assertThat(components.findClass("foo")).contains(FooService.class);
+        assertThat(components.findOptionalClass("foo")).contains(FooService.class);
+        assertThat(components.findClass("bar")).isEmpty();
+
+        FactoryFinder languages = resolver.resolveFactoryFinder(null, "/META-INF/services/org/apache/camel/language");
+        assertThat(languages.findClass("bar")).contains(BarService.class);
+        assertThat(languages.findClass("foo")).isEmpty();
+
+        FactoryFinder root = resolver.resolveFactoryFinder(null, "META-INF/services/org/apache/camel/");
+        assertThat(root.findClass("component/foo")).contains(FooService.class);
+
+        FactoryFinder unknown = resolver.resolveFactoryFinder(null, "META-INF/services/org/apache/camel/unknown/");
+        assertThat(unknown.findClass("foo")).isEmpty();
+    }
+
+    @Test
+    public void newInstance() {
+        FastFactoryFinderResolver resolver = new FastFactoryFinderResolver.Builder()
+                .entry("META-INF/services/org/apache/camel/component/foo", FooService.class)
+                .build();
+
+        FactoryFinder finder = resolver.resolveFactoryFinder(null, "META-INF/services/org/apache/camel/component/");
+        Optional<FooService> first = finder.newInstance("foo", FooService.class);
+        Optional<Object> second = finder.newInstance("foo");
+        assertThat(first).isPresent();
+        assertThat(second).containsInstanceOf(FooService.class);
+        assertThat(second.get()).isNotSameAs(first.get());
+        assertThat(finder.newInstance("bar")).isEmpty();
+    }
+
+    public static class FooService {
+    }
+
+    public static class BarService {
+    }
+}
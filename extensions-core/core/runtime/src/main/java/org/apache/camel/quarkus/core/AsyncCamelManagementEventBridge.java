@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.event.Event;
+import org.apache.camel.CamelContext;
+import org.apache.camel.quarkus.core.CamelConfig.EventBridgeOverflowPolicy;
+import org.apache.camel.quarkus.core.threads.VirtualThreads;
+import org.apache.camel.spi.CamelEvent;
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link CamelManagementEventBridge} delivering the Camel management events to CDI asynchronously.
+ * <p>
+ * Events are published into a bounded buffer by the threads emitting them, and are delivered in batches to the CDI
+ * observers by a dedicated dispatcher thread. What happens when the buffer is full is controlled by the
+ * {@link EventBridgeOverflowPolicy}. Events emitted while the bridge is not started (E.g. during the Camel context
+ * shutdown) are delivered synchronously.
+ * <p>
+ * If {@code @ObservesAsync} observers exist, events are additionally passed to {@link Event#fireAsync(Object)}.
+ * <p>
+ * When the Camel context uses a pooled {@link org.apache.camel.spi.ExchangeFactory}, exchanges are recycled as soon as
+ * they complete, so a deferred {@link CamelEvent.ExchangeEvent} could expose an exchange already reused for another
+ * message. In that case, exchange events are always delivered synchronously to the {@code @Observes} observers and are
+ * not passed to the {@code @ObservesAsync} observers.
+ */
+public class AsyncCamelManagementEventBridge extends CamelManagementEventBridge {
+    private static final Logger LOG = Logger.getLogger(AsyncCamelManagementEventBridge.class);
+    private static final String THREAD_NAME = "camel-management-event-bridge";
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final BlockingQueue<CamelEvent> buffer;
+    private final int batchSize;
+    private final EventBridgeOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final boolean virtualThread;
+    private final boolean fireAsync;
+    private final AtomicLong overflowed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private volatile boolean running;
+    private volatile boolean pooledExchanges = true;
+    private volatile Thread dispatcher;
+
+    public AsyncCamelManagementEventBridge(
+            Set<String> observedManagementEvents,
+            boolean fireAsync,
+            int bufferSize,
+            int batchSize,
+            EventBridgeOverflowPolicy overflowPolicy,
+            int sampleRate,
+            boolean virtualThread) {
+        super(observedManagementEvents);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("quarkus.camel.event-bridge.async.buffer-size must be positive");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("quarkus.camel.event-bridge.async.batch-size must be positive");
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("quarkus.camel.event-bridge.async.sample-rate must be positive");
+        }
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.virtualThread = virtualThread;
+        this.fireAsync = fireAsync;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        CamelContext camelContext = getCamelContext();
+        pooledExchanges = camelContext == null
+                || camelContext.getCamelContextExtension().getExchangeFactory().isPooled();
+        running = true;
+        Thread thread = newThreadFactory().newThread(this::dispatch);
+        thread.setName(THREAD_NAME);
+        dispatcher = thread;
+        thread.start();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        Thread thread = dispatcher;
+        dispatcher = null;
+        if (thread != null) {
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+
+        // Deliver anything left behind by the dispatcher
+        List<CamelEvent> remaining = new ArrayList<>(buffer.size());
+        buffer.drainTo(remaining);
+        deliver(remaining);
+
+        long droppedEvents = dropped.sumThenReset();
+        if (droppedEvents > 0) {
+            LOG.warnf("%d Camel management events were not delivered to CDI observers due to a full buffer."
+                    + " Consider raising quarkus.camel.event-bridge.async.buffer-size", droppedEvents);
+        }
+        super.doStop();
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        if (!running || !isDeferrable(event)) {
+            fire(event);
+            return;
+        }
+
+        if (buffer.offer(event)) {
+            return;
+        }
+
+        if (overflowPolicy == EventBridgeOverflowPolicy.drop
+                || (overflowPolicy == EventBridgeOverflowPolicy.sample && overflowed.getAndIncrement() % sampleRate != 0)) {
+            dropped.increment();
+            return;
+        }
+
+        // Wait for space in the buffer, unless the bridge is stopped in the meantime
+        while (!buffer.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!running) {
+                fire(event);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Delivers the given event to the {@code @Observes} observers and, if any, to the {@code @ObservesAsync} observers.
+     */
+    @Override
+    protected void fire(CamelEvent event) {
+        super.fire(event);
+        if (fireAsync && isDeferrable(event)) {
+            getCdiEvent().fireAsync(event).exceptionally(e -> {
+                LOG.warnf(e, "Asynchronous CDI observer failed to process %s", event);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Whether the given event can be delivered after {@link #notify(CamelEvent)} returns.
+     */
+    boolean isDeferrable(CamelEvent event) {
+        return !pooledExchanges || !(event instanceof CamelEvent.ExchangeEvent);
+    }
+
+    /**
+     * The number of events waiting to be delivered.
+     */
+    public int getPendingEvents() {
+        return buffer.size();
+    }
+
+    /**
+     * The number of events discarded due to a full buffer since the bridge was started.
+     */
+    public long getDroppedEvents() {
+        return dropped.sum();
+    }
+
+    /**
+     * The number of events delivered by the dispatcher thread.
+     */
+    public long getDeliveredEvents() {
+        return delivered.sum();
+    }
+
+    private void dispatch() {
+        List<CamelEvent> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !buffer.isEmpty()) {
+                CamelEvent first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                deliver(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(List<CamelEvent> events) {
+        for (CamelEvent event : events) {
+            try {
+                fire(event);
+                delivered.increment();
+            } catch (Exception e) {
+                LOG.warnf(e, "CDI observer failed to process %s", event);
+            }
+        }
+    }
+
+    private ThreadFactory newThreadFactory() {
+        if (virtualThread && VirtualThreads.isSupported()) {
+            return VirtualThreads.newThreadFactory(THREAD_NAME);
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -33,6 +33,10 @@ public interface CamelConfig {
         fail, warn, ignore
     }
 
+    enum EventBridgeOverflowPolicy {
+        drop, block, sample
+    }
+
     /**
      * Build time configuration options for Camel services.
      *
@@ -120,6 +124,27 @@ public interface CamelConfig {
      */
     DevUIConfig devUI();
 
+    /**
+     * Build time configuration options for Camel thread pools.
+     *
+     * @asciidoclet
+     */
+    ThreadsConfig threads();
+
+    /**
+     * Build time configuration options for the Camel Quarkus startup profiler.
+     *
+     * @asciidoclet
+     */
+    StartupProfilerConfig startupProfiler();
+
+    /**
+     * Build time configuration options for the Camel `@Consume` annotation.
+     *
+     * @asciidoclet
+     */
+    ConsumeConfig consume();
+
     interface RoutesDiscoveryConfig {
         /**
          * Enable automatic discovery of routes during static initialization.
@@ -428,6 +453,66 @@ public interface CamelConfig {
          */
         @WithDefault("true")
         boolean enabled();
+
+        /**
+         * Build time configuration options for the asynchronous delivery of Camel management events to CDI.
+         *
+         * @asciidoclet
+         */
+        EventBridgeAsyncConfig async();
+    }
+
+    interface EventBridgeAsyncConfig {
+        /**
+         * Whether Camel management events (E.g. `ExchangeCompletedEvent`) are delivered to CDI observers asynchronously.
+         *
+         * When enabled, the events are published into a bounded buffer on the thread emitting them and are delivered in
+         * batches to the `@Observes` and `@ObservesAsync` observers by a dedicated thread. The dedicated thread is a virtual
+         * thread if `quarkus.camel.threads.virtual.enabled` is `true`. Hence, the observers do not add to the latency of the
+         * exchanges. When disabled, the events are delivered to `@Observes` observers synchronously on the thread emitting
+         * them and `@ObservesAsync` observers are not notified. With the pooled exchange factory, exchange events are always
+         * delivered synchronously to `@Observes` observers only, because their exchange is reused once it completes.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of Camel management events waiting to be delivered to CDI observers.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("1024")
+        int bufferSize();
+
+        /**
+         * The maximum number of Camel management events delivered to CDI observers in a single batch.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("64")
+        int batchSize();
+
+        /**
+         * What to do with a Camel management event when the buffer is full. `block` waits until there is space in the
+         * buffer, `drop` discards the event and `sample` discards all but every n-th event, where n is set by
+         * `quarkus.camel.event-bridge.async.sample-rate`. The number of discarded events is logged when the Camel context
+         * stops.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("block")
+        EventBridgeOverflowPolicy overflowPolicy();
+
+        /**
+         * With the `sample` overflow policy, one out of this number of events is kept while the buffer is full. The kept
+         * events wait until there is space in the buffer.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("10")
+        int sampleRate();
     }
 
     /**
@@ -595,4 +680,88 @@ public interface CamelConfig {
         @WithDefault("5S")
         Duration updateInterval();
     }
+
+    interface ThreadsConfig {
+        /**
+         * Build time configuration options for running Camel thread pools on virtual threads.
+         *
+         * @asciidoclet
+         */
+        VirtualThreadsConfig virtual();
+    }
+
+    interface VirtualThreadsConfig {
+        /**
+         * Whether Camel thread pools should run on virtual threads. When enabled, every thread pool created through the
+         * Camel `ExecutorServiceManager` (E.g. for the `threads()` DSL, parallel multicast & splitter, SEDA consumers etc)
+         * starts a new virtual thread per task, named after the Camel thread name pattern. Unless
+         * `quarkus.camel.threads.virtual.max-concurrency` is set, the max pool size of the thread pool profile limits the
+         * number of concurrently running tasks - 20 for the default profile - and the max queue size limits the number of
+         * tasks waiting to run. Scheduled thread pools keep using platform threads.
+         *
+         * Requires Java 21 or later.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of tasks each Camel thread pool runs concurrently on virtual threads, in place of the max
+         * pool size of its thread pool profile. That size is meant for pools of platform threads and, at 20 for the
+         * default profile, would hold back a pool whose tasks mostly wait on I/O. Set to `0` for no limit. If not set,
+         * the max pool size of each thread pool profile applies.
+         *
+         * @asciidoclet
+         */
+        Optional<Integer> maxConcurrency();
+
+        /**
+         * Whether to report virtual threads pinned to their carrier thread in dev mode. Each distinct application code
+         * location causing pinning is logged once when first detected, and a summary is logged when the application
+         * stops.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("true")
+        boolean pinningReportEnabled();
+
+        /**
+         * The minimum duration of a virtual thread pinning event for it to be reported in dev mode.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("20ms")
+        Duration pinningReportThreshold();
+    }
+
+    interface StartupProfilerConfig {
+        /**
+         * Whether to profile the Camel startup. When enabled, the wall time and the allocated memory of the Camel Quarkus
+         * runtime initialization steps, and of the steps recorded by the Camel `StartupStepRecorder` (E.g. component
+         * initialization, route loading and route start), are recorded. Each step is emitted as an
+         * `org.apache.camel.quarkus.StartupStep` JFR event and the complete report is available as JSON from the
+         * `startup-profile` Camel dev console. The same steps are recorded in JVM and native mode, since steps executed
+         * during static initialization are not profiled.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
+    interface ConsumeConfig {
+        /**
+         * Whether the methods annotated with `@Consume` should be invoked by classes generated at build time instead of
+         * by the Camel bean component. The generated classes bind the method parameters (E.g. `@Body`, `@Header`,
+         * `@ExchangeProperty`, `Exchange`) without reflection and call the endpoint getters of `@Consume(property = "...")`
+         * directly. Methods with parameter bindings the generated classes do not support (E.g. primitive parameters,
+         * `@Simple` or `@Bean` parameter annotations, or unannotated parameters the bean component injects such as
+         * `TypeConverter`, `Registry` or an `Exception`) are still invoked by the Camel bean component.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("true")
+        boolean directInvocationEnabled();
+    }
 }
@@ -21,6 +21,7 @@ import java.util.Set;
 
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextEvents;
@@ -31,8 +32,11 @@ import org.apache.camel.impl.debugger.BacklogTracer;
 import org.apache.camel.impl.engine.DefaultVariableRepositoryFactory;
 import org.apache.camel.quarkus.core.devmode.NoOpModelineFactory;
 import org.apache.camel.quarkus.core.devmode.NoShutdownStrategy;
+import org.apache.camel.quarkus.core.threads.VirtualThreadPinningMonitor;
+import org.apache.camel.quarkus.core.threads.VirtualThreadPoolFactory;
 import org.apache.camel.spi.CamelContextCustomizer;
 import org.apache.camel.spi.ComponentNameResolver;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.ModelJAXBContextFactory;
 import org.apache.camel.spi.ModelReifierFactory;
@@ -123,14 +127,31 @@ public class CamelContextRecorder {
         return new RuntimeValue<>(context -> context.setSourceLocationEnabled(true));
     }
 
-    public void registerLifecycleEventBridge(RuntimeValue<CamelContext> context, Set<String> observedLifecycleEvents) {
-        context.getValue().addLifecycleStrategy(new CamelLifecycleEventBridge(observedLifecycleEvents));
+    public void registerLifecycleEventBridge(RuntimeValue<CamelContext> context, int observedLifecycleEventsMask) {
+        context.getValue().addLifecycleStrategy(new CamelLifecycleEventBridge(observedLifecycleEventsMask));
     }
 
-    public void registerManagementEventBridge(RuntimeValue<CamelContext> camelContext, Set<String> observedManagementEvents) {
-        camelContext.getValue()
-                .getManagementStrategy()
-                .addEventNotifier(new CamelManagementEventBridge(observedManagementEvents));
+    public void registerManagementEventBridge(
+            RuntimeValue<CamelContext> camelContext,
+            Set<String> observedManagementEvents,
+            boolean fireAsync,
+            CamelConfig config) {
+        CamelConfig.EventBridgeAsyncConfig async = config.eventBridge().async();
+        CamelManagementEventBridge bridge;
+        if (async.enabled()) {
+            bridge = new AsyncCamelManagementEventBridge(
+                    observedManagementEvents,
+                    fireAsync,
+                    async.bufferSize(),
+                    async.batchSize(),
+                    async.overflowPolicy(),
+                    async.sampleRate(),
+                    config.threads().virtual().enabled());
+        } else {
+            bridge = new CamelManagementEventBridge(observedManagementEvents);
+        }
+        bridge.setCamelContext(camelContext.getValue());
+        camelContext.getValue().getManagementStrategy().addEventNotifier(bridge);
     }
 
     public RuntimeValue<CamelContextCustomizer> createBacklogTracerCustomizer(CamelConfig config) {
@@ -176,6 +197,21 @@ public class CamelContextRecorder {
         });
     }
 
+    public RuntimeValue<CamelContextCustomizer> createVirtualThreadPoolFactoryCustomizer(CamelConfig config) {
+        Integer maxConcurrency = config.threads().virtual().maxConcurrency().orElse(null);
+        return new RuntimeValue<>(context -> {
+            ExecutorServiceManager manager = context.getExecutorServiceManager();
+            manager.setThreadPoolFactory(new VirtualThreadPoolFactory(manager, maxConcurrency));
+        });
+    }
+
+    public void startVirtualThreadPinningMonitor(CamelConfig config, ShutdownContext shutdownContext) {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+                config.threads().virtual().pinningReportThreshold());
+        monitor.start();
+        shutdownContext.addShutdownTask(monitor::close);
+    }
+
     public RuntimeValue<Clock> createBootClock(boolean isNativeImage) {
         Clock clock;
         if (isNativeImage) {
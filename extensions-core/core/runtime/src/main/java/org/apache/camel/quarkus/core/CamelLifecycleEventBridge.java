@@ -17,6 +17,7 @@
 package org.apache.camel.quarkus.core;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
@@ -47,6 +48,9 @@ import org.apache.camel.util.function.Suppliers;
  * Bridges {@link org.apache.camel.spi.LifecycleStrategy} callbacks and CDI by producing the correspondent
  * events. Events are only fired if a corresponding CDI observer is configured for them.
  * <p>
+ * The observed events are held in a bitmask computed at build time, so that the callbacks of unobserved events
+ * neither look up nor allocate anything.
+ * <p>
  * Note that this class does not implement all the callback as some notifications them are already covered
  * by management events {@link CamelManagementEventBridge}
  * <p>
@@ -63,12 +67,57 @@ import org.apache.camel.util.function.Suppliers;
  * @see ThreadPoolRemoveEvent
  */
 public class CamelLifecycleEventBridge implements LifecycleStrategy {
+    static final int COMPONENT_ADD = 1;
+    static final int COMPONENT_REMOVE = 1 << 1;
+    static final int ENDPOINT_ADD = 1 << 2;
+    static final int ENDPOINT_REMOVE = 1 << 3;
+    static final int THREAD_POOL_ADD = 1 << 4;
+    static final int THREAD_POOL_REMOVE = 1 << 5;
+    static final int SERVICE_ADD = 1 << 6;
+    static final int SERVICE_REMOVE = 1 << 7;
+
+    private static final Map<String, Integer> EVENT_MASKS = Map.of(
+            ComponentAddEvent.class.getName(), COMPONENT_ADD,
+            ComponentRemoveEvent.class.getName(), COMPONENT_REMOVE,
+            EndpointAddEvent.class.getName(), ENDPOINT_ADD,
+            EndpointRemoveEvent.class.getName(), ENDPOINT_REMOVE,
+            ThreadPoolAddEvent.class.getName(), THREAD_POOL_ADD,
+            ThreadPoolRemoveEvent.class.getName(), THREAD_POOL_REMOVE,
+            ServiceAddEvent.class.getName(), SERVICE_ADD,
+            ServiceRemoveEvent.class.getName(), SERVICE_REMOVE);
+
     private final Supplier<BeanManager> beanManager;
-    private final Set<String> observedLifecycleEvents;
+    private final int observedLifecycleEvents;
 
     public CamelLifecycleEventBridge(Set<String> observedLifecycleEvents) {
+        this(toObservedEventsMask(observedLifecycleEvents));
+    }
+
+    /**
+     * @param observedLifecycleEventsMask the observed events as computed by {@link #toObservedEventsMask(Collection)}
+     */
+    public CamelLifecycleEventBridge(int observedLifecycleEventsMask) {
         this.beanManager = Suppliers.memorize(Arc.container()::beanManager);
-        this.observedLifecycleEvents = observedLifecycleEvents;
+        this.observedLifecycleEvents = observedLifecycleEventsMask;
+    }
+
+    /**
+     * Computes the bitmask of the observed lifecycle events.
+     *
+     * @param  observedLifecycleEvents the class names of the observed events
+     * @return                         the bitmask of the observed events, {@code 0} if none of the events can be produced
+     *                                 by this bridge
+     */
+    public static int toObservedEventsMask(Collection<String> observedLifecycleEvents) {
+        int mask = 0;
+        for (String event : observedLifecycleEvents) {
+            mask |= EVENT_MASKS.getOrDefault(event, 0);
+        }
+        return mask;
+    }
+
+    private boolean isObserved(int event) {
+        return (observedLifecycleEvents & event) != 0;
     }
 
     private <T extends CamelEvent> void fireEvent(T event) {
@@ -77,28 +126,28 @@ public class CamelLifecycleEventBridge implements LifecycleStrategy {
 
     @Override
     public void onComponentAdd(String name, Component component) {
-        if (observedLifecycleEvents.contains(ComponentAddEvent.class.getName())) {
+        if (isObserved(COMPONENT_ADD)) {
             fireEvent(new ComponentAddEvent(component));
         }
     }
 
     @Override
     public void onComponentRemove(String name, Component component) {
-        if (observedLifecycleEvents.contains(ComponentRemoveEvent.class.getName())) {
+        if (isObserved(COMPONENT_REMOVE)) {
             fireEvent(new ComponentRemoveEvent(component));
         }
     }
 
     @Override
     public void onEndpointAdd(Endpoint endpoint) {
-        if (observedLifecycleEvents.contains(EndpointAddEvent.class.getName())) {
+        if (isObserved(ENDPOINT_ADD)) {
             fireEvent(new EndpointAddEvent(endpoint));
         }
     }
 
     @Override
     public void onEndpointRemove(Endpoint endpoint) {
-        if (observedLifecycleEvents.contains(EndpointRemoveEvent.class.getName())) {
+        if (isObserved(ENDPOINT_REMOVE)) {
             fireEvent(new EndpointRemoveEvent(endpoint));
         }
     }
@@ -106,28 +155,28 @@ public class CamelLifecycleEventBridge implements LifecycleStrategy {
     @Override
     public void onThreadPoolAdd(CamelContext camelContext, ThreadPoolExecutor threadPool, String id,
             String sourceId, String routeId, String threadPoolProfileId) {
-        if (observedLifecycleEvents.contains(ThreadPoolAddEvent.class.getName())) {
+        if (isObserved(THREAD_POOL_ADD)) {
             fireEvent(new ThreadPoolAddEvent(camelContext, threadPool, id, sourceId, routeId, threadPoolProfileId));
         }
     }
 
     @Override
     public void onThreadPoolRemove(CamelContext camelContext, ThreadPoolExecutor threadPool) {
-        if (observedLifecycleEvents.contains(ThreadPoolRemoveEvent.class.getName())) {
+        if (isObserved(THREAD_POOL_REMOVE)) {
             fireEvent(new ThreadPoolRemoveEvent(camelContext, threadPool));
         }
     }
 
     @Override
     public void onServiceAdd(CamelContext context, Service service, org.apache.camel.Route route) {
-        if (observedLifecycleEvents.contains(ServiceAddEvent.class.getName())) {
+        if (isObserved(SERVICE_ADD)) {
             fireEvent(new ServiceAddEvent(context, service, route));
         }
     }
 
     @Override
     public void onServiceRemove(CamelContext context, Service service, org.apache.camel.Route route) {
-        if (observedLifecycleEvents.contains(ServiceRemoveEvent.class.getName())) {
+        if (isObserved(SERVICE_REMOVE)) {
             fireEvent(new ServiceRemoveEvent(context, service, route));
         }
     }
@@ -16,39 +16,114 @@
  */
 package org.apache.camel.quarkus.core;
 
+import java.util.EnumSet;
 import java.util.Set;
 
 import io.quarkus.arc.Arc;
-import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.event.Event;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.EventNotifier;
 import org.apache.camel.support.EventNotifierSupport;
 
 /**
  * Bridges Camel Management events to CDI.
+ * <p>
+ * The observed events are resolved to a set of {@link CamelEvent.Type} upfront, so that checking whether an event is
+ * observed does not involve any string handling. In addition, the event categories without any observer are ignored
+ * through the {@link EventNotifierSupport} flags, which lets Camel skip creating those events altogether.
  *
  * @see EventNotifier
  */
 public class CamelManagementEventBridge extends EventNotifierSupport {
     private final Set<String> observedManagementEvents;
-    private BeanManager beanManager;
+    private final EnumSet<CamelEvent.Type> observedTypes;
+    private Event<CamelEvent> cdiEvent;
 
+    /**
+     * @param observedManagementEvents the simple names of the observed Camel management event classes
+     */
     public CamelManagementEventBridge(Set<String> observedManagementEvents) {
         this.observedManagementEvents = observedManagementEvents;
+        this.observedTypes = toObservedTypes(observedManagementEvents);
+
+        if (observedTypes.size() < observedManagementEvents.size()) {
+            // Some of the observed events are custom or unknown, so no event category can be safely ignored
+            return;
+        }
+        setIgnoreCamelContextInitEvents(!isAnyObserved("CamelContextInitializ"));
+        setIgnoreCamelContextEvents(!isAnyObserved("CamelContext"));
+        setIgnoreRouteEvents(!isAnyObserved("Route"));
+        setIgnoreServiceEvents(!isAnyObserved("Service"));
+        setIgnoreStepEvents(!isAnyObserved("Step"));
+        setIgnoreExchangeEvents(!isAnyObserved("Exchange"));
+        setIgnoreExchangeCreatedEvent(!observedTypes.contains(CamelEvent.Type.ExchangeCreated));
+        setIgnoreExchangeCompletedEvent(!observedTypes.contains(CamelEvent.Type.ExchangeCompleted));
+        setIgnoreExchangeFailedEvents(!observedTypes.contains(CamelEvent.Type.ExchangeFailed)
+                && !observedTypes.contains(CamelEvent.Type.ExchangeFailureHandling)
+                && !observedTypes.contains(CamelEvent.Type.ExchangeFailureHandled));
+        setIgnoreExchangeRedeliveryEvents(!observedTypes.contains(CamelEvent.Type.ExchangeRedelivery));
+        setIgnoreExchangeSendingEvents(!observedTypes.contains(CamelEvent.Type.ExchangeSending));
+        setIgnoreExchangeSentEvents(!observedTypes.contains(CamelEvent.Type.ExchangeSent));
+        setIgnoreExchangeAsyncProcessingStartedEvents(
+                !observedTypes.contains(CamelEvent.Type.ExchangeAsyncProcessingStarted));
     }
 
     @Override
     protected void doInit() {
-        beanManager = Arc.container().beanManager();
+        cdiEvent = Arc.container().beanManager().getEvent().select(CamelEvent.class);
     }
 
     @Override
     public void notify(CamelEvent event) throws Exception {
-        beanManager.getEvent().select(CamelEvent.class).fire(event);
+        fire(event);
+    }
+
+    /**
+     * Delivers the given event to the {@code @Observes} observers.
+     */
+    protected void fire(CamelEvent event) {
+        cdiEvent.fire(event);
+    }
+
+    protected Event<CamelEvent> getCdiEvent() {
+        return cdiEvent;
     }
 
     @Override
     public boolean isEnabled(CamelEvent event) {
-        return observedManagementEvents.contains(event.getClass().getSimpleName());
+        CamelEvent.Type type = event.getType();
+        if (type == null || type == CamelEvent.Type.Custom) {
+            return observedManagementEvents.contains(event.getClass().getSimpleName());
+        }
+        return observedTypes.contains(type);
+    }
+
+    private boolean isAnyObserved(String typePrefix) {
+        for (CamelEvent.Type type : observedTypes) {
+            if (type.name().startsWith(typePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the simple names of the observed event classes (E.g. {@code ExchangeCompletedEvent}) to the
+     * corresponding {@link CamelEvent.Type}.
+     */
+    static EnumSet<CamelEvent.Type> toObservedTypes(Set<String> observedManagementEvents) {
+        EnumSet<CamelEvent.Type> types = EnumSet.noneOf(CamelEvent.Type.class);
+        for (String event : observedManagementEvents) {
+            if (event.endsWith("Event")) {
+                String typeName = event.substring(0, event.length() - "Event".length());
+                for (CamelEvent.Type type : CamelEvent.Type.values()) {
+                    if (type.name().equals(typeName)) {
+                        types.add(type);
+                        break;
+                    }
+                }
+            }
+        }
+        return types;
     }
 }
@@ -21,19 +21,44 @@ import java.net.URL;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
 
+/**
+ * A {@link ClassResolver} remembering both resolved classes and failed lookups for the application class loader and
+ * the additional class loaders. Failed {@code loadClass} calls are costly because of the exception construction, and
+ * Camel probes for optional classes repeatedly at runtime.
+ * <p>
+ * The caches are bound to this resolver instance, which is discarded together with its {@link org.apache.camel.CamelContext}
+ * when the application is reloaded in dev mode.
+ */
 public class CamelQuarkusClassResolver implements ClassResolver {
+    static final int DEFAULT_CACHE_MAX_SIZE = 4096;
+    private static final Object MISS = new Object();
 
     private Set<ClassLoader> classLoaders;
     private final ClassLoader applicationContextClassLoader;
+    private final Map<String, Object> applicationClassLoaderCache = new ConcurrentHashMap<>();
+    private final Map<String, Object> classLoadersCache = new ConcurrentHashMap<>();
+    private final int cacheMaxSize;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder negativeCacheHits = new LongAdder();
 
     public CamelQuarkusClassResolver(ClassLoader applicationContextClassLoader) {
+        this(applicationContextClassLoader, DEFAULT_CACHE_MAX_SIZE);
+    }
+
+    public CamelQuarkusClassResolver(ClassLoader applicationContextClassLoader, int cacheMaxSize) {
         this.applicationContextClassLoader = applicationContextClassLoader;
+        this.cacheMaxSize = cacheMaxSize;
     }
 
     @Override
@@ -41,7 +66,10 @@ public class CamelQuarkusClassResolver implements ClassResolver {
         if (classLoaders == null) {
             classLoaders = new LinkedHashSet<>();
         }
-        classLoaders.add(classLoader);
+        if (classLoaders.add(classLoader)) {
+            // Classes previously not found may be visible to the new class loader
+            classLoadersCache.clear();
+        }
     }
 
     @Override
@@ -66,18 +94,13 @@ public class CamelQuarkusClassResolver implements ClassResolver {
 
     @Override
     public Class<?> resolveClass(String name) {
-        Class<?> result = loadClass(name, applicationContextClassLoader);
+        Class<?> result = resolveFromApplicationClassLoader(name);
         if (result != null) {
             return result;
         }
 
         if (ObjectHelper.isNotEmpty(classLoaders)) {
-            for (ClassLoader loader : classLoaders) {
-                result = loadClass(name, loader);
-                if (result != null) {
-                    return result;
-                }
-            }
+            return cachedLookup(classLoadersCache, name, this::loadClassFromClassLoaders);
         }
 
         return null;
@@ -85,7 +108,7 @@ public class CamelQuarkusClassResolver implements ClassResolver {
 
     @Override
     public <T> Class<T> resolveClass(String name, Class<T> type) {
-        return CastUtils.cast(loadClass(name, applicationContextClassLoader));
+        return CastUtils.cast(resolveFromApplicationClassLoader(name));
     }
 
     @Override
@@ -158,4 +181,72 @@ public class CamelQuarkusClassResolver implements ClassResolver {
         return ObjectHelper.loadClass(name, loader);
     }
 
+    /**
+     * Clears the resolved class and failed lookup caches.
+     */
+    public void clearCache() {
+        applicationClassLoaderCache.clear();
+        classLoadersCache.clear();
+    }
+
+    /**
+     * The number of lookups answered from the cache with a previously resolved class.
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * The number of lookups answered from the cache with a previously failed lookup.
+     */
+    public long getNegativeCacheHits() {
+        return negativeCacheHits.sum();
+    }
+
+    /**
+     * The number of lookups that had to be delegated to a class loader.
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    private Class<?> resolveFromApplicationClassLoader(String name) {
+        return cachedLookup(applicationClassLoaderCache, name, n -> loadClass(n, applicationContextClassLoader));
+    }
+
+    private Class<?> loadClassFromClassLoaders(String name) {
+        for (ClassLoader loader : classLoaders) {
+            Class<?> result = loadClass(name, loader);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private Class<?> cachedLookup(Map<String, Object> cache, String name, Function<String, Class<?>> loader) {
+        if (name == null) {
+            return null;
+        }
+
+        Object cached = cache.get(name);
+        if (cached != null) {
+            if (cached == MISS) {
+                negativeCacheHits.increment();
+                return null;
+            }
+            cacheHits.increment();
+            return (Class<?>) cached;
+        }
+
+        cacheMisses.increment();
+        Class<?> result = loader.apply(name);
+        if (cache.size() >= cacheMaxSize) {
+            // Keep the cache bounded, entries are cheap to recompute
+            cache.clear();
+        }
+        cache.put(name, result != null ? result : MISS);
+        return result;
+    }
+
 }
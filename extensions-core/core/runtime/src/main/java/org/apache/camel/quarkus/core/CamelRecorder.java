@@ -92,6 +92,12 @@ public class CamelRecorder {
         StaticAnnotationTypeConverterLoader.getInstance().load(registry.getValue(), classes);
     }
 
+    public void freezeTypeConverterLookupTable(RuntimeValue<TypeConverterRegistry> registry) {
+        if (registry.getValue() instanceof FastTypeConverter fastTypeConverter) {
+            fastTypeConverter.freezeLookupTable();
+        }
+    }
+
     public void bind(
             RuntimeValue<Registry> runtime,
             String name,
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Consume;
+import org.apache.camel.NoSuchBeanException;
+
+/**
+ * Base class of the classes generated at build time to call a bean declaring a {@link Consume} method, which is looked
+ * up by name in the registry on first use.
+ */
+public abstract class ConsumeBeanSupport implements CamelContextAware {
+    private CamelContext camelContext;
+    private String beanName;
+    private volatile Object bean;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public void setBeanName(String beanName) {
+        this.beanName = beanName;
+    }
+
+    protected Object bean() {
+        Object answer = bean;
+        if (answer == null) {
+            answer = camelContext.getRegistry().lookupByName(beanName);
+            if (answer == null) {
+                throw new NoSuchBeanException(beanName);
+            }
+            bean = answer;
+        }
+        return answer;
+    }
+}
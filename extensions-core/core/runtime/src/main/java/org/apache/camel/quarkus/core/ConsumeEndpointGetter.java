@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import org.apache.camel.Consume;
+
+/**
+ * Base class of the classes generated at build time for the endpoint getters of the beans declaring a {@link Consume}
+ * method without an endpoint URI.
+ */
+public abstract class ConsumeEndpointGetter extends ConsumeBeanSupport {
+    /**
+     * @return the value returned by the endpoint getter of the bean, either an endpoint URI or an
+     *         {@link org.apache.camel.Endpoint}
+     */
+    public Object getEndpointUri() {
+        return getEndpointUri(bean());
+    }
+
+    /**
+     * Calls the endpoint getter of the given bean.
+     */
+    protected abstract Object getEndpointUri(Object bean);
+}
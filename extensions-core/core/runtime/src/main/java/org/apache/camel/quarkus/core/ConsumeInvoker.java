@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import org.apache.camel.Consume;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+
+/**
+ * Base class of the classes generated at build time for the methods annotated with {@link Consume} that do not need
+ * the bean binding of the Camel bean component. A generated class calls the {@link Consume} method itself with the
+ * parameter bindings resolved at build time.
+ */
+public abstract class ConsumeInvoker extends ConsumeBeanSupport implements Processor {
+    /**
+     * The result of the {@link #invoke(Object, Exchange)} of a {@code void} method.
+     */
+    protected static final Object VOID = new Object();
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        Object result = invoke(bean(), exchange);
+        if (result != VOID) {
+            exchange.getMessage().setBody(result);
+        }
+    }
+
+    /**
+     * Calls the {@link Consume} method of the given bean with the parameters bound from the given exchange.
+     *
+     * @return the value returned by the method or {@link #VOID} for a {@code void} method
+     */
+    protected abstract Object invoke(Object bean, Exchange exchange) throws Exception;
+
+    /**
+     * Binds the message body to a parameter, in the same way as the bean binding does for the first parameter without
+     * annotation: the body is mandatorily converted to the parameter type, unless it is {@code null}.
+     */
+    protected static Object body(Exchange exchange, Class<?> type) throws Exception {
+        Message message = exchange.getMessage();
+        Object body = message.getBody();
+        if (body == null || type.isInstance(body)) {
+            return body;
+        }
+        return exchange.getContext().getTypeConverter().mandatoryConvertTo(type, exchange, body);
+    }
+
+    protected static Object header(Exchange exchange, String name, Class<?> type) {
+        return exchange.getMessage().getHeader(name, type);
+    }
+
+    protected static Object property(Exchange exchange, String name, Class<?> type) {
+        return exchange.getProperty(name, type);
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.TypeConversionException;
 import org.apache.camel.model.Model;
+import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.model.RoutesDefinition;
 
 /**
@@ -41,30 +42,59 @@ public class ConsumeRecorder {
         return new RuntimeValue<RoutesDefinition>(routesDefinition);
     }
 
+    public RuntimeValue<ConsumeInvoker> createConsumeInvoker(
+            RuntimeValue<CamelContext> camelContext,
+            RuntimeValue<ConsumeInvoker> invoker,
+            String beanName) {
+        invoker.getValue().setCamelContext(camelContext.getValue());
+        invoker.getValue().setBeanName(beanName);
+        return invoker;
+    }
+
+    public RuntimeValue<ConsumeEndpointGetter> createConsumeEndpointGetter(
+            RuntimeValue<CamelContext> camelContext,
+            RuntimeValue<ConsumeEndpointGetter> endpointGetter,
+            String beanName) {
+        endpointGetter.getValue().setCamelContext(camelContext.getValue());
+        endpointGetter.getValue().setBeanName(beanName);
+        return endpointGetter;
+    }
+
+    /**
+     * @param invoker the {@link ConsumeInvoker} calling the {@link Consume} method directly or {@code null} if the
+     *                method is invoked by the Camel bean component
+     */
     public void addConsumeRoute(
             RuntimeValue<CamelContext> camelContext,
             RuntimeValue<RoutesDefinition> routesDefinition,
             String uri,
             RuntimeValue<Object> runtimeUriOrEndpoint,
             String beanName,
-            String method) {
+            String method,
+            RuntimeValue<ConsumeInvoker> invoker) {
         final RoutesDefinition routes = routesDefinition.getValue();
+        final RouteDefinition route;
         if (uri != null) {
-            routes.from(uri).bean(beanName, method);
+            route = routes.from(uri);
         } else {
             Object uriOrEndpoint = runtimeUriOrEndpoint.getValue();
             if (uriOrEndpoint instanceof Endpoint) {
-                routes.from((Endpoint) uriOrEndpoint).bean(beanName, method);
+                route = routes.from((Endpoint) uriOrEndpoint);
             } else {
                 try {
                     final String uriOrRef = camelContext.getValue().getTypeConverter().mandatoryConvertTo(String.class,
                             uriOrEndpoint);
-                    routes.from(uriOrRef).bean(beanName, method);
+                    route = routes.from(uriOrRef);
                 } catch (TypeConversionException | NoTypeConversionAvailableException e) {
                     throw new RuntimeException(e);
                 }
             }
         }
+        if (invoker != null) {
+            route.process(invoker.getValue());
+        } else {
+            route.bean(beanName, method);
+        }
     }
 
     public void addConsumeRoutesToContext(RuntimeValue<CamelContext> camelContext,
@@ -79,10 +109,13 @@ public class ConsumeRecorder {
         }
     }
 
+    public RuntimeValue<Object> getEndpointUri(RuntimeValue<ConsumeEndpointGetter> endpointGetter) {
+        return new RuntimeValue<>(endpointGetter.getValue().getEndpointUri());
+    }
+
     public RuntimeValue<Object> getEndpointUri(RuntimeValue<CamelContext> camelContext, String beanName,
             String endpointMethodName) {
-        /* Possible improvement: Instead of using reflection, we could generate this method at build time
-         * to call the bean method directly */
+        /* Only used for private endpoint getters, the other ones are called by the generated ConsumeEndpointGetter */
         Object bean = camelContext.getValue().getRegistry().lookupByName(beanName);
         Method method = null;
         try {
@@ -51,8 +51,12 @@ import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.VariableRepositoryFactory;
 import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class FastCamelContext extends DefaultCamelContext implements CatalogCamelContext, ModelCamelContext {
+    private static final Logger LOG = LoggerFactory.getLogger(FastCamelContext.class);
+
     private final String version;
     private final ModelToXMLDumper xmlModelDumper;
     private final ModelToYAMLDumper yamlModelDumper;
@@ -196,6 +200,17 @@ public class FastCamelContext extends DefaultCamelContext implements CatalogCame
         forceLazyInitialization();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (getClassResolver() instanceof CamelQuarkusClassResolver classResolver) {
+            LOG.debug("ClassResolver cache hits: {}, negative cache hits: {}, misses: {}",
+                    classResolver.getCacheHits(), classResolver.getNegativeCacheHits(), classResolver.getCacheMisses());
+            // Do not keep classes of a previous application class loader alive across dev mode reloads
+            classResolver.clearCache();
+        }
+    }
+
     @Override
     public String getComponentParameterJsonSchema(String componentName) throws IOException {
         Class<?> clazz;
@@ -16,27 +16,52 @@
  */
 package org.apache.camel.quarkus.core;
 
+import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.impl.engine.DefaultFactoryFinderResolver;
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
-import org.apache.camel.support.ObjectHelper;
 import org.jboss.logging.Logger;
 
 /**
  * A build time assembled {@link FactoryFinderResolver}.
+ * <p>
+ * Entries are indexed by their parent resource path, so that a {@link FactoryFinder} resolves its table once and
+ * subsequent lookups by key neither concatenate strings nor allocate.
  */
 public class FastFactoryFinderResolver extends DefaultFactoryFinderResolver {
     private static final Logger LOG = Logger.getLogger(FastFactoryFinderResolver.class);
     private final Map<String, Class<?>> classMap;
+    private final Map<String, Map<String, FactoryEntry>> pathIndex;
 
     FastFactoryFinderResolver(Map<String, Class<?>> classMap) {
         this.classMap = classMap;
+        this.pathIndex = indexByPath(classMap);
+    }
+
+    static Map<String, Map<String, FactoryEntry>> indexByPath(Map<String, Class<?>> classMap) {
+        final Map<String, Map<String, FactoryEntry>> index = new HashMap<>();
+        classMap.forEach((resourcePath, cl) -> {
+            final int i = resourcePath.lastIndexOf('/');
+            final String path = resourcePath.substring(0, i + 1);
+            final String key = resourcePath.substring(i + 1);
+            index.computeIfAbsent(path, p -> new HashMap<>()).put(key, new FactoryEntry(cl));
+        });
+        return index;
+    }
+
+    static String normalizePath(String resourcePath) {
+        final int start = resourcePath.startsWith("/") ? 1 : 0;
+        if (resourcePath.endsWith("/")) {
+            return resourcePath.substring(start);
+        }
+        return resourcePath.substring(start) + "/";
     }
 
     static String mapKey(String resourcePath, String key) {
@@ -96,12 +121,43 @@ public class FastFactoryFinderResolver extends DefaultFactoryFinderResolver {
         }
     }
 
+    static final class FactoryEntry {
+        private final Class<?> type;
+        private final Optional<Class<?>> optionalType;
+        private volatile Constructor<?> constructor;
+
+        FactoryEntry(Class<?> type) {
+            this.type = type;
+            this.optionalType = Optional.of(type);
+        }
+
+        Optional<Class<?>> getOptionalType() {
+            return optionalType;
+        }
+
+        Object newInstance() {
+            try {
+                Constructor<?> ctor = constructor;
+                if (ctor == null) {
+                    // Resolve the no-arg constructor once rather than on every instantiation
+                    ctor = type.getDeclaredConstructor();
+                    constructor = ctor;
+                }
+                return ctor.newInstance();
+            } catch (Exception e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+    }
+
     public class FastFactoryFinder implements FactoryFinder {
 
         private final String path;
+        private final Map<String, FactoryEntry> entries;
 
         FastFactoryFinder(String resourcePath) {
             this.path = resourcePath;
+            this.entries = pathIndex.getOrDefault(normalizePath(resourcePath), Collections.emptyMap());
         }
 
         @Override
@@ -111,28 +167,26 @@ public class FastFactoryFinderResolver extends DefaultFactoryFinderResolver {
 
         @Override
         public Optional<Object> newInstance(String key) {
-            return doNewInstance(key);
+            final FactoryEntry entry = findEntry(key, "a non-optional");
+            return entry != null ? Optional.of(entry.newInstance()) : Optional.empty();
         }
 
         @Override
         public <T> Optional<T> newInstance(String key, Class<T> type) {
-            return doNewInstance(key).map(type::cast);
+            final FactoryEntry entry = findEntry(key, "a non-optional");
+            return entry != null ? Optional.of(type.cast(entry.newInstance())) : Optional.empty();
         }
 
         @Override
         public Optional<Class<?>> findClass(String key) {
-            final String mapKey = mapKey(path, key);
-            final Class<?> cl = classMap.get(mapKey);
-            LOG.tracef("Found a non-optional class for key %s: %s", mapKey, cl == null ? "null" : cl.getName());
-            return Optional.ofNullable(cl);
+            final FactoryEntry entry = findEntry(key, "a non-optional");
+            return entry != null ? entry.getOptionalType() : Optional.empty();
         }
 
         @Override
         public Optional<Class<?>> findOptionalClass(String key) {
-            final String mapKey = mapKey(path, key);
-            final Class<?> cl = classMap.get(mapKey);
-            LOG.tracef("Found an optional class for key %s: %s", mapKey, cl == null ? "null" : cl.getName());
-            return Optional.ofNullable(cl);
+            final FactoryEntry entry = findEntry(key, "an optional");
+            return entry != null ? entry.getOptionalType() : Optional.empty();
         }
 
         @Override
@@ -140,8 +194,18 @@ public class FastFactoryFinderResolver extends DefaultFactoryFinderResolver {
             //nothing to clear
         }
 
-        private Optional<Object> doNewInstance(String key) {
-            return findClass(key).map(ObjectHelper::newInstance);
+        private FactoryEntry findEntry(String key, String kind) {
+            FactoryEntry entry = entries.get(key);
+            if (entry == null && key.indexOf('/') != -1) {
+                // The key spans multiple path segments so it is not part of the index for this resource path
+                final Class<?> cl = classMap.get(mapKey(path, key));
+                entry = cl != null ? new FactoryEntry(cl) : null;
+            }
+            if (LOG.isTraceEnabled()) {
+                LOG.tracef("Found %s class for key %s: %s", kind, mapKey(path, key),
+                        entry == null ? "null" : entry.type.getName());
+            }
+            return entry;
         }
 
     }
@@ -16,16 +16,32 @@
  */
 package org.apache.camel.quarkus.core;
 
+import java.util.concurrent.ExecutionException;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
 import org.apache.camel.impl.converter.DefaultTypeConverter;
 import org.apache.camel.spi.TypeConverterLoader;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class FastTypeConverter extends DefaultTypeConverter {
     private static final Logger LOG = LoggerFactory.getLogger(FastTypeConverter.class);
+    /**
+     * Returned by {@link #fastConvertTo(Class, Exchange, Object)} when the lookup table has no converter for the pair,
+     * to tell it apart from a converter that ran and returned {@code null}.
+     */
+    private static final Object NOT_HANDLED = new Object();
+
+    private final TypeConverterLookupTable lookupTable = new TypeConverterLookupTable();
+    private final boolean statisticsEnabled;
 
     public FastTypeConverter(boolean statisticsEnabled) {
         super(null, null, null, false, statisticsEnabled);
+        this.statisticsEnabled = statisticsEnabled;
     }
 
     @Override
@@ -34,10 +50,121 @@ public class FastTypeConverter extends DefaultTypeConverter {
             LOG.debug("TypeConverterLoader: {} loading converters", loader);
             loader.load(this);
         }
+        // No-op if the table was already built at static init
+        lookupTable.freeze();
     }
 
     @Override
     public void scanTypeConverters() throws Exception {
         //implemented in CamelProcessor without use of classpath discovery (uses StaticAnnotationTypeConverterLoader)
     }
+
+    @Override
+    public void addTypeConverter(Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
+        super.addTypeConverter(toType, fromType, typeConverter);
+        lookupTable.put(fromType, toType, typeConverter);
+    }
+
+    @Override
+    public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
+        lookupTable.remove(fromType, toType);
+        return super.removeTypeConverter(toType, fromType);
+    }
+
+    @Override
+    public <T> T convertTo(Class<T> type, Object value) {
+        return convertTo(type, null, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+        Object result = fastConvertTo(type, exchange, value);
+        return result != NOT_HANDLED ? (T) result : super.convertTo(type, exchange, value);
+    }
+
+    /**
+     * Builds the identity keyed lookup table from the converters registered so far. Invoked at the end of static init,
+     * so that in native mode the table is part of the image heap.
+     */
+    public void freezeLookupTable() {
+        lookupTable.freeze();
+    }
+
+    public TypeConverterLookupTable getLookupTable() {
+        return lookupTable;
+    }
+
+    /**
+     * Attempts the conversion with a converter resolved from the lookup table. Returns {@link #NOT_HANDLED} whenever
+     * the regular conversion logic must be applied, e.g. for {@code null} values, unknown type pairs or when
+     * statistics are enabled.
+     * <p>
+     * Once a converter was found, the value is never handed to the regular conversion logic a second time, as that
+     * would run the same converter again and consume stream bodies twice. Like {@code CoreTypeConverterRegistry}, a
+     * converter returning {@link TypeConverter#MISS_VALUE}, or {@code null} without {@link TypeConverter#allowNull()},
+     * hands the value straight to the fallback converters. A failing converter is reported the same way as by
+     * {@code CoreTypeConverterRegistry}.
+     */
+    private Object fastConvertTo(Class<?> type, Exchange exchange, Object value) {
+        if (value == null || statisticsEnabled || !lookupTable.isFrozen()) {
+            return NOT_HANDLED;
+        }
+        if (type.isInstance(value)) {
+            return value;
+        }
+
+        Class<?> fromType = value.getClass();
+        TypeConverter converter = lookupTable.get(fromType, type);
+        if (converter == null) {
+            converter = lookup(type, fromType);
+            lookupTable.memoize(fromType, type, converter != null ? converter : TypeConverterLookupTable.NO_CONVERTER);
+        }
+        if (converter == null || converter == TypeConverterLookupTable.NO_CONVERTER) {
+            return NOT_HANDLED;
+        }
+
+        Object result;
+        try {
+            result = converter.convertTo(type, exchange, value);
+            if (result == TypeConverter.MISS_VALUE || (result == null && !converter.allowNull())) {
+                result = fallbackConvertTo(type, exchange, value);
+            }
+        } catch (TypeConversionException e) {
+            throw e;
+        } catch (Exception e) {
+            // ExecutionException is not due to a failed conversion, e.g. with FutureTypeConverter
+            if (ObjectHelper.getException(ExecutionException.class, e) != null
+                    || ObjectHelper.getException(CamelExecutionException.class, e) != null) {
+                throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
+            }
+            throw new TypeConversionException(value, type, e);
+        }
+        return result == TypeConverter.MISS_VALUE ? null : result;
+    }
+
+    /**
+     * The fallback stage of {@code CoreTypeConverterRegistry}, for values the converter from the lookup table could not
+     * convert.
+     */
+    private Object fallbackConvertTo(Class<?> type, Exchange exchange, Object value) throws Exception {
+        for (FallbackTypeConverter fallback : fallbackConverters) {
+            TypeConverter converter = fallback.getFallbackTypeConverter();
+            Object result = converter.convertTo(type, exchange, value);
+            if (result == null && converter.allowNull()) {
+                return null;
+            }
+            if (result == TypeConverter.MISS_VALUE) {
+                // The fallback converter knows the value cannot be converted, so give up
+                return TypeConverter.MISS_VALUE;
+            }
+            if (result != null) {
+                if (fallback.isCanPromote()) {
+                    addTypeConverter(type, value.getClass(), converter);
+                }
+                return result;
+            }
+        }
+        return TypeConverter.MISS_VALUE;
+    }
 }
@@ -21,8 +21,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import io.quarkus.arc.Arc;
@@ -30,15 +31,17 @@ import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
 import io.smallrye.common.annotation.Identifier;
+import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.literal.NamedLiteral;
-import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Singleton;
 import org.apache.camel.spi.BeanRepository;
 import org.apache.camel.util.ObjectHelper;
 
 public final class RuntimeBeanRepository implements BeanRepository {
     private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
     private final Map<BeanQualifierResolverIdentifier, CamelBeanQualifierResolver> beanQualifierResolvers;
+    private volatile BeanHandleCache beanHandleCache = BeanHandleCache.EMPTY;
 
     public RuntimeBeanRepository(Map<BeanQualifierResolverIdentifier, CamelBeanQualifierResolver> beanQualifierResolvers) {
         this.beanQualifierResolvers = beanQualifierResolvers;
@@ -49,11 +52,28 @@ public final class RuntimeBeanRepository implements BeanRepository {
         return lookupByNameAndType(name, Object.class);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T lookupByNameAndType(String name, Class<T> type) {
-        return getBeanManager()
-                .flatMap(manager -> getReferenceByName(name, type, resolveQualifiersForTypeAndName(type, name)))
-                .orElse(null);
+        ArcContainer container = Arc.container();
+        if (container == null || container.beanManager() == null) {
+            return null;
+        }
+
+        BeanHandleCache cache = getBeanHandleCache(container);
+        BeanLookupKey key = new BeanLookupKey(name, type);
+        InstanceHandle<?> cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        InstanceHandle<T> handle = getReferenceByName(container, name, type, resolveQualifiersForTypeAndName(type, name));
+        if (handle == null) {
+            return null;
+        }
+
+        cache.putIfCacheable(key, handle);
+        return handle.get();
     }
 
     @Override
@@ -71,15 +91,34 @@ public final class RuntimeBeanRepository implements BeanRepository {
                 .collect(Collectors.toSet());
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T findSingleByType(Class<T> type) {
-        List<InstanceHandle<T>> handles = Arc.container().listAll(type, resolveQualifiersForType(type));
+        ArcContainer container = Arc.container();
+        BeanHandleCache cache = getBeanHandleCache(container);
+        BeanLookupKey key = new BeanLookupKey(null, type);
+        InstanceHandle<?> cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        InstanceHandle<T> handle = resolveSingleByType(container, type);
+        if (handle == null) {
+            return null;
+        }
+
+        cache.putIfCacheable(key, handle);
+        return handle.get();
+    }
+
+    private <T> InstanceHandle<T> resolveSingleByType(ArcContainer container, Class<T> type) {
+        List<InstanceHandle<T>> handles = container.listAll(type, resolveQualifiersForType(type));
         if (handles.isEmpty()) {
             // No matches for the given bean type
             return null;
         } else if (handles.size() == 1) {
             // Only 1 bean exists for the given type so just return it
-            return handles.get(0).get();
+            return handles.get(0);
         }
 
         // For multiple bean matches determine how many have the @Default qualifier
@@ -114,7 +153,7 @@ public final class RuntimeBeanRepository implements BeanRepository {
                 }
                 return result;
             });
-            return sortedHandles.get(0).get();
+            return sortedHandles.get(0);
         }
 
         // Multiple beans exist for the given type, and we could not determine which one to use
@@ -137,16 +176,16 @@ public final class RuntimeBeanRepository implements BeanRepository {
         return beans;
     }
 
-    private static <T> Optional<T> getReferenceByName(String name, Class<T> type, Annotation... qualifiers) {
+    private static <T> InstanceHandle<T> getReferenceByName(ArcContainer container, String name, Class<T> type,
+            Annotation... qualifiers) {
         InstanceHandle<T> instance;
-        T result = null;
 
         if (qualifiers.length == 0) {
             // Try to resolve directly by name
-            instance = Arc.container().instance(name);
+            instance = container.instance(name);
         } else {
             // If there are qualifiers then one of their attributes may represent the name we want to resolve
-            instance = Arc.container().instance(type, qualifiers);
+            instance = container.instance(type, qualifiers);
         }
 
         if (instance.isAvailable()) {
@@ -154,41 +193,38 @@ public final class RuntimeBeanRepository implements BeanRepository {
             InjectableBean<T> bean = instance.getBean();
             if (bean.getKind().equals(InjectableBean.Kind.SYNTHETIC)) {
                 if (bean.getTypes().contains(type)) {
-                    result = instance.get();
+                    return instance;
                 }
             } else {
                 if (type.isInstance(instance.get())) {
-                    result = instance.get();
+                    return instance;
                 }
             }
         }
 
-        if (result == null) {
-            // Fallback to searching explicitly with NamedLiteral
-            instance = Arc.container().instance(type, NamedLiteral.of(name));
-            if (instance.isAvailable()) {
-                result = instance.get();
-            }
+        // Fallback to searching explicitly with NamedLiteral
+        instance = container.instance(type, NamedLiteral.of(name));
+        if (instance.isAvailable()) {
+            return instance;
         }
 
-        if (result == null) {
-            // Fallback to SmallRye @Identifier
-            instance = Arc.container().instance(type, Identifier.Literal.of(name));
-            if (instance.isAvailable()) {
-                result = instance.get();
-            }
+        // Fallback to SmallRye @Identifier
+        instance = container.instance(type, Identifier.Literal.of(name));
+        if (instance.isAvailable()) {
+            return instance;
         }
 
-        return Optional.ofNullable(result);
+        return null;
     }
 
-    private static Optional<BeanManager> getBeanManager() {
-        ArcContainer container = Arc.container();
-        if (container == null) {
-            return Optional.empty();
+    private BeanHandleCache getBeanHandleCache(ArcContainer container) {
+        BeanHandleCache cache = beanHandleCache;
+        if (cache.container != container) {
+            // The container was restarted (E.g. dev mode reload) or shut down, so previously resolved handles are stale
+            cache = container != null ? new BeanHandleCache(container) : BeanHandleCache.EMPTY;
+            beanHandleCache = cache;
         }
-
-        return Optional.ofNullable(container.beanManager());
+        return cache;
     }
 
     private Annotation[] resolveQualifiersForType(Class<?> type) {
@@ -220,4 +256,71 @@ public final class RuntimeBeanRepository implements BeanRepository {
         }
         return name;
     }
+
+    /**
+     * Caches resolved {@link InstanceHandle} instances for {@link ApplicationScoped} and {@link Singleton} beans, so that
+     * repeated registry lookups (E.g. from bean: or toD endpoints) avoid the ArC resolution overhead.
+     * Dependent scoped beans are never cached since each lookup must produce a new instance.
+     */
+    static final class BeanHandleCache {
+        static final BeanHandleCache EMPTY = new BeanHandleCache(null);
+
+        private final ArcContainer container;
+        private final Map<BeanLookupKey, InstanceHandle<?>> handles = new ConcurrentHashMap<>();
+
+        BeanHandleCache(ArcContainer container) {
+            this.container = container;
+        }
+
+        InstanceHandle<?> get(BeanLookupKey key) {
+            if (container == null || !container.isRunning()) {
+                return null;
+            }
+            return handles.get(key);
+        }
+
+        void putIfCacheable(BeanLookupKey key, InstanceHandle<?> handle) {
+            if (container == null || !container.isRunning()) {
+                return;
+            }
+
+            Class<? extends Annotation> scope = handle.getBean().getScope();
+            if (ApplicationScoped.class.equals(scope) || Singleton.class.equals(scope)) {
+                handles.putIfAbsent(key, handle);
+            }
+        }
+    }
+
+    /**
+     * Key for {@link BeanHandleCache}. The qualifiers used for a lookup are derived from the bean name and type via the
+     * build time {@link CamelBeanQualifierResolver} mappings, so they do not need to be part of the key.
+     */
+    static final class BeanLookupKey {
+        private final String name;
+        private final Class<?> type;
+        private final int hashCode;
+
+        BeanLookupKey(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+            this.hashCode = Objects.hash(name, type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BeanLookupKey)) {
+                return false;
+            }
+            BeanLookupKey that = (BeanLookupKey) o;
+            return type == that.type && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
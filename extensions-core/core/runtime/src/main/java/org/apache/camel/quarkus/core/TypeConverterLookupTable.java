@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.support.TypeConverterSupport;
+
+/**
+ * A dense, open addressing {@link TypeConverter} table keyed by the identity of the {@code (fromType, toType)} pair.
+ * <p>
+ * Converters registered while the application is being initialized are collected first and turned into the table by
+ * {@link #freeze()}. Later additions replace the table with an updated copy, so lookups never lock or allocate.
+ * <p>
+ * Pairs resolved after the table was built, e.g. through super type or bulk converters, are memoized in a bounded
+ * concurrent side map via {@link #memoize(Class, Class, TypeConverter)}. The side map is discarded whenever a
+ * converter is added or removed, as either can change how such pairs resolve.
+ */
+public final class TypeConverterLookupTable {
+    /**
+     * Marker stored for type pairs that are known to have no directly registered converter.
+     */
+    public static final TypeConverter NO_CONVERTER = new TypeConverterSupport() {
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "NoTypeConverter";
+        }
+    };
+
+    /**
+     * The maximum number of memoized pairs kept in the side map before it is discarded and filled anew.
+     */
+    public static final int MAX_MEMOIZED_PAIRS = 1024;
+
+    private static final Table EMPTY = new Table(1);
+
+    private volatile Table table = EMPTY;
+    private volatile boolean frozen;
+    private Map<TypeMapping, TypeConverter> pending = new LinkedHashMap<>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, TypeConverter>> memoized = new ConcurrentHashMap<>();
+    private final AtomicInteger memoizedSize = new AtomicInteger();
+
+    /**
+     * Returns the converter for the given type pair, {@link #NO_CONVERTER} if the pair is known to have none, or
+     * {@code null} if the pair has not been resolved yet.
+     */
+    public TypeConverter get(Class<?> fromType, Class<?> toType) {
+        TypeConverter converter = table.get(fromType, toType);
+        if (converter != null) {
+            return converter;
+        }
+        ConcurrentMap<Class<?>, TypeConverter> byToType = memoized.get(fromType);
+        return byToType != null ? byToType.get(toType) : null;
+    }
+
+    /**
+     * Remembers how a pair without a directly registered converter resolves, either to a super type or bulk converter
+     * or to {@link #NO_CONVERTER}. Unlike {@link #put(Class, Class, TypeConverter)} this never copies the table.
+     */
+    public void memoize(Class<?> fromType, Class<?> toType, TypeConverter converter) {
+        if (memoizedSize.incrementAndGet() > MAX_MEMOIZED_PAIRS) {
+            // Keep the footprint bounded for applications converting from many distinct runtime types
+            clearMemoized();
+            memoizedSize.incrementAndGet();
+        }
+        memoized.computeIfAbsent(fromType, k -> new ConcurrentHashMap<>()).put(toType, converter);
+    }
+
+    public synchronized void put(Class<?> fromType, Class<?> toType, TypeConverter converter) {
+        if (pending != null) {
+            pending.put(new TypeMapping(fromType, toType), converter);
+            return;
+        }
+        Table current = table;
+        Table updated = new Table(capacityFor(current.size + 1));
+        current.copyTo(updated, null, null);
+        updated.put(fromType, toType, converter);
+        table = updated;
+        clearMemoized();
+    }
+
+    public synchronized void remove(Class<?> fromType, Class<?> toType) {
+        if (pending != null) {
+            pending.remove(new TypeMapping(fromType, toType));
+            return;
+        }
+        Table current = table;
+        Table updated = new Table(capacityFor(current.size));
+        current.copyTo(updated, fromType, toType);
+        table = updated;
+        clearMemoized();
+    }
+
+    /**
+     * Builds the lookup table from the converters registered so far. Subsequent registrations update the table
+     * directly.
+     */
+    public synchronized void freeze() {
+        if (pending == null) {
+            return;
+        }
+        Table updated = new Table(capacityFor(pending.size()));
+        for (Map.Entry<TypeMapping, TypeConverter> entry : pending.entrySet()) {
+            updated.put(entry.getKey().fromType(), entry.getKey().toType(), entry.getValue());
+        }
+        pending = null;
+        table = updated;
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    public int memoizedSize() {
+        return memoized.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void clearMemoized() {
+        memoized.clear();
+        memoizedSize.set(0);
+    }
+
+    private static int hash(Class<?> fromType, Class<?> toType) {
+        int h = System.identityHashCode(fromType) * 31 + System.identityHashCode(toType);
+        return h ^ (h >>> 16);
+    }
+
+    private static int capacityFor(int size) {
+        // Keep the load factor at or below 0.5 so probe sequences stay short
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static final class Table {
+        private final Class<?>[] fromTypes;
+        private final Class<?>[] toTypes;
+        private final TypeConverter[] converters;
+        private int size;
+
+        Table(int capacity) {
+            this.fromTypes = new Class<?>[capacity];
+            this.toTypes = new Class<?>[capacity];
+            this.converters = new TypeConverter[capacity];
+        }
+
+        TypeConverter get(Class<?> fromType, Class<?> toType) {
+            int mask = fromTypes.length - 1;
+            int index = hash(fromType, toType) & mask;
+            while (true) {
+                Class<?> candidate = fromTypes[index];
+                if (candidate == null) {
+                    return null;
+                }
+                if (candidate == fromType && toTypes[index] == toType) {
+                    return converters[index];
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        void put(Class<?> fromType, Class<?> toType, TypeConverter converter) {
+            int mask = fromTypes.length - 1;
+            int index = hash(fromType, toType) & mask;
+            while (fromTypes[index] != null) {
+                if (fromTypes[index] == fromType && toTypes[index] == toType) {
+                    converters[index] = converter;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            fromTypes[index] = fromType;
+            toTypes[index] = toType;
+            converters[index] = converter;
+            size++;
+        }
+
+        void copyTo(Table target, Class<?> excludedFromType, Class<?> excludedToType) {
+            for (int i = 0; i < fromTypes.length; i++) {
+                if (fromTypes[i] != null && !(fromTypes[i] == excludedFromType && toTypes[i] == excludedToType)) {
+                    target.put(fromTypes[i], toTypes[i], converters[i]);
+                }
+            }
+        }
+    }
+
+    private record TypeMapping(Class<?> fromType, Class<?> toType) {
+    }
+}
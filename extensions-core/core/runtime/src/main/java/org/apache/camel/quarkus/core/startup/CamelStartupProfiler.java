@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.startup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+import org.jboss.logging.Logger;
+
+/**
+ * Records the wall time and the memory allocated by the steps of the Camel Quarkus runtime initialization.
+ * <p>
+ * Recording starts when {@link #start()} is invoked from a {@code RUNTIME_INIT} recorder and ends with
+ * {@link #complete()} once Camel is started. Steps begun outside of that window are not recorded, so that the report
+ * is the same in JVM and native mode, where static initialization happens during the image build.
+ */
+public final class CamelStartupProfiler {
+    private static final Logger LOG = Logger.getLogger(CamelStartupProfiler.class);
+    private static final Step NOOP_STEP = new Step(null, null, 0, false);
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static volatile boolean recording;
+    private static volatile boolean completed;
+    private static volatile long startNanos;
+    private static volatile long durationNanos;
+    private static final List<StepRecord> STEPS = new ArrayList<>();
+    private static volatile com.sun.management.ThreadMXBean threadMXBean;
+
+    private CamelStartupProfiler() {
+        // Utility class
+    }
+
+    /**
+     * Starts recording startup steps. Any previously recorded steps are discarded.
+     */
+    public static synchronized void start() {
+        STEPS.clear();
+        threadMXBean = resolveThreadMXBean();
+        startNanos = System.nanoTime();
+        durationNanos = 0;
+        completed = false;
+        recording = true;
+    }
+
+    /**
+     * Stops recording startup steps.
+     */
+    public static synchronized void complete() {
+        if (recording) {
+            recording = false;
+            completed = true;
+            durationNanos = System.nanoTime() - startNanos;
+            LOG.debugf("Camel startup profile recorded %d steps in %d ms", STEPS.size(),
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Begins a startup step. The returned step must be closed when the step is done.
+     *
+     * @param  category the category of the step, e.g. the class driving the step
+     * @param  name     the name of the step
+     * @return          the started step, or a no-op step when the profiler is not recording
+     */
+    public static Step begin(String category, String name) {
+        if (!recording) {
+            return NOOP_STEP;
+        }
+        int[] depth = DEPTH.get();
+        return new Step(category, name, depth[0]++, true);
+    }
+
+    /**
+     * Begins a step driven by another recorder, nested within the steps currently open on the calling thread.
+     */
+    static Step beginNested(String category, String name, int level) {
+        if (!recording) {
+            return NOOP_STEP;
+        }
+        return new Step(category, name, DEPTH.get()[0] + level, false);
+    }
+
+    static void record(String category, String name, int level, long beginNanos, long durationNanos, long allocatedBytes) {
+        synchronized (CamelStartupProfiler.class) {
+            if (recording) {
+                STEPS.add(new StepRecord(category, name, level, beginNanos - startNanos, durationNanos, allocatedBytes));
+            }
+        }
+    }
+
+    static long currentThreadAllocatedBytes() {
+        com.sun.management.ThreadMXBean bean = threadMXBean;
+        if (bean == null) {
+            return -1;
+        }
+        try {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        } catch (UnsupportedOperationException e) {
+            threadMXBean = null;
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a copy of the recorded steps.
+     */
+    public static synchronized List<StepRecord> getSteps() {
+        return new ArrayList<>(STEPS);
+    }
+
+    /**
+     * Creates a JSON report of the recorded steps.
+     */
+    public static JsonObject toJson() {
+        List<StepRecord> steps;
+        boolean isRecording;
+        boolean isCompleted;
+        long total;
+        synchronized (CamelStartupProfiler.class) {
+            steps = new ArrayList<>(STEPS);
+            isRecording = recording;
+            isCompleted = completed;
+            total = durationNanos;
+        }
+
+        JsonObject root = new JsonObject();
+        root.put("recording", isRecording);
+        root.put("completed", isCompleted);
+        root.put("totalMillis", nanosToMillis(total));
+
+        JsonArray array = new JsonArray();
+        for (StepRecord step : steps) {
+            JsonObject jo = new JsonObject();
+            jo.put("category", step.category());
+            jo.put("name", step.name());
+            jo.put("level", step.level());
+            jo.put("offsetMillis", nanosToMillis(step.offsetNanos()));
+            jo.put("durationMillis", nanosToMillis(step.durationNanos()));
+            jo.put("allocatedBytes", step.allocatedBytes());
+            array.add(jo);
+        }
+        root.put("steps", array);
+        return root;
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                    && sunBean.isThreadAllocatedMemorySupported()
+                    && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean;
+            }
+        } catch (Throwable e) {
+            LOG.debugf(e, "Thread allocated memory measurement is not available");
+        }
+        return null;
+    }
+
+    /**
+     * A recorded startup step.
+     *
+     * @param category       the category of the step
+     * @param name           the name of the step
+     * @param level          the nesting level of the step
+     * @param offsetNanos    the time elapsed between the start of the profiler and the beginning of the step
+     * @param durationNanos  the wall time of the step
+     * @param allocatedBytes the memory allocated by the thread running the step, or {@code -1} if not measurable
+     */
+    public record StepRecord(String category, String name, int level, long offsetNanos, long durationNanos,
+            long allocatedBytes) {
+    }
+
+    /**
+     * A startup step in progress.
+     */
+    public static final class Step implements AutoCloseable {
+        private final String category;
+        private final String name;
+        private final int level;
+        private final boolean ownsDepth;
+        private final long beginNanos;
+        private final long beginAllocatedBytes;
+        private final CamelStartupStepEvent event;
+
+        private Step(String category, String name, int level, boolean ownsDepth) {
+            this.category = category;
+            this.name = name;
+            this.level = level;
+            this.ownsDepth = ownsDepth;
+            this.beginNanos = System.nanoTime();
+            this.beginAllocatedBytes = category != null ? currentThreadAllocatedBytes() : -1;
+            this.event = category != null ? new CamelStartupStepEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (event == null) {
+                return;
+            }
+            if (ownsDepth) {
+                DEPTH.get()[0]--;
+            }
+
+            long duration = System.nanoTime() - beginNanos;
+            long allocated = beginAllocatedBytes >= 0 ? currentThreadAllocatedBytes() - beginAllocatedBytes : -1;
+            record(category, name, level, beginNanos, duration, allocated);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.category = category;
+                event.name = name;
+                event.level = level;
+                event.allocatedBytes = allocated;
+                event.commit();
+            }
+        }
+    }
+}
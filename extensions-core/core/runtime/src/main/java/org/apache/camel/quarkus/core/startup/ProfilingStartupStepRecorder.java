@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.startup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.spi.StartupStep;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+
+/**
+ * A {@link org.apache.camel.spi.StartupStepRecorder} feeding the Camel startup steps (component and route
+ * initialization, route startup etc.) to the {@link CamelStartupProfiler}.
+ */
+public class ProfilingStartupStepRecorder extends DefaultStartupStepRecorder {
+    private final Map<Integer, CamelStartupProfiler.Step> steps = new ConcurrentHashMap<>();
+
+    public ProfilingStartupStepRecorder() {
+        setEnabled(true);
+    }
+
+    @Override
+    protected void onBeginStep(StartupStep step) {
+        super.onBeginStep(step);
+        String name = step.getName();
+        if (step.getDescription() != null) {
+            name = name + " " + step.getDescription();
+        }
+        steps.put(step.getId(), CamelStartupProfiler.beginNested(step.getType(), name, step.getLevel()));
+    }
+
+    @Override
+    protected void onEndStep(StartupStep step) {
+        CamelStartupProfiler.Step profiled = steps.remove(step.getId());
+        if (profiled != null) {
+            profiled.close();
+        }
+        super.onEndStep(step);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        steps.clear();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.startup;
+
+import java.util.Map;
+
+import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonObject;
+
+/**
+ * A Camel dev console exposing the report of the {@link CamelStartupProfiler}.
+ */
+public class StartupProfileDevConsole extends AbstractDevConsole {
+    public static final String ID = "startup-profile";
+
+    public StartupProfileDevConsole() {
+        super("camel", ID, "Startup Profile", "Camel Quarkus startup phases with their duration and allocated memory");
+    }
+
+    @Override
+    protected String doCallText(Map<String, Object> options) {
+        StringBuilder sb = new StringBuilder();
+        for (CamelStartupProfiler.StepRecord step : CamelStartupProfiler.getSteps()) {
+            sb.append("  ".repeat(step.level()));
+            sb.append(String.format("%s %s: %.3f ms", step.category(), step.name(), step.durationNanos() / 1_000_000d));
+            if (step.allocatedBytes() >= 0) {
+                sb.append(String.format(" (%d bytes allocated)", step.allocatedBytes()));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected JsonObject doCallJson(Map<String, Object> options) {
+        return CamelStartupProfiler.toJson();
+    }
+}
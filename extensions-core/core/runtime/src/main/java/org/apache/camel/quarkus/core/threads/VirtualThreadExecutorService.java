@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.threads;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} that runs each task on a new virtual thread.
+ * <p>
+ * Instead of sizing a pool of platform threads, the number of tasks running concurrently is bounded by a
+ * {@link Semaphore}. Tasks waiting for a permit are parked virtual threads, and the number of such waiting tasks is
+ * bounded by a second {@link Semaphore}, mirroring the max pool size and max queue size of a Camel thread pool
+ * profile.
+ */
+final class VirtualThreadExecutorService extends AbstractExecutorService {
+    private final String name;
+    private final ThreadFactory threadFactory;
+    private final Semaphore concurrency;
+    private final Semaphore admission;
+    private final boolean callerRuns;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition terminated = lock.newCondition();
+    private volatile boolean shutdown;
+
+    /**
+     * @param name           a name describing this executor
+     * @param threadFactory  the {@link ThreadFactory} producing virtual threads
+     * @param maxConcurrency the maximum number of tasks running concurrently or a value lower than {@code 1} for no
+     *                       limit
+     * @param maxQueued      the maximum number of tasks waiting for a concurrency permit or a negative value for no
+     *                       limit
+     * @param callerRuns     whether rejected tasks should run on the calling thread instead of failing with
+     *                       {@link RejectedExecutionException}
+     */
+    VirtualThreadExecutorService(String name, ThreadFactory threadFactory, int maxConcurrency, int maxQueued,
+            boolean callerRuns) {
+        this.name = name;
+        this.threadFactory = threadFactory;
+        this.concurrency = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        this.admission = maxConcurrency > 0 && maxQueued >= 0 ? new Semaphore(maxConcurrency + maxQueued) : null;
+        this.callerRuns = callerRuns;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "command");
+
+        if (shutdown || (admission != null && !admission.tryAcquire())) {
+            reject(command);
+            return;
+        }
+
+        Thread thread = threadFactory.newThread(() -> runTask(command));
+        threads.add(thread);
+        thread.start();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        threads.forEach(Thread::interrupt);
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && threads.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!isTerminated()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = terminated.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getActiveCount() {
+        return threads.size();
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutorService[name=" + name
+                + ", active=" + threads.size()
+                + ", availablePermits=" + (concurrency != null ? concurrency.availablePermits() : "unbounded")
+                + ", shutdown=" + shutdown + "]";
+    }
+
+    private void runTask(Runnable command) {
+        try {
+            if (concurrency != null) {
+                concurrency.acquire();
+            }
+            try {
+                command.run();
+            } finally {
+                if (concurrency != null) {
+                    concurrency.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            // Interrupted by shutdownNow while waiting for a permit
+            Thread.currentThread().interrupt();
+        } finally {
+            if (admission != null) {
+                admission.release();
+            }
+            threads.remove(Thread.currentThread());
+            signalIfTerminated();
+        }
+    }
+
+    private void reject(Runnable command) {
+        if (callerRuns && !shutdown) {
+            command.run();
+        } else {
+            throw new RejectedExecutionException("Task " + command + " rejected from " + this);
+        }
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            lock.lock();
+            try {
+                terminated.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
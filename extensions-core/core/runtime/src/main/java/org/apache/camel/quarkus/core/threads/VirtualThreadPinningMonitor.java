@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.threads;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.jboss.logging.Logger;
+
+/**
+ * Reports virtual threads that got pinned to their carrier thread, e.g. while blocking inside a {@code synchronized}
+ * block or a native frame. Intended for dev mode only, where it helps to find the code that prevents Camel routes from
+ * benefiting from virtual threads.
+ */
+public final class VirtualThreadPinningMonitor implements AutoCloseable {
+    private static final Logger LOG = Logger.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedLocations = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(VIRTUAL_THREAD_PINNED_EVENT).withStackTrace().withThreshold(threshold);
+        recordingStream.onEvent(VIRTUAL_THREAD_PINNED_EVENT, this::onVirtualThreadPinned);
+        recordingStream.startAsync();
+        LOG.debugf("Started virtual thread pinning monitor with threshold %s", threshold);
+    }
+
+    /**
+     * @return the number of pinning events recorded per application code location
+     */
+    public Map<String, Long> getReport() {
+        Map<String, Long> report = new TreeMap<>();
+        pinnedLocations.forEach((location, count) -> report.put(location, count.sum()));
+        return Collections.unmodifiableMap(report);
+    }
+
+    @Override
+    public void close() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+
+        if (!pinnedLocations.isEmpty()) {
+            StringBuilder report = new StringBuilder("Virtual thread pinning report:");
+            getReport().forEach((location, count) -> report.append(System.lineSeparator())
+                    .append("    ")
+                    .append(count)
+                    .append(" x ")
+                    .append(location));
+            LOG.info(report.toString());
+        }
+    }
+
+    void onVirtualThreadPinned(RecordedEvent event) {
+        String location = describeLocation(event.getStackTrace());
+        LongAdder count = new LongAdder();
+        LongAdder existing = pinnedLocations.putIfAbsent(location, count);
+        if (existing == null) {
+            LOG.warnf("Virtual thread pinned to its carrier thread for %d ms at %s. Consider replacing synchronized blocks"
+                    + " around blocking calls with java.util.concurrent locks", event.getDuration().toMillis(), location);
+        } else {
+            count = existing;
+        }
+        count.increment();
+    }
+
+    static String describeLocation(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "<unknown>";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String className = frame.getMethod().getType().getName();
+            if (!isJdkClass(className)) {
+                return className + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+
+        if (!frames.isEmpty()) {
+            RecordedFrame frame = frames.get(0);
+            return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        return "<unknown>";
+    }
+
+    private static boolean isJdkClass(String className) {
+        return className.startsWith("java.")
+                || className.startsWith("javax.")
+                || className.startsWith("jdk.")
+                || className.startsWith("sun.");
+    }
+}
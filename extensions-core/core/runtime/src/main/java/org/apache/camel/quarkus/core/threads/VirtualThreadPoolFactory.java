@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.threads;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+
+/**
+ * A {@link org.apache.camel.spi.ThreadPoolFactory} that runs Camel thread pools on virtual threads.
+ * <p>
+ * Each {@link ThreadPoolProfile} is mapped onto a virtual thread per task executor, where the max queue size limits the
+ * number of tasks waiting for a permit to run. The number of concurrently running tasks is limited by the
+ * {@code maxConcurrency} this factory is created with or, if there is none, by the profile max pool size, which is
+ * {@code 20} for the default profile. Virtual threads are named after the thread name pattern of the
+ * {@link ExecutorServiceManager}, with the name of the {@link CamelThreadFactory} Camel passes in. Scheduled thread
+ * pools are left to {@link DefaultThreadPoolFactory} since the JDK does not provide a scheduler backed by virtual
+ * threads.
+ */
+public class VirtualThreadPoolFactory extends DefaultThreadPoolFactory {
+    private final ExecutorServiceManager executorServiceManager;
+    private final Integer maxConcurrency;
+
+    /**
+     * @param executorServiceManager the {@link ExecutorServiceManager} providing the thread name pattern
+     * @param maxConcurrency         the maximum number of tasks each thread pool runs concurrently, {@code 0} for no limit
+     *                               or {@code null} to use the max pool size of the thread pool profile
+     */
+    public VirtualThreadPoolFactory(ExecutorServiceManager executorServiceManager, Integer maxConcurrency) {
+        this.executorServiceManager = executorServiceManager;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        return new VirtualThreadExecutorService("cached", newVirtualThreadFactory(threadFactory, "cached"), 0, -1, false);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        Integer maxPoolSize = maxConcurrency != null ? maxConcurrency : profile.getMaxPoolSize();
+        Integer maxQueueSize = profile.getMaxQueueSize();
+        boolean callerRuns = profile.getRejectedPolicy() == ThreadPoolRejectedPolicy.CallerRuns;
+
+        return new VirtualThreadExecutorService(
+                profile.getId(),
+                newVirtualThreadFactory(threadFactory, profile.getId()),
+                maxPoolSize != null ? maxPoolSize : 0,
+                maxQueueSize != null ? maxQueueSize : -1,
+                callerRuns);
+    }
+
+    private ThreadFactory newVirtualThreadFactory(ThreadFactory threadFactory, String defaultName) {
+        // Resolve the names from the pattern rather than through the given factory, which would create a platform thread
+        // per task just to name it
+        String name = threadFactory instanceof CamelThreadFactory
+                ? ((CamelThreadFactory) threadFactory).getName()
+                : defaultName;
+        return VirtualThreads.newThreadFactory(executorServiceManager.getThreadNamePattern(), name);
+    }
+}
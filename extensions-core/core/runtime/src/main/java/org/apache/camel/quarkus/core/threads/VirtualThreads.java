@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.threads;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.util.concurrent.ThreadHelper;
+
+/**
+ * Helper for creating virtual threads while the project baseline is still Java 17.
+ */
+public final class VirtualThreads {
+    private static final String THREAD_BUILDER_CLASS_NAME = "java.lang.Thread$Builder";
+
+    private VirtualThreads() {
+        // Utility class
+    }
+
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a {@link ThreadFactory} producing virtual threads named with the given prefix and an incrementing counter.
+     *
+     * @param  namePrefix            the name prefix for created threads
+     * @return                       a {@link ThreadFactory} for virtual threads
+     * @throws IllegalStateException if the current JVM does not support virtual threads
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        requireSupported();
+        try {
+            Class<?> builderClass = Class.forName(THREAD_BUILDER_CLASS_NAME);
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            Method factory = builderClass.getMethod("factory");
+
+            Object builder = ofVirtual.invoke(null);
+            builder = name.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Creates a {@link ThreadFactory} producing virtual threads named after the given Camel thread name pattern, the
+     * same way a Camel {@code ThreadFactory} names the platform threads it creates.
+     *
+     * @param  pattern               the Camel thread name pattern
+     * @param  name                  the name replacing {@code #name#} in the pattern
+     * @return                       a {@link ThreadFactory} for virtual threads
+     * @throws IllegalStateException if the current JVM does not support virtual threads
+     */
+    public static ThreadFactory newThreadFactory(String pattern, String name) {
+        requireSupported();
+        try {
+            Class<?> builderClass = Class.forName(THREAD_BUILDER_CLASS_NAME);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle ofVirtual = lookup.unreflect(Thread.class.getMethod("ofVirtual"));
+            MethodHandle builderName = lookup.unreflect(builderClass.getMethod("name", String.class));
+            MethodHandle unstarted = lookup.unreflect(builderClass.getMethod("unstarted", Runnable.class));
+
+            return task -> {
+                String threadName = ThreadHelper.resolveThreadName(pattern, name);
+                try {
+                    return (Thread) unstarted.invoke(builderName.invoke(ofVirtual.invoke(), threadName), task);
+                } catch (Throwable e) {
+                    throw new IllegalStateException("Failed to create virtual thread " + threadName, e);
+                }
+            };
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a virtual thread factory", e);
+        }
+    }
+
+    private static void requireSupported() {
+        if (!isSupported()) {
+            throw new IllegalStateException(
+                    "Virtual threads require Java 21 or later, but the application is running on Java "
+                            + Runtime.version().feature()
+                            + ". Set quarkus.camel.threads.virtual.enabled to false or upgrade the JVM.");
+        }
+    }
+}
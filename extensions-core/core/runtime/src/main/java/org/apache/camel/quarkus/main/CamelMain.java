@@ -25,14 +25,19 @@ import io.quarkus.runtime.Quarkus;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.RoutesBuilder;
+import org.apache.camel.console.DevConsoleRegistry;
 import org.apache.camel.main.MainCommandLineSupport;
 import org.apache.camel.main.MainConfigurationProperties;
 import org.apache.camel.main.MainShutdownStrategy;
 import org.apache.camel.main.SimpleMainShutdownStrategy;
 import org.apache.camel.quarkus.core.CamelConfig.FailureRemedy;
+import org.apache.camel.quarkus.core.startup.CamelStartupProfiler;
+import org.apache.camel.quarkus.core.startup.ProfilingStartupStepRecorder;
+import org.apache.camel.quarkus.core.startup.StartupProfileDevConsole;
 import org.apache.camel.spi.HasCamelContext;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.ResourceAware;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.ResourceHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.StringHelper;
@@ -50,6 +55,19 @@ public final class CamelMain extends MainCommandLineSupport implements HasCamelC
     @Override
     protected void configureStartupRecorder(CamelContext camelContext) {
         super.configureStartupRecorder(camelContext);
+
+        if (CamelStartupProfiler.isRecording()) {
+            // Feed the Camel startup steps to the profiler unless another recorder (E.g. JFR) was configured
+            StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+            if (recorder == null || !recorder.isEnabled()) {
+                camelContext.getCamelContextExtension().setStartupStepRecorder(new ProfilingStartupStepRecorder());
+            }
+
+            DevConsoleRegistry registry = camelContext.getCamelContextExtension().getContextPlugin(DevConsoleRegistry.class);
+            if (registry != null && registry.getConsole(StartupProfileDevConsole.ID).isEmpty()) {
+                registry.register(new StartupProfileDevConsole());
+            }
+        }
     }
 
     @Override
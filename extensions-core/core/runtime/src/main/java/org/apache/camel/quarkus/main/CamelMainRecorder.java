@@ -33,6 +33,7 @@ import org.apache.camel.quarkus.core.CamelConfig.FailureRemedy;
 import org.apache.camel.quarkus.core.CamelProducers;
 import org.apache.camel.quarkus.core.CamelRuntime;
 import org.apache.camel.quarkus.core.RegistryRoutesLoader;
+import org.apache.camel.quarkus.core.startup.CamelStartupProfiler;
 import org.apache.camel.spi.CamelContextCustomizer;
 import org.eclipse.microprofile.config.ConfigProvider;
 
@@ -80,7 +81,11 @@ public class CamelMainRecorder {
             @Override
             public void afterConfigure(BaseMainSupport main) {
                 for (RuntimeValue<CamelContextCustomizer> customizer : contextCustomizers) {
-                    customizer.getValue().configure(main.getCamelContext());
+                    CamelContextCustomizer value = customizer.getValue();
+                    try (CamelStartupProfiler.Step step = CamelStartupProfiler.begin("CamelContextCustomizer",
+                            value.getClass().getName())) {
+                        value.configure(main.getCamelContext());
+                    }
                 }
             }
         });
@@ -102,6 +107,10 @@ public class CamelMainRecorder {
         main.getValue().addMainListener(new CamelMainEventBridge(observedMainEvents));
     }
 
+    public void startStartupProfiler() {
+        CamelStartupProfiler.start();
+    }
+
     public void customizeDevModeCamelMain(RuntimeValue<CamelMain> main) {
         Optional<String> profile = ConfigProvider.getConfig().getOptionalValue("camel.main.profile", String.class);
         main.getValue().getMainConfigurationProperties().setProfile(profile.orElse("dev"));
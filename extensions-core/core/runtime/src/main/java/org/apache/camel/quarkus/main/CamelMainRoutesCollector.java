@@ -22,6 +22,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.RoutesBuilder;
 import org.apache.camel.main.DefaultRoutesCollector;
 import org.apache.camel.quarkus.core.RegistryRoutesLoader;
+import org.apache.camel.quarkus.core.startup.CamelStartupProfiler;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.ResourceAware;
 import org.apache.camel.support.ResourceHelper;
@@ -43,14 +44,16 @@ public class CamelMainRoutesCollector extends DefaultRoutesCollector {
             String excludePattern,
             String includePattern) {
 
-        List<RoutesBuilder> routes = registryRoutesLoader.collectRoutesFromRegistry(camelContext, excludePattern,
-                includePattern);
-        for (RoutesBuilder route : routes) {
-            if (route instanceof ResourceAware ra) {
-                configureSourceResource(camelContext, route, ra);
+        try (CamelStartupProfiler.Step step = CamelStartupProfiler.begin("RoutesCollector", "collectRoutesFromRegistry")) {
+            List<RoutesBuilder> routes = registryRoutesLoader.collectRoutesFromRegistry(camelContext, excludePattern,
+                    includePattern);
+            for (RoutesBuilder route : routes) {
+                if (route instanceof ResourceAware ra) {
+                    configureSourceResource(camelContext, route, ra);
+                }
             }
+            return routes;
         }
-        return routes;
     }
 
     private static void configureSourceResource(CamelContext camelContext, RoutesBuilder route, ResourceAware ra) {
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import io.quarkus.runtime.Quarkus;
 import org.apache.camel.CamelContext;
 import org.apache.camel.quarkus.core.CamelRuntime;
+import org.apache.camel.quarkus.core.startup.CamelStartupProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +47,11 @@ public class CamelMainRuntime implements CamelRuntime {
 
         try {
             main.parseArguments(args);
-            main.startEngine();
+            try (CamelStartupProfiler.Step step = CamelStartupProfiler.begin("CamelMain", "startEngine")) {
+                main.startEngine();
+            } finally {
+                CamelStartupProfiler.complete();
+            }
 
             final Thread worker = new Thread(() -> {
                 try {
@@ -16,9 +16,15 @@
  */
 package org.apache.camel.quarkus.reactive.executor.deployment;
 
+import java.util.Optional;
+
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.RuntimeCamelContextCustomizerBuildItem;
 import org.apache.camel.quarkus.reactive.executor.ReactiveExecutorRecorder;
@@ -29,4 +35,15 @@ public class BuildProcessor {
     RuntimeCamelContextCustomizerBuildItem reactiveExecutorCustomizer(ReactiveExecutorRecorder recorder, VertxBuildItem vertx) {
         return new RuntimeCamelContextCustomizerBuildItem(recorder.createReactiveExecutorCustomizer(vertx.getVertx()));
     }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    void registerEventLoopAffinityMetrics(
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            ReactiveExecutorRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.registerEventLoopAffinityMetrics()));
+        }
+    }
 }
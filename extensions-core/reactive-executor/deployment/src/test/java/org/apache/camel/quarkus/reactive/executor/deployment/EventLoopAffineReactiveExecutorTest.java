@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.reactive.executor.deployment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.apache.camel.quarkus.reactive.executor.EventLoopAffineReactiveExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventLoopAffineReactiveExecutorTest {
+    private Vertx vertx;
+    private EventLoopAffineReactiveExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        executor = new EventLoopAffineReactiveExecutor(4);
+        executor.setVertx(vertx);
+        executor.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        executor.stop();
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void tasksRunInSchedulingOrder() throws Exception {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(11);
+        Context context = vertx.getOrCreateContext();
+
+        context.runOnContext(v -> {
+            executor.schedule(() -> {
+                // Scheduled while draining, so it must run after everything queued before it
+                executor.schedule(() -> {
+                    executed.add("nested");
+                    latch.countDown();
+                });
+                executed.add("task-0");
+                latch.countDown();
+            });
+            for (int i = 1; i < 10; i++) {
+                String name = "task-" + i;
+                executor.scheduleMain(() -> {
+                    executed.add(name);
+                    latch.countDown();
+                });
+            }
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("task-0", "task-1", "task-2", "task-3", "task-4", "task-5", "task-6", "task-7", "task-8",
+                "task-9", "nested"), executed);
+    }
+
+    @Test
+    public void tasksStayOnSchedulingEventLoop() throws Exception {
+        AtomicReference<Thread> eventLoopThread = new AtomicReference<>();
+        List<Thread> taskThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(20);
+        Context context = vertx.getOrCreateContext();
+
+        context.runOnContext(v -> {
+            eventLoopThread.set(Thread.currentThread());
+            for (int i = 0; i < 20; i++) {
+                executor.schedule(() -> {
+                    taskThreads.add(Thread.currentThread());
+                    latch.countDown();
+                });
+            }
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNotNull(eventLoopThread.get());
+        assertEquals(20, taskThreads.size());
+        taskThreads.forEach(thread -> assertSame(eventLoopThread.get(), thread));
+    }
+
+    @Test
+    public void tasksRunOnTheirSchedulingContext() throws Exception {
+        List<String> requests = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(4);
+        Context context = vertx.getOrCreateContext();
+        Context first = VertxContext.createNewDuplicatedContext(context);
+        Context second = VertxContext.createNewDuplicatedContext(context);
+        first.putLocal("request", "first");
+        second.putLocal("request", "second");
+
+        // Both duplicated contexts get to schedule their tasks before any drain runs on the shared event loop
+        context.runOnContext(v -> {
+            for (Context duplicate : List.of(first, second)) {
+                duplicate.runOnContext(d -> {
+                    for (int i = 0; i < 2; i++) {
+                        executor.schedule(() -> {
+                            requests.add(Vertx.currentContext().getLocal("request"));
+                            latch.countDown();
+                        });
+                    }
+                });
+            }
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "first", "second", "second"), requests);
+    }
+
+    @Test
+    public void queueIsDrainedInBatches() throws Exception {
+        CountDownLatch latch = new CountDownLatch(10);
+        Context context = vertx.getOrCreateContext();
+
+        context.runOnContext(v -> {
+            for (int i = 0; i < 10; i++) {
+                executor.schedule(latch::countDown);
+            }
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        awaitEventLoop(context);
+
+        assertEquals(0, executor.getPendingTasks());
+        assertEquals(10, executor.getExecutedTasks());
+        assertEquals(3, executor.getDrains());
+        assertEquals(4, executor.getMaxTasksPerDrain());
+    }
+
+    @Test
+    public void failingTaskDoesNotStopDrain() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Context context = vertx.getOrCreateContext();
+
+        context.runOnContext(v -> {
+            executor.schedule(() -> {
+                throw new IllegalStateException("Forced failure");
+            });
+            executor.schedule(latch::countDown);
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void tasksScheduledOffEventLoopAreDispatchedToVertx() throws Exception {
+        assertFalse(Context.isOnEventLoopThread());
+
+        CountDownLatch latch = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            executor.schedule(latch::countDown);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(0, executor.getPendingTasks());
+        assertEquals(0, executor.getExecutedTasks());
+        assertEquals(0, executor.getDrains());
+    }
+
+    @Test
+    public void invalidMaxBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EventLoopAffineReactiveExecutor(0));
+    }
+
+    private static void awaitEventLoop(Context context) throws InterruptedException {
+        // The event loop runs tasks one at a time, so this completes only after any drain in progress has finished
+        CountDownLatch latch = new CountDownLatch(1);
+        context.runOnContext(v -> latch.countDown());
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+}
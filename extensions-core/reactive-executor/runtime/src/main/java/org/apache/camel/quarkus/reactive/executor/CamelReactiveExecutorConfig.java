@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.reactive.executor;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+@ConfigMapping(prefix = "quarkus.camel.reactive-executor")
+public interface CamelReactiveExecutorConfig {
+    /**
+     * Whether reactive tasks scheduled from a Vert.x event loop thread should be kept on that event loop. When enabled,
+     * continuations of an exchange are queued on the event loop the exchange arrived on and drained in batches, avoiding
+     * hand-offs between event loop threads. Tasks scheduled from other threads are dispatched to Vert.x as usual. When the
+     * Quarkus Micrometer extension is present, the queue and drain statistics are published as
+     * `camel.reactive.executor.*` metrics.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean eventLoopAffinityEnabled();
+
+    /**
+     * The maximum number of queued tasks executed in a single drain of an event loop queue before yielding the event loop
+     * to other work. Only applies when `quarkus.camel.reactive-executor.event-loop-affinity-enabled` is `true`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("64")
+    int maxBatchSize();
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.reactive.executor;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.reactive.vertx.VertXReactiveExecutor;
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link VertXReactiveExecutor} keeping reactive tasks on the Vert.x event loop they were scheduled from.
+ * <p>
+ * Tasks scheduled from an event loop thread are appended to a queue owned by that thread and keyed by the current
+ * {@link Context}, and a single drain task is submitted to that context to execute up to {@code maxBatchSize} queued
+ * tasks at a time. This avoids submitting every continuation individually and never hands an exchange over to another
+ * event loop thread. Since each request runs on its own duplicated context, keeping a queue per context ensures tasks
+ * run with the local data (E.g. tracing or MDC) of the request that scheduled them. Tasks scheduled from any other
+ * thread are delegated to {@link VertXReactiveExecutor}.
+ */
+@ManagedResource(description = "Event loop affine reactive executor")
+public class EventLoopAffineReactiveExecutor extends VertXReactiveExecutor {
+    private static final Logger LOG = Logger.getLogger(EventLoopAffineReactiveExecutor.class);
+
+    private final ThreadLocal<Map<Context, EventLoopQueue>> queues = ThreadLocal.withInitial(IdentityHashMap::new);
+    private final int maxBatchSize;
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder drains = new LongAdder();
+    private final LongAccumulator maxTasksPerDrain = new LongAccumulator(Math::max, 0);
+
+    public EventLoopAffineReactiveExecutor(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0 but was " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        if (!enqueueOnCurrentEventLoop(runnable)) {
+            super.schedule(runnable);
+        }
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        if (!enqueueOnCurrentEventLoop(runnable)) {
+            super.scheduleMain(runnable);
+        }
+    }
+
+    @ManagedAttribute(description = "Number of tasks queued on event loops waiting to be executed")
+    public long getPendingTasks() {
+        return pendingTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of tasks executed from event loop queues")
+    public long getExecutedTasks() {
+        return executedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of event loop queue drains")
+    public long getDrains() {
+        return drains.sum();
+    }
+
+    @ManagedAttribute(description = "Average number of tasks executed per event loop queue drain")
+    public double getAverageTasksPerDrain() {
+        long drainCount = drains.sum();
+        return drainCount == 0 ? 0 : (double) executedTasks.sum() / drainCount;
+    }
+
+    @ManagedAttribute(description = "Maximum number of tasks executed in a single event loop queue drain")
+    public long getMaxTasksPerDrain() {
+        return maxTasksPerDrain.get();
+    }
+
+    @ManagedAttribute(description = "Maximum number of tasks executed per event loop queue drain")
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    private boolean enqueueOnCurrentEventLoop(Runnable runnable) {
+        if (!Context.isOnEventLoopThread()) {
+            return false;
+        }
+
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return false;
+        }
+
+        // The queues are only ever accessed by the event loop thread owning them, so no synchronization is needed
+        EventLoopQueue queue = queues.get().computeIfAbsent(context, c -> new EventLoopQueue());
+        queue.tasks.add(runnable);
+        pendingTasks.increment();
+        if (!queue.drainScheduled) {
+            queue.drainScheduled = true;
+            context.runOnContext(v -> drain(queue, context));
+        }
+        return true;
+    }
+
+    private void drain(EventLoopQueue queue, Context context) {
+        int executed = 0;
+        Runnable task;
+        while (executed < maxBatchSize && (task = queue.tasks.poll()) != null) {
+            pendingTasks.decrement();
+            executed++;
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOG.warnf(e, "Error executing reactive work due to %s. This exception is ignored.", e.getMessage());
+            }
+        }
+
+        drains.increment();
+        executedTasks.add(executed);
+        maxTasksPerDrain.accumulate(executed);
+
+        if (queue.tasks.isEmpty()) {
+            // Duplicated contexts are short-lived, so do not keep their queues around once drained
+            queues.get().remove(context);
+        } else {
+            // Yield the event loop to other work before continuing with the remaining tasks
+            context.runOnContext(v -> drain(queue, context));
+        }
+    }
+
+    static final class EventLoopQueue {
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        boolean drainScheduled;
+    }
+}
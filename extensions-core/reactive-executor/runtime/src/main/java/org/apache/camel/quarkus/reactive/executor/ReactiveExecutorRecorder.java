@@ -16,24 +16,76 @@
  */
 package org.apache.camel.quarkus.reactive.executor;
 
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.Vertx;
 import org.apache.camel.CamelContext;
 import org.apache.camel.reactive.vertx.VertXReactiveExecutor;
 import org.apache.camel.spi.CamelContextCustomizer;
+import org.apache.camel.spi.ReactiveExecutor;
 
 @Recorder
 public class ReactiveExecutorRecorder {
+    private final RuntimeValue<CamelReactiveExecutorConfig> runtimeConfig;
+
+    public ReactiveExecutorRecorder(RuntimeValue<CamelReactiveExecutorConfig> runtimeConfig) {
+        this.runtimeConfig = runtimeConfig;
+    }
+
     public RuntimeValue<CamelContextCustomizer> createReactiveExecutorCustomizer(RuntimeValue<Vertx> vertx) {
         return new RuntimeValue<>(new CamelContextCustomizer() {
             @Override
             public void configure(CamelContext context) {
-                VertXReactiveExecutor executor = new VertXReactiveExecutor();
+                CamelReactiveExecutorConfig config = runtimeConfig.getValue();
+                VertXReactiveExecutor executor = config.eventLoopAffinityEnabled()
+                        ? new EventLoopAffineReactiveExecutor(config.maxBatchSize())
+                        : new VertXReactiveExecutor();
                 executor.setVertx(vertx.getValue());
 
                 context.getCamelContextExtension().setReactiveExecutor(executor);
             }
         });
     }
+
+    public Consumer<MetricsFactory> registerEventLoopAffinityMetrics() {
+        return metricsFactory -> {
+            if (!runtimeConfig.getValue().eventLoopAffinityEnabled()) {
+                return;
+            }
+            metricsFactory.builder("camel.reactive.executor.pending.tasks")
+                    .description("Number of tasks queued on event loops waiting to be executed")
+                    .buildGauge(() -> executorValue(EventLoopAffineReactiveExecutor::getPendingTasks));
+            metricsFactory.builder("camel.reactive.executor.executed.tasks")
+                    .description("Number of tasks executed from event loop queues")
+                    .buildCounter(() -> executorValue(EventLoopAffineReactiveExecutor::getExecutedTasks));
+            metricsFactory.builder("camel.reactive.executor.drains")
+                    .description("Number of event loop queue drains")
+                    .buildCounter(() -> executorValue(EventLoopAffineReactiveExecutor::getDrains));
+            metricsFactory.builder("camel.reactive.executor.max.tasks.per.drain")
+                    .description("Maximum number of tasks executed in a single event loop queue drain")
+                    .buildGauge(() -> executorValue(EventLoopAffineReactiveExecutor::getMaxTasksPerDrain));
+        };
+    }
+
+    static Number executorValue(Function<EventLoopAffineReactiveExecutor, Number> accessor) {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return 0;
+        }
+        InstanceHandle<CamelContext> handle = container.instance(CamelContext.class);
+        if (handle.isAvailable()) {
+            ReactiveExecutor executor = handle.get().getCamelContextExtension().getReactiveExecutor();
+            if (executor instanceof EventLoopAffineReactiveExecutor) {
+                return accessor.apply((EventLoopAffineReactiveExecutor) executor);
+            }
+        }
+        return 0;
+    }
 }
@@ -18,16 +18,42 @@
 package org.apache.camel.quarkus.dsl.yaml.deployment;
 
 import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.RouteConfigurationBuilder;
+import org.apache.camel.dsl.yaml.YamlRoutesBuilderLoader;
+import org.apache.camel.model.RouteConfigurationsDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.quarkus.core.CamelConfig;
+import org.apache.camel.quarkus.core.deployment.spi.CamelContextCustomizerBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelRouteResourceBuildItem;
+import org.apache.camel.quarkus.core.deployment.util.CamelSupport;
+import org.apache.camel.quarkus.dsl.yaml.CamelYamlDslConfig;
+import org.apache.camel.quarkus.dsl.yaml.CamelYamlDslRecorder;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.xml.in.ModelParser;
+import org.apache.camel.xml.out.ModelWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.snakeyaml.engine.v2.api.Load;
@@ -38,6 +64,9 @@ public class YamlDslProcessor {
     private static final String FEATURE = "camel-yaml-dsl";
     private static final Set<String> EXCEPTION_CONTAINER_KEYS = Set.of("onException", "on-exception", "doCatch", "do-catch");
     private static final Set<String> THROW_EXCEPTION_KEYS = Set.of("throwException", "throw-exception");
+    private static final Set<String> PRE_PARSABLE_KEYS = Set.of("route", "from", "routeConfiguration",
+            "route-configuration");
+    private static final String SNAPSHOT_PATH = "META-INF/camel-quarkus/yaml-dsl/";
 
     @BuildStep
     FeatureBuildItem feature() {
@@ -87,6 +116,150 @@ public class YamlDslProcessor {
         }
     }
 
+    /**
+     * Parses the YAML route resources that only define routes and route configurations, and stores the resulting
+     * definitions as Camel XML IO model snapshots read at startup by the {@code PreParsedYamlRoutesBuilderLoader}.
+     * Any resource that cannot be parsed at build time is left to the YAML DSL routes loader.
+     */
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    @Record(value = ExecutionTime.STATIC_INIT, optional = true)
+    void preParseRoutes(
+            CamelYamlDslConfig config,
+            CamelConfig camelConfig,
+            CamelYamlDslRecorder recorder,
+            List<CamelRouteResourceBuildItem> camelRouteResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<CamelContextCustomizerBuildItem> contextCustomizers) throws Exception {
+
+        if (!config.preParseRoutes() || camelConfig.sourceLocationEnabled()) {
+            return;
+        }
+        if (!QuarkusClassLoader.isClassPresentAtRuntime(ModelParser.class.getName())) {
+            throw new IllegalStateException("quarkus.camel.yaml-dsl.pre-parse-routes reads the pre-parsed routes with "
+                    + "camel-xml-io at runtime. Add the org.apache.camel:camel-xml-io dependency to the application, or "
+                    + "disable quarkus.camel.yaml-dsl.pre-parse-routes.");
+        }
+
+        final Map<String, String> routesSnapshots = new HashMap<>();
+        final Map<String, String> routeConfigurationsSnapshots = new HashMap<>();
+        final CamelContext context = CamelSupport.newBuildTimeCamelContext(true);
+        final YamlRoutesBuilderLoader loader = new YamlRoutesBuilderLoader();
+
+        try {
+            loader.setCamelContext(context);
+            loader.start();
+
+            for (CamelRouteResourceBuildItem routeResource : camelRouteResources) {
+                final String sourcePath = routeResource.getSourcePath();
+                if (!routeResource.isClasspathResource()
+                        || !sourcePath.endsWith("." + YamlRoutesBuilderLoader.EXTENSION)) {
+                    continue;
+                }
+
+                final String content;
+                try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(sourcePath)) {
+                    if (is == null) {
+                        LOGGER.debug("Could not read YAML route resource: {}", sourcePath);
+                        continue;
+                    }
+                    content = IOHelper.loadText(is);
+                }
+
+                if (!isPreParsable(content)) {
+                    LOGGER.debug("YAML route resource {} defines more than routes, it will be parsed at runtime",
+                            sourcePath);
+                    continue;
+                }
+
+                try {
+                    final RouteBuilder builder = (RouteBuilder) loader.loadRoutesBuilder(
+                            ResourceHelper.fromString(CamelSupport.CLASSPATH_PREFIX + sourcePath, content));
+                    builder.setCamelContext(context);
+                    builder.configure();
+                    if (builder instanceof RouteConfigurationBuilder configurationBuilder) {
+                        configurationBuilder.configuration();
+                    }
+
+                    final RoutesDefinition routes = builder.getRouteCollection();
+                    final RouteConfigurationsDefinition routeConfigurations = builder.getRouteConfigurationCollection();
+                    final String routesSnapshot = routes.getRoutes().isEmpty() ? null : writeRoutes(routes);
+                    final String routeConfigurationsSnapshot = routeConfigurations.getRouteConfigurations().isEmpty()
+                            ? null
+                            : writeRouteConfigurations(routeConfigurations);
+
+                    if (routesSnapshot != null) {
+                        routesSnapshots.put(sourcePath,
+                                produceSnapshot(sourcePath + ".routes.xml", routesSnapshot, generatedResources,
+                                        nativeImageResources));
+                    }
+                    if (routeConfigurationsSnapshot != null) {
+                        routeConfigurationsSnapshots.put(sourcePath,
+                                produceSnapshot(sourcePath + ".route-configurations.xml", routeConfigurationsSnapshot,
+                                        generatedResources, nativeImageResources));
+                    }
+                } catch (Exception e) {
+                    LOGGER.warn("Could not parse YAML route resource {} at build time, it will be parsed at runtime",
+                            sourcePath, e);
+                }
+            }
+        } finally {
+            loader.stop();
+            context.stop();
+        }
+
+        if (!routesSnapshots.isEmpty() || !routeConfigurationsSnapshots.isEmpty()) {
+            contextCustomizers.produce(new CamelContextCustomizerBuildItem(
+                    recorder.createPreParsedRoutesCustomizer(routesSnapshots, routeConfigurationsSnapshots)));
+        }
+    }
+
+    /**
+     * Whether the given YAML document is a sequence of routes and route configurations only, i.e. whether all its
+     * definitions are part of the Camel model.
+     */
+    private static boolean isPreParsable(String content) {
+        try {
+            Object document = new Load(LoadSettings.builder().build()).loadFromString(content);
+            if (!(document instanceof List<?> items) || items.isEmpty()) {
+                return false;
+            }
+            for (Object item : items) {
+                if (!(item instanceof Map<?, ?> map) || map.size() != 1
+                        || !PRE_PARSABLE_KEYS.contains(String.valueOf(map.keySet().iterator().next()))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static String writeRoutes(RoutesDefinition routes) throws Exception {
+        StringWriter writer = new StringWriter();
+        new ModelWriter(writer).writeRoutesDefinition(routes);
+        // Make sure the snapshot can be read back before it replaces the runtime parsing of the resource
+        new ModelParser(new StringReader(writer.toString())).parseRoutesDefinition().orElseThrow();
+        return writer.toString();
+    }
+
+    private static String writeRouteConfigurations(RouteConfigurationsDefinition routeConfigurations) throws Exception {
+        StringWriter writer = new StringWriter();
+        new ModelWriter(writer).writeRouteConfigurationsDefinition(routeConfigurations);
+        new ModelParser(new StringReader(writer.toString())).parseRouteConfigurationsDefinition().orElseThrow();
+        return writer.toString();
+    }
+
+    private static String produceSnapshot(String name, String snapshot,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        final String path = SNAPSHOT_PATH + name;
+        generatedResources.produce(new GeneratedResourceBuildItem(path, snapshot.getBytes(StandardCharsets.UTF_8)));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(path));
+        return path;
+    }
+
     /**
      * Recursively walks a parsed YAML structure looking for onException/doCatch mappings
      * and extracts exception class names from their "exception" fields.
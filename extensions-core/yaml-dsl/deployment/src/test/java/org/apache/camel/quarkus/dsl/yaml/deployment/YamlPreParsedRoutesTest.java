@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.dsl.yaml.deployment;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.quarkus.dsl.yaml.PreParsedYamlRoutesBuilderLoader;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class YamlPreParsedRoutesTest {
+
+    private static final String PRE_PARSED_ROUTES = """
+            - routeConfiguration:
+                onException:
+                  - onException:
+                      exception:
+                        - "java.lang.IllegalStateException"
+                      handled:
+                        constant: "true"
+                      steps:
+                        - setBody:
+                            constant: "handled"
+            - route:
+                id: "pre-parsed"
+                from:
+                  uri: "direct:pre-parsed"
+                  steps:
+                    - setBody:
+                        simple: "Hello ${body}"
+            - from:
+                uri: "direct:pre-parsed-failure"
+                steps:
+                  - throwException:
+                      exceptionType: "java.lang.IllegalStateException"
+                      message: "Forced"
+            """;
+
+    private static final String TEMPLATED_ROUTES = """
+            - routeTemplate:
+                id: "greeting-template"
+                parameters:
+                  - name: "greeting"
+                from:
+                  uri: "direct:{{greeting}}"
+                  steps:
+                    - setBody:
+                        simple: "{{greeting}} ${body}"
+            - templatedRoute:
+                routeTemplateRef: "greeting-template"
+                parameters:
+                  - name: "greeting"
+                    value: "Bonjour"
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(PRE_PARSED_ROUTES), "routes/pre-parsed.yaml")
+                    .addAsResource(new StringAsset(TEMPLATED_ROUTES), "routes/templated.yaml"))
+            .overrideConfigKey("camel.main.routes-include-pattern", "classpath:routes/*.yaml")
+            .overrideConfigKey("quarkus.camel.yaml-dsl.pre-parse-routes", "true");
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Test
+    public void preParsedRoutes() {
+        assertEquals("Hello World", producerTemplate.requestBody("direct:pre-parsed", "World", String.class));
+        assertEquals("handled", producerTemplate.requestBody("direct:pre-parsed-failure", "World", String.class));
+    }
+
+    @Test
+    public void routesParsedAtRuntime() {
+        assertEquals("Bonjour World", producerTemplate.requestBody("direct:Bonjour", "World", String.class));
+    }
+
+    @Test
+    public void snapshots() {
+        assertInstanceOf(PreParsedYamlRoutesBuilderLoader.class,
+                context.getRegistry().lookupByNameAndType("routes-builder-loader-yaml", RoutesBuilderLoader.class));
+
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        assertNotNull(classLoader.getResource("META-INF/camel-quarkus/yaml-dsl/routes/pre-parsed.yaml.routes.xml"));
+        assertNotNull(classLoader
+                .getResource("META-INF/camel-quarkus/yaml-dsl/routes/pre-parsed.yaml.route-configurations.xml"));
+        assertNull(classLoader.getResource("META-INF/camel-quarkus/yaml-dsl/routes/templated.yaml.routes.xml"));
+    }
+}
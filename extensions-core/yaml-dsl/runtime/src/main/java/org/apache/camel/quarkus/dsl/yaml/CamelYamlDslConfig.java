@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.dsl.yaml;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build time configuration options for the Camel YAML DSL.
+ */
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+@ConfigMapping(prefix = "quarkus.camel.yaml-dsl")
+public interface CamelYamlDslConfig {
+    /**
+     * Whether to parse the YAML route resources at build time.
+     *
+     * When enabled, the classpath route resources matched by `camel.main.routes-include-pattern` that only define
+     * `route`, `from` or `routeConfiguration` entries are parsed when the application is built, and the resulting route
+     * definitions are stored in the application as a Camel XML IO model snapshot. At startup, the definitions are read
+     * from the snapshot with the reflection free parser of `camel-xml-io`, so SnakeYAML and the YAML DSL deserializers
+     * are not used for those resources. Other resources, e.g. with `beans`, `rest` or `routeTemplate` entries, resources
+     * loaded from the file system and all resources in dev mode are still parsed at runtime.
+     *
+     * Requires the `org.apache.camel:camel-xml-io` dependency, which the application has to add.
+     *
+     * The line numbers of the YAML definitions are not retained in the snapshot, hence this option is ignored when
+     * `quarkus.camel.source-location-enabled` is `true`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean preParseRoutes();
+}
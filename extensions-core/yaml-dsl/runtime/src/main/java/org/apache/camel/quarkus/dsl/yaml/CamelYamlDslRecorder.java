@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.dsl.yaml;
+
+import java.util.Map;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.dsl.yaml.YamlRoutesBuilderLoader;
+import org.apache.camel.impl.engine.DefaultRoutesLoader;
+import org.apache.camel.spi.CamelContextCustomizer;
+
+@Recorder
+public class CamelYamlDslRecorder {
+
+    public RuntimeValue<CamelContextCustomizer> createPreParsedRoutesCustomizer(Map<String, String> routesSnapshots,
+            Map<String, String> routeConfigurationsSnapshots) {
+        return new RuntimeValue<>(new PreParsedRoutesCustomizer(routesSnapshots, routeConfigurationsSnapshots));
+    }
+
+    private static class PreParsedRoutesCustomizer implements CamelContextCustomizer {
+        private final Map<String, String> routesSnapshots;
+        private final Map<String, String> routeConfigurationsSnapshots;
+
+        PreParsedRoutesCustomizer(Map<String, String> routesSnapshots, Map<String, String> routeConfigurationsSnapshots) {
+            this.routesSnapshots = routesSnapshots;
+            this.routeConfigurationsSnapshots = routeConfigurationsSnapshots;
+        }
+
+        @Override
+        public void configure(CamelContext context) {
+            // The routes loader looks up the registry before resolving the loader of an extension from the classpath
+            PreParsedYamlRoutesBuilderLoader loader = new PreParsedYamlRoutesBuilderLoader(routesSnapshots,
+                    routeConfigurationsSnapshots);
+            loader.setCamelContext(context);
+            context.getRegistry().bind(DefaultRoutesLoader.ROUTES_LOADER_KEY_PREFIX + YamlRoutesBuilderLoader.EXTENSION,
+                    loader);
+        }
+    }
+}
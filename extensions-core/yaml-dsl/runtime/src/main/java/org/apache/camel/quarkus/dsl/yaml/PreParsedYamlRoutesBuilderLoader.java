@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.dsl.yaml;
+
+import java.io.InputStream;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteConfigurationBuilder;
+import org.apache.camel.dsl.yaml.YamlRoutesBuilderLoader;
+import org.apache.camel.model.RouteConfigurationDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.ResourceAware;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.xml.in.ModelParser;
+
+/**
+ * A {@link RoutesBuilderLoader} reading the definitions of the YAML route resources parsed at build time from their
+ * Camel XML IO model snapshot. The resources without a snapshot are loaded by the {@link YamlRoutesBuilderLoader}.
+ */
+public class PreParsedYamlRoutesBuilderLoader extends ServiceSupport implements RoutesBuilderLoader, CamelContextAware {
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final Map<String, String> routesSnapshots;
+    private final Map<String, String> routeConfigurationsSnapshots;
+    private final YamlRoutesBuilderLoader delegate = new YamlRoutesBuilderLoader();
+    private CamelContext camelContext;
+
+    /**
+     * @param routesSnapshots              the classpath resources holding the route definitions keyed by the path of
+     *                                     the YAML resource they were parsed from
+     * @param routeConfigurationsSnapshots the classpath resources holding the route configuration definitions keyed by
+     *                                     the path of the YAML resource they were parsed from
+     */
+    public PreParsedYamlRoutesBuilderLoader(Map<String, String> routesSnapshots,
+            Map<String, String> routeConfigurationsSnapshots) {
+        this.routesSnapshots = routesSnapshots;
+        this.routeConfigurationsSnapshots = routeConfigurationsSnapshots;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+        this.delegate.setCamelContext(camelContext);
+    }
+
+    @Override
+    public String getSupportedExtension() {
+        return YamlRoutesBuilderLoader.EXTENSION;
+    }
+
+    @Override
+    public void preParseRoute(Resource resource) throws Exception {
+        if (!isPreParsed(resource)) {
+            ServiceHelper.startService(delegate);
+            delegate.preParseRoute(resource);
+        }
+    }
+
+    @Override
+    public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+        if (!isPreParsed(resource)) {
+            ServiceHelper.startService(delegate);
+            return delegate.loadRoutesBuilder(resource);
+        }
+
+        final String path = path(resource);
+        final String routes = routesSnapshots.get(path);
+        final String routeConfigurations = routeConfigurationsSnapshots.get(path);
+
+        RouteConfigurationBuilder builder = new RouteConfigurationBuilder() {
+            @Override
+            public void configure() throws Exception {
+                if (routes != null) {
+                    try (InputStream is = loadSnapshot(routes)) {
+                        for (RouteDefinition route : new ModelParser(is).parseRoutesDefinition().orElseThrow()
+                                .getRoutes()) {
+                            CamelContextAware.trySetCamelContext(route, getCamelContext());
+                            ResourceAware.trySetResource(route, resource);
+                            getRouteCollection().route(route);
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public void configuration() throws Exception {
+                if (routeConfigurations != null) {
+                    try (InputStream is = loadSnapshot(routeConfigurations)) {
+                        for (RouteConfigurationDefinition configuration : new ModelParser(is)
+                                .parseRouteConfigurationsDefinition().orElseThrow().getRouteConfigurations()) {
+                            CamelContextAware.trySetCamelContext(configuration, getCamelContext());
+                            ResourceAware.trySetResource(configuration, resource);
+                            getRouteConfigurationCollection().routeConfiguration(configuration);
+                        }
+                    }
+                }
+            }
+        };
+        builder.setResource(resource);
+        return builder;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(delegate);
+    }
+
+    private boolean isPreParsed(Resource resource) {
+        final String path = path(resource);
+        return path != null && (routesSnapshots.containsKey(path) || routeConfigurationsSnapshots.containsKey(path));
+    }
+
+    private InputStream loadSnapshot(String snapshot) {
+        InputStream is = camelContext.getClassResolver().loadResourceAsStream(snapshot);
+        if (is == null) {
+            throw new IllegalStateException("Could not find the pre-parsed route snapshot " + snapshot);
+        }
+        return is;
+    }
+
+    static String path(Resource resource) {
+        final String location = resource.getLocation();
+        if (location == null || !location.startsWith(CLASSPATH_PREFIX)) {
+            return null;
+        }
+        return FileUtil.stripLeadingSeparator(location.substring(CLASSPATH_PREFIX.length()));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.csimple.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A {@link MultiBuildItem} bearing the name of a class into which several CSimple expressions were compiled.
+ */
+public final class CSimpleExpressionGroupBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public CSimpleExpressionGroupBuildItem(String className) {
+        this.className = className;
+    }
+
+    /**
+     * @return the fully qualified name of a class implementing
+     *         {@link org.apache.camel.quarkus.component.csimple.CSimpleExpressionGroup}
+     */
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -0,0 +1,416 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.csimple.deployment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.camel.language.csimple.CSimpleCodeGenerator;
+import org.apache.camel.language.csimple.CSimpleGeneratedCode;
+
+/**
+ * Compiles several CSimple expressions into a single class.
+ * <p>
+ * The source generated by {@link CSimpleCodeGenerator} for each expression is parsed to extract its imports and the
+ * body of its {@code evaluate} method. Each distinct body becomes a method of the group class, whose instances dispatch
+ * to the method of their expression with a {@code switch}. Header and exchange property lookups repeated in the same
+ * expression are done only once.
+ */
+final class CSimpleGroupCodeGenerator {
+    static final String GROUP_INTERFACE = "org.apache.camel.quarkus.component.csimple.CSimpleExpressionGroup";
+    private static final String EVALUATE_PARAMETERS = "(CamelContext context, Exchange exchange, Message message, Object body)";
+    private static final String EVALUATE_SIGNATURE = "public Object evaluate" + EVALUATE_PARAMETERS + " throws Exception";
+    private static final Pattern ANNOTATIONS = Pattern.compile("^(@[\\w.]+\\s*)+");
+    private static final Pattern CALL = Pattern.compile("(\\.\\s*)?([A-Za-z_$][\\w$]*)\\s*\\(");
+    private static final Pattern LOOKUP = Pattern
+            .compile("(?<![\\w$.])(?:header\\(message|exchangeProperty\\(exchange), \"[^\"]*\"\\)");
+    /* The calls an expression may contain for its lookups to be hoisted, the lookups cannot be changed by these */
+    private static final Set<String> SIDE_EFFECT_FREE_CALLS = Set.of("header", "headerAs", "exchangeProperty",
+            "exchangePropertyAs", "bodyAs", "isEqualTo", "isEqualToIgnoreCase", "isNotEqualTo", "isGreaterThan",
+            "isGreaterThanOrEqualTo", "isLessThan", "isLessThanOrEqualTo", "contains", "containsIgnoreCase",
+            "startsWith", "endsWith", "regexp", "in", "range", "is", "isNumeric", "isAlphabetic", "isAlphanumeric");
+    private static final Set<String> SIDE_EFFECT_FREE_METHODS = Set.of("equals", "toString", "length", "isEmpty", "size",
+            "trim", "toLowerCase", "toUpperCase", "startsWith", "endsWith", "contains");
+
+    private final String className;
+    private final Set<String> imports = new LinkedHashSet<>();
+    private final List<String> texts = new ArrayList<>();
+    private final List<Boolean> predicates = new ArrayList<>();
+    private final List<Integer> methodIndexes = new ArrayList<>();
+    private final Map<String, Integer> methods = new LinkedHashMap<>();
+
+    /**
+     * @param className the fully qualified name of the class to generate
+     */
+    CSimpleGroupCodeGenerator(String className) {
+        this.className = className;
+    }
+
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the number of expressions added to this group
+     */
+    int size() {
+        return texts.size();
+    }
+
+    /**
+     * Adds an expression to this group.
+     *
+     * @param  code      the code generated for the expression by {@link CSimpleCodeGenerator}
+     * @param  predicate {@code true} if the expression is a predicate; {@code false} otherwise
+     * @param  text      the text of the expression
+     * @return           {@code true} if the expression was added, {@code false} if its generated class has members that
+     *                   cannot be merged into a group, in which case it has to be compiled on its own
+     */
+    boolean add(CSimpleGeneratedCode code, boolean predicate, String text) {
+        final String fqn = code.getFqn();
+        final String source = code.getCode();
+        final String simpleName = fqn.substring(fqn.lastIndexOf('.') + 1);
+        final int classStart = source.indexOf("public class " + simpleName + " ");
+        if (classStart < 0) {
+            return false;
+        }
+        final int classOpen = source.indexOf('{', classStart);
+        final int classClose = matchingBrace(source, classOpen);
+        if (classOpen < 0 || classClose < 0) {
+            return false;
+        }
+
+        String evaluateBody = null;
+        int pos = classOpen + 1;
+        while ((pos = skipBlanks(source, pos, classClose)) < classClose) {
+            final int open = nextTopLevelBrace(source, pos, classClose);
+            if (open < 0) {
+                /* A field or an initializer */
+                return false;
+            }
+            final int close = matchingBrace(source, open);
+            if (close < 0) {
+                return false;
+            }
+            final String signature = ANNOTATIONS.matcher(source.substring(pos, open).trim()).replaceFirst("")
+                    .replaceAll("\\s+", " ").trim();
+            if (signature.equals(EVALUATE_SIGNATURE)) {
+                evaluateBody = source.substring(open + 1, close).strip();
+            } else if (!signature.equals("public " + simpleName + "()")
+                    && !signature.equals("public boolean isPredicate()")
+                    && !signature.equals("public String getText()")) {
+                return false;
+            }
+            pos = close + 1;
+        }
+        if (evaluateBody == null) {
+            return false;
+        }
+
+        source.substring(0, classStart).lines()
+                .map(String::trim)
+                .filter(line -> line.startsWith("import "))
+                .forEach(imports::add);
+        final String body = shareLookups(evaluateBody);
+        texts.add(text);
+        predicates.add(predicate);
+        methodIndexes.add(methods.computeIfAbsent(body, b -> methods.size()));
+        return true;
+    }
+
+    /**
+     * @return the source code of the class containing the expressions added to this group
+     */
+    String generate() {
+        final String packageName = className.substring(0, className.lastIndexOf('.'));
+        final String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        final StringBuilder sb = new StringBuilder(1024 + methods.size() * 256);
+        sb.append("package ").append(packageName).append(";\n\n");
+        imports.forEach(i -> sb.append(i).append(i.endsWith(";") ? "\n" : ";\n"));
+        sb.append("\n");
+        sb.append("public class ").append(simpleName)
+                .append(" extends org.apache.camel.language.csimple.CSimpleSupport implements ")
+                .append(GROUP_INTERFACE).append(" {\n\n");
+        sb.append("    private final int index;\n");
+        sb.append("    private final boolean predicate;\n");
+        sb.append("    private final String text;\n\n");
+        sb.append("    public ").append(simpleName).append("() {\n");
+        sb.append("        this(-1, false, null);\n");
+        sb.append("    }\n\n");
+        sb.append("    private ").append(simpleName).append("(int index, boolean predicate, String text) {\n");
+        sb.append("        this.index = index;\n");
+        sb.append("        this.predicate = predicate;\n");
+        sb.append("        this.text = text;\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public java.util.List<org.apache.camel.language.csimple.CSimpleExpression> getExpressions() {\n");
+        sb.append("        return java.util.List.of(\n");
+        for (int i = 0; i < texts.size(); i++) {
+            sb.append("                new ").append(simpleName).append("(").append(i).append(", ")
+                    .append(predicates.get(i)).append(", \"").append(escape(texts.get(i))).append("\")")
+                    .append(i < texts.size() - 1 ? ",\n" : ");\n");
+        }
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public boolean isPredicate() {\n");
+        sb.append("        return predicate;\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public String getText() {\n");
+        sb.append("        return text;\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    ").append(EVALUATE_SIGNATURE).append(" {\n");
+        sb.append("        switch (index) {\n");
+        for (int i = 0; i < texts.size(); i++) {
+            sb.append("        case ").append(i).append(":\n");
+            sb.append("            return evaluate").append(methodIndexes.get(i))
+                    .append("(context, exchange, message, body);\n");
+        }
+        sb.append("        default:\n");
+        sb.append("            throw new IllegalStateException(\"No CSimple expression with index \" + index);\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+        for (Map.Entry<String, Integer> method : methods.entrySet()) {
+            sb.append("\n");
+            sb.append("    private Object evaluate").append(method.getValue()).append(EVALUATE_PARAMETERS)
+                    .append(" throws Exception {\n");
+            sb.append("        ").append(method.getKey()).append("\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Assigns the header and exchange property lookups repeated in a single expression to local variables. This is only
+     * done if the expression consists of a single {@code return} statement calling only methods that cannot change the
+     * headers and exchange properties.
+     *
+     * @param  body the body of the {@code evaluate} method of an expression
+     * @return      the body with the repeated lookups shared, or {@code body} unchanged if they cannot be shared
+     */
+    static String shareLookups(String body) {
+        if (!body.startsWith("return ")) {
+            return body;
+        }
+        final String blanked = blankLiterals(body);
+        if (blanked.indexOf(';') != blanked.length() - 1) {
+            return body;
+        }
+        final Matcher call = CALL.matcher(blanked);
+        while (call.find()) {
+            final boolean method = call.group(1) != null;
+            final String name = call.group(2);
+            if (method ? !SIDE_EFFECT_FREE_METHODS.contains(name)
+                    : !"return".equals(name) && !SIDE_EFFECT_FREE_CALLS.contains(name)) {
+                return body;
+            }
+        }
+
+        final Map<String, List<Integer>> lookups = new LinkedHashMap<>();
+        final Matcher lookup = LOOKUP.matcher(blanked);
+        while (lookup.find()) {
+            lookups.computeIfAbsent(body.substring(lookup.start(), lookup.end()), l -> new ArrayList<>())
+                    .add(lookup.start());
+        }
+        final StringBuilder declarations = new StringBuilder();
+        final String[] replacements = new String[body.length()];
+        final int[] lengths = new int[body.length()];
+        int counter = 0;
+        for (Map.Entry<String, List<Integer>> entry : lookups.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                final String variable = "csimpleLookup" + counter++;
+                declarations.append("final var ").append(variable).append(" = ").append(entry.getKey())
+                        .append(";\n        ");
+                for (int start : entry.getValue()) {
+                    replacements[start] = variable;
+                    lengths[start] = entry.getKey().length();
+                }
+            }
+        }
+        if (counter == 0) {
+            return body;
+        }
+        final StringBuilder result = new StringBuilder(body);
+        for (int i = body.length() - 1; i >= 0; i--) {
+            if (replacements[i] != null) {
+                result.replace(i, i + lengths[i], replacements[i]);
+            }
+        }
+        return declarations.append(result).toString();
+    }
+
+    /**
+     * @return {@code source} with the content of its string and character literals and of its comments replaced by
+     *         spaces, so that they can be skipped by searches without changing the positions of the rest of the code
+     */
+    static String blankLiterals(String source) {
+        final char[] chars = source.toCharArray();
+        int i = 0;
+        while (i < chars.length) {
+            final int end = literalEnd(source, i);
+            if (end > i) {
+                int from = i;
+                int to = end;
+                if (source.startsWith("\"\"\"", i)) {
+                    from = i + 3;
+                    to = Math.max(from, end - 3);
+                } else if (chars[i] == '"' || chars[i] == '\'') {
+                    from = i + 1;
+                    to = Math.max(from, end - 1);
+                }
+                Arrays.fill(chars, from, to, ' ');
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return new String(chars);
+    }
+
+    static String escape(String text) {
+        final StringBuilder sb = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (c < 0x20 || c == 0x7f) {
+                    /* Unicode escapes of line terminators would be translated before the literal is parsed */
+                    sb.append(String.format("\\%03o", (int) c));
+                } else if (c > 0x7f) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the index following the string literal, character literal, text block or comment starting at {@code pos},
+     *         or {@code pos} if none starts there
+     */
+    private static int literalEnd(String source, int pos) {
+        final int length = source.length();
+        if (source.startsWith("\"\"\"", pos)) {
+            final int end = source.indexOf("\"\"\"", pos + 3);
+            return end < 0 ? length : end + 3;
+        }
+        final char c = source.charAt(pos);
+        if (c == '"' || c == '\'') {
+            int i = pos + 1;
+            while (i < length && source.charAt(i) != c) {
+                i += source.charAt(i) == '\\' ? 2 : 1;
+            }
+            return Math.min(i + 1, length);
+        }
+        if (source.startsWith("//", pos)) {
+            final int end = source.indexOf('\n', pos);
+            return end < 0 ? length : end;
+        }
+        if (source.startsWith("/*", pos)) {
+            final int end = source.indexOf("*/", pos + 2);
+            return end < 0 ? length : end + 2;
+        }
+        return pos;
+    }
+
+    private static int skipBlanks(String source, int pos, int limit) {
+        while (pos < limit) {
+            if (Character.isWhitespace(source.charAt(pos))) {
+                pos++;
+            } else if (source.startsWith("//", pos) || source.startsWith("/*", pos)) {
+                pos = literalEnd(source, pos);
+            } else {
+                break;
+            }
+        }
+        return Math.min(pos, limit);
+    }
+
+    /**
+     * @return the index of the first <code>{</code> following {@code pos} outside of literals and comments, or
+     *         {@code -1} if a {@code ;} comes first
+     */
+    private static int nextTopLevelBrace(String source, int pos, int limit) {
+        while (pos < limit) {
+            final int end = literalEnd(source, pos);
+            if (end > pos) {
+                pos = end;
+                continue;
+            }
+            final char c = source.charAt(pos);
+            if (c == '{') {
+                return pos;
+            } else if (c == ';') {
+                return -1;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the <code>}</code> closing the <code>{</code> at {@code open}, or {@code -1} if there is none
+     */
+    private static int matchingBrace(String source, int open) {
+        if (open < 0) {
+            return -1;
+        }
+        int depth = 0;
+        int pos = open;
+        while (pos < source.length()) {
+            final int end = literalEnd(source, pos);
+            if (end > pos) {
+                pos = end;
+                continue;
+            }
+            final char c = source.charAt(pos);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return pos;
+            }
+            pos++;
+        }
+        return -1;
+    }
+}
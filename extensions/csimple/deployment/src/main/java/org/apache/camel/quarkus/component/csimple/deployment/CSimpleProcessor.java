@@ -60,7 +60,9 @@ import org.apache.camel.language.csimple.CSimpleGeneratedCode;
 import org.apache.camel.language.csimple.CSimpleHelper;
 import org.apache.camel.language.csimple.CSimpleLanguage;
 import org.apache.camel.language.csimple.CSimpleLanguage.Builder;
+import org.apache.camel.quarkus.component.csimple.CSimpleExpressionGroup;
 import org.apache.camel.quarkus.component.csimple.CSimpleLanguageRecorder;
+import org.apache.camel.quarkus.component.csimple.CamelCSimpleConfig;
 import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CompiledCSimpleExpressionBuildItem;
@@ -75,6 +77,7 @@ class CSimpleProcessor {
 
     private static final Logger LOG = Logger.getLogger(CSimpleProcessor.class);
     private static final String CLASS_NAME = "CompiledExpression";
+    private static final String GROUP_CLASS_NAME = "CompiledExpressions";
     private static final String PACKAGE_NAME = "org.apache.camel.quarkus.component.csimple.generated";
     static final String CLASS_EXT = ".class";
     private static final String FEATURE = "camel-csimple";
@@ -106,9 +109,11 @@ class CSimpleProcessor {
 
     @BuildStep
     void compileCSimpleExpressions(
+            CamelCSimpleConfig config,
             BuildSystemTargetBuildItem buildSystemTargetBuildItem,
             List<CSimpleExpressionSourceBuildItem> expressionSources,
             BuildProducer<CompiledCSimpleExpressionBuildItem> compiledCSimpleExpression,
+            BuildProducer<CSimpleExpressionGroupBuildItem> expressionGroups,
             BuildProducer<GeneratedClassBuildItem> generatedClasses) throws IOException {
 
         if (!expressionSources.isEmpty()) {
@@ -137,7 +142,10 @@ class CSimpleProcessor {
             compiledExpressions.put(true, new HashSet<>());
             compiledExpressions.put(false, new HashSet<>());
 
-            /* Generate Java classes for the language expressions */
+            /* Generate Java classes for the language expressions, grouping several expressions per class if possible */
+            final int expressionsPerClass = config.expressionsPerClass();
+            int groupCounter = 0;
+            CSimpleGroupCodeGenerator group = null;
             for (CSimpleExpressionSourceBuildItem expr : expressionSources) {
                 final boolean predicate = expr.isPredicate();
                 final String script = expr.getSourceCode();
@@ -146,17 +154,32 @@ class CSimpleProcessor {
                             ? generator.generatePredicate(expr.getClassNameBase(), script)
                             : generator.generateExpression(expr.getClassNameBase(), script);
 
-                    compiledCSimpleExpression
-                            .produce(new CompiledCSimpleExpressionBuildItem(code.getCode(), predicate, code.getFqn()));
-
-                    final Path javaCsimpleFile = csimpleGeneratedSourceDir
-                            .resolve(code.getFqn().replace('.', '/') + ".java");
-                    Files.createDirectories(javaCsimpleFile.getParent());
-                    Files.write(javaCsimpleFile, code.getCode().getBytes(StandardCharsets.UTF_8));
-                    filesToCompile.add(javaCsimpleFile.toFile());
+                    if (expressionsPerClass > 1 && group == null) {
+                        group = new CSimpleGroupCodeGenerator(
+                                String.format("%s.%s_%d", PACKAGE_NAME, GROUP_CLASS_NAME, ++groupCounter));
+                    }
+                    if (group != null && group.add(code, predicate, script)) {
+                        compiledCSimpleExpression
+                                .produce(new CompiledCSimpleExpressionBuildItem(code.getCode(), predicate,
+                                        group.getClassName()));
+                        if (group.size() == expressionsPerClass) {
+                            filesToCompile.add(writeSource(csimpleGeneratedSourceDir, group.getClassName(), group.generate()));
+                            expressionGroups.produce(new CSimpleExpressionGroupBuildItem(group.getClassName()));
+                            group = null;
+                        }
+                    } else {
+                        LOG.debugf("Compiling CSimple expression %s into its own class", script);
+                        compiledCSimpleExpression
+                                .produce(new CompiledCSimpleExpressionBuildItem(code.getCode(), predicate, code.getFqn()));
+                        filesToCompile.add(writeSource(csimpleGeneratedSourceDir, code.getFqn(), code.getCode()));
+                    }
                     compiledExpressions.get(predicate).add(script);
                 }
             }
+            if (group != null && group.size() > 0) {
+                filesToCompile.add(writeSource(csimpleGeneratedSourceDir, group.getClassName(), group.generate()));
+                expressionGroups.produce(new CSimpleExpressionGroupBuildItem(group.getClassName()));
+            }
 
             final Path csimpleClassesDir = outputDirectory.resolve("csimple-classes");
             Files.createDirectories(csimpleClassesDir);
@@ -197,12 +220,20 @@ class CSimpleProcessor {
             CSimpleLanguageRecorder recorder,
             ExpressionExtractionResultBuildItem result,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
+            List<CSimpleExpressionGroupBuildItem> expressionGroups,
             List<CompiledCSimpleExpressionBuildItem> compiledCSimpleExpressions) {
 
         if (result.isSuccess()) {
             final RuntimeValue<Builder> builder = recorder.csimpleLanguageBuilder();
+            final Set<String> groupClassNames = new HashSet<>();
+            for (CSimpleExpressionGroupBuildItem group : expressionGroups) {
+                recorder.addExpressionGroup(builder, recorderContext.newInstance(group.getClassName()));
+                groupClassNames.add(group.getClassName());
+            }
             for (CompiledCSimpleExpressionBuildItem expr : compiledCSimpleExpressions) {
-                recorder.addExpression(builder, recorderContext.newInstance(expr.getClassName()));
+                if (!groupClassNames.contains(expr.getClassName())) {
+                    recorder.addExpression(builder, recorderContext.newInstance(expr.getClassName()));
+                }
             }
 
             final RuntimeValue<?> csimpleLanguage = recorder.buildCSimpleLanguage(builder);
@@ -245,9 +276,17 @@ class CSimpleProcessor {
         }
     }
 
+    private static File writeSource(Path sourceDir, String className, String sourceCode) throws IOException {
+        final Path javaFile = sourceDir.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(javaFile.getParent());
+        Files.write(javaFile, sourceCode.getBytes(StandardCharsets.UTF_8));
+        return javaFile.toFile();
+    }
+
     private Context compilationContext(final Path projectDir, final Path csimpleClassesDir,
             QuarkusClassLoader quarkusClassLoader) {
-        Set<File> classPathElements = Stream.of(CSimpleHelper.class, Exchange.class, PropertiesHelper.class)
+        Set<File> classPathElements = Stream.of(CSimpleHelper.class, Exchange.class, PropertiesHelper.class,
+                CSimpleExpressionGroup.class)
                 .map(clazz -> clazz.getName().replace('.', '/') + CLASS_EXT)
                 .flatMap(className -> (Stream<ClassPathElement>) quarkusClassLoader.getElementsWithResource(className).stream())
                 .map(ClassPathElement::getRoot)
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.csimple.deployment;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ChoiceDefinition;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CSimpleExpressionGroupTest {
+
+    private static final String PACKAGE_NAME = "org.apache.camel.quarkus.component.csimple.generated";
+    private static final int BRANCHES = 7;
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class))
+            .overrideConfigKey("quarkus.camel.csimple.expressions-per-class", "3");
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Test
+    public void groupedExpressionsEvaluated() {
+        for (int i = 0; i < BRANCHES; i++) {
+            assertEquals("branch " + i,
+                    producerTemplate.requestBodyAndHeader("direct:route", "Hello", "branch", i, String.class));
+        }
+        assertEquals("otherwise",
+                producerTemplate.requestBodyAndHeader("direct:route", "Hello", "branch", BRANCHES, String.class));
+        assertEquals("otherwise", producerTemplate.requestBody("direct:route", "Hello", String.class));
+    }
+
+    @Test
+    public void expressionsCompiledIntoGroups() throws Exception {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        // 7 distinct predicates and 1 expression make 3 groups of at most 3 expressions
+        for (int i = 1; i <= 3; i++) {
+            classLoader.loadClass(PACKAGE_NAME + ".CompiledExpressions_" + i);
+        }
+        assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass(PACKAGE_NAME + ".CompiledExpressions_4"));
+        assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass(PACKAGE_NAME + ".CompiledExpression_1"));
+    }
+
+    public static final class Routes extends RouteBuilder {
+        @Override
+        public void configure() {
+            final ChoiceDefinition choice = from("direct:route").choice();
+            for (int i = 0; i < BRANCHES; i++) {
+                choice.when().csimple("${header.branch} != null && ${header.branch} == " + i)
+                        .setBody().csimple("branch ${header.branch}");
+            }
+            choice.otherwise().setBody().constant("otherwise");
+        }
+    }
+}
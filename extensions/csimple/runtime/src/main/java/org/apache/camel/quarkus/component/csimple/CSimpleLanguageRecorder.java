@@ -33,6 +33,12 @@ public class CSimpleLanguageRecorder {
         builder.getValue().expression(expression.getValue());
     }
 
+    public void addExpressionGroup(RuntimeValue<Builder> builder, RuntimeValue<CSimpleExpressionGroup> group) {
+        for (CSimpleExpression expression : group.getValue().getExpressions()) {
+            builder.getValue().expression(expression);
+        }
+    }
+
     public RuntimeValue<?> buildCSimpleLanguage(RuntimeValue<Builder> builder) {
         return new RuntimeValue<>(builder.getValue().build());
     }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.csimple;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build time configuration options for the Camel CSimple language.
+ */
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+@ConfigMapping(prefix = "quarkus.camel.csimple")
+public interface CamelCSimpleConfig {
+    /**
+     * The maximum number of CSimple expressions compiled into a single class at build time.
+     *
+     * The expressions extracted from the route definitions are compiled into methods of a few generated classes that
+     * dispatch to the expression to evaluate with a `switch`, instead of one class per expression. This reduces the
+     * number of classes to load and instantiate at startup, the metaspace usage and the native image size of
+     * applications using many expressions. Set it to `1` to compile each expression into its own class.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("100")
+    int expressionsPerClass();
+}
@@ -21,6 +21,12 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
+import jakarta.jms.Connection;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import jakarta.jms.TopicSubscriber;
+import org.apache.camel.quarkus.component.jms.CamelJmsConfig;
 import org.apache.camel.quarkus.component.jms.CamelJmsRecorder;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextCustomizerBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelSerializationBuildItem;
@@ -49,4 +55,22 @@ class JmsProcessor {
             // Only create the JMS component customizer if the ActiveMQ Artemis RA is available
         }
     }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void pooledListenerCustomizer(
+            CamelJmsConfig config,
+            BuildProducer<CamelContextCustomizerBuildItem> customizers,
+            BuildProducer<NativeImageProxyDefinitionBuildItem> proxies,
+            CamelJmsRecorder recorder) {
+        if (config.pooledListener().enabled()) {
+            customizers.produce(new CamelContextCustomizerBuildItem(
+                    recorder.createPooledListenerCustomizer(config.pooledListener().idleTimeout().toMillis())));
+            // The pooled resources are handed out as proxies ignoring close()
+            proxies.produce(new NativeImageProxyDefinitionBuildItem(Connection.class.getName()));
+            proxies.produce(new NativeImageProxyDefinitionBuildItem(Session.class.getName()));
+            proxies.produce(new NativeImageProxyDefinitionBuildItem(MessageConsumer.class.getName()));
+            proxies.produce(new NativeImageProxyDefinitionBuildItem(TopicSubscriber.class.getName()));
+        }
+    }
 }
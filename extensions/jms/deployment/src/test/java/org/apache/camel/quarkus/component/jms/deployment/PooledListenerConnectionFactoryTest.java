@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jms.deployment;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.apache.camel.quarkus.component.jms.PooledListenerConnectionFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledListenerConnectionFactoryTest {
+    private final Broker broker = new Broker();
+    private final Queue queue = proxy(Queue.class, (proxy, method, args) -> objectMethod(proxy, method.getName(), args));
+
+    @Test
+    public void resourcesAreReusedAcrossReceiveCycles() throws Exception {
+        PooledListenerConnectionFactory factory = new PooledListenerConnectionFactory(broker.connectionFactory(),
+                Duration.ofMinutes(1), null);
+
+        for (int i = 0; i < 100; i++) {
+            receiveCycle(factory);
+        }
+
+        assertEquals(1, factory.createdConnections());
+        assertEquals(1, factory.openConnections());
+        assertEquals(1, broker.sessions.get());
+        assertEquals(1, broker.consumers.get());
+        assertFalse(broker.connections.get(0).closed);
+    }
+
+    @Test
+    public void brokenConnectionIsReplaced() throws Exception {
+        PooledListenerConnectionFactory factory = new PooledListenerConnectionFactory(broker.connectionFactory(),
+                Duration.ofMinutes(1), null);
+        receiveCycle(factory);
+
+        broker.failReceive = true;
+        assertThrows(JMSException.class, () -> receiveCycle(factory));
+        assertTrue(broker.connections.get(0).closed, "a connection that failed must not be pooled");
+
+        broker.failReceive = false;
+        receiveCycle(factory);
+        receiveCycle(factory);
+        assertEquals(2, factory.createdConnections());
+        assertEquals(1, factory.openConnections());
+        assertFalse(broker.connections.get(1).closed);
+    }
+
+    @Test
+    public void transactionResourcesAreClosedAfterCompletion() throws Exception {
+        TransactionRegistry registry = new TransactionRegistry();
+        PooledListenerConnectionFactory factory = new PooledListenerConnectionFactory(broker.connectionFactory(),
+                Duration.ofMinutes(1), registry);
+
+        registry.begin();
+        Connection first = factory.createConnection();
+        first.close();
+        Connection second = factory.createConnection();
+        second.close();
+        assertSame(first, second, "the resources are reused within a transaction");
+        assertEquals(1, factory.openConnections());
+
+        registry.complete(Status.STATUS_COMMITTED);
+        assertEquals(0, factory.openConnections());
+        assertTrue(broker.connections.get(0).closed);
+
+        registry.begin();
+        receiveCycle(factory);
+        registry.complete(Status.STATUS_ROLLEDBACK);
+        assertEquals(2, factory.createdConnections());
+        assertEquals(0, factory.openConnections());
+    }
+
+    @Test
+    public void retiredResourcesAreClosedOnceReleased() throws Exception {
+        PooledListenerConnectionFactory factory = new PooledListenerConnectionFactory(broker.connectionFactory(),
+                Duration.ofMinutes(1), null);
+
+        Connection connection = factory.createConnection();
+        factory.retire();
+        assertFalse(broker.connections.get(0).closed, "a receiving listener thread must not lose its connection");
+
+        connection.close();
+        assertTrue(broker.connections.get(0).closed);
+        assertEquals(0, factory.openConnections());
+
+        receiveCycle(factory);
+        assertEquals(2, factory.createdConnections());
+    }
+
+    private void receiveCycle(PooledListenerConnectionFactory factory) throws JMSException {
+        Connection connection = factory.createConnection();
+        try {
+            connection.start();
+            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageConsumer consumer = session.createConsumer(queue);
+            consumer.receive(1);
+            consumer.close();
+            session.close();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args) {
+        return switch (name) {
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "toString" -> "Fake" + proxy.getClass().getInterfaces()[0].getSimpleName();
+        default -> null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(PooledListenerConnectionFactoryTest.class.getClassLoader(),
+                new Class<?>[] { type }, handler);
+    }
+
+    static final class Broker {
+        final List<FakeConnection> connections = new ArrayList<>();
+        final AtomicInteger sessions = new AtomicInteger();
+        final AtomicInteger consumers = new AtomicInteger();
+        volatile boolean failReceive;
+
+        ConnectionFactory connectionFactory() {
+            return proxy(ConnectionFactory.class, (proxy, method, args) -> {
+                if (method.getName().equals("createConnection")) {
+                    FakeConnection connection = new FakeConnection();
+                    connections.add(connection);
+                    return connection.proxy;
+                }
+                return objectMethod(proxy, method.getName(), args);
+            });
+        }
+
+        final class FakeConnection {
+            final Connection proxy;
+            volatile boolean closed;
+
+            FakeConnection() {
+                proxy = PooledListenerConnectionFactoryTest.proxy(Connection.class, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "close":
+                        closed = true;
+                        return null;
+                    case "createSession":
+                        sessions.incrementAndGet();
+                        return session();
+                    default:
+                        return objectMethod(proxy, method.getName(), args);
+                    }
+                });
+            }
+
+            private Session session() {
+                return PooledListenerConnectionFactoryTest.proxy(Session.class, (proxy, method, args) -> {
+                    if (method.getName().equals("createConsumer")) {
+                        consumers.incrementAndGet();
+                        return consumer();
+                    }
+                    return objectMethod(proxy, method.getName(), args);
+                });
+            }
+
+            private MessageConsumer consumer() {
+                return PooledListenerConnectionFactoryTest.proxy(MessageConsumer.class, (proxy, method, args) -> {
+                    if (method.getName().equals("receive") && failReceive) {
+                        throw new JMSException("Connection lost");
+                    }
+                    return objectMethod(proxy, method.getName(), args);
+                });
+            }
+        }
+    }
+
+    static final class TransactionRegistry implements TransactionSynchronizationRegistry {
+        private final Map<Object, Object> resources = new HashMap<>();
+        private final List<Synchronization> synchronizations = new ArrayList<>();
+        private Object key;
+
+        void begin() {
+            key = new Object();
+        }
+
+        void complete(int status) {
+            synchronizations.forEach(Synchronization::beforeCompletion);
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+            synchronizations.clear();
+            resources.clear();
+            key = null;
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return key;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            resources.put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            return resources.get(key);
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            synchronizations.add(sync);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return key != null ? Status.STATUS_ACTIVE : Status.STATUS_NO_TRANSACTION;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+    }
+}
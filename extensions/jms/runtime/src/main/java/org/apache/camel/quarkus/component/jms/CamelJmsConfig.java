@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jms;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+@ConfigMapping(prefix = "quarkus.camel.jms")
+public interface CamelJmsConfig {
+    /**
+     * Build time configuration options for the pooled JMS listener containers.
+     *
+     * @asciidoclet
+     */
+    PooledListenerConfig pooledListener();
+
+    interface PooledListenerConfig {
+        /**
+         * Whether the JMS consumers should pool their connection, session and consumers per listener thread instead of
+         * creating and closing them on each receive cycle. Within a JTA transaction, the resources are created within
+         * the transaction and closed when it completes, so the pooling is safe with a resource adapter and XA. When
+         * enabled, the `consumerType` of all JMS components is set to `Custom`, with a `messageListenerContainerFactory`
+         * creating the pooled listener containers, and their `cacheLevelName` is ignored.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * How long the resources of a listener thread can stay unused before they are closed. Should be longer than the
+         * `receiveTimeout` of the JMS consumers.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("30s")
+        Duration idleTimeout();
+    }
+}
@@ -17,9 +17,12 @@
 
 package org.apache.camel.quarkus.component.jms;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import org.apache.camel.CamelContext;
+import org.apache.camel.component.jms.ConsumerType;
 import org.apache.camel.component.jms.JmsComponent;
 import org.apache.camel.spi.CamelContextCustomizer;
 import org.apache.camel.spi.ComponentCustomizer;
@@ -37,4 +40,19 @@ public class CamelJmsRecorder {
             }
         });
     }
+
+    public RuntimeValue<CamelContextCustomizer> createPooledListenerCustomizer(long idleTimeoutMillis) {
+        final Duration idleTimeout = Duration.ofMillis(idleTimeoutMillis);
+        return new RuntimeValue<>(new CamelContextCustomizer() {
+            @Override
+            public void configure(CamelContext context) {
+                context.getRegistry().bind("jms-pooled-listener-customizer",
+                        ComponentCustomizer.forType(JmsComponent.class, component -> {
+                            component.setConsumerType(ConsumerType.Custom);
+                            component.setMessageListenerContainerFactory(
+                                    PooledJmsMessageListenerContainer.factory(idleTimeout));
+                        }));
+            }
+        });
+    }
 }
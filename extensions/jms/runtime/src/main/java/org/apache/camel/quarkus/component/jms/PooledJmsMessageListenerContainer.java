@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jms;
+
+import java.time.Duration;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import org.apache.camel.component.jms.DefaultJmsMessageListenerContainer;
+import org.apache.camel.component.jms.JmsEndpoint;
+import org.apache.camel.component.jms.MessageListenerContainerFactory;
+
+/**
+ * A {@link DefaultJmsMessageListenerContainer} receiving through a {@link PooledListenerConnectionFactory} wrapping
+ * the connection factory it is configured with.
+ * <p>
+ * The container itself never caches any JMS resource, whatever the configured cache level is, so that nothing is kept
+ * across transactions by Spring. The pooling is done by the connection factory, per listener thread or per
+ * transaction.
+ */
+public class PooledJmsMessageListenerContainer extends DefaultJmsMessageListenerContainer {
+    private final Duration idleTimeout;
+    private PooledListenerConnectionFactory pooledConnectionFactory;
+
+    public PooledJmsMessageListenerContainer(JmsEndpoint endpoint, Duration idleTimeout) {
+        super(endpoint);
+        this.idleTimeout = idleTimeout;
+        super.setCacheLevel(CACHE_NONE);
+    }
+
+    /**
+     * @return a {@link MessageListenerContainerFactory} creating {@link PooledJmsMessageListenerContainer}s
+     */
+    public static MessageListenerContainerFactory factory(Duration idleTimeout) {
+        return endpoint -> new PooledJmsMessageListenerContainer(endpoint, idleTimeout);
+    }
+
+    @Override
+    public void setConnectionFactory(ConnectionFactory connectionFactory) {
+        if (connectionFactory == null || connectionFactory instanceof PooledListenerConnectionFactory) {
+            super.setConnectionFactory(connectionFactory);
+        } else {
+            pooledConnectionFactory = new PooledListenerConnectionFactory(connectionFactory, idleTimeout);
+            super.setConnectionFactory(pooledConnectionFactory);
+        }
+    }
+
+    @Override
+    public void setCacheLevel(int cacheLevel) {
+        // The pooling is done by the PooledListenerConnectionFactory
+        super.setCacheLevel(CACHE_NONE);
+    }
+
+    public PooledListenerConnectionFactory getPooledConnectionFactory() {
+        return pooledConnectionFactory;
+    }
+
+    @Override
+    protected void doStop() throws JMSException {
+        try {
+            super.doStop();
+        } finally {
+            if (pooledConnectionFactory != null) {
+                // The pooled consumers would otherwise keep prefetching messages while the container is stopped
+                pooledConnectionFactory.retire();
+            }
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws JMSException {
+        try {
+            super.doShutdown();
+        } finally {
+            if (pooledConnectionFactory != null) {
+                pooledConnectionFactory.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jms;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link ConnectionFactory} pooling the connection, session and consumers used by the listener threads of a
+ * {@link PooledJmsMessageListenerContainer}.
+ * <p>
+ * Outside of a transaction, each listener thread keeps its own connection, with a single session and its consumers,
+ * and gets them back on every receive cycle instead of creating and closing them. Within an active JTA transaction,
+ * the resources are created within the transaction, so that a resource adapter enlists them, reused until the
+ * transaction completes and closed afterwards. Resources are closed as soon as a {@link JMSException} is thrown by any
+ * of them, and the resources of a listener thread are closed once they were not used for longer than the idle timeout.
+ * When the container stops, {@link #retire()} closes the resources of all listener threads, so that a stopped container
+ * keeps no consumer prefetching messages other consumers could receive.
+ */
+public class PooledListenerConnectionFactory implements ConnectionFactory {
+    private static final Logger LOG = Logger.getLogger(PooledListenerConnectionFactory.class);
+
+    private final ConnectionFactory delegate;
+    private final long idleTimeoutNanos;
+    private final ThreadLocal<PooledResources> threadResources = new ThreadLocal<>();
+    private final Set<PooledResources> resources = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextEviction = new AtomicLong(System.nanoTime());
+    private final AtomicLong createdConnections = new AtomicLong();
+    private final AtomicLong closedConnections = new AtomicLong();
+    private volatile TransactionSynchronizationRegistry transactionRegistry;
+    private volatile boolean transactionRegistryResolved;
+
+    public PooledListenerConnectionFactory(ConnectionFactory delegate, Duration idleTimeout) {
+        this.delegate = delegate;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * @param transactionRegistry the registry scoping resources to JTA transactions, or {@code null} if the resources
+     *                            are never used within a transaction
+     */
+    public PooledListenerConnectionFactory(ConnectionFactory delegate, Duration idleTimeout,
+            TransactionSynchronizationRegistry transactionRegistry) {
+        this(delegate, idleTimeout);
+        this.transactionRegistry = transactionRegistry;
+        this.transactionRegistryResolved = true;
+    }
+
+    @Override
+    public Connection createConnection() throws JMSException {
+        final TransactionSynchronizationRegistry registry = transactionRegistry();
+        if (registry != null && registry.getTransactionKey() != null) {
+            return transactionConnection(registry);
+        }
+
+        evictIdleResources();
+        PooledResources pooled = threadResources.get();
+        if (pooled == null || !pooled.acquire()) {
+            pooled = new PooledResources(newConnection(), false);
+            pooled.acquire();
+            resources.add(pooled);
+            threadResources.set(pooled);
+        }
+        return pooled.connectionProxy;
+    }
+
+    @Override
+    public Connection createConnection(String userName, String password) throws JMSException {
+        return delegate.createConnection(userName, password);
+    }
+
+    @Override
+    public JMSContext createContext() {
+        return delegate.createContext();
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password) {
+        return delegate.createContext(userName, password);
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password, int sessionMode) {
+        return delegate.createContext(userName, password, sessionMode);
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        return delegate.createContext(sessionMode);
+    }
+
+    /**
+     * The number of physical connections created by this factory so far.
+     */
+    public long createdConnections() {
+        return createdConnections.get();
+    }
+
+    /**
+     * The number of physical connections created by this factory and not closed yet, including those of transactions.
+     */
+    public long openConnections() {
+        return createdConnections.get() - closedConnections.get();
+    }
+
+    /**
+     * Closes the resources of the listener threads that are not receiving right now, and those of the others as soon
+     * as they are released. The factory remains usable afterwards.
+     */
+    public void retire() {
+        for (PooledResources pooled : resources) {
+            if (pooled.retire()) {
+                resources.remove(pooled);
+            }
+        }
+    }
+
+    /**
+     * Closes the resources of all listener threads. The factory remains usable afterwards.
+     */
+    public void close() {
+        for (PooledResources pooled : new ArrayList<>(resources)) {
+            resources.remove(pooled);
+            pooled.close();
+        }
+    }
+
+    private Connection newConnection() throws JMSException {
+        final Connection connection = delegate.createConnection();
+        createdConnections.incrementAndGet();
+        return connection;
+    }
+
+    private Connection transactionConnection(TransactionSynchronizationRegistry registry) throws JMSException {
+        if (registry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            // No synchronization can be registered anymore, so the resources cannot be scoped to the transaction
+            return delegate.createConnection();
+        }
+        PooledResources pooled = (PooledResources) registry.getResource(this);
+        if (pooled == null) {
+            final PooledResources transactionResources = new PooledResources(newConnection(), true);
+            registry.putResource(this, transactionResources);
+            registry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    transactionResources.close();
+                }
+            });
+            pooled = transactionResources;
+        }
+        pooled.acquire();
+        return pooled.connectionProxy;
+    }
+
+    private void evictIdleResources() {
+        final long now = System.nanoTime();
+        final long next = nextEviction.get();
+        if (now - next < 0 || !nextEviction.compareAndSet(next, now + idleTimeoutNanos / 2)) {
+            return;
+        }
+        for (PooledResources pooled : resources) {
+            if (pooled.closeIfIdle(now)) {
+                resources.remove(pooled);
+            }
+        }
+    }
+
+    private TransactionSynchronizationRegistry transactionRegistry() {
+        if (!transactionRegistryResolved) {
+            if (Arc.container() != null) {
+                final InstanceHandle<TransactionSynchronizationRegistry> handle = Arc.container()
+                        .instance(TransactionSynchronizationRegistry.class);
+                if (handle.isAvailable()) {
+                    transactionRegistry = handle.get();
+                }
+            }
+            transactionRegistryResolved = true;
+        }
+        return transactionRegistry;
+    }
+
+    /**
+     * The connection of a listener thread or a transaction, with its session and consumers.
+     */
+    final class PooledResources {
+        private final Connection connection;
+        private final Connection connectionProxy;
+        private final boolean transactionScoped;
+        private final Map<List<Object>, MessageConsumer> consumers = new HashMap<>();
+        private List<Object> sessionKey;
+        private Session session;
+        private Session sessionProxy;
+        private boolean inUse;
+        private boolean retired;
+        private boolean closed;
+        private long lastReleased;
+        private volatile boolean broken;
+
+        PooledResources(Connection connection, boolean transactionScoped) {
+            this.connection = connection;
+            this.transactionScoped = transactionScoped;
+            this.connectionProxy = proxy(Connection.class, new ConnectionHandler());
+        }
+
+        synchronized boolean acquire() {
+            if (closed) {
+                return false;
+            }
+            inUse = true;
+            return true;
+        }
+
+        void release() {
+            final boolean discard;
+            synchronized (this) {
+                discard = broken || retired;
+                inUse = false;
+                lastReleased = System.nanoTime();
+            }
+            if (discard) {
+                resources.remove(this);
+                close();
+            }
+        }
+
+        /**
+         * Closes the resources right away if they are not in use, otherwise once they are released.
+         *
+         * @return {@code true} if the resources were closed
+         */
+        boolean retire() {
+            synchronized (this) {
+                if (closed) {
+                    return true;
+                }
+                if (inUse) {
+                    retired = true;
+                    return false;
+                }
+                closed = true;
+            }
+            closeConnection();
+            return true;
+        }
+
+        boolean closeIfIdle(long now) {
+            synchronized (this) {
+                if (closed || inUse || now - lastReleased < idleTimeoutNanos) {
+                    return false;
+                }
+                closed = true;
+            }
+            LOG.debugf("Closing the JMS resources left idle by a listener thread for more than %d ms",
+                    idleTimeoutNanos / 1_000_000);
+            closeConnection();
+            return true;
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            closeConnection();
+        }
+
+        private void closeConnection() {
+            try {
+                connection.close();
+            } catch (JMSException | RuntimeException e) {
+                LOG.debugf(e, "Failed to close pooled JMS connection %s", connection);
+            } finally {
+                closedConnections.incrementAndGet();
+            }
+        }
+
+        private Session session(Method method, Object[] args) throws Throwable {
+            final List<Object> key = key(method, args);
+            if (session != null && key.equals(sessionKey)) {
+                return sessionProxy;
+            }
+            if (session != null) {
+                // A connection of a resource adapter cannot have more than one session
+                consumers.clear();
+                session.close();
+            }
+            session = (Session) delegate(connection, method, args);
+            sessionKey = key;
+            sessionProxy = proxy(Session.class, new SessionHandler());
+            return sessionProxy;
+        }
+
+        private MessageConsumer consumer(Method method, Object[] args) throws Throwable {
+            final List<Object> key = key(method, args);
+            MessageConsumer consumer = consumers.get(key);
+            if (consumer == null) {
+                consumer = (MessageConsumer) proxy(method.getReturnType(),
+                        new ConsumerHandler((MessageConsumer) delegate(session, method, args)));
+                consumers.put(key, consumer);
+            }
+            return consumer;
+        }
+
+        private Object delegate(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof JMSException || e.getCause() instanceof JMSRuntimeException) {
+                    broken = true;
+                }
+                throw e.getCause();
+            }
+        }
+
+        private Object invokeCommon(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "equals":
+                return args != null && args.length == 1 && proxy == args[0];
+            case "hashCode":
+                if (args == null || args.length == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                break;
+            case "toString":
+                if (args == null || args.length == 0) {
+                    return "Pooled[" + target + "]";
+                }
+                break;
+            default:
+                break;
+            }
+            return delegate(target, method, args);
+        }
+
+        final class ConnectionHandler implements InvocationHandler {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                case "close":
+                    release();
+                    return null;
+                case "stop":
+                    // The connection keeps delivering to the pooled consumers, retire() closes them once the
+                    // container stops
+                    return null;
+                case "createSession":
+                    return session(method, args);
+                default:
+                    return invokeCommon(proxy, connection, method, args);
+                }
+            }
+        }
+
+        final class SessionHandler implements InvocationHandler {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                case "close":
+                    return null;
+                case "createConsumer":
+                case "createDurableSubscriber":
+                case "createDurableConsumer":
+                case "createSharedConsumer":
+                case "createSharedDurableConsumer":
+                    return consumer(method, args);
+                default:
+                    return invokeCommon(proxy, session, method, args);
+                }
+            }
+        }
+
+        final class ConsumerHandler implements InvocationHandler {
+            private final MessageConsumer consumer;
+
+            ConsumerHandler(MessageConsumer consumer) {
+                this.consumer = consumer;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getName().equals("close")) {
+                    return null;
+                }
+                return invokeCommon(proxy, consumer, method, args);
+            }
+        }
+    }
+
+    private static List<Object> key(Method method, Object[] args) {
+        final List<Object> key = new ArrayList<>(args == null ? 1 : args.length + 1);
+        key.add(method.getName());
+        if (args != null) {
+            key.addAll(Arrays.asList(args));
+        }
+        return key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+}
@@ -23,6 +23,7 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import org.apache.camel.quarkus.component.jta.BatchingJtaTransactionPolicy;
 import org.apache.camel.quarkus.component.jta.MandatoryJtaTransactionPolicy;
 import org.apache.camel.quarkus.component.jta.NeverJtaTransactionPolicy;
 import org.apache.camel.quarkus.component.jta.NotSupportedJtaTransactionPolicy;
@@ -52,6 +53,7 @@ class JtaProcessor {
             builder.addBeanClass(NeverJtaTransactionPolicy.class);
             builder.addBeanClass(NotSupportedJtaTransactionPolicy.class);
             builder.addBeanClass(SupportsJtaTransactionPolicy.class);
+            builder.addBeanClass(BatchingJtaTransactionPolicy.class);
 
             additionalBeans.produce(builder.build());
 
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jta;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionManager;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingJtaTransactionPolicyTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    // the mock transaction manager has to associate transactions with threads like a real one
+    private static final ThreadLocal<Integer> STATUS = ThreadLocal.withInitial(() -> Status.STATUS_NO_TRANSACTION);
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MockTransactionManagerProducer.class, Routes.class))
+            .overrideConfigKey("quarkus.camel.jta.batch.max-size", String.valueOf(BATCH_SIZE))
+            // long enough for every test exchange to join the batch
+            .overrideConfigKey("quarkus.camel.jta.batch.max-wait", "10s");
+
+    @Inject
+    TransactionManager transactionManager;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        when(transactionManager.getStatus()).thenAnswer(invocation -> STATUS.get());
+        doAnswer(invocation -> setStatus(Status.STATUS_ACTIVE)).when(transactionManager).begin();
+        doAnswer(invocation -> setStatus(Status.STATUS_NO_TRANSACTION)).when(transactionManager).commit();
+        doAnswer(invocation -> setStatus(Status.STATUS_NO_TRANSACTION)).when(transactionManager).rollback();
+        doAnswer(invocation -> setStatus(Status.STATUS_MARKED_ROLLBACK)).when(transactionManager).setRollbackOnly();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        reset(transactionManager);
+    }
+
+    @Test
+    public void concurrentExchangesShareOneTransaction() throws Exception {
+        List<Future<Object>> replies = sendConcurrently("a", "b", "c", "d");
+        for (Future<Object> reply : replies) {
+            assertEquals("ok", reply.get(10, TimeUnit.SECONDS));
+        }
+        verify(transactionManager, times(1)).begin();
+        verify(transactionManager, times(1)).commit();
+    }
+
+    @Test
+    public void failedBatchIsReplayedOneExchangeAtATime() throws Exception {
+        List<Future<Object>> replies = sendConcurrently("a", "b", "poison", "d");
+        for (int i = 0; i < replies.size(); i++) {
+            Future<Object> reply = replies.get(i);
+            if (i == 2) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> reply.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(CamelExecutionException.class, e.getCause());
+            } else {
+                assertEquals("ok", reply.get(10, TimeUnit.SECONDS));
+            }
+        }
+        // the batch transaction and then one per exchange, of which only the poisoned one is rolled back
+        verify(transactionManager, times(1 + BATCH_SIZE)).begin();
+        verify(transactionManager, times(BATCH_SIZE - 1)).commit();
+        verify(transactionManager, times(2)).rollback();
+    }
+
+    @Test
+    public void streamBodiesAreReplayedFromTheStart() throws Exception {
+        List<String> texts = List.of("a", "b", "poison", "d");
+        List<Future<Object>> replies = sendConcurrently("direct:stream", texts.stream()
+                .map(BatchingJtaTransactionPolicyTest::stream).toArray());
+        for (int i = 0; i < replies.size(); i++) {
+            Future<Object> reply = replies.get(i);
+            if (i == 2) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> reply.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(CamelExecutionException.class, e.getCause());
+            } else {
+                // read a first time by the rolled back batch, and again when replayed
+                assertEquals("read " + texts.get(i), reply.get(10, TimeUnit.SECONDS));
+            }
+        }
+        verify(transactionManager, times(1 + BATCH_SIZE)).begin();
+    }
+
+    private List<Future<Object>> sendConcurrently(String... bodies) {
+        return sendConcurrently("direct:batch", (Object[]) bodies);
+    }
+
+    private List<Future<Object>> sendConcurrently(String endpointUri, Object... bodies) {
+        ExecutorService executor = Executors.newFixedThreadPool(bodies.length);
+        try {
+            List<Future<Object>> replies = new ArrayList<>();
+            for (Object body : bodies) {
+                replies.add(executor.submit(() -> producerTemplate.requestBody(endpointUri, body)));
+            }
+            return replies;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object setStatus(int status) {
+        STATUS.set(status);
+        return null;
+    }
+
+    public static class Routes extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:batch")
+                    .transacted("PROPAGATION_REQUIRED_BATCH")
+                    .process(exchange -> {
+                        if ("poison".equals(exchange.getMessage().getBody(String.class))) {
+                            throw new IllegalStateException("Poisoned exchange");
+                        }
+                        exchange.getMessage().setBody("ok");
+                    });
+
+            from("direct:stream")
+                    .transacted("PROPAGATION_REQUIRED_BATCH")
+                    .process(exchange -> {
+                        String text = exchange.getMessage().getBody(String.class);
+                        if ("poison".equals(text)) {
+                            throw new IllegalStateException("Poisoned exchange");
+                        }
+                        exchange.getMessage().setBody("read " + text);
+                    });
+        }
+    }
+}
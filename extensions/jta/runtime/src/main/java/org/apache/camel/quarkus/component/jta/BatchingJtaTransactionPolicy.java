@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jta;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import org.apache.camel.CamelException;
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.StreamCache;
+import org.apache.camel.support.processor.DelegateSyncProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits the exchanges of concurrent callers together: up to {@code quarkus.camel.jta.batch.max-size} exchanges, or
+ * as many as arrive within {@code quarkus.camel.jta.batch.max-wait} of the first, are processed one after the other on
+ * the thread of the first in a single transaction, so that a route fed by concurrent consumers pays for one two-phase
+ * commit per batch rather than per exchange. Each caller is held until its batch is committed.
+ * <p>
+ * When any exchange of a batch fails, the whole batch is rolled back and its exchanges are replayed one at a time,
+ * each in a transaction of its own and from the state it arrived in, so that only the failing exchange fails. A stream
+ * body can only be read once, so it is cached when the exchange joins a batch, whether or not stream caching is
+ * enabled; an exchange whose stream cannot be cached fails rather than being replayed with a spent body. A caller
+ * already in a transaction joins it as with {@code PROPAGATION_REQUIRED}.
+ */
+@Named("PROPAGATION_REQUIRED_BATCH")
+public final class BatchingJtaTransactionPolicy extends TransactionalJtaTransactionPolicy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingJtaTransactionPolicy.class);
+
+    @Inject
+    CamelJtaConfig config;
+
+    @Override
+    public void run(final Runnable runnable) throws Throwable {
+        // inside a batch the exchange joins the batch transaction; replayed alone, it gets one of its own
+        runWithTransaction(runnable, !hasActiveTransaction());
+    }
+
+    @Override
+    public Processor wrap(Route route, Processor processor) {
+        return new BatchingProcessor(super.wrap(route, processor), config.batch().maxSize(),
+                config.batch().maxWait().toNanos());
+    }
+
+    private final class BatchingProcessor extends DelegateSyncProcessor {
+        private final int maxSize;
+        private final long maxWaitNanos;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition full = lock.newCondition();
+        private List<Member> open;
+
+        BatchingProcessor(Processor transacted, int maxSize, long maxWaitNanos) {
+            super(transacted);
+            this.maxSize = maxSize;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            if (maxSize <= 1 || transactionManager.getStatus() != Status.STATUS_NO_TRANSACTION) {
+                processor.process(exchange);
+                return;
+            }
+
+            cacheStreamBody(exchange);
+            Member member = new Member(exchange, exchange.copy());
+            List<Member> batch;
+            boolean leader;
+            lock.lock();
+            try {
+                leader = open == null;
+                if (leader) {
+                    open = new ArrayList<>(maxSize);
+                }
+                batch = open;
+                batch.add(member);
+                if (batch.size() >= maxSize) {
+                    open = null;
+                    full.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (leader) {
+                awaitMembers(batch);
+                processBatch(batch);
+            }
+            member.awaitDone();
+        }
+
+        private void awaitMembers(List<Member> batch) {
+            lock.lock();
+            try {
+                long remaining = maxWaitNanos;
+                while (open == batch && remaining > 0) {
+                    remaining = full.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // whoever joined by now is in; the next caller opens a new batch
+                if (open == batch) {
+                    open = null;
+                }
+                lock.unlock();
+            }
+        }
+
+        private void processBatch(List<Member> batch) {
+            try {
+                if (batch.size() == 1 || !runInOneTransaction(batch)) {
+                    for (Member member : batch) {
+                        member.restore();
+                        processQuietly(member.exchange);
+                    }
+                }
+            } catch (Throwable e) {
+                // the batch transaction could not be completed either way, so the outcome is unknown
+                for (Member member : batch) {
+                    member.exchange.setException(new CamelException("Unable to commit transaction batch", e));
+                }
+            } finally {
+                batch.forEach(Member::done);
+            }
+        }
+
+        /**
+         * @return {@code true} if the batch was committed, {@code false} if it was rolled back and needs replaying
+         */
+        private boolean runInOneTransaction(List<Member> batch) throws Exception {
+            transactionManager.begin();
+            boolean failed = false;
+            for (Member member : batch) {
+                processQuietly(member.exchange);
+                if (member.failed()) {
+                    failed = true;
+                    break;
+                }
+            }
+            if (failed || !hasActiveTransaction()) {
+                rollback(true);
+                LOG.debug("Transaction batch of {} exchange(s) rolled back, replaying them one at a time",
+                        batch.size());
+                return false;
+            }
+            try {
+                transactionManager.commit();
+            } catch (RollbackException e) {
+                LOG.debug("Transaction batch of {} exchange(s) rolled back on commit, replaying them one at a time",
+                        batch.size(), e);
+                return false;
+            }
+            LOG.trace("Transaction batch of {} exchange(s) committed", batch.size());
+            return true;
+        }
+
+        /**
+         * A replayed exchange must find its body as it arrived, which a stream read by the rolled back batch is not.
+         */
+        private void cacheStreamBody(Exchange exchange) throws InvalidPayloadException {
+            Object body = exchange.getMessage().getBody();
+            if (!(body instanceof InputStream || body instanceof Reader) || body instanceof StreamCache) {
+                return;
+            }
+            StreamCache cache = exchange.getContext().getStreamCachingStrategy().cache(exchange);
+            if (cache == null) {
+                throw new InvalidPayloadException(exchange, StreamCache.class);
+            }
+            exchange.getMessage().setBody(cache);
+        }
+
+        private void processQuietly(Exchange exchange) {
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        }
+    }
+
+    private static final class Member {
+        private final Exchange exchange;
+        private final Exchange arrived;
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        Member(Exchange exchange, Exchange arrived) {
+            this.exchange = exchange;
+            this.arrived = arrived;
+        }
+
+        boolean failed() {
+            return exchange.getException() != null || exchange.isRollbackOnly() || exchange.isRollbackOnlyLast();
+        }
+
+        /** Puts the exchange back in the state it arrived in, undoing what the rolled back batch did to it. */
+        void restore() {
+            exchange.setException(null);
+            exchange.setRollbackOnly(false);
+            exchange.setRollbackOnlyLast(false);
+            exchange.getExchangeExtension().setRedeliveryExhausted(false);
+            exchange.setMessage(arrived.getMessage().copy());
+            if (exchange.getMessage().getBody() instanceof StreamCache streamCache) {
+                // the copy shares the cache the batch read to its end
+                streamCache.reset();
+            }
+            exchange.getProperties().clear();
+            exchange.getProperties().putAll(arrived.getProperties());
+        }
+
+        void done() {
+            done.countDown();
+        }
+
+        void awaitDone() throws InterruptedException {
+            done.await();
+        }
+    }
+}
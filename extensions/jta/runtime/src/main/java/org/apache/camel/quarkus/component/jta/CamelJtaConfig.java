@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jta;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+@ConfigMapping(prefix = "quarkus.camel.jta")
+public interface CamelJtaConfig {
+
+    /**
+     * The `PROPAGATION_REQUIRED_BATCH` transaction policy.
+     *
+     * @asciidoclet
+     */
+    BatchConfig batch();
+
+    interface BatchConfig {
+
+        /**
+         * The maximum number of exchanges committed together in one transaction by the `PROPAGATION_REQUIRED_BATCH`
+         * policy. Only exchanges processed concurrently can share a transaction, so there is no point in setting it
+         * above the number of consumer threads feeding the route.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("16")
+        int maxSize();
+
+        /**
+         * How long the first exchange of a batch waits for others to join it before the batch is processed. Every
+         * exchange may be delayed by up to this long, including one that ends up alone in its batch.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("10ms")
+        Duration maxWait();
+    }
+}
@@ -17,19 +17,25 @@
 package org.apache.camel.quarkus.component.kafka.deployment;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
-import io.quarkus.deployment.Capabilities;
-import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.IsProduction;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.dev.devservices.DevServicesConfig;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.kafka.client.deployment.KafkaBuildTimeConfig;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import org.apache.camel.quarkus.component.kafka.CamelKafkaRecorder;
 import org.apache.camel.quarkus.component.kafka.KafkaClientFactoryProducer;
 import org.apache.camel.quarkus.component.kafka.KafkaComponentObserver;
 import org.jboss.jandex.ClassInfo;
@@ -49,11 +55,25 @@ class KafkaProcessor {
     }
 
     @BuildStep
-    void createKafkaClientFactoryProducerBean(
-            Capabilities capabilities,
-            BuildProducer<AdditionalBeanBuildItem> additionalBean) {
-        if (capabilities.isPresent(Capability.KUBERNETES_SERVICE_BINDING)) {
-            additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(KafkaClientFactoryProducer.class));
+    void createKafkaClientFactoryProducerBean(BuildProducer<AdditionalBeanBuildItem> additionalBean) {
+        // Always registered since producer sharing is enabled at runtime. The producer method returns null
+        // when neither service binding configuration merging nor producer sharing is active
+        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(KafkaClientFactoryProducer.class));
+    }
+
+    @BuildStep
+    NativeImageProxyDefinitionBuildItem sharedProducerProxy() {
+        return new NativeImageProxyDefinitionBuildItem(KAFKA_CLIENTS_TYPES[0].toString());
+    }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    void registerSharedProducerPoolMetrics(
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            CamelKafkaRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.registerSharedProducerPoolMetrics()));
         }
     }
 
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka.deployment;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.component.kafka.KafkaClientFactory;
+import org.apache.camel.quarkus.component.kafka.QuarkusKafkaClientFactory;
+import org.apache.camel.quarkus.component.kafka.SharedKafkaProducerPool;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class QuarkusKafkaClientFactoryProducerSharingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .withConfigurationResource("application-configuration-producer-sharing.properties")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Inject
+    KafkaClientFactory factory;
+
+    @Test
+    public void producersWithSameConfigurationAreShared() {
+        QuarkusKafkaClientFactory quarkusKafkaClientFactory = assertInstanceOf(QuarkusKafkaClientFactory.class, factory);
+        SharedKafkaProducerPool pool = quarkusKafkaClientFactory.getSharedProducerPool();
+        assertNotNull(pool);
+
+        Producer producerA = factory.getProducer(producerProperties());
+        Producer producerB = factory.getProducer(producerProperties());
+        try {
+            assertNotSame(producerA, producerB);
+            assertEquals(1, pool.size());
+            assertEquals(2, pool.references());
+            assertEquals(1, pool.sharedAcquisitions());
+
+            Properties otherProperties = producerProperties();
+            otherProperties.put(ProducerConfig.LINGER_MS_CONFIG, "50");
+            Producer producerC = factory.getProducer(otherProperties);
+            assertEquals(2, pool.size());
+            producerC.close(Duration.ZERO);
+            assertEquals(1, pool.size());
+
+            // Closing the same reference twice must only release it once
+            producerA.close(Duration.ZERO);
+            producerA.close(Duration.ZERO);
+            assertEquals(1, pool.size());
+            assertEquals(1, pool.references());
+        } finally {
+            producerB.close(Duration.ZERO);
+        }
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void transactionalProducersAreNotShared() {
+        SharedKafkaProducerPool pool = ((QuarkusKafkaClientFactory) factory).getSharedProducerPool();
+
+        Properties properties = producerProperties();
+        properties.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "camel-quarkus-tx");
+        Producer producer = factory.getProducer(properties);
+        try {
+            assertEquals(0, pool.size());
+        } finally {
+            producer.close(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void concurrentReleasesCloseProducerOnce() throws Exception {
+        SharedKafkaProducerPool pool = new SharedKafkaProducerPool();
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 200; round++) {
+                List<Producer> references = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    references.add(pool.acquire(producerProperties(), properties -> {
+                        created.incrementAndGet();
+                        return stubProducer(closed);
+                    }));
+                }
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> releases = new ArrayList<>();
+                for (Producer reference : references) {
+                    releases.add(executor.submit(() -> {
+                        start.await();
+                        reference.close();
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> release : releases) {
+                    release.get(10, TimeUnit.SECONDS);
+                }
+
+                assertEquals(0, pool.size());
+                assertEquals(round + 1, created.get());
+                assertEquals(round + 1, closed.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Producer stubProducer(AtomicInteger closed) {
+        return (Producer) Proxy.newProxyInstance(
+                Producer.class.getClassLoader(),
+                new Class<?>[] { Producer.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        closed.incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+
+    private static Properties producerProperties() {
+        Properties properties = new Properties();
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+        return properties;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CamelKafkaRecorder {
+
+    public Consumer<MetricsFactory> registerSharedProducerPoolMetrics() {
+        return metricsFactory -> {
+            metricsFactory.builder("camel.kafka.producer.pool.size")
+                    .description("Number of distinct Kafka producers held by the shared producer pool")
+                    .buildGauge(() -> poolValue(SharedKafkaProducerPool::size));
+            metricsFactory.builder("camel.kafka.producer.pool.references")
+                    .description("Number of Kafka endpoints currently using a producer from the shared producer pool")
+                    .buildGauge(() -> poolValue(SharedKafkaProducerPool::references));
+            metricsFactory.builder("camel.kafka.producer.pool.shared")
+                    .description("Number of times an existing Kafka producer was reused instead of creating a new one")
+                    .buildCounter(() -> poolValue(SharedKafkaProducerPool::sharedAcquisitions));
+        };
+    }
+
+    static Number poolValue(Function<SharedKafkaProducerPool, Number> accessor) {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return 0;
+        }
+        InstanceHandle<KafkaClientFactoryProducer> handle = container.instance(KafkaClientFactoryProducer.class);
+        if (handle.isAvailable()) {
+            SharedKafkaProducerPool pool = handle.get().getSharedProducerPool();
+            if (pool != null) {
+                return accessor.apply(pool);
+            }
+        }
+        return 0;
+    }
+}
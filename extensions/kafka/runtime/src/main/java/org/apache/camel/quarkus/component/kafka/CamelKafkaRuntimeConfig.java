@@ -34,6 +34,13 @@ public interface CamelKafkaRuntimeConfig {
     @WithDefault("true")
     KafkaServiceBindingConfig kubernetesServiceBinding();
 
+    /**
+     * Kafka producer sharing configuration options
+     *
+     * @asciidoclet
+     */
+    KafkaProducerSharingConfig producerSharing();
+
     @ConfigGroup
     interface KafkaServiceBindingConfig {
         /**
@@ -47,4 +54,19 @@ public interface CamelKafkaRuntimeConfig {
         @WithDefault("true")
         boolean mergeConfiguration();
     }
+
+    @ConfigGroup
+    interface KafkaProducerSharingConfig {
+        /**
+         * If `true` then Kafka endpoints with the same effective producer configuration share a single reference counted
+         * Kafka producer instead of creating one producer per endpoint. The shared producer is closed when the last endpoint
+         * using it is stopped. Producers configured with a `transactional.id` are never shared. When a Quarkus metrics
+         * extension is present, the pool size and the number of shared acquisitions are reported as
+         * `camel.kafka.producer.pool.*` metrics.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
 }
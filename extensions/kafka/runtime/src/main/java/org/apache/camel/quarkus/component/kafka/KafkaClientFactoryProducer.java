@@ -40,16 +40,27 @@ public class KafkaClientFactoryProducer {
     @Inject
     Config config;
 
+    private volatile SharedKafkaProducerPool sharedProducerPool;
+
     @Produces
     @Singleton
     @DefaultBean
     public KafkaClientFactory kafkaClientFactory() {
-        if (isQuarkusKafkaClientFactoryRequired()) {
+        boolean mergeConfiguration = isQuarkusKafkaClientFactoryRequired();
+        if (camelKafkaRuntimeConfig.producerSharing().enabled()) {
+            sharedProducerPool = new SharedKafkaProducerPool();
+            return new QuarkusKafkaClientFactory(mergeConfiguration ? kafkaConfig : null, sharedProducerPool);
+        }
+        if (mergeConfiguration) {
             return new QuarkusKafkaClientFactory(kafkaConfig);
         }
         return null;
     }
 
+    SharedKafkaProducerPool getSharedProducerPool() {
+        return sharedProducerPool;
+    }
+
     private boolean isQuarkusKafkaClientFactoryRequired() {
         Optional<Boolean> serviceBindingEnabled = config.getOptionalValue(
                 "quarkus.kubernetes-service-binding.enabled",
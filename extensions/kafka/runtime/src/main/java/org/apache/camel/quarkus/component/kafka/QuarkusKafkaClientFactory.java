@@ -30,19 +30,32 @@ import org.apache.kafka.clients.producer.Producer;
  * Custom {@link org.apache.camel.component.kafka.KafkaClientFactory} to enable Kafka configuration properties
  * discovered by the Quarkus Kubernetes Service Binding extension to be merged with those configured from
  * the Camel Kafka component and endpoint URI options.
+ * <p>
+ * When a {@link SharedKafkaProducerPool} is provided, endpoints with the same effective producer configuration share a
+ * single reference counted producer.
  */
 public class QuarkusKafkaClientFactory extends DefaultKafkaClientFactory {
 
     private final Map<String, Object> quarkusKafkaConfiguration;
+    private final SharedKafkaProducerPool sharedProducerPool;
 
     public QuarkusKafkaClientFactory(Map<String, Object> quarkusKafkaConfiguration) {
+        this(quarkusKafkaConfiguration, null);
+    }
+
+    public QuarkusKafkaClientFactory(Map<String, Object> quarkusKafkaConfiguration,
+            SharedKafkaProducerPool sharedProducerPool) {
         this.quarkusKafkaConfiguration = quarkusKafkaConfiguration;
+        this.sharedProducerPool = sharedProducerPool;
     }
 
     @Override
     public Producer getProducer(Properties camelKafkaProperties) {
         mergeConfiguration(camelKafkaProperties);
-        return super.getProducer(camelKafkaProperties);
+        if (sharedProducerPool == null) {
+            return super.getProducer(camelKafkaProperties);
+        }
+        return sharedProducerPool.acquire(camelKafkaProperties, super::getProducer);
     }
 
     @Override
@@ -53,10 +66,17 @@ public class QuarkusKafkaClientFactory extends DefaultKafkaClientFactory {
 
     @Override
     public String getBrokers(KafkaConfiguration configuration) {
+        if (quarkusKafkaConfiguration == null) {
+            return super.getBrokers(configuration);
+        }
         String brokers = (String) quarkusKafkaConfiguration.get(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG);
         return brokers != null ? brokers : super.getBrokers(configuration);
     }
 
+    public SharedKafkaProducerPool getSharedProducerPool() {
+        return sharedProducerPool;
+    }
+
     /**
      * Merges kafka configuration properties discovered by Quarkus with those provided via the
      * component & endpoint URI options. This behaviour can be suppressed via a configuration property.
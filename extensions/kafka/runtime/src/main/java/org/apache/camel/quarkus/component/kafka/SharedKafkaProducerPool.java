@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.jboss.logging.Logger;
+
+/**
+ * Pool of reference counted Kafka {@link Producer} instances keyed by their effective configuration.
+ * <p>
+ * Endpoints resolving to the same configuration receive a proxy over a single shared producer. Closing the proxy
+ * releases one reference and the underlying producer is closed once the last reference is released. Transactional
+ * producers are never shared, since a {@code transactional.id} must be owned by exactly one producer.
+ */
+public class SharedKafkaProducerPool {
+    private static final Logger LOG = Logger.getLogger(SharedKafkaProducerPool.class);
+
+    private final Map<ConfigurationKey, SharedProducer> producers = new ConcurrentHashMap<>();
+    private final AtomicLong sharedAcquisitions = new AtomicLong();
+
+    /**
+     * Returns a producer for the given configuration, creating it via the given factory if no shared producer
+     * exists for an equal configuration.
+     */
+    public Producer acquire(Properties properties, Function<Properties, Producer> factory) {
+        if (properties.containsKey(ProducerConfig.TRANSACTIONAL_ID_CONFIG)) {
+            return factory.apply(properties);
+        }
+
+        ConfigurationKey key = ConfigurationKey.of(properties);
+        while (true) {
+            // The producer itself is created outside of computeIfAbsent, so that its network and metadata setup does
+            // not run while holding the lock of the map bin
+            SharedProducer shared = producers.computeIfAbsent(key, SharedProducer::new);
+            if (shared.retain()) {
+                shared.initialize(properties, factory);
+                if (shared.references() > 1) {
+                    sharedAcquisitions.incrementAndGet();
+                }
+                return shared.newReference();
+            }
+            // The producer was closed concurrently by its last holder, so discard it and try again
+            producers.remove(key, shared);
+        }
+    }
+
+    /**
+     * The number of distinct producers currently held by the pool.
+     */
+    public int size() {
+        return producers.size();
+    }
+
+    /**
+     * The number of producer references currently handed out by the pool.
+     */
+    public int references() {
+        int count = 0;
+        for (SharedProducer shared : producers.values()) {
+            count += Math.max(shared.references(), 0);
+        }
+        return count;
+    }
+
+    /**
+     * The number of times an existing producer was handed out instead of creating a new one.
+     */
+    public long sharedAcquisitions() {
+        return sharedAcquisitions.get();
+    }
+
+    final class SharedProducer {
+        private final ConfigurationKey key;
+        private final AtomicInteger references = new AtomicInteger();
+        private volatile Producer delegate;
+        private RuntimeException failure;
+
+        SharedProducer(ConfigurationKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Creates the underlying producer on first use. Concurrent holders of the same configuration wait for the
+         * first one and a creation failure is reported to all of them.
+         */
+        void initialize(Properties properties, Function<Properties, Producer> factory) {
+            if (delegate != null) {
+                return;
+            }
+            synchronized (this) {
+                if (delegate != null) {
+                    return;
+                }
+                if (failure == null) {
+                    try {
+                        delegate = factory.apply(properties);
+                        return;
+                    } catch (RuntimeException e) {
+                        failure = e;
+                        references.set(-1);
+                        producers.remove(key, this);
+                    }
+                }
+                throw failure;
+            }
+        }
+
+        boolean retain() {
+            int current;
+            do {
+                current = references.get();
+                if (current < 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        int references() {
+            return references.get();
+        }
+
+        Producer newReference() {
+            return (Producer) Proxy.newProxyInstance(
+                    Producer.class.getClassLoader(),
+                    new Class<?>[] { Producer.class },
+                    new SharedProducerInvocationHandler(this));
+        }
+
+        void release(Object[] closeArgs) {
+            // A concurrent retain() may revive the count from 0, in which case the CAS fails and the producer stays
+            if (references.decrementAndGet() == 0 && references.compareAndSet(0, -1)) {
+                producers.remove(key, this);
+                LOG.debugf("Closing shared Kafka producer as its last reference was released");
+                if (closeArgs != null && closeArgs.length == 1 && closeArgs[0] instanceof Duration timeout) {
+                    delegate.close(timeout);
+                } else {
+                    delegate.close();
+                }
+            }
+        }
+    }
+
+    static final class SharedProducerInvocationHandler implements InvocationHandler {
+        private final SharedProducer shared;
+        private volatile boolean closed;
+
+        SharedProducerInvocationHandler(SharedProducer shared) {
+            this.shared = shared;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    synchronized (this) {
+                        if (!closed) {
+                            closed = true;
+                            shared.release(args);
+                        }
+                    }
+                }
+                return null;
+            case "equals":
+                return args != null && args.length == 1 && proxy == args[0];
+            case "hashCode":
+                if (args == null || args.length == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                break;
+            case "toString":
+                if (args == null || args.length == 0) {
+                    return "SharedKafkaProducer[" + shared.delegate + "]";
+                }
+                break;
+            default:
+                break;
+            }
+
+            try {
+                return method.invoke(shared.delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Immutable snapshot of a Kafka client configuration with a precomputed hash code.
+     */
+    static final class ConfigurationKey {
+        private final Map<String, Object> configuration;
+        private final int hash;
+
+        private ConfigurationKey(Map<String, Object> configuration) {
+            this.configuration = configuration;
+            this.hash = configuration.hashCode();
+        }
+
+        static ConfigurationKey of(Properties properties) {
+            Map<String, Object> configuration = new TreeMap<>();
+            for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+                configuration.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            return new ConfigurationKey(configuration);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConfigurationKey other)) {
+                return false;
+            }
+            return hash == other.hash && configuration.equals(other.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
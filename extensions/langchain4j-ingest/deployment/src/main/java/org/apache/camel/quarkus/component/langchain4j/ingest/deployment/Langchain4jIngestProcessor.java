@@ -238,6 +238,12 @@ class Langchain4jIngestProcessor {
                                 + "max-overlap-size must be smaller than it (got " + pipeline.maxSegmentSize()
                                 + " / " + pipeline.maxOverlapSize() + ")")));
             }
+            if (pipeline.embeddingBatchSize() <= 0 || pipeline.embeddingConcurrency() <= 0) {
+                validationErrors.produce(new ValidationErrorBuildItem(new ConfigurationException(
+                        "Ingestion pipeline '" + entry.getKey() + "': embedding-batch-size and embedding-concurrency "
+                                + "must be positive (got " + pipeline.embeddingBatchSize() + " / "
+                                + pipeline.embeddingConcurrency() + ")")));
+            }
         }
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.deployment;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.FileIngestLedger;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestLedgerEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** The file-backed ledger survives a restart, including document ids the line format must escape. */
+class FileIngestLedgerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void entriesSurviveReopening() {
+        IngestLedgerEntry entry = new IngestLedgerEntry("docs/a b\tc.txt", "c0ffee",
+                List.of(new IngestLedgerEntry.Segment("aa", "id-1"), new IngestLedgerEntry.Segment("bb", "id,2")));
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            ledger.put("products", entry);
+            ledger.put("products", new IngestLedgerEntry("gone.txt", "beef", List.of()));
+            ledger.remove("products", "gone.txt");
+        }
+
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            assertEquals(entry, ledger.get("products", "docs/a b\tc.txt").orElseThrow());
+            assertEquals(Set.of("docs/a b\tc.txt"), ledger.documentIds("products"));
+            assertTrue(ledger.documentIds("other").isEmpty(), "pipelines keep separate files");
+        }
+    }
+
+    @Test
+    void truncatedLineIsSkipped() throws Exception {
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            ledger.put("products", new IngestLedgerEntry("kept.txt", "c0ffee", List.of()));
+        }
+        // what a process dying mid-write leaves behind
+        Files.writeString(directory.resolve("products.ledger"), "P\tcut", StandardOpenOption.APPEND);
+
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            assertEquals(Set.of("kept.txt"), ledger.documentIds("products"));
+        }
+    }
+
+    @Test
+    void entryAppendedAfterTruncatedLineSurvives() throws Exception {
+        Path file = directory.resolve("products.ledger");
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            ledger.put("products", new IngestLedgerEntry("kept.txt", "c0ffee", List.of()));
+        }
+        Files.writeString(file, "P\tcut", StandardOpenOption.APPEND);
+
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            ledger.put("products", new IngestLedgerEntry("next.txt", "beef",
+                    List.of(new IngestLedgerEntry.Segment("aa", "id-1"))));
+        }
+
+        // the cut line is gone, so the entry appended after it is a line of its own
+        assertFalse(Files.readString(file).contains("cut"));
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            assertEquals(Set.of("kept.txt", "next.txt"), ledger.documentIds("products"));
+        }
+    }
+
+    @Test
+    void validLineWithoutNewlineIsKept() throws Exception {
+        Path file = directory.resolve("products.ledger");
+        Files.writeString(file, "P\tkept.txt\tc0ffee\t");
+
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            ledger.put("products", new IngestLedgerEntry("next.txt", "beef", List.of()));
+        }
+
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            assertEquals(Set.of("kept.txt", "next.txt"), ledger.documentIds("products"));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.deployment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.camel.quarkus.component.langchain4j.ingest.IngestRoutes;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Small documents, each a single embedding batch, still overlap: the route hands every document
+ * to one of its workers, so an embedding concurrency of two keeps two requests running although
+ * no document has a second batch to pipeline.
+ */
+class IngestDocumentConcurrencyTest {
+
+    private static final Path DIRECTORY = Paths.get("target/ingest-document-concurrency");
+
+    static {
+        try {
+            Files.createDirectories(DIRECTORY);
+            try (Stream<Path> files = Files.list(DIRECTORY)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(GatedBeans.class))
+            .overrideConfigKey("quarkus.camel.langchain4j.ingest.docs.source.directory", DIRECTORY.toString())
+            .overrideConfigKey("quarkus.camel.langchain4j.ingest.docs.embedding-concurrency", "2");
+
+    @Inject
+    IngestRoutes routes;
+
+    @Test
+    void singleBatchDocumentsAreEmbeddedConcurrently() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Files.writeString(DIRECTORY.resolve("doc-" + i + ".txt"), "The pump manual, part " + i + ".");
+        }
+
+        assertTrue(GatedBeans.STARTED.tryAcquire(2, 30, TimeUnit.SECONDS),
+                "two documents must be embedding at once");
+        assertEquals(2, GatedBeans.CONCURRENT.get());
+
+        GatedBeans.GATE.countDown();
+        IngestMetrics metrics = routes.metrics("docs").orElseThrow();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (metrics.getDocuments() < 3) {
+            assertTrue(System.nanoTime() < deadline, "expected 3 documents, got " + metrics.getDocuments());
+            Thread.sleep(50);
+        }
+        assertEquals(2, GatedBeans.MAX_CONCURRENT.get());
+        assertEquals(0, metrics.getQueued());
+    }
+
+    @ApplicationScoped
+    public static class GatedBeans {
+        /** Holds every embedding request until opened. */
+        static final CountDownLatch GATE = new CountDownLatch(1);
+        /** A permit per request that reached the model. */
+        static final Semaphore STARTED = new Semaphore(0);
+        static final AtomicInteger CONCURRENT = new AtomicInteger();
+        static final AtomicInteger MAX_CONCURRENT = new AtomicInteger();
+
+        @Produces
+        @Singleton
+        EmbeddingStore<TextSegment> store() {
+            return new InMemoryEmbeddingStore<>();
+        }
+
+        @Produces
+        @Singleton
+        EmbeddingModel model() {
+            return new EmbeddingModel() {
+                @Override
+                public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+                    MAX_CONCURRENT.accumulateAndGet(CONCURRENT.incrementAndGet(), Math::max);
+                    STARTED.release();
+                    try {
+                        if (!GATE.await(30, TimeUnit.SECONDS)) {
+                            throw new IllegalStateException("the test never opened the gate");
+                        }
+                        return Response.from(segments.stream()
+                                .map(segment -> Embedding.from(new float[] { 1f }))
+                                .collect(Collectors.toList()));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    } finally {
+                        CONCURRENT.decrementAndGet();
+                    }
+                }
+            };
+        }
+    }
+}
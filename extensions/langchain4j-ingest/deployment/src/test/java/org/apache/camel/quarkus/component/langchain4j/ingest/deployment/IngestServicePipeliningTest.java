@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestMetrics;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestResult;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pipelined embedding against a model that holds every request until the test opens its gate:
+ * batches overlap, every vector still lands next to its own segment, and the pipeline never runs
+ * more requests than it is allowed, whichever documents they belong to.
+ */
+class IngestServicePipeliningTest {
+
+    private static final int BATCH_SIZE = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ExecutorService callers = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void shutdown() throws Exception {
+        callers.shutdownNow();
+        executor.shutdownNow();
+        callers.awaitTermination(5, TimeUnit.SECONDS);
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void batchesAreEmbeddedConcurrentlyAndStoredInOrder() throws Exception {
+        GatedModel model = new GatedModel();
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        IngestService service = new IngestService("docs", store, model, 50, 0, null, BATCH_SIZE, 4, executor);
+
+        CompletableFuture<IngestResult> ingestion = CompletableFuture
+                .supplyAsync(() -> service.ingest("manual.txt", document(64)), callers);
+
+        // as many requests as there are slots start, and the rest of the document waits for them
+        assertTrue(model.started.tryAcquire(4, 10, TimeUnit.SECONDS), "four batches must be embedding at once");
+        assertFalse(model.started.tryAcquire(200, TimeUnit.MILLISECONDS), "no fifth batch may start");
+        IngestMetrics metrics = service.metrics();
+        assertEquals(4, metrics.getInFlight());
+        assertTrue(metrics.getQueued() > 0, "the batches of the document not yet sent must be queued");
+
+        model.gate.countDown();
+        IngestResult result = ingestion.get(10, TimeUnit.SECONDS);
+
+        int batches = (result.segmentsWritten() + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertTrue(batches >= 8, "the document must span several batches, got " + batches);
+        assertEquals(4, model.maxConcurrent.get());
+
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] { 1f, 0f }))
+                .maxResults(1000)
+                .minScore(0.0)
+                .build()).matches();
+        assertEquals(result.segmentsWritten(), matches.size());
+        for (EmbeddingMatch<TextSegment> match : matches) {
+            assertEquals(GatedModel.embeddingOf(match.embedded().text()), match.embedding(),
+                    "each vector must be stored with the segment it was computed from");
+        }
+
+        assertEquals(1, metrics.getDocuments());
+        assertEquals(batches, metrics.getEmbeddingRequests());
+        assertEquals(result.segmentsWritten(), metrics.getSegmentsEmbedded());
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(0, metrics.getQueued());
+    }
+
+    @Test
+    void smallDocumentsShareTheSlotsAcrossCallers() throws Exception {
+        GatedModel model = new GatedModel();
+        IngestService service = new IngestService("docs", new InMemoryEmbeddingStore<>(), model, 50, 0, null,
+                BATCH_SIZE, 2, executor);
+
+        // single batch documents: each is embedded on its caller's thread, in one of the two slots
+        List<CompletableFuture<IngestResult>> ingestions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String documentId = "doc-" + i;
+            ingestions.add(CompletableFuture.supplyAsync(() -> service.ingest(documentId, document(3)), callers));
+        }
+
+        assertTrue(model.started.tryAcquire(2, 10, TimeUnit.SECONDS), "two documents must be embedding at once");
+        assertEquals(2, model.concurrent.get());
+        assertFalse(model.started.tryAcquire(200, TimeUnit.MILLISECONDS),
+                "the third document must wait for a slot instead of adding a request");
+        awaitQueued(service, 1);
+
+        model.gate.countDown();
+        for (CompletableFuture<IngestResult> ingestion : ingestions) {
+            assertEquals(IngestResult.Outcome.INGESTED, ingestion.get(10, TimeUnit.SECONDS).outcome());
+        }
+
+        assertEquals(2, model.maxConcurrent.get());
+        assertEquals(3, service.metrics().getDocuments());
+        assertEquals(0, service.metrics().getQueued());
+        assertEquals(0, service.metrics().getInFlight());
+    }
+
+    @Test
+    void embeddingFailurePropagatesAndReleasesSlots() {
+        GatedModel model = new GatedModel();
+        model.gate.countDown();
+        model.failOnCall = 3;
+        IngestService service = new IngestService("docs", new InMemoryEmbeddingStore<>(), model, 50, 0, null,
+                BATCH_SIZE, 2, executor);
+
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> service.ingest("a.txt", document(64)));
+        assertSame(GatedModel.FAILURE, failure);
+        assertEquals(0, service.metrics().getQueued());
+
+        model.failOnCall = -1;
+        assertEquals(IngestResult.Outcome.INGESTED, service.ingest("b.txt", document(64)).outcome(),
+                "the failed document's requests must hand their slots back");
+    }
+
+    private static void awaitQueued(IngestService service, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (service.metrics().getQueued() != expected) {
+            assertTrue(System.nanoTime() < deadline,
+                    "expected " + expected + " queued batch(es), got " + service.metrics().getQueued());
+            Thread.sleep(10);
+        }
+    }
+
+    private static String document(int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            text.append("Sentence number ").append(i).append(" of the pump manual. ");
+        }
+        return text.toString();
+    }
+
+    private static final class GatedModel implements EmbeddingModel {
+        static final RuntimeException FAILURE = new IllegalStateException("rate limited");
+
+        /** Holds every request until opened. */
+        final CountDownLatch gate = new CountDownLatch(1);
+        /** A permit per request that reached the model. */
+        final Semaphore started = new Semaphore(0);
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+        volatile int failOnCall = -1;
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+            int now = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            started.release();
+            try {
+                if (calls.incrementAndGet() == failOnCall) {
+                    throw FAILURE;
+                }
+                if (!gate.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("the test never opened the gate");
+                }
+                return Response.from(segments.stream().map(segment -> embeddingOf(segment.text())).toList());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+
+        /** Identifies the text, and keeps a positive score against the search query. */
+        static Embedding embeddingOf(String text) {
+            return Embedding.from(new float[] { 1f, (text.hashCode() % 1000) / 1000f });
+        }
+    }
+}
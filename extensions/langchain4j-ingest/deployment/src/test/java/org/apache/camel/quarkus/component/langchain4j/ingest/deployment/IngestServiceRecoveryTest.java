@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.deployment;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.FileIngestLedger;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestLedger;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestLedgerEntry;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestResult;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Vectors written by a process that died before recording them in the ledger do not outlive the next run. */
+class IngestServiceRecoveryTest {
+
+    private static final String CRASH = "crash before the ledger is updated";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unfinishedWriteOfNewDocumentIsRemoved() {
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            IngestService crashing = new IngestService("docs", store, new FixedModel(), 50, 0,
+                    new CrashingLedger(ledger));
+            assertThrows(IllegalStateException.class, () -> crashing.ingest("manual.txt", document(8)));
+            int orphans = count(store);
+            assertTrue(orphans > 0, "the crashed write must have left vectors behind");
+
+            IngestService service = new IngestService("docs", store, new FixedModel(), 50, 0, ledger);
+            IngestResult result = service.ingest("manual.txt", document(8));
+            assertEquals(IngestResult.Outcome.INGESTED, result.outcome());
+            assertEquals(result.segmentsWritten(), count(store));
+        }
+    }
+
+    @Test
+    void unfinishedWriteOfUpdatedDocumentIsRemoved() {
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        try (FileIngestLedger ledger = new FileIngestLedger(directory)) {
+            IngestService service = new IngestService("docs", store, new FixedModel(), 50, 0, ledger);
+            service.ingest("manual.txt", document(8));
+
+            IngestService crashing = new IngestService("docs", store, new FixedModel(), 50, 0,
+                    new CrashingLedger(ledger));
+            assertThrows(IllegalStateException.class, () -> crashing.ingest("manual.txt", document(12)));
+
+            service.ingest("manual.txt", document(12));
+            IngestLedgerEntry entry = ledger.get("docs", "manual.txt").orElseThrow();
+            assertEquals(entry.segments().size(), count(store),
+                    "only the vectors the ledger knows may stay in the store");
+            assertEquals(Set.of("manual.txt"), ledger.documentIds("docs"));
+        }
+    }
+
+    private static int count(InMemoryEmbeddingStore<TextSegment> store) {
+        return store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] { 1f, 0f }))
+                .maxResults(1000)
+                .minScore(0.0)
+                .build()).matches().size();
+    }
+
+    private static String document(int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            text.append("Sentence number ").append(i).append(" of the pump manual. ");
+        }
+        return text.toString();
+    }
+
+    /** Records pending writes but dies before recording the finished one. */
+    private record CrashingLedger(IngestLedger delegate) implements IngestLedger {
+
+        @Override
+        public Optional<IngestLedgerEntry> get(String pipeline, String documentId) {
+            return delegate.get(pipeline, documentId);
+        }
+
+        @Override
+        public void put(String pipeline, IngestLedgerEntry entry) {
+            if (!entry.contentHash().startsWith("pending:")) {
+                throw new IllegalStateException(CRASH);
+            }
+            delegate.put(pipeline, entry);
+        }
+
+        @Override
+        public void remove(String pipeline, String documentId) {
+            delegate.remove(pipeline, documentId);
+        }
+
+        @Override
+        public Set<String> documentIds(String pipeline) {
+            return delegate.documentIds(pipeline);
+        }
+    }
+
+    private static final class FixedModel implements EmbeddingModel {
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[] { 1f, (segment.text().hashCode() % 1000) / 1000f }))
+                    .toList());
+        }
+    }
+}
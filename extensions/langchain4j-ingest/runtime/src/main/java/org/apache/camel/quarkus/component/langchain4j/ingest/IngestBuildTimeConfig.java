@@ -40,6 +40,12 @@ public interface IngestBuildTimeConfig {
     /** Mirrors the {@code @WithDefault} below, which can only carry a literal. */
     int DEFAULT_MAX_OVERLAP_SIZE = 50;
 
+    /** Mirrors the {@code @WithDefault} below, which can only carry a literal. */
+    int DEFAULT_EMBEDDING_BATCH_SIZE = 32;
+
+    /** Mirrors the {@code @WithDefault} below, which can only carry a literal. */
+    int DEFAULT_EMBEDDING_CONCURRENCY = 1;
+
     /**
      * Ingestion pipelines by name.
      */
@@ -79,6 +85,25 @@ public interface IngestBuildTimeConfig {
         @WithDefault("50")
         int maxOverlapSize();
 
+        /**
+         * How many segments go into one request to the embedding model. Larger batches mean fewer
+         * round trips, up to the provider's per-request limit.
+         */
+        @WithDefault("32")
+        int embeddingBatchSize();
+
+        /**
+         * How many embedding requests the pipeline runs at once. At `1`, documents are ingested one
+         * at a time, and a document's batches are embedded and stored one after the other on the
+         * consumer's thread. Above it, the consumer hands documents to that many workers, so
+         * several documents are embedded at once, and the batches of a large document are pipelined:
+         * the next batches are embedded while the finished ones are written to the store. A consumer
+         * delivering documents faster than the model embeds them waits for a free worker. Mind the
+         * provider's rate limits.
+         */
+        @WithDefault("1")
+        int embeddingConcurrency();
+
         /**
          * A pipeline reads either a directory or a Camel consumer, and the two halves of that
          * choice deliberately sit in different config roots: the consumer URI is fixed at build
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest;
+
+import java.util.Map;
+
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestMetrics;
+import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonObject;
+
+/**
+ * A Camel dev console listing the running totals of every started ingestion pipeline.
+ */
+class IngestDevConsole extends AbstractDevConsole {
+    static final String ID = "langchain4j-ingest";
+
+    private final IngestRoutes routes;
+
+    IngestDevConsole(IngestRoutes routes) {
+        super("camel", ID, "LangChain4j Ingest", "Throughput and queue depth of the ingestion pipelines");
+        this.routes = routes;
+    }
+
+    @Override
+    protected String doCallText(Map<String, Object> options) {
+        StringBuilder sb = new StringBuilder();
+        routes.services().forEach((name, service) -> {
+            IngestMetrics metrics = service.metrics();
+            sb.append(String.format("%s: %d document(s), %d segment(s) embedded in %d request(s) (%.3f ms), "
+                    + "store %.3f ms, %d in flight, %d queued%n",
+                    name, metrics.getDocuments(), metrics.getSegmentsEmbedded(), metrics.getEmbeddingRequests(),
+                    metrics.getEmbeddingNanos() / 1_000_000d, metrics.getStoreNanos() / 1_000_000d,
+                    metrics.getInFlight(), metrics.getQueued()));
+        });
+        return sb.toString();
+    }
+
+    @Override
+    protected JsonObject doCallJson(Map<String, Object> options) {
+        JsonObject root = new JsonObject();
+        routes.services().forEach((name, service) -> {
+            IngestMetrics metrics = service.metrics();
+            JsonObject pipeline = new JsonObject();
+            pipeline.put("documents", metrics.getDocuments());
+            pipeline.put("segmentsEmbedded", metrics.getSegmentsEmbedded());
+            pipeline.put("embeddingRequests", metrics.getEmbeddingRequests());
+            pipeline.put("embeddingNanos", metrics.getEmbeddingNanos());
+            pipeline.put("storeNanos", metrics.getStoreNanos());
+            pipeline.put("inFlight", metrics.getInFlight());
+            pipeline.put("queued", metrics.getQueued());
+            root.put(name, pipeline);
+        });
+        return root;
+    }
+}
@@ -28,6 +28,12 @@ public final class IngestHeaders {
      */
     public static final String DOCUMENT_ID = "CamelIngestDocumentId";
 
+    /**
+     * When {@code true}, the document is removed from the store rather than ingested. Removal
+     * finds the document's vectors through the ingestion ledger, so the pipeline must keep one.
+     */
+    public static final String DELETE = "CamelIngestDelete";
+
     private IngestHeaders() {
     }
 }
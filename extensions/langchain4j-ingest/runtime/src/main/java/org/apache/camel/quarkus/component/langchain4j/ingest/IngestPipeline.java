@@ -29,6 +29,11 @@ public final class IngestPipeline {
     private String embeddingModelName;
     private int maxSegmentSize = IngestBuildTimeConfig.DEFAULT_MAX_SEGMENT_SIZE;
     private int maxOverlapSize = IngestBuildTimeConfig.DEFAULT_MAX_OVERLAP_SIZE;
+    private int embeddingBatchSize = IngestBuildTimeConfig.DEFAULT_EMBEDDING_BATCH_SIZE;
+    private int embeddingConcurrency = IngestBuildTimeConfig.DEFAULT_EMBEDDING_CONCURRENCY;
+    private boolean ledgerEnabled;
+    private String ledgerDirectory = IngestRunTimeConfig.DEFAULT_LEDGER_DIRECTORY;
+    private String ledgerBeanName;
 
     private IngestPipeline(Source source) {
         this.source = source;
@@ -60,6 +65,47 @@ public final class IngestPipeline {
         return this;
     }
 
+    /**
+     * Segments per embedding request, and how many requests run at once — above one, that many
+     * documents are ingested at once and a document's batches are pipelined. The twin of
+     * {@code embedding-batch-size} and {@code embedding-concurrency}.
+     */
+    public IngestPipeline embedding(int batchSize, int concurrency) {
+        if (batchSize <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("embedding-batch-size and embedding-concurrency must be positive (got "
+                    + batchSize + " / " + concurrency + ")");
+        }
+        this.embeddingBatchSize = batchSize;
+        this.embeddingConcurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Keeps a file-backed ledger of what the pipeline wrote in the given directory, so unchanged
+     * documents are skipped, edited ones re-embedded only where they changed and deleted ones
+     * removed from the store. The twin of {@code ledger.enabled} and {@code ledger.directory}.
+     */
+    public IngestPipeline ledger(String directory) {
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalArgumentException("ledger directory must not be blank");
+        }
+        this.ledgerEnabled = true;
+        this.ledgerDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Keeps the ledger in the named {@code IngestLedger} bean. The twin of {@code ledger.bean}.
+     */
+    public IngestPipeline ledgerBean(String beanName) {
+        if (beanName == null || beanName.isBlank()) {
+            throw new IllegalArgumentException("ledger bean name must not be blank");
+        }
+        this.ledgerEnabled = true;
+        this.ledgerBeanName = beanName;
+        return this;
+    }
+
     String sourceType() {
         return source.type();
     }
@@ -84,9 +130,18 @@ public final class IngestPipeline {
         return maxOverlapSize;
     }
 
+    int embeddingBatchSize() {
+        return embeddingBatchSize;
+    }
+
+    int embeddingConcurrency() {
+        return embeddingConcurrency;
+    }
+
     /** The configuration view, so a builder pipeline reuses every configuration path verbatim. */
     IngestRunTimeConfig.PipelineRunTimeConfig asRunTimeConfig() {
         IngestRunTimeConfig.PipelineRunTimeConfig.SourceRunTimeConfig sourceConfig = source.asRunTimeConfig();
+        IngestRunTimeConfig.PipelineRunTimeConfig.LedgerRunTimeConfig ledgerConfig = asLedgerRunTimeConfig();
         return new IngestRunTimeConfig.PipelineRunTimeConfig() {
 
             @Override
@@ -98,6 +153,34 @@ public final class IngestPipeline {
             public SourceRunTimeConfig source() {
                 return sourceConfig;
             }
+
+            @Override
+            public LedgerRunTimeConfig ledger() {
+                return ledgerConfig;
+            }
+        };
+    }
+
+    private IngestRunTimeConfig.PipelineRunTimeConfig.LedgerRunTimeConfig asLedgerRunTimeConfig() {
+        boolean enabled = ledgerEnabled;
+        String directory = ledgerDirectory;
+        Optional<String> bean = Optional.ofNullable(ledgerBeanName);
+        return new IngestRunTimeConfig.PipelineRunTimeConfig.LedgerRunTimeConfig() {
+
+            @Override
+            public boolean enabled() {
+                return enabled;
+            }
+
+            @Override
+            public String directory() {
+                return directory;
+            }
+
+            @Override
+            public Optional<String> bean() {
+                return bean;
+            }
         };
     }
 }
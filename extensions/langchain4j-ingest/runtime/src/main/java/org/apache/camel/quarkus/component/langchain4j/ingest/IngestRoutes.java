@@ -16,16 +16,27 @@
  */
 package org.apache.camel.quarkus.component.langchain4j.ingest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
@@ -34,6 +45,12 @@ import jakarta.inject.Inject;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.console.DevConsoleRegistry;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.FileIngestLedger;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestLedger;
+import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestMetrics;
 import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestResult;
 import org.apache.camel.quarkus.component.langchain4j.ingest.core.IngestService;
 import org.apache.camel.support.builder.ExpressionBuilder;
@@ -71,6 +88,15 @@ public class IngestRoutes extends RouteBuilder {
     @Any
     Instance<EmbeddingModel> modelCandidates;
 
+    @Inject
+    @Any
+    Instance<IngestLedger> ledgerCandidates;
+
+    // pipelines sharing a ledger directory share the ledger, which keeps one file per pipeline
+    private final Map<Path, FileIngestLedger> fileLedgers = new ConcurrentHashMap<>();
+
+    private final Map<String, IngestService> services = new ConcurrentSkipListMap<>();
+
     @Override
     public void configure() {
         // a pipeline may be declared entirely through runtime properties - the documented
@@ -93,12 +119,15 @@ public class IngestRoutes extends RouteBuilder {
                 continue;
             }
 
-            IngestService service = new IngestService(
+            IngestService service = newService(
                     name,
                     resolveStore(name, pipeline == null ? null : pipeline.embeddingStore().orElse(null)),
                     resolveModel(name, pipeline == null ? null : pipeline.embeddingModel().orElse(null)),
                     pipeline == null ? IngestBuildTimeConfig.DEFAULT_MAX_SEGMENT_SIZE : pipeline.maxSegmentSize(),
-                    pipeline == null ? IngestBuildTimeConfig.DEFAULT_MAX_OVERLAP_SIZE : pipeline.maxOverlapSize());
+                    pipeline == null ? IngestBuildTimeConfig.DEFAULT_MAX_OVERLAP_SIZE : pipeline.maxOverlapSize(),
+                    resolveLedger(name, runtime),
+                    pipeline == null ? IngestBuildTimeConfig.DEFAULT_EMBEDDING_BATCH_SIZE : pipeline.embeddingBatchSize(),
+                    pipeline == null ? IngestBuildTimeConfig.DEFAULT_EMBEDDING_CONCURRENCY : pipeline.embeddingConcurrency());
 
             // a consumer URI says "consume from this"; its absence says "read that directory"
             String uri = pipeline == null ? null : pipeline.source().uri().orElse(null);
@@ -119,6 +148,36 @@ public class IngestRoutes extends RouteBuilder {
         for (IngestBuilderPipelines.Entry entry : builderPipelines.entries()) {
             configureBuilderPipeline(entry);
         }
+
+        DevConsoleRegistry consoles = getContext().getCamelContextExtension().getContextPlugin(DevConsoleRegistry.class);
+        if (consoles != null && !services.isEmpty() && consoles.getConsole(IngestDevConsole.ID).isEmpty()) {
+            consoles.register(new IngestDevConsole(this));
+        }
+    }
+
+    /** The running totals of a started pipeline, for an application that exports them. */
+    public Optional<IngestMetrics> metrics(String pipeline) {
+        return Optional.ofNullable(services.get(pipeline)).map(IngestService::metrics);
+    }
+
+    Map<String, IngestService> services() {
+        return services;
+    }
+
+    private IngestService newService(String name, EmbeddingStore<TextSegment> store, EmbeddingModel model,
+            int maxSegmentSize, int maxOverlapSize, IngestLedger ledger, int embeddingBatchSize,
+            int embeddingConcurrency) {
+        // one pool per pipeline, sized to its concurrency: the pipeline's own slots already bound
+        // the work, and a pool shared between pipelines would let one slow model starve the rest.
+        // Created through Camel, which shuts it down with the context
+        ExecutorService executor = embeddingConcurrency > 1
+                ? getContext().getExecutorServiceManager().newFixedThreadPool(this, "LangChain4jIngest-" + name,
+                        embeddingConcurrency)
+                : null;
+        IngestService service = new IngestService(name, store, model, maxSegmentSize, maxOverlapSize, ledger,
+                embeddingBatchSize, embeddingConcurrency, executor);
+        services.put(name, service);
+        return service;
     }
 
     /** An {@code @Ingest}-declared pipeline: the builder twin of the configuration path. */
@@ -145,12 +204,15 @@ public class IngestRoutes extends RouteBuilder {
         IngestPipeline definition = builderPipelines.definition(entry);
         IngestRunTimeConfig.PipelineRunTimeConfig runtime = definition.asRunTimeConfig();
 
-        IngestService service = new IngestService(
+        IngestService service = newService(
                 name,
                 resolveStore(name, definition.embeddingStoreName().orElse(null)),
                 resolveModel(name, definition.embeddingModelName().orElse(null)),
                 definition.maxSegmentSize(),
-                definition.maxOverlapSize());
+                definition.maxOverlapSize(),
+                resolveLedger(name, runtime),
+                definition.embeddingBatchSize(),
+                definition.embeddingConcurrency());
 
         switch (definition.sourceType()) {
         case "file" -> configureFileSource(name, runtime, service);
@@ -176,14 +238,19 @@ public class IngestRoutes extends RouteBuilder {
         // is sized explicitly: Camel's default caps at 1000 entries, and beyond that eviction
         // would re-ingest a large directory steadily during normal operation, not just on restart
         Expression documentId = documentIdExpression(runtime, Exchange.FILE_NAME);
-        from(file(directory)
+        if (service.hasLedger()) {
+            configureSynchronisedFileSource(name, directory, runtime, service, documentId);
+            return;
+        }
+        RouteDefinition route = from(file(directory)
                 .noop(true)
                 .idempotent(true)
                 .idempotentRepository(MemoryIdempotentRepository.memoryIdempotentRepository(100_000))
                 .recursive(runtime.source().recursive())
                 .readLock("changed")
                 .charset(StandardCharsets.UTF_8.name()))
-                .routeId(routeId(name))
+                .routeId(routeId(name));
+        documentWorkers(route, name, service)
                 .process(exchange -> {
                     IngestResult result = service.ingest(documentId.evaluate(exchange, String.class),
                             exchange.getIn().getBody(String.class));
@@ -196,6 +263,73 @@ public class IngestRoutes extends RouteBuilder {
                 });
     }
 
+    /**
+     * A directory read against the ledger. The duplicate register keys on the modification time
+     * as well as the path, so an edited file is read again - whether anything is embedded is then
+     * the ledger's call, which also makes the in-memory register losing its entries on restart
+     * cost a read and a hash per file rather than an embedding. The idle polls, on which the
+     * consumer sends an empty exchange, compare the directory with the ledger and delete the
+     * documents whose file is gone; that takes ids that are file names, so a pipeline with its
+     * own {@code source.document-id} is never pruned.
+     */
+    private void configureSynchronisedFileSource(String name, String directory,
+            IngestRunTimeConfig.PipelineRunTimeConfig runtime, IngestService service, Expression documentId) {
+        boolean pruneDeleted = runtime.source().documentId().isEmpty();
+        if (!pruneDeleted) {
+            LOG.infof("Ingestion pipeline '%s': source.document-id is set, so documents deleted from %s are not "
+                    + "removed from the store", name, directory);
+        }
+        RouteDefinition route = from(file(directory)
+                .noop(true)
+                .idempotent(true)
+                .idempotentKey("${file:name}-${file:modified}")
+                .idempotentRepository(MemoryIdempotentRepository.memoryIdempotentRepository(100_000))
+                .recursive(runtime.source().recursive())
+                .readLock("changed")
+                .sendEmptyMessageWhenIdle(true)
+                .charset(StandardCharsets.UTF_8.name()))
+                .routeId(routeId(name));
+        documentWorkers(route, name, service)
+                .process(exchange -> {
+                    if (exchange.getIn().getHeader(Exchange.FILE_NAME) == null) {
+                        if (pruneDeleted) {
+                            int deleted = service.deleteAbsent(listDocuments(Path.of(directory),
+                                    runtime.source().recursive()));
+                            if (deleted > 0) {
+                                LOG.debugf("Ingestion pipeline '%s': removed %d deleted document(s)", name, deleted);
+                            }
+                        }
+                        return;
+                    }
+                    IngestResult result = service.ingest(documentId.evaluate(exchange, String.class),
+                            exchange.getIn().getBody(String.class));
+                    if (result.outcome() == IngestResult.Outcome.EMPTY) {
+                        LOG.debugf("Ingestion pipeline '%s': document '%s' contained no text, nothing was written",
+                                name, result.documentId());
+                    }
+                });
+    }
+
+    /** The ids the file consumer gives the documents in the directory: their relative paths. */
+    private static Set<String> listDocuments(Path directory, boolean recursive) {
+        if (!Files.isDirectory(directory)) {
+            // a directory that vanished is more likely unmounted than emptied on purpose
+            throw new IllegalStateException("Ingestion directory " + directory + " does not exist");
+        }
+        try (Stream<Path> files = recursive ? Files.walk(directory) : Files.list(directory)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .map(directory::relativize)
+                    // the file consumer skips hidden files and directories, so they hold no documents
+                    .filter(path -> StreamSupport.stream(path.spliterator(), false)
+                            .noneMatch(element -> element.toString().startsWith(".")))
+                    .map(Path::toString)
+                    .collect(Collectors.toSet());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * The escape hatch: any Camel consumer feeds the pipeline. Which part of the exchange
      * identifies the document is the consumer's business, so {@code source.document-id} says it —
@@ -204,8 +338,9 @@ public class IngestRoutes extends RouteBuilder {
     private void configureEndpointSource(String name, String uri,
             IngestRunTimeConfig.PipelineRunTimeConfig runtime, IngestService service) {
         Expression documentId = documentIdExpression(runtime, IngestHeaders.DOCUMENT_ID);
-        from(uri)
-                .routeId(routeId(name))
+        RouteDefinition route = from(uri)
+                .routeId(routeId(name));
+        documentWorkers(route, name, service)
                 .process(exchange -> {
                     String id = documentId.evaluate(exchange, String.class);
                     if (id == null) {
@@ -214,10 +349,31 @@ public class IngestRoutes extends RouteBuilder {
                                 + "quarkus.camel.langchain4j.ingest." + name + ".source.document-id at where the "
                                 + "consumer puts it.");
                     }
-                    exchange.getIn().setBody(service.ingest(id, exchange.getIn().getBody(String.class)));
+                    if (exchange.getIn().getHeader(IngestHeaders.DELETE, false, Boolean.class)) {
+                        exchange.getIn().setBody(service.delete(id));
+                    } else {
+                        exchange.getIn().setBody(service.ingest(id, exchange.getIn().getBody(String.class)));
+                    }
                 });
     }
 
+    /**
+     * With an embedding concurrency above one, the documents are handed from the consumer to as
+     * many workers, so that several documents are split, embedded and stored at once - a small
+     * document is a single embedding request, which only overlaps with those of other documents.
+     * The service's slots still bound the embedding requests, and the bounded queue lets the
+     * consumer run a document itself when every worker is busy, which holds it back.
+     */
+    private ProcessorDefinition<?> documentWorkers(RouteDefinition route, String name, IngestService service) {
+        int concurrency = service.embeddingConcurrency();
+        if (concurrency <= 1) {
+            return route;
+        }
+        return route.threads(concurrency, concurrency)
+                .maxQueueSize(concurrency)
+                .threadName("LangChain4jIngestDocument-" + name);
+    }
+
     private Expression documentIdExpression(IngestRunTimeConfig.PipelineRunTimeConfig runtime,
             String defaultHeader) {
         String configured = runtime == null ? null : runtime.source().documentId().orElse(null);
@@ -250,6 +406,25 @@ public class IngestRoutes extends RouteBuilder {
         return value;
     }
 
+    private IngestLedger resolveLedger(String name, IngestRunTimeConfig.PipelineRunTimeConfig runtime) {
+        if (runtime == null || !runtime.ledger().enabled()) {
+            return null;
+        }
+        String bean = runtime.ledger().bean().orElse(null);
+        if (bean != null) {
+            return resolve(name, ledgerCandidates, bean, "ingestion ledger", "ledger.bean");
+        }
+        Path directory = Path.of(runtime.ledger().directory()).toAbsolutePath().normalize();
+        LOG.infof("Ingestion pipeline '%s': ledger=%s", name, directory);
+        return fileLedgers.computeIfAbsent(directory, FileIngestLedger::new);
+    }
+
+    @PreDestroy
+    void closeLedgers() {
+        fileLedgers.values().forEach(FileIngestLedger::close);
+        fileLedgers.clear();
+    }
+
     private EmbeddingStore<TextSegment> resolveStore(String name, String configured) {
         return resolve(name, storeCandidates, configured, "embedding store", "embedding-store");
     }
@@ -34,6 +34,9 @@ import io.smallrye.config.WithParentName;
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 public interface IngestRunTimeConfig {
 
+    /** Mirrors the {@code @WithDefault} below, which can only carry a literal. */
+    String DEFAULT_LEDGER_DIRECTORY = "ingest-ledger";
+
     /**
      * Ingestion pipelines by name.
      */
@@ -54,6 +57,38 @@ public interface IngestRunTimeConfig {
          */
         SourceRunTimeConfig source();
 
+        /**
+         * The ingestion ledger: the record of what the pipeline wrote to its store.
+         */
+        LedgerRunTimeConfig ledger();
+
+        interface LedgerRunTimeConfig {
+
+            /**
+             * Whether the pipeline keeps a ledger of what it wrote, per document a hash of its
+             * content and of each of its segments. With a ledger, an unchanged document is skipped,
+             * also across restarts, an edited one has only its changed segments embedded, and a
+             * document deleted from the source has its vectors removed from the store. Enable it
+             * only for a store that outlives the application: a ledger kept beside an in-memory
+             * store would skip every document after a restart, leaving the store empty.
+             */
+            @WithDefault("false")
+            boolean enabled();
+
+            /**
+             * The directory of the default, file-backed ledger, which keeps one file per pipeline.
+             * Relative paths resolve against the working directory.
+             */
+            @WithDefault("ingest-ledger")
+            String directory();
+
+            /**
+             * Name of an `IngestLedger` bean to keep the ledger in instead of the file-backed
+             * default - a database table, say, for an application running several replicas.
+             */
+            Optional<String> bean();
+        }
+
         interface SourceRunTimeConfig {
 
             /**
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.core;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The default {@link IngestLedger}: one append-only file per pipeline in a local directory.
+ *
+ * <p>
+ * Every change is one line appended to the pipeline's file and flushed, so a change survives the
+ * process dying right after it; a line cut short by such a death is skipped on the next load, and
+ * the file is rewritten then, so the next line appended does not end up glued to the cut one. The
+ * file is read once, when a pipeline first uses the ledger, and rewritten with only the live
+ * entries when superseded lines make up most of it — re-ingesting an edited document appends a
+ * line without removing the old one, so without compaction the file would grow with every edit.
+ */
+public class FileIngestLedger implements IngestLedger, Closeable {
+
+    private static final Logger LOG = Logger.getLogger(FileIngestLedger.class);
+
+    static final String FILE_SUFFIX = ".ledger";
+
+    private static final char PUT = 'P';
+    private static final char REMOVE = 'R';
+    /** Below this many superseded lines a file is left alone, however large their share. */
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final Path directory;
+    private final Map<String, PipelineFile> pipelines = new ConcurrentHashMap<>();
+
+    public FileIngestLedger(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    @Override
+    public Optional<IngestLedgerEntry> get(String pipeline, String documentId) {
+        return Optional.ofNullable(file(pipeline).entries.get(documentId));
+    }
+
+    @Override
+    public void put(String pipeline, IngestLedgerEntry entry) {
+        file(pipeline).put(entry);
+    }
+
+    @Override
+    public void remove(String pipeline, String documentId) {
+        file(pipeline).remove(documentId);
+    }
+
+    @Override
+    public Set<String> documentIds(String pipeline) {
+        return Set.copyOf(file(pipeline).entries.keySet());
+    }
+
+    @Override
+    public void close() {
+        for (PipelineFile file : pipelines.values()) {
+            file.close();
+        }
+        pipelines.clear();
+    }
+
+    private PipelineFile file(String pipeline) {
+        return pipelines.computeIfAbsent(pipeline, name -> new PipelineFile(directory.resolve(name + FILE_SUFFIX)));
+    }
+
+    private static final class PipelineFile {
+        private final Path path;
+        private final Map<String, IngestLedgerEntry> entries = new ConcurrentHashMap<>();
+        private BufferedWriter writer;
+        private int lines;
+        private boolean damaged;
+
+        PipelineFile(Path path) {
+            this.path = path;
+            try {
+                load();
+                if (damaged || lines - entries.size() > Math.max(COMPACTION_THRESHOLD, entries.size())) {
+                    compact();
+                }
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open the ingestion ledger " + path, e);
+            }
+        }
+
+        synchronized void put(IngestLedgerEntry entry) {
+            append(format(entry));
+            entries.put(entry.documentId(), entry);
+        }
+
+        synchronized void remove(String documentId) {
+            if (entries.containsKey(documentId)) {
+                append(REMOVE + "\t" + encode(documentId));
+                entries.remove(documentId);
+            }
+        }
+
+        synchronized void close() {
+            try {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+            } catch (IOException e) {
+                LOG.debugf(e, "Failed to close the ingestion ledger %s", path);
+            }
+        }
+
+        private void append(String line) {
+            if (writer == null) {
+                throw new IllegalStateException("The ingestion ledger " + path + " is closed");
+            }
+            try {
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+                lines++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write to the ingestion ledger " + path, e);
+            }
+        }
+
+        private void load() throws IOException {
+            if (!Files.exists(path)) {
+                return;
+            }
+            damaged = !endsWithNewline();
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines++;
+                    try {
+                        apply(line);
+                    } catch (RuntimeException e) {
+                        // most likely the last line, cut short by the process dying mid-write
+                        damaged = true;
+                        LOG.warnf("Ingestion ledger %s: skipping malformed line %d", path, lines);
+                    }
+                }
+            }
+            LOG.debugf("Ingestion ledger %s: loaded %d document(s)", path, entries.size());
+        }
+
+        private boolean endsWithNewline() throws IOException {
+            try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+                if (channel.size() == 0) {
+                    return true;
+                }
+                ByteBuffer last = ByteBuffer.allocate(1);
+                channel.position(channel.size() - 1).read(last);
+                return last.get(0) == '\n';
+            }
+        }
+
+        private void apply(String line) {
+            String[] fields = line.split("\t", -1);
+            if (fields[0].length() == 1 && fields[0].charAt(0) == REMOVE && fields.length == 2) {
+                entries.remove(decode(fields[1]));
+            } else if (fields[0].length() == 1 && fields[0].charAt(0) == PUT && fields.length == 4) {
+                List<IngestLedgerEntry.Segment> segments = new ArrayList<>();
+                if (!fields[3].isEmpty()) {
+                    for (String segment : fields[3].split(",")) {
+                        int separator = segment.indexOf(':');
+                        if (separator < 0) {
+                            throw new IllegalArgumentException("Malformed segment " + segment);
+                        }
+                        segments.add(new IngestLedgerEntry.Segment(segment.substring(0, separator),
+                                decode(segment.substring(separator + 1))));
+                    }
+                }
+                String documentId = decode(fields[1]);
+                entries.put(documentId, new IngestLedgerEntry(documentId, fields[2], segments));
+            } else {
+                throw new IllegalArgumentException("Malformed line");
+            }
+        }
+
+        private void compact() throws IOException {
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (IngestLedgerEntry entry : entries.values()) {
+                    out.write(format(entry));
+                    out.newLine();
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debugf("Ingestion ledger %s: compacted %d line(s) to %d", path, lines, entries.size());
+            lines = entries.size();
+        }
+
+        private static String format(IngestLedgerEntry entry) {
+            StringBuilder line = new StringBuilder()
+                    .append(PUT).append('\t')
+                    .append(encode(entry.documentId())).append('\t')
+                    .append(entry.contentHash()).append('\t');
+            for (int i = 0; i < entry.segments().size(); i++) {
+                IngestLedgerEntry.Segment segment = entry.segments().get(i);
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(segment.hash()).append(':').append(encode(segment.embeddingId()));
+            }
+            return line.toString();
+        }
+
+        // ids are arbitrary strings - a file name with a tab, a store id with a comma - so they
+        // are percent-encoded, which leaves none of the separators in them
+        private static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+
+        private static String decode(String value) {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.core;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The record of what an ingestion pipeline wrote to its store: per document, the hash of the
+ * content last ingested and, per segment, the hash of its text and the id the store gave its
+ * vector. It is what lets the engine skip an unchanged document, embed only the segments an edit
+ * touched, and find a removed document's vectors again.
+ *
+ * <p>
+ * The default, {@link FileIngestLedger}, keeps one file per pipeline on the local disk. Another
+ * implementation is plugged in as a named CDI bean, referenced by the pipeline's
+ * {@code ledger.bean} property. A ledger must live as long as the store it describes: one
+ * outliving a volatile store would report documents as present that are long gone.
+ */
+public interface IngestLedger {
+
+    /**
+     * @return the entry of the given document, or empty if the pipeline has not ingested it
+     */
+    Optional<IngestLedgerEntry> get(String pipeline, String documentId);
+
+    /**
+     * Records the given entry, replacing any previous one for the same document.
+     */
+    void put(String pipeline, IngestLedgerEntry entry);
+
+    /**
+     * Forgets the given document.
+     */
+    void remove(String pipeline, String documentId);
+
+    /**
+     * @return the ids of every document the pipeline has ingested
+     */
+    Set<String> documentIds(String pipeline);
+}
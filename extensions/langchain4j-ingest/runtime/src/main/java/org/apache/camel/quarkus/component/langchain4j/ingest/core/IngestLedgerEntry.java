@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.core;
+
+import java.util.List;
+
+/**
+ * What the {@link IngestLedger} holds about one document.
+ *
+ * @param documentId  the document id
+ * @param contentHash the hash of the whole text last ingested
+ * @param segments    the segments written to the store, in document order
+ */
+public record IngestLedgerEntry(String documentId, String contentHash, List<Segment> segments) {
+
+    public IngestLedgerEntry {
+        segments = List.copyOf(segments);
+    }
+
+    /**
+     * @param hash        the hash of the segment text
+     * @param embeddingId the id the embedding store gave the segment's vector
+     */
+    public record Segment(String hash, String embeddingId) {
+    }
+}
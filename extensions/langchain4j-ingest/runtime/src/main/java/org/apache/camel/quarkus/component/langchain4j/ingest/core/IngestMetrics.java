@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.langchain4j.ingest.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of one pipeline, cheap enough to update on every batch. The counters only grow,
+ * so a rate is the difference of two reads; the two depths are the current state.
+ */
+public final class IngestMetrics {
+
+    private final LongAdder documents = new LongAdder();
+    private final LongAdder segmentsEmbedded = new LongAdder();
+    private final LongAdder embeddingRequests = new LongAdder();
+    private final LongAdder embeddingNanos = new LongAdder();
+    private final LongAdder storeNanos = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /** Documents ingested, updated or deleted; skipped unchanged ones do not count. */
+    public long getDocuments() {
+        return documents.sum();
+    }
+
+    public long getSegmentsEmbedded() {
+        return segmentsEmbedded.sum();
+    }
+
+    public long getEmbeddingRequests() {
+        return embeddingRequests.sum();
+    }
+
+    /** Time spent waiting for the embedding model, summed over all requests. */
+    public long getEmbeddingNanos() {
+        return embeddingNanos.sum();
+    }
+
+    /** Time spent writing to and removing from the embedding store. */
+    public long getStoreNanos() {
+        return storeNanos.sum();
+    }
+
+    /** Embedding requests currently running. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Batches split and not yet sent to the model, of all the documents being ingested: the depth
+     * of the pipeline's queue.
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    void documentDone() {
+        documents.increment();
+    }
+
+    void embedded(int segments, long nanos) {
+        segmentsEmbedded.add(segments);
+        embeddingRequests.increment();
+        embeddingNanos.add(nanos);
+    }
+
+    void stored(long nanos) {
+        storeNanos.add(nanos);
+    }
+
+    void queued(int delta) {
+        queued.addAndGet(delta);
+    }
+
+    void inFlight(int delta) {
+        inFlight.addAndGet(delta);
+    }
+}
@@ -21,13 +21,24 @@ import java.util.Locale;
 /**
  * Outcome of one ingestion.
  */
-public record IngestResult(String pipeline, String documentId, int segmentsWritten, Outcome outcome) {
+public record IngestResult(String pipeline, String documentId, int segmentsWritten, int segmentsRemoved,
+        Outcome outcome) {
+
+    public IngestResult(String pipeline, String documentId, int segmentsWritten, Outcome outcome) {
+        this(pipeline, documentId, segmentsWritten, 0, outcome);
+    }
 
     public enum Outcome {
         /** Segments written. */
         INGESTED,
-        /** Blank document, nothing written. */
-        EMPTY;
+        /** Blank document, nothing written; with a ledger, the vectors of its previous content are removed. */
+        EMPTY,
+        /** Same content as last ingested according to the ledger, nothing written. */
+        UNCHANGED,
+        /** Changed content: only the segments the change touched were written, the superseded ones removed. */
+        UPDATED,
+        /** Document removed, together with its vectors. */
+        DELETED;
 
         /** The stable wire/log form. */
         public String label() {
@@ -16,27 +16,63 @@
  */
 package org.apache.camel.quarkus.component.langchain4j.ingest.core;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import org.jboss.logging.Logger;
 
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
 /**
  * Splits a document, embeds the segments and writes them to the store.
  *
  * <p>
- * Deliberately naive: it writes whatever it is given and remembers nothing, so ingesting a
- * document twice leaves two copies. Keeping a store in step with a changing source — skipping
- * unchanged documents, replacing changed ones, removing deleted ones — needs a record of what was
- * written, and that engine replaces this class.
+ * Without an {@link IngestLedger} it is deliberately naive: it writes whatever it is given and
+ * remembers nothing, so ingesting a document twice leaves two copies. With one, it keeps the
+ * store in step with a changing source: a document whose content hash matches the ledger is
+ * skipped without being split or embedded, an edited document has only the segments whose text
+ * changed embedded — the vectors of unchanged segments are kept — and a deleted document has its
+ * vectors removed. New vectors are written before superseded ones are removed, so a document never
+ * disappears from retrieval while it is being replaced. Before new vectors are written, the ledger
+ * records the write as pending and the vectors carry its id in their metadata, so vectors left
+ * behind by a process dying before the ledger was updated are found and removed on the next run.
+ *
+ * <p>
+ * Segments are embedded in batches. With an embedding concurrency above one, the pipeline runs
+ * up to that many embedding requests at once, whichever documents they belong to: concurrent
+ * callers share the slots, which is how the documents of a pipeline overlap, and the batches of a
+ * large document are pipelined on the given executor while the calling thread writes the finished
+ * batches to the store, in document order, so a store write overlaps the next embedding calls
+ * instead of waiting for them. A caller that finds every slot taken waits for one — which is what
+ * holds the consumer feeding the pipeline back when the embedding provider is the bottleneck.
  */
 public class IngestService {
 
@@ -44,50 +80,460 @@ public class IngestService {
 
     public static final String METADATA_PIPELINE = "camel_quarkus_pipeline";
     public static final String METADATA_DOCUMENT_ID = "camel_quarkus_document_id";
+    public static final String METADATA_WRITE_ID = "camel_quarkus_write_id";
+
+    /** Marks the content hash of a ledger entry whose new vectors were not yet confirmed. */
+    static final String PENDING_WRITE_PREFIX = "pending:";
 
-    private static final int EMBEDDING_BATCH_SIZE = 32;
+    /** The batch size of the constructors that take none. */
+    public static final int DEFAULT_EMBEDDING_BATCH_SIZE = 32;
 
     private final String pipeline;
     private final EmbeddingStore<TextSegment> store;
     private final EmbeddingModel model;
     private final DocumentSplitter splitter;
+    private final IngestLedger ledger;
+    private final int embeddingBatchSize;
+    private final int embeddingConcurrency;
+    private final ExecutorService executor;
+    private final Semaphore embeddingSlots;
+    private final IngestMetrics metrics = new IngestMetrics();
+    /**
+     * Documents are serialised per id, not per pipeline. A lock is held across remote embedding and
+     * store calls, so it is a {@link ReentrantLock} - a monitor would pin a virtual thread's carrier
+     * - and documents never share one. A lock lives only while a caller holds or waits for it.
+     */
+    private final Map<String, DocumentLock> locks = new ConcurrentHashMap<>();
 
     public IngestService(String pipeline, EmbeddingStore<TextSegment> store, EmbeddingModel model,
             int maxSegmentSize, int maxOverlapSize) {
+        this(pipeline, store, model, maxSegmentSize, maxOverlapSize, null);
+    }
+
+    /**
+     * @param ledger the record of what was written, or {@code null} for the naive engine
+     */
+    public IngestService(String pipeline, EmbeddingStore<TextSegment> store, EmbeddingModel model,
+            int maxSegmentSize, int maxOverlapSize, IngestLedger ledger) {
+        this(pipeline, store, model, maxSegmentSize, maxOverlapSize, ledger, DEFAULT_EMBEDDING_BATCH_SIZE, 1, null);
+    }
+
+    /**
+     * @param ledger               the record of what was written, or {@code null} for the naive engine
+     * @param embeddingBatchSize   the number of segments embedded per request
+     * @param embeddingConcurrency the number of embedding requests the pipeline runs at once; above
+     *                             one, batches are pipelined on the executor
+     * @param executor             runs the pipelined embedding requests; needs at least
+     *                             {@code embeddingConcurrency} threads, and may be {@code null} at a
+     *                             concurrency of one
+     */
+    public IngestService(String pipeline, EmbeddingStore<TextSegment> store, EmbeddingModel model,
+            int maxSegmentSize, int maxOverlapSize, IngestLedger ledger, int embeddingBatchSize,
+            int embeddingConcurrency, ExecutorService executor) {
+        if (embeddingBatchSize <= 0 || embeddingConcurrency <= 0) {
+            throw new IllegalArgumentException("Ingestion pipeline '" + pipeline + "': embedding-batch-size and "
+                    + "embedding-concurrency must be positive (got " + embeddingBatchSize + " / "
+                    + embeddingConcurrency + ")");
+        }
+        if (embeddingConcurrency > 1 && executor == null) {
+            throw new IllegalArgumentException("Ingestion pipeline '" + pipeline + "': an embedding concurrency of "
+                    + embeddingConcurrency + " needs an executor");
+        }
         this.pipeline = pipeline;
         this.store = store;
         this.model = model;
         this.splitter = DocumentSplitters.recursive(maxSegmentSize, maxOverlapSize);
+        this.ledger = ledger;
+        this.embeddingBatchSize = embeddingBatchSize;
+        this.embeddingConcurrency = embeddingConcurrency;
+        this.executor = embeddingConcurrency > 1 ? executor : null;
+        this.embeddingSlots = new Semaphore(embeddingConcurrency);
     }
 
     public IngestResult ingest(String documentId, String text) {
-        if (documentId == null || documentId.isBlank()) {
-            throw new IllegalArgumentException("Ingestion pipeline '" + pipeline + "': documentId is required");
+        requireDocumentId(documentId);
+        if (ledger == null) {
+            return ingestNaively(documentId, text);
         }
+        lock(documentId);
+        try {
+            return ingestIncrementally(documentId, text);
+        } finally {
+            unlock(documentId);
+        }
+    }
+
+    /**
+     * Removes a document's vectors from the store. Needs a ledger: without one, nothing records
+     * which vectors belong to the document.
+     */
+    public IngestResult delete(String documentId) {
+        requireDocumentId(documentId);
+        if (ledger == null) {
+            throw new IllegalStateException("Ingestion pipeline '" + pipeline + "' cannot delete document '"
+                    + documentId + "': deleting needs the ingestion ledger. Set quarkus.camel.langchain4j.ingest."
+                    + pipeline + ".ledger.enabled=true");
+        }
+        lock(documentId);
+        try {
+            Optional<IngestLedgerEntry> previous = recover(documentId);
+            if (previous.isEmpty()) {
+                return new IngestResult(pipeline, documentId, 0, 0, IngestResult.Outcome.UNCHANGED);
+            }
+            int removed = removeAll(previous.get().segments().stream().map(IngestLedgerEntry.Segment::embeddingId)
+                    .toList());
+            ledger.remove(pipeline, documentId);
+            metrics.documentDone();
+            LOG.debugf("Ingestion pipeline '%s': removed %d segment(s) of deleted document '%s'", pipeline, removed,
+                    documentId);
+            return new IngestResult(pipeline, documentId, 0, removed, IngestResult.Outcome.DELETED);
+        } finally {
+            unlock(documentId);
+        }
+    }
+
+    /**
+     * Deletes every document the ledger knows but the source no longer holds.
+     *
+     * @param  presentDocumentIds the ids of all the documents the source currently holds
+     * @return                    the number of documents deleted
+     */
+    public int deleteAbsent(Collection<String> presentDocumentIds) {
+        if (ledger == null) {
+            return 0;
+        }
+        int deleted = 0;
+        for (String documentId : ledger.documentIds(pipeline)) {
+            if (!presentDocumentIds.contains(documentId)
+                    && delete(documentId).outcome() == IngestResult.Outcome.DELETED) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    public String pipeline() {
+        return pipeline;
+    }
+
+    public boolean hasLedger() {
+        return ledger != null;
+    }
+
+    /** The number of embedding requests the pipeline runs at once. */
+    public int embeddingConcurrency() {
+        return embeddingConcurrency;
+    }
+
+    public IngestMetrics metrics() {
+        return metrics;
+    }
+
+    private IngestResult ingestNaively(String documentId, String text) {
         if (text == null || text.isBlank()) {
             return new IngestResult(pipeline, documentId, 0, IngestResult.Outcome.EMPTY);
         }
 
-        // the document id travels with every segment: retrieval can cite it, and the engine that
-        // replaces this one needs it to find a document's vectors again
+        List<TextSegment> segments = split(documentId, text, null);
+        addAll(segments);
+        metrics.documentDone();
+
+        LOG.debugf("Ingestion pipeline '%s': wrote %d segment(s) of document '%s'", pipeline, segments.size(),
+                documentId);
+        return new IngestResult(pipeline, documentId, segments.size(), IngestResult.Outcome.INGESTED);
+    }
+
+    private IngestResult ingestIncrementally(String documentId, String text) {
+        Optional<IngestLedgerEntry> previous = recover(documentId);
+        if (text == null || text.isBlank()) {
+            // a document emptied at the source must not keep answering from its old content
+            int removed = 0;
+            if (previous.isPresent()) {
+                removed = delete(documentId).segmentsRemoved();
+            }
+            return new IngestResult(pipeline, documentId, 0, removed, IngestResult.Outcome.EMPTY);
+        }
+
+        String contentHash = hash(text);
+        if (previous.isPresent() && previous.get().contentHash().equals(contentHash)) {
+            LOG.tracef("Ingestion pipeline '%s': document '%s' is unchanged", pipeline, documentId);
+            return new IngestResult(pipeline, documentId, 0, 0, IngestResult.Outcome.UNCHANGED);
+        }
+
+        // the vectors of the previous version, by segment hash: a segment whose text is unchanged
+        // keeps its vector. A list per hash, as a document may repeat a segment verbatim
+        Map<String, Deque<String>> reusable = new HashMap<>();
+        previous.ifPresent(entry -> entry.segments().forEach(segment -> reusable
+                .computeIfAbsent(segment.hash(), hash -> new ArrayDeque<>()).add(segment.embeddingId())));
+
+        String writeId = UUID.randomUUID().toString();
+        List<TextSegment> segments = split(documentId, text, writeId);
+        String[] hashes = new String[segments.size()];
+        String[] ids = new String[segments.size()];
+        List<TextSegment> toEmbed = new ArrayList<>();
+        List<Integer> toEmbedIndexes = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            hashes[i] = hash(segments.get(i).text());
+            Deque<String> candidates = reusable.get(hashes[i]);
+            if (candidates != null && !candidates.isEmpty()) {
+                ids[i] = candidates.poll();
+            } else {
+                toEmbed.add(segments.get(i));
+                toEmbedIndexes.add(i);
+            }
+        }
+
+        if (!toEmbed.isEmpty()) {
+            // the previous segments stay live until the final entry replaces this one
+            ledger.put(pipeline, new IngestLedgerEntry(documentId, PENDING_WRITE_PREFIX + writeId,
+                    previous.map(IngestLedgerEntry::segments).orElse(List.of())));
+        }
+        List<String> added = addAll(toEmbed);
+        for (int i = 0; i < added.size(); i++) {
+            ids[toEmbedIndexes.get(i)] = added.get(i);
+        }
+
+        List<String> superseded = new ArrayList<>();
+        reusable.values().forEach(superseded::addAll);
+        int removed = removeAll(superseded);
+
+        List<IngestLedgerEntry.Segment> entrySegments = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            entrySegments.add(new IngestLedgerEntry.Segment(hashes[i], ids[i]));
+        }
+        ledger.put(pipeline, new IngestLedgerEntry(documentId, contentHash, entrySegments));
+        metrics.documentDone();
+
+        LOG.debugf("Ingestion pipeline '%s': wrote %d and removed %d segment(s) of document '%s'", pipeline,
+                toEmbed.size(), removed, documentId);
+        return new IngestResult(pipeline, documentId, toEmbed.size(), removed,
+                previous.isPresent() ? IngestResult.Outcome.UPDATED : IngestResult.Outcome.INGESTED);
+    }
+
+    /**
+     * Reads the ledger entry of a document, first removing the vectors of a write the process did
+     * not live to record. The entry of such a write still lists the segments that were live before
+     * it, and its content hash matches no text, so the document is ingested again.
+     */
+    private Optional<IngestLedgerEntry> recover(String documentId) {
+        Optional<IngestLedgerEntry> entry = ledger.get(pipeline, documentId);
+        if (entry.isEmpty() || !entry.get().contentHash().startsWith(PENDING_WRITE_PREFIX)) {
+            return entry;
+        }
+        String writeId = entry.get().contentHash().substring(PENDING_WRITE_PREFIX.length());
+        long start = System.nanoTime();
+        try {
+            store.removeAll(metadataKey(METADATA_PIPELINE).isEqualTo(pipeline)
+                    .and(metadataKey(METADATA_DOCUMENT_ID).isEqualTo(documentId))
+                    .and(metadataKey(METADATA_WRITE_ID).isEqualTo(writeId)));
+            LOG.debugf("Ingestion pipeline '%s': removed the vectors of an unfinished write of document '%s'",
+                    pipeline, documentId);
+        } catch (UnsupportedOperationException e) {
+            LOG.warnf("Ingestion pipeline '%s': the embedding store %s cannot remove vectors by metadata, so the "
+                    + "vectors of an unfinished write of document '%s' stay in the store", pipeline,
+                    store.getClass().getName(), documentId);
+        } finally {
+            metrics.stored(System.nanoTime() - start);
+        }
+        if (entry.get().segments().isEmpty()) {
+            ledger.remove(pipeline, documentId);
+            return Optional.empty();
+        }
+        return entry;
+    }
+
+    private List<TextSegment> split(String documentId, String text, String writeId) {
+        // the document id travels with every segment: retrieval can cite it, and it identifies
+        // a document's vectors in the store independently of the ledger
         Map<String, Object> metadata = new LinkedHashMap<>();
         metadata.put(METADATA_PIPELINE, pipeline);
         metadata.put(METADATA_DOCUMENT_ID, documentId);
+        if (writeId != null) {
+            metadata.put(METADATA_WRITE_ID, writeId);
+        }
+        return splitter.split(Document.from(text, Metadata.from(metadata)));
+    }
 
-        List<TextSegment> segments = splitter.split(Document.from(text, Metadata.from(metadata)));
-        // embedded in batches: a single embedAll over a large document's full segment list can
-        // exceed an embedding provider's per-request limits
-        for (int from = 0; from < segments.size(); from += EMBEDDING_BATCH_SIZE) {
-            List<TextSegment> batch = segments.subList(from, Math.min(from + EMBEDDING_BATCH_SIZE, segments.size()));
-            store.addAll(model.embedAll(batch).content(), batch);
+    private List<String> addAll(List<TextSegment> segments) {
+        // every batch counts as queued from the split until its embedding request starts. Those
+        // a failure leaves unstarted are taken off here; the count only ever goes down once
+        AtomicInteger queued = new AtomicInteger((segments.size() + embeddingBatchSize - 1) / embeddingBatchSize);
+        metrics.queued(queued.get());
+        try {
+            // embedded in batches: a single embedAll over a large document's full segment list can
+            // exceed an embedding provider's per-request limits
+            if (executor == null || segments.size() <= embeddingBatchSize) {
+                List<String> ids = new ArrayList<>(segments.size());
+                for (int from = 0; from < segments.size(); from += embeddingBatchSize) {
+                    List<TextSegment> batch = segments.subList(from,
+                            Math.min(from + embeddingBatchSize, segments.size()));
+                    ids.addAll(store(embedInSlot(batch, queued), batch));
+                }
+                return ids;
+            }
+            return addAllPipelined(segments, queued);
+        } finally {
+            metrics.queued(-queued.getAndSet(0));
         }
+    }
 
-        LOG.debugf("Ingestion pipeline '%s': wrote %d segment(s) of document '%s'", pipeline, segments.size(),
-                documentId);
-        return new IngestResult(pipeline, documentId, segments.size(), IngestResult.Outcome.INGESTED);
+    /**
+     * Embeds on the calling thread. With a concurrency above one, other documents may be
+     * embedding at the same time, so the request still takes one of the pipeline's slots.
+     */
+    private List<Embedding> embedInSlot(List<TextSegment> batch, AtomicInteger queued) {
+        if (executor == null) {
+            return embed(batch, queued);
+        }
+        acquireEmbeddingSlot();
+        try {
+            return embed(batch, queued);
+        } finally {
+            embeddingSlots.release();
+        }
     }
 
-    public String pipeline() {
-        return pipeline;
+    private List<String> addAllPipelined(List<TextSegment> segments, AtomicInteger queued) {
+        List<String> ids = new ArrayList<>(segments.size());
+        // the batches of this document in flight, oldest first: stored in this order, the ids
+        // line up with the segments. A batch that fails leaves the later ones to finish on their
+        // own - cancelling a task that has not started would never hand its slot back
+        Deque<PendingBatch> pending = new ArrayDeque<>();
+        for (int from = 0; from < segments.size(); from += embeddingBatchSize) {
+            List<TextSegment> batch = segments.subList(from, Math.min(from + embeddingBatchSize, segments.size()));
+            if (pending.size() >= embeddingConcurrency) {
+                storeOldest(pending, ids);
+            }
+            acquireEmbeddingSlot();
+            try {
+                pending.add(new PendingBatch(batch, executor.submit(() -> {
+                    try {
+                        return embed(batch, queued);
+                    } finally {
+                        embeddingSlots.release();
+                    }
+                })));
+            } catch (RejectedExecutionException e) {
+                embeddingSlots.release();
+                throw e;
+            }
+        }
+        while (!pending.isEmpty()) {
+            storeOldest(pending, ids);
+        }
+        return ids;
+    }
+
+    private void acquireEmbeddingSlot() {
+        try {
+            embeddingSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ingestion pipeline '" + pipeline + "': interrupted while waiting to "
+                    + "embed", e);
+        }
+    }
+
+    private void storeOldest(Deque<PendingBatch> pending, List<String> ids) {
+        PendingBatch oldest = pending.poll();
+        List<Embedding> embeddings;
+        try {
+            embeddings = oldest.embeddings().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ingestion pipeline '" + pipeline + "': interrupted while embedding", e);
+        } catch (ExecutionException e) {
+            // the model's own exception, as the sequential path would have thrown it
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Ingestion pipeline '" + pipeline + "': embedding failed", e.getCause());
+        }
+        ids.addAll(store(embeddings, oldest.segments()));
+    }
+
+    private List<Embedding> embed(List<TextSegment> batch, AtomicInteger queued) {
+        if (queued.getAndUpdate(count -> count > 0 ? count - 1 : 0) > 0) {
+            metrics.queued(-1);
+        }
+        metrics.inFlight(1);
+        long start = System.nanoTime();
+        try {
+            List<Embedding> embeddings = model.embedAll(batch).content();
+            metrics.embedded(batch.size(), System.nanoTime() - start);
+            return embeddings;
+        } finally {
+            metrics.inFlight(-1);
+        }
+    }
+
+    private List<String> store(List<Embedding> embeddings, List<TextSegment> batch) {
+        long start = System.nanoTime();
+        try {
+            return store.addAll(embeddings, batch);
+        } finally {
+            metrics.stored(System.nanoTime() - start);
+        }
+    }
+
+    private int removeAll(List<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            store.removeAll(ids);
+        } catch (UnsupportedOperationException e) {
+            throw new IllegalStateException("Ingestion pipeline '" + pipeline + "': the embedding store "
+                    + store.getClass().getName() + " cannot remove vectors by id, which keeping it in step with "
+                    + "the source needs. Disable the ingestion ledger, or use a store that supports removal.", e);
+        } finally {
+            metrics.stored(System.nanoTime() - start);
+        }
+        return ids.size();
+    }
+
+    private void lock(String documentId) {
+        // registered under the map's per key atomicity, so the last holder's unlock never removes a
+        // lock another caller is about to wait for
+        DocumentLock lock = locks.compute(documentId, (id, existing) -> {
+            DocumentLock documentLock = existing != null ? existing : new DocumentLock();
+            documentLock.holders++;
+            return documentLock;
+        });
+        lock.lock();
+    }
+
+    private void unlock(String documentId) {
+        locks.computeIfPresent(documentId, (id, lock) -> {
+            lock.unlock();
+            return --lock.holders == 0 ? null : lock;
+        });
+    }
+
+    private void requireDocumentId(String documentId) {
+        if (documentId == null || documentId.isBlank()) {
+            throw new IllegalArgumentException("Ingestion pipeline '" + pipeline + "': documentId is required");
+        }
+    }
+
+    /** Counts the callers holding or waiting for the lock, reentrant acquisitions included. */
+    private static final class DocumentLock extends ReentrantLock {
+        private int holders;
+    }
+
+    private record PendingBatch(List<TextSegment> segments, Future<List<Embedding>> embeddings) {
+    }
+
+    static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
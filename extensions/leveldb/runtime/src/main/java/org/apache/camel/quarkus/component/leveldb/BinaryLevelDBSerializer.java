@@ -0,0 +1,391 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.leveldb;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.leveldb.serializer.JacksonLevelDBSerializer;
+import org.apache.camel.support.DefaultExchange;
+import org.jboss.logging.Logger;
+
+/**
+ * A compact binary {@code LevelDBSerializer}, writing the exchanges as length prefixed fields: the body and the headers
+ * are written with a type tag followed by their raw value, e.g. the bytes of a {@code byte[]} body as they are. Values
+ * of other types than the common Java ones are written as JSON by Jackson, with the given {@link Module}.
+ * <p>
+ * The common types are {@code String}, {@code byte[]}, the primitive wrappers, {@code BigDecimal}, {@code BigInteger},
+ * {@code Date} and the lists and maps of these. They are always written natively, so serializers or deserializers a
+ * {@link Module} registers for them - e.g. a custom {@code Date} format - no longer apply, unlike with the
+ * {@link JacksonLevelDBSerializer}. A repository relying on such a customization has to keep using the
+ * {@link JacksonLevelDBSerializer}.
+ * <p>
+ * The exchanges written by the {@link JacksonLevelDBSerializer} can still be read, so that an existing repository can
+ * be migrated by just switching to this serializer. The keys are serialized in the same way as by the
+ * {@link JacksonLevelDBSerializer}.
+ * <p>
+ * The same parts of the exchange as with the other serializers are retained: the exchange id, the body and headers of
+ * the message, the exchange variables, the aggregation related exchange properties and the from endpoint.
+ */
+public class BinaryLevelDBSerializer extends JacksonLevelDBSerializer {
+    private static final Logger LOG = Logger.getLogger(BinaryLevelDBSerializer.class);
+
+    /**
+     * Leads every binary entry. A JSON document written by the {@link JacksonLevelDBSerializer} cannot start with it.
+     */
+    private static final byte[] MAGIC = { 0, 'C', 'Q', 'B' };
+    private static final byte VERSION = 1;
+    private static final String FROM_ENDPOINT = "CamelAggregatedFromEndpoint";
+    private static final String[] RETAINED_PROPERTIES = {
+            Exchange.AGGREGATED_SIZE,
+            Exchange.AGGREGATED_TIMEOUT,
+            Exchange.AGGREGATED_COMPLETED_BY,
+            Exchange.AGGREGATED_CORRELATION_KEY,
+            Exchange.AGGREGATED_COLLECTION_GUARD };
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte SHORT = 8;
+    private static final byte BYTE = 9;
+    private static final byte CHARACTER = 10;
+    private static final byte BIG_DECIMAL = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte DATE = 13;
+    private static final byte LIST = 14;
+    private static final byte MAP = 15;
+    private static final byte JSON = 16;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public BinaryLevelDBSerializer() {
+        this(null);
+    }
+
+    public BinaryLevelDBSerializer(Module module) {
+        super(module);
+        if (module != null) {
+            objectMapper.registerModule(module);
+        }
+    }
+
+    @Override
+    public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        writeString(out, exchange.getExchangeId());
+        writeString(out, exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null);
+        writeValue(out, exchange.getMessage().getBody(), true);
+
+        writeEntries(out, exchange.getMessage().hasHeaders() ? exchange.getMessage().getHeaders() : Map.of(),
+                allowSerializedHeaders);
+        writeEntries(out, exchange.hasVariables() ? exchange.getVariables() : Map.of(), allowSerializedHeaders);
+
+        int count = 0;
+        for (String name : RETAINED_PROPERTIES) {
+            if (exchange.getProperty(name) != null) {
+                count++;
+            }
+        }
+        out.writeInt(count);
+        for (String name : RETAINED_PROPERTIES) {
+            final Object value = exchange.getProperty(name);
+            if (value != null) {
+                writeString(out, name);
+                writeValue(out, value, true);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+        if (!isBinary(buffer)) {
+            // Written by the JacksonLevelDBSerializer before the repository switched to this serializer
+            return super.deserializeExchange(camelContext, buffer);
+        }
+        final ByteBuffer in = ByteBuffer.wrap(buffer, MAGIC.length, buffer.length - MAGIC.length);
+        try {
+            final byte version = in.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary LevelDB entry version " + version);
+            }
+            final Exchange answer = new DefaultExchange(camelContext);
+            answer.setExchangeId(readString(in));
+            final String fromEndpointUri = readString(in);
+            answer.getMessage().setBody(readValue(camelContext, in));
+            for (int count = in.getInt(); count > 0; count--) {
+                answer.getMessage().setHeader(readString(in), readValue(camelContext, in));
+            }
+            for (int count = in.getInt(); count > 0; count--) {
+                answer.setVariable(readString(in), readValue(camelContext, in));
+            }
+            for (int count = in.getInt(); count > 0; count--) {
+                answer.setProperty(readString(in), readValue(camelContext, in));
+            }
+            if (fromEndpointUri != null) {
+                final Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+                if (fromEndpoint != null) {
+                    answer.getExchangeExtension().setFromEndpoint(fromEndpoint);
+                }
+            }
+            return answer;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated binary LevelDB entry", e);
+        }
+    }
+
+    /**
+     * @return whether the given entry was written by this serializer rather than by the
+     *         {@link JacksonLevelDBSerializer}
+     */
+    public static boolean isBinary(byte[] buffer) {
+        if (buffer == null || buffer.length <= MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeEntries(DataOutputStream out, Map<String, Object> entries, boolean allowSerializedValues)
+            throws IOException {
+        final List<Map.Entry<String, Object>> retained = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            if (allowSerializedValues || isCommonType(entry.getValue())) {
+                retained.add(entry);
+            } else {
+                LOG.debugf("Skipping %s of type %s as it is not a common Java type", entry.getKey(),
+                        entry.getValue().getClass().getName());
+            }
+        }
+        out.writeInt(retained.size());
+        for (Map.Entry<String, Object> entry : retained) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue(), allowSerializedValues);
+        }
+    }
+
+    private void writeValue(DataOutputStream out, Object value, boolean allowJson) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(STRING);
+            writeString(out, string);
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(INTEGER);
+            out.writeInt(integer);
+        } else if (value instanceof Long number) {
+            out.writeByte(LONG);
+            out.writeLong(number);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof Double number) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(number);
+        } else if (value instanceof Float number) {
+            out.writeByte(FLOAT);
+            out.writeFloat(number);
+        } else if (value instanceof Short number) {
+            out.writeByte(SHORT);
+            out.writeShort(number);
+        } else if (value instanceof Byte number) {
+            out.writeByte(BYTE);
+            out.writeByte(number);
+        } else if (value instanceof Character character) {
+            out.writeByte(CHARACTER);
+            out.writeChar(character);
+        } else if (value instanceof BigDecimal number) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(out, number.toString());
+        } else if (value instanceof BigInteger number) {
+            out.writeByte(BIG_INTEGER);
+            final byte[] bytes = number.toByteArray();
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Date date) {
+            out.writeByte(DATE);
+            out.writeLong(date.getTime());
+        } else if (value instanceof List<?> list && (allowJson || isCommonType(list))) {
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element, allowJson);
+            }
+        } else if (value instanceof Map<?, ?> map && (allowJson || isCommonType(map))) {
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey(), allowJson);
+                writeValue(out, entry.getValue(), allowJson);
+            }
+        } else if (allowJson) {
+            out.writeByte(JSON);
+            writeString(out, value.getClass().getName());
+            final byte[] json = objectMapper.writeValueAsBytes(value);
+            out.writeInt(json.length);
+            out.write(json);
+        } else {
+            throw new IOException("Cannot serialize value of type " + value.getClass().getName());
+        }
+    }
+
+    private Object readValue(CamelContext camelContext, ByteBuffer in) throws IOException {
+        final byte tag = in.get();
+        switch (tag) {
+        case NULL:
+            return null;
+        case STRING:
+            return readString(in);
+        case BYTES: {
+            final byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            return bytes;
+        }
+        case INTEGER:
+            return in.getInt();
+        case LONG:
+            return in.getLong();
+        case BOOLEAN:
+            return in.get() != 0;
+        case DOUBLE:
+            return in.getDouble();
+        case FLOAT:
+            return in.getFloat();
+        case SHORT:
+            return in.getShort();
+        case BYTE:
+            return in.get();
+        case CHARACTER:
+            return in.getChar();
+        case BIG_DECIMAL:
+            return new BigDecimal(readString(in));
+        case BIG_INTEGER: {
+            final byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            return new BigInteger(bytes);
+        }
+        case DATE:
+            return new Date(in.getLong());
+        case LIST: {
+            final int size = in.getInt();
+            final List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readValue(camelContext, in));
+            }
+            return list;
+        }
+        case MAP: {
+            final int size = in.getInt();
+            final Map<Object, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(readValue(camelContext, in), readValue(camelContext, in));
+            }
+            return map;
+        }
+        case JSON: {
+            final String type = readString(in);
+            final int length = in.getInt();
+            final Object value = objectMapper.readValue(in.array(), in.arrayOffset() + in.position(), length,
+                    camelContext.getClassResolver().resolveMandatoryClass(type));
+            in.position(in.position() + length);
+            return value;
+        }
+        default:
+            throw new IOException("Unknown value type " + tag + " in binary LevelDB entry");
+        }
+    }
+
+    /**
+     * @return whether the given value is written without Jackson
+     */
+    private static boolean isCommonType(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().allMatch(BinaryLevelDBSerializer::isCommonType);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.entrySet().stream().allMatch(e -> isCommonType(e.getKey()) && isCommonType(e.getValue()));
+        }
+        return value == null
+                || value instanceof String
+                || value instanceof byte[]
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Boolean
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Character
+                || value instanceof BigDecimal
+                || value instanceof BigInteger
+                || value instanceof Date;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
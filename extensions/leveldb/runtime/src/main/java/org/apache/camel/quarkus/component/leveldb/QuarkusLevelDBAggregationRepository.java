@@ -19,8 +19,11 @@ package org.apache.camel.quarkus.component.leveldb;
 import com.fasterxml.jackson.databind.Module;
 import org.apache.camel.component.leveldb.LevelDBAggregationRepository;
 import org.apache.camel.component.leveldb.LevelDBFile;
-import org.apache.camel.component.leveldb.serializer.JacksonLevelDBSerializer;
 
+/**
+ * A {@link LevelDBAggregationRepository} storing the exchanges with the {@link BinaryLevelDBSerializer}, which works in
+ * native mode and reads the exchanges stored with the {@code JacksonLevelDBSerializer} too.
+ */
 public class QuarkusLevelDBAggregationRepository extends LevelDBAggregationRepository {
 
     public QuarkusLevelDBAggregationRepository() {
@@ -45,7 +48,6 @@ public class QuarkusLevelDBAggregationRepository extends LevelDBAggregationRepos
     //constructor with module
 
     public QuarkusLevelDBAggregationRepository(Module module) {
-        JacksonLevelDBSerializer serializer = new JacksonLevelDBSerializer(module);
         initSerializer(module);
     }
 
@@ -65,7 +67,6 @@ public class QuarkusLevelDBAggregationRepository extends LevelDBAggregationRepos
     }
 
     private void initSerializer(Module module) {
-        JacksonLevelDBSerializer serializer = new JacksonLevelDBSerializer(module);
-        setSerializer(serializer);
+        setSerializer(new BinaryLevelDBSerializer(module));
     }
 }
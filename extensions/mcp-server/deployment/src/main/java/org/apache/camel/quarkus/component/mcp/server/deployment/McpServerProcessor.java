@@ -16,12 +16,17 @@
  */
 package org.apache.camel.quarkus.component.mcp.server.deployment;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.BooleanSupplier;
 
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import org.apache.camel.quarkus.component.mcp.server.CamelMcpServerConfig;
 import org.apache.camel.quarkus.component.mcp.server.CamelMcpServerRecorder;
 import org.apache.camel.quarkus.core.deployment.spi.RuntimeCamelContextCustomizerBuildItem;
@@ -38,8 +43,33 @@ class McpServerProcessor {
     @BuildStep(onlyIf = McpServerEnabled.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     RuntimeCamelContextCustomizerBuildItem mcpServerBridge(CamelMcpServerRecorder recorder, CamelMcpServerConfig config) {
+        // flattened into plain maps, which the recorder can carry, rather than passing the config mapping itself
+        Map<String, Integer> toolMaxConcurrentCalls = new HashMap<>();
+        Map<String, Long> toolTimeouts = new HashMap<>();
+        config.async().tools().forEach((name, tool) -> {
+            tool.maxConcurrentCalls().ifPresent(limit -> toolMaxConcurrentCalls.put(name, limit));
+            tool.timeout().ifPresent(timeout -> toolTimeouts.put(name, timeout));
+        });
         return new RuntimeCamelContextCustomizerBuildItem(
-                recorder.createContextCustomizer(config.tags().orElse(null), config.toolTimeout()));
+                recorder.createContextCustomizer(config.tags().orElse(null), config.toolTimeout(),
+                        config.async().enabled(), config.async().maxConcurrentCalls(), toolMaxConcurrentCalls,
+                        toolTimeouts));
+    }
+
+    @BuildStep(onlyIf = McpServerEnabled.class)
+    void validateAsyncTools(CamelMcpServerConfig config, BuildProducer<ValidationErrorBuildItem> validationErrors) {
+        if (config.async().maxConcurrentCalls() < 0) {
+            validationErrors.produce(new ValidationErrorBuildItem(new ConfigurationException(
+                    "quarkus.camel.mcp-server.async.max-concurrent-calls must not be negative (got "
+                            + config.async().maxConcurrentCalls() + ")")));
+        }
+        config.async().tools().forEach((name, tool) -> {
+            if (tool.maxConcurrentCalls().orElse(1) <= 0 || tool.timeout().orElse(1) <= 0) {
+                validationErrors.produce(new ValidationErrorBuildItem(new ConfigurationException(
+                        "quarkus.camel.mcp-server.async.tools.\"" + name + "\": max-concurrent-calls and timeout "
+                                + "must be positive")));
+            }
+        });
     }
 
     static final class McpServerEnabled implements BooleanSupplier {
@@ -16,8 +16,12 @@
  */
 package org.apache.camel.quarkus.component.mcp.server;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -55,4 +59,61 @@ public interface CamelMcpServerConfig {
      */
     @WithDefault("20000")
     long toolTimeout();
+
+    /**
+     * Asynchronous tool invocation.
+     *
+     * @asciidoclet
+     */
+    AsyncToolsConfig async();
+
+    interface AsyncToolsConfig {
+
+        /**
+         * Whether tool calls are invoked asynchronously. By default a tool call blocks the quarkus-mcp-server worker
+         * thread it arrives on until the route behind the tool completes, so concurrent clients of slow tools queue
+         * up for worker threads. When enabled, the MCP server is handed a `Uni` at once and the route runs on a
+         * Camel-managed thread pool, within the per-tool limits of `max-concurrent-calls` and `timeout`.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The number of calls each tool runs at once when tool calls are asynchronous. A call arriving while its
+         * tool is at the limit is refused with an error result instead of waiting. `0` means no limit.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("16")
+        int maxConcurrentCalls();
+
+        /**
+         * Per-tool overrides, by tool name.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocMapKey("tool-name")
+        Map<String, ToolConfig> tools();
+    }
+
+    interface ToolConfig {
+
+        /**
+         * The number of calls this tool runs at once, overriding `quarkus.camel.mcp-server.async.max-concurrent-calls`.
+         *
+         * @asciidoclet
+         */
+        OptionalInt maxConcurrentCalls();
+
+        /**
+         * The time in milliseconds after which a call to this tool is answered with a timeout error, overriding
+         * `quarkus.camel.mcp-server.tool-timeout`. The route keeps running, and keeps its concurrency slot, until it
+         * completes on its own. `tool-timeout` still applies underneath, so a longer timeout here has no effect.
+         *
+         * @asciidoclet
+         */
+        OptionalLong timeout();
+    }
 }
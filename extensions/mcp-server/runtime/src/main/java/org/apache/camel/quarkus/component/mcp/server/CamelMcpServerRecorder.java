@@ -16,6 +16,8 @@
  */
 package org.apache.camel.quarkus.component.mcp.server;
 
+import java.util.Map;
+
 import io.quarkiverse.mcp.server.ToolManager;
 import io.quarkus.arc.Arc;
 import io.quarkus.runtime.RuntimeValue;
@@ -25,17 +27,25 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.mcp.server.McpServerBridge;
 import org.apache.camel.component.mcp.server.McpServerConfiguration;
 import org.apache.camel.component.mcp.server.McpServerEngine;
+import org.apache.camel.console.DevConsoleRegistry;
 import org.apache.camel.spi.CamelContextCustomizer;
 
 @Recorder
 public class CamelMcpServerRecorder {
 
-    public RuntimeValue<CamelContextCustomizer> createContextCustomizer(String tags, long toolTimeout) {
+    public RuntimeValue<CamelContextCustomizer> createContextCustomizer(String tags, long toolTimeout,
+            boolean asyncTools, int maxConcurrentCalls, Map<String, Integer> toolMaxConcurrentCalls,
+            Map<String, Long> toolTimeouts) {
         return new RuntimeValue<>(new CamelContextCustomizer() {
             @Override
             public void configure(CamelContext camelContext) {
                 ToolManager toolManager = Arc.container().instance(ToolManager.class).get();
                 QuarkusMcpServerEngine engine = new QuarkusMcpServerEngine(toolManager);
+                engine.setAsyncTools(asyncTools);
+                engine.setMaxConcurrentCalls(maxConcurrentCalls);
+                engine.setToolMaxConcurrentCalls(toolMaxConcurrentCalls);
+                engine.setToolTimeout(toolTimeout);
+                engine.setToolTimeouts(toolTimeouts);
 
                 McpServerConfiguration configuration = new McpServerConfiguration();
                 configuration.setTags(tags);
@@ -45,6 +55,11 @@ public class CamelMcpServerRecorder {
                     // the bridge resolves the engine registry-first
                     camelContext.getRegistry().bind("quarkusCamelMcpServerEngine", McpServerEngine.class, engine);
                     camelContext.addService(bridge);
+                    DevConsoleRegistry consoles = camelContext.getCamelContextExtension()
+                            .getContextPlugin(DevConsoleRegistry.class);
+                    if (consoles != null && consoles.getConsole(McpToolsDevConsole.ID).isEmpty()) {
+                        consoles.register(new McpToolsDevConsole(engine));
+                    }
                 } catch (Exception e) {
                     throw RuntimeCamelException.wrapRuntimeCamelException(e);
                 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.mcp.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call statistics of one MCP tool. The counters only grow; {@link #getInFlight()} is the current state.
+ */
+public final class McpToolMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Completed calls, successful or not, timed out ones included once their route finishes. */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /** Calls whose result was an error. */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /** Calls answered with a timeout error before their route finished. */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /** Calls refused because the tool was running as many calls as it may. */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /** Route execution time, summed over the completed calls. */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /** Calls whose route is still running, including those already answered with a timeout. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    void started() {
+        inFlight.incrementAndGet();
+    }
+
+    void completed(long nanos, boolean error) {
+        inFlight.decrementAndGet();
+        calls.increment();
+        if (error) {
+            errors.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    void timedOut() {
+        timeouts.increment();
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+}
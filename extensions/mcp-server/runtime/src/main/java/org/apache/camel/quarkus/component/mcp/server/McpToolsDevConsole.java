@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.mcp.server;
+
+import java.util.Map;
+
+import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonObject;
+
+/**
+ * A Camel dev console listing the call statistics of the MCP tools.
+ */
+class McpToolsDevConsole extends AbstractDevConsole {
+    static final String ID = "mcp-server-tools";
+
+    private final QuarkusMcpServerEngine engine;
+
+    McpToolsDevConsole(QuarkusMcpServerEngine engine) {
+        super("camel", ID, "MCP Server Tools", "Latency and in-flight calls of the tools exposed over MCP");
+        this.engine = engine;
+    }
+
+    @Override
+    protected String doCallText(Map<String, Object> options) {
+        StringBuilder sb = new StringBuilder();
+        engine.getToolMetrics().forEach((name, metrics) -> {
+            long calls = metrics.getCalls();
+            sb.append(String.format("%s: %d call(s), %d error(s), %d timeout(s), %d rejected, mean %.3f ms, "
+                    + "max %.3f ms, %d in flight%n",
+                    name, calls, metrics.getErrors(), metrics.getTimeouts(), metrics.getRejected(),
+                    calls == 0 ? 0d : metrics.getTotalNanos() / 1_000_000d / calls,
+                    metrics.getMaxNanos() / 1_000_000d, metrics.getInFlight()));
+        });
+        return sb.toString();
+    }
+
+    @Override
+    protected JsonObject doCallJson(Map<String, Object> options) {
+        JsonObject root = new JsonObject();
+        engine.getToolMetrics().forEach((name, metrics) -> {
+            JsonObject tool = new JsonObject();
+            tool.put("calls", metrics.getCalls());
+            tool.put("errors", metrics.getErrors());
+            tool.put("timeouts", metrics.getTimeouts());
+            tool.put("rejected", metrics.getRejected());
+            tool.put("totalNanos", metrics.getTotalNanos());
+            tool.put("maxNanos", metrics.getMaxNanos());
+            tool.put("inFlight", metrics.getInFlight());
+            root.put(name, tool);
+        });
+        return root;
+    }
+}
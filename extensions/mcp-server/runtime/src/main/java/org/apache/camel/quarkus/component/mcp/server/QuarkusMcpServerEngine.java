@@ -17,11 +17,18 @@
 package org.apache.camel.quarkus.component.mcp.server;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import io.quarkiverse.mcp.server.TextContent;
 import io.quarkiverse.mcp.server.ToolManager;
 import io.quarkiverse.mcp.server.ToolResponse;
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.json.JsonObject;
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.ai.tool.AiToolAnnotations;
@@ -38,13 +45,28 @@ import org.slf4j.LoggerFactory;
  * {@link McpServerEngine} publishing tools into the quarkiverse quarkus-mcp-server through its programmatic
  * {@link ToolManager} API. Serving concerns (endpoint path, transports, authentication) are owned by
  * quarkus-mcp-server and configured via {@code quarkus.mcp.server.*}.
+ * <p>
+ * By default a tool call blocks the quarkus-mcp-server worker thread it arrives on until the route behind the tool
+ * completes. With {@link #setAsyncTools(boolean) async tools}, the handler instead returns a {@link Uni} at once and
+ * the route runs on a thread of a Camel-managed pool; each tool then has its own limit of concurrent calls, beyond
+ * which calls are refused, and its own timeout, after which the client receives an error while the route runs on.
  */
 public class QuarkusMcpServerEngine extends ServiceSupport implements McpServerEngine {
 
     private static final Logger LOG = LoggerFactory.getLogger(QuarkusMcpServerEngine.class);
 
+    static final String TIMED_OUT = "Tool execution timed out";
+    static final String CONCURRENCY_LIMIT_REACHED = "Tool concurrency limit reached, retry later";
+
     private final ToolManager toolManager;
+    private final Map<String, McpToolMetrics> toolMetrics = new ConcurrentSkipListMap<>();
     private CamelContext camelContext;
+    private boolean asyncTools;
+    private int maxConcurrentCalls;
+    private Map<String, Integer> toolMaxConcurrentCalls = Map.of();
+    private long toolTimeout;
+    private Map<String, Long> toolTimeouts = Map.of();
+    private volatile ExecutorService executor;
 
     public QuarkusMcpServerEngine(ToolManager toolManager) {
         this.toolManager = toolManager;
@@ -60,6 +82,60 @@ public class QuarkusMcpServerEngine extends ServiceSupport implements McpServerE
         this.camelContext = camelContext;
     }
 
+    public boolean isAsyncTools() {
+        return asyncTools;
+    }
+
+    /**
+     * Whether tool calls return a {@link Uni} rather than block the MCP server thread until the route completes.
+     */
+    public void setAsyncTools(boolean asyncTools) {
+        this.asyncTools = asyncTools;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * The number of calls each tool runs at once with async tools, {@code 0} for no limit.
+     */
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Per-tool overrides of {@link #setMaxConcurrentCalls(int)}, by tool name.
+     */
+    public void setToolMaxConcurrentCalls(Map<String, Integer> toolMaxConcurrentCalls) {
+        this.toolMaxConcurrentCalls = Map.copyOf(toolMaxConcurrentCalls);
+    }
+
+    public long getToolTimeout() {
+        return toolTimeout;
+    }
+
+    /**
+     * The time in milliseconds after which an async tool call is answered with an error, {@code 0} for none.
+     */
+    public void setToolTimeout(long toolTimeout) {
+        this.toolTimeout = toolTimeout;
+    }
+
+    /**
+     * Per-tool overrides of {@link #setToolTimeout(long)}, by tool name.
+     */
+    public void setToolTimeouts(Map<String, Long> toolTimeouts) {
+        this.toolTimeouts = Map.copyOf(toolTimeouts);
+    }
+
+    /**
+     * The call statistics of every tool published so far, by tool name.
+     */
+    public Map<String, McpToolMetrics> getToolMetrics() {
+        return toolMetrics;
+    }
+
     @Override
     public void initialize(McpServerInfo info) {
         // serving identity is owned by quarkus.mcp.server.*; the hint is deliberately ignored
@@ -81,16 +157,94 @@ public class QuarkusMcpServerEngine extends ServiceSupport implements McpServerE
             definition.setInputSchema(new JsonObject(tool.inputSchemaJson()));
         }
         applyAnnotations(definition, tool.annotations());
-        definition.setHandler(arguments -> {
-            Map<String, Object> args = arguments.args() != null ? arguments.args() : Map.of();
-            McpToolCallResult result = tool.handler().call(args);
-            return result.isError()
-                    ? ToolResponse.error(result.text()) : ToolResponse.success(new TextContent(result.text()));
-        });
+        // a tool removed and added again with its route keeps counting where it left off
+        McpToolMetrics metrics = toolMetrics.computeIfAbsent(tool.name(), name -> new McpToolMetrics());
+        if (asyncTools) {
+            int limit = toolMaxConcurrentCalls.getOrDefault(tool.name(), maxConcurrentCalls);
+            Semaphore slots = limit > 0 ? new Semaphore(limit) : null;
+            long timeout = toolTimeouts.getOrDefault(tool.name(), toolTimeout);
+            definition.setAsyncHandler(arguments -> callAsync(tool, arguments.args(), metrics, slots, timeout));
+        } else {
+            definition.setHandler(arguments -> call(tool, arguments.args(), metrics));
+        }
         definition.register();
         LOG.debug("MCP tool added: {}", tool.name());
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        ExecutorService current = executor;
+        if (current != null && camelContext != null) {
+            camelContext.getExecutorServiceManager().shutdown(current);
+            executor = null;
+        }
+    }
+
+    private static ToolResponse call(McpServerTool tool, Map<String, Object> arguments, McpToolMetrics metrics) {
+        metrics.started();
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            McpToolCallResult result = tool.handler().call(arguments != null ? arguments : Map.of());
+            error = result.isError();
+            return error ? ToolResponse.error(result.text()) : ToolResponse.success(new TextContent(result.text()));
+        } finally {
+            metrics.completed(System.nanoTime() - start, error);
+        }
+    }
+
+    private Uni<ToolResponse> callAsync(
+            McpServerTool tool, Map<String, Object> arguments, McpToolMetrics metrics, Semaphore slots, long timeout) {
+        // refused rather than queued: a queue in front of a slow route only turns its latency into the client's
+        if (slots != null && !slots.tryAcquire()) {
+            metrics.rejected();
+            return Uni.createFrom().item(ToolResponse.error(CONCURRENCY_LIMIT_REACHED));
+        }
+        CompletableFuture<ToolResponse> call;
+        try {
+            // the slot is released when the route completes, not when the client gives up on it, so a tool whose
+            // calls keep timing out cannot pile up more running routes than its limit
+            call = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call(tool, arguments, metrics);
+                } finally {
+                    if (slots != null) {
+                        slots.release();
+                    }
+                }
+            }, executor());
+        } catch (RejectedExecutionException e) {
+            if (slots != null) {
+                slots.release();
+            }
+            throw e;
+        }
+        Uni<ToolResponse> response = Uni.createFrom().completionStage(call);
+        if (timeout <= 0) {
+            return response;
+        }
+        return response.ifNoItem().after(Duration.ofMillis(timeout)).recoverWithItem(() -> {
+            metrics.timedOut();
+            return ToolResponse.error(TIMED_OUT);
+        });
+    }
+
+    private ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    // unbounded in size, bounded in practice by the per-tool limits; created through Camel, which
+                    // shuts it down with the context and honours camel.threads.virtual.enabled
+                    current = camelContext.getExecutorServiceManager().newCachedThreadPool(this, "McpTool");
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
     @Override
     public void toolRemoved(String toolName) {
         try {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.micrometer.deployment;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.quarkus.component.micrometer.HdrHistogramLatencyRecorders;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HdrHistogramLatencyRecordersTest {
+    private static final Duration EXPIRY = Duration.ofMillis(300);
+
+    @Test
+    public void maxAndPercentilesExpireWhileCountIsCumulative() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HdrHistogramLatencyRecorders recorders = new HdrHistogramLatencyRecorders(registry, 2, EXPIRY);
+        int index = recorders.register("test.latency", Tags.of("routeId", "test"));
+
+        recorders.record(index, TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0.05, max(registry), 0.001);
+        assertEquals(0.05, percentile(registry, "0.99"), 0.001);
+
+        // Wait for the whole window to pass, so that the outlier is discarded
+        Thread.sleep(EXPIRY.toMillis() * 2);
+
+        recorders.record(index, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(0.001, max(registry), 0.0001);
+        assertEquals(0.001, percentile(registry, "0.99"), 0.0001);
+
+        FunctionTimer timer = registry.find("test.latency").functionTimer();
+        assertEquals(2, timer.count());
+        assertEquals(51, timer.totalTime(TimeUnit.MILLISECONDS), 1);
+    }
+
+    @Test
+    public void registeringTheSameMeterTwiceReturnsTheSameIndex() {
+        HdrHistogramLatencyRecorders recorders = new HdrHistogramLatencyRecorders(new SimpleMeterRegistry(), 2, EXPIRY);
+        int first = recorders.register("test.latency", Tags.of("routeId", "test"));
+        int second = recorders.register("test.latency", Tags.of("routeId", "test"));
+        assertEquals(first, second);
+        assertTrue(recorders.register("test.latency", Tags.of("routeId", "other")) != first);
+    }
+
+    @Test
+    public void invalidExpiry() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HdrHistogramLatencyRecorders(new SimpleMeterRegistry(), 2, Duration.ZERO));
+    }
+
+    private static double max(MeterRegistry registry) throws InterruptedException {
+        // Reads are coalesced, so give the recorder a chance to pick up the latest values
+        Thread.sleep(150);
+        Gauge gauge = registry.find("test.latency.max").gauge();
+        return gauge.value();
+    }
+
+    private static double percentile(MeterRegistry registry, String phi) {
+        return registry.find("test.latency.percentile").tag("phi", phi).gauge().value();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.micrometer.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyFactory;
+import org.apache.camel.quarkus.component.micrometer.HdrHistogramRouteMetrics;
+import org.apache.camel.spi.MessageHistoryFactory;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MicrometerHdrHistogramsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(Routes.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    public void hdrHistogramsReplaceRouteAndNodeTimers() {
+        List<RoutePolicyFactory> routePolicyFactories = context.getRoutePolicyFactories();
+        assertEquals(2, routePolicyFactories.size());
+        MicrometerRoutePolicyFactory micrometerRoutePolicyFactory = routePolicyFactories.stream()
+                .filter(MicrometerRoutePolicyFactory.class::isInstance)
+                .map(MicrometerRoutePolicyFactory.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertTrue(micrometerRoutePolicyFactory.getPolicyConfiguration().isContextEnabled());
+        assertFalse(micrometerRoutePolicyFactory.getPolicyConfiguration().isRouteEnabled());
+        assertTrue(routePolicyFactories.stream().anyMatch(HdrHistogramRouteMetrics.RoutePolicyFactoryImpl.class::isInstance));
+
+        MessageHistoryFactory messageHistoryFactory = context.getMessageHistoryFactory();
+        assertFalse(messageHistoryFactory.getClass().getName().contains("Micrometer"));
+
+        for (int i = 0; i < 5; i++) {
+            producerTemplate.sendBody("direct:start", "Hello");
+        }
+
+        FunctionTimer routeTimer = meterRegistry.find(HdrHistogramRouteMetrics.ROUTE_LATENCY_METER_NAME)
+                .tag("routeId", "hdr")
+                .functionTimer();
+        assertNotNull(routeTimer);
+        assertEquals(5, routeTimer.count());
+        assertTrue(routeTimer.totalTime(TimeUnit.NANOSECONDS) > 0);
+
+        FunctionTimer nodeTimer = meterRegistry.find(HdrHistogramRouteMetrics.NODE_LATENCY_METER_NAME)
+                .tag("nodeId", "hdr-body")
+                .functionTimer();
+        assertNotNull(nodeTimer);
+        assertEquals(5, nodeTimer.count());
+
+        Gauge percentile = meterRegistry.find(HdrHistogramRouteMetrics.ROUTE_LATENCY_METER_NAME + ".percentile")
+                .tag("routeId", "hdr")
+                .tag("phi", "0.99")
+                .gauge();
+        assertNotNull(percentile);
+        assertTrue(percentile.value() > 0);
+    }
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.metrics.enable-hdr-histograms", "true");
+        props.setProperty("quarkus.camel.metrics.enable-message-history", "true");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    public static class Routes extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:start").routeId("hdr")
+                    .setBody().simple("${body} World").id("hdr-body");
+        }
+    }
+}
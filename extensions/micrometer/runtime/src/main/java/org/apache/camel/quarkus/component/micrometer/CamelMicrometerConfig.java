@@ -16,6 +16,7 @@
  */
 package org.apache.camel.quarkus.component.micrometer;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -79,6 +80,38 @@ public interface CamelMicrometerConfig {
     @WithDefault("false")
     boolean enableInstrumentedThreadPoolFactory();
 
+    /**
+     * Set whether to record route and route node processing times into preallocated, lock-free HdrHistogram recorders
+     * instead of Micrometer timers. Each route and node is assigned a recorder when it is started, so no meter lookup
+     * takes place per exchange. Recorded values are published as `camel.route.latency` and `camel.node.latency` meters
+     * when the meter registry is read. Route level timers of the route policy are replaced by `camel.route.latency`,
+     * context level timers are kept. When `enable-message-history` is `true`, node level timers are replaced by
+     * `camel.node.latency`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enableHdrHistograms();
+
+    /**
+     * The number of significant decimal digits to which HdrHistogram recorders maintain value resolution and separation.
+     * Must be a value between 0 and 5. Higher values increase the memory used by each recorder.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("2")
+    int hdrHistogramsSignificantDigits();
+
+    /**
+     * The time window covered by the `.max` and `.percentile` gauges of the HdrHistogram based meters. Values older than
+     * this are gradually discarded, so that the gauges reflect recent latencies. The function timer counts and total
+     * times are not affected and are cumulative.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("2m")
+    Duration hdrHistogramsExpiry();
+
     /**
      * Controls the naming style to use for metrics. The available values are `default` and `legacy`. `default` uses the
      * default Micrometer naming convention. `legacy` uses the legacy camel-case naming style.
@@ -66,7 +66,7 @@ public class CamelMicrometerRecorder {
 
         @Override
         public void configure(CamelContext camelContext) {
-            if (config.enableRoutePolicy()) {
+            if (config.enableRoutePolicy() && !isHdrHistogramsRouteLevelOnly(config)) {
                 MicrometerRoutePolicyFactory factory = new MicrometerRoutePolicyFactory();
                 factory.setCamelContext(camelContext);
                 camelContext.addRoutePolicyFactory(factory);
@@ -87,6 +87,11 @@ public class CamelMicrometerRecorder {
                     policyConfiguration.setRouteEnabled(true);
                 }
 
+                // Route level timings are recorded by HdrHistogramRouteMetrics
+                if (config.enableHdrHistograms()) {
+                    policyConfiguration.setRouteEnabled(false);
+                }
+
                 config.routePolicyExcludePattern().ifPresent(policyConfiguration::setExcludePattern);
             }
 
@@ -138,6 +143,20 @@ public class CamelMicrometerRecorder {
                 camelContext.getExecutorServiceManager().setThreadPoolFactory(instrumentedThreadPoolFactory);
             }
 
+            if (config.enableHdrHistograms()) {
+                HdrHistogramLatencyRecorders recorders = new HdrHistogramLatencyRecorders(meterRegistry,
+                        config.hdrHistogramsSignificantDigits(), config.hdrHistogramsExpiry());
+                if (config.enableRoutePolicy() && !config.routePolicyLevel().equals(RoutePolicyLevel.CONTEXT)) {
+                    camelContext.addRoutePolicyFactory(new HdrHistogramRouteMetrics.RoutePolicyFactoryImpl(recorders,
+                            config.routePolicyExcludePattern().orElse(null)));
+                }
+                if (config.enableMessageHistory()) {
+                    camelContext.getCamelContextExtension()
+                            .addInterceptStrategy(new HdrHistogramRouteMetrics.InterceptStrategyImpl(recorders));
+                }
+                return;
+            }
+
             if (!config.enableMessageHistory()) {
                 return;
             }
@@ -153,4 +172,8 @@ public class CamelMicrometerRecorder {
             camelContext.setMessageHistoryFactory(messageHistoryFactory);
         }
     }
+
+    static boolean isHdrHistogramsRouteLevelOnly(CamelMicrometerConfig config) {
+        return config.enableHdrHistograms() && config.routePolicyLevel().equals(RoutePolicyLevel.ROUTE);
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.micrometer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Preallocated latency recorders backed by HdrHistogram.
+ * <p>
+ * Each recorder is identified by the index returned from {@link #register(String, Tags)}, so the hot path is an array
+ * read followed by a lock-free {@link Recorder#recordValue(long)}. Nothing is resolved from the {@link MeterRegistry}
+ * per exchange. Recorded values are collected lazily when the registry reads the meters, for example on a Prometheus
+ * scrape.
+ * <p>
+ * The function timer count and total time are cumulative, as Micrometer expects. The max and percentile gauges are
+ * computed over a sliding window, in the same way as Micrometer's own distribution statistics: every value is added to
+ * a ring of {@link #BUFFER_LENGTH} histograms, the oldest of which is read and is reset every {@code expiry /
+ * BUFFER_LENGTH}. Hence, the gauges reflect roughly the last {@code expiry} and are not dominated by old outliers.
+ */
+public class HdrHistogramLatencyRecorders {
+    static final double[] PERCENTILES = { 0.5, 0.9, 0.99, 0.999 };
+    static final int BUFFER_LENGTH = 3;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+    private final int significantDigits;
+    private final long rotationIntervalNanos;
+    private volatile LatencyRecorder[] recorders = new LatencyRecorder[0];
+
+    /**
+     * @param meterRegistry     the registry to register the meters with
+     * @param significantDigits the number of significant decimal digits of the histograms
+     * @param expiry            the time window covered by the max and percentile gauges
+     */
+    public HdrHistogramLatencyRecorders(MeterRegistry meterRegistry, int significantDigits, Duration expiry) {
+        if (expiry.isNegative() || expiry.isZero()) {
+            throw new IllegalArgumentException("The HdrHistogram expiry must be positive but was " + expiry);
+        }
+        this.meterRegistry = meterRegistry;
+        this.significantDigits = significantDigits;
+        this.rotationIntervalNanos = Math.max(expiry.toNanos() / BUFFER_LENGTH, 1);
+    }
+
+    /**
+     * Registers a latency recorder and the meters exposing it. Intended to be called when routes are started, not per
+     * exchange.
+     *
+     * @return the index to pass to {@link #record(int, long)}
+     */
+    public synchronized int register(String name, Tags tags) {
+        LatencyRecorder[] current = recorders;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].name.equals(name) && current[i].tags.equals(tags)) {
+                return i;
+            }
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder(name, tags, significantDigits, rotationIntervalNanos);
+        FunctionTimer.builder(name, recorder, LatencyRecorder::count, LatencyRecorder::totalTimeNanos,
+                TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(name + ".max", recorder, LatencyRecorder::maxSeconds)
+                .tags(tags)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        for (double percentile : PERCENTILES) {
+            Gauge.builder(name + ".percentile", recorder, r -> r.percentileSeconds(percentile))
+                    .tags(tags.and("phi", String.valueOf(percentile)))
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        LatencyRecorder[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = recorder;
+        recorders = updated;
+        return current.length;
+    }
+
+    /**
+     * Records a latency in nanoseconds against the recorder with the given index.
+     */
+    public void record(int index, long nanos) {
+        recorders[index].recorder.recordValue(Math.max(nanos, 0));
+    }
+
+    public int size() {
+        return recorders.length;
+    }
+
+    long count(int index) {
+        return recorders[index].count();
+    }
+
+    static final class LatencyRecorder {
+        private final String name;
+        private final Tags tags;
+        private final Recorder recorder;
+        private final Histogram[] window = new Histogram[BUFFER_LENGTH];
+        private final long rotationIntervalNanos;
+        private Histogram interval;
+        private int current;
+        private long lastFlush;
+        private long lastRotation;
+        private long count;
+        private double totalTimeNanos;
+
+        LatencyRecorder(String name, Tags tags, int significantDigits, long rotationIntervalNanos) {
+            this.name = name;
+            this.tags = tags;
+            this.recorder = new Recorder(significantDigits);
+            for (int i = 0; i < BUFFER_LENGTH; i++) {
+                window[i] = new Histogram(significantDigits);
+            }
+            this.rotationIntervalNanos = rotationIntervalNanos;
+            this.interval = recorder.getIntervalHistogram();
+            long now = System.nanoTime();
+            this.lastFlush = now - FLUSH_INTERVAL_NANOS;
+            this.lastRotation = now;
+        }
+
+        /**
+         * Collects the values recorded since the previous flush. Meters of the same recorder are typically read in
+         * quick succession, so flushes are coalesced to one per {@link #FLUSH_INTERVAL_NANOS}.
+         *
+         * @return the histogram covering the current time window
+         */
+        private Histogram flush() {
+            long now = System.nanoTime();
+            if (now - lastFlush >= FLUSH_INTERVAL_NANOS) {
+                rotate(now);
+                interval = recorder.getIntervalHistogram(interval);
+                long intervalCount = interval.getTotalCount();
+                if (intervalCount > 0) {
+                    count += intervalCount;
+                    totalTimeNanos += interval.getMean() * intervalCount;
+                    for (Histogram histogram : window) {
+                        histogram.add(interval);
+                    }
+                }
+                lastFlush = now;
+            }
+            return window[current];
+        }
+
+        /**
+         * Resets the histogram that has been accumulating the longest once per rotation interval, and makes the next
+         * oldest one current.
+         */
+        private void rotate(long now) {
+            long elapsed = now - lastRotation;
+            if (elapsed < rotationIntervalNanos) {
+                return;
+            }
+            if (elapsed >= rotationIntervalNanos * BUFFER_LENGTH) {
+                // Nothing was read for a whole window, so none of the histograms hold recent values
+                for (Histogram histogram : window) {
+                    histogram.reset();
+                }
+                current = 0;
+                lastRotation = now;
+                return;
+            }
+            while (now - lastRotation >= rotationIntervalNanos) {
+                window[current].reset();
+                current = (current + 1) % BUFFER_LENGTH;
+                lastRotation += rotationIntervalNanos;
+            }
+        }
+
+        synchronized long count() {
+            flush();
+            return count;
+        }
+
+        synchronized double totalTimeNanos() {
+            flush();
+            return totalTimeNanos;
+        }
+
+        synchronized double maxSeconds() {
+            return flush().getMaxValue() / NANOS_PER_SECOND;
+        }
+
+        synchronized double percentileSeconds(double percentile) {
+            return flush().getValueAtPercentile(percentile * 100) / NANOS_PER_SECOND;
+        }
+    }
+}
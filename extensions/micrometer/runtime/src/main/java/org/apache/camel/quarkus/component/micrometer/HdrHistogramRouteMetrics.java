@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.micrometer;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Tags;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.PatternHelper;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * Records route and route node processing times into {@link HdrHistogramLatencyRecorders} instead of resolving
+ * Micrometer timers for each exchange.
+ * <p>
+ * The per exchange state needed to compute a latency is held in small objects recycled through per thread free lists,
+ * so timing an exchange does not allocate once those are warmed up.
+ */
+public final class HdrHistogramRouteMetrics {
+    public static final String ROUTE_LATENCY_METER_NAME = "camel.route.latency";
+    public static final String NODE_LATENCY_METER_NAME = "camel.node.latency";
+
+    private HdrHistogramRouteMetrics() {
+        // Utility class
+    }
+
+    /**
+     * {@link RoutePolicyFactory} measuring the time between an exchange entering and completing each route.
+     */
+    public static class RoutePolicyFactoryImpl implements RoutePolicyFactory {
+        private final HdrHistogramLatencyRecorders recorders;
+        private final String[] excludePatterns;
+
+        public RoutePolicyFactoryImpl(HdrHistogramLatencyRecorders recorders, String excludePattern) {
+            this.recorders = recorders;
+            this.excludePatterns = excludePattern != null ? excludePattern.split(",") : new String[0];
+        }
+
+        @Override
+        public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+            for (String pattern : excludePatterns) {
+                if (PatternHelper.matchPattern(routeId, pattern.trim())) {
+                    return null;
+                }
+            }
+            Tags tags = Tags.of("camelContext", camelContext.getName(), "routeId", routeId);
+            return new LatencyRoutePolicy(recorders, recorders.register(ROUTE_LATENCY_METER_NAME, tags), routeId);
+        }
+    }
+
+    static final class LatencyRoutePolicy extends RoutePolicySupport {
+        private static final ThreadLocalPool<StartTime> START_TIMES = new ThreadLocalPool<>(StartTime::new);
+
+        private final HdrHistogramLatencyRecorders recorders;
+        private final int index;
+        private final String startTimeProperty;
+
+        LatencyRoutePolicy(HdrHistogramLatencyRecorders recorders, int index, String routeId) {
+            this.recorders = recorders;
+            this.index = index;
+            this.startTimeProperty = "CamelQuarkusHdrHistogramStart-" + routeId;
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            // A route policy has no per exchange state other than the exchange, so a recycled holder is stored there
+            StartTime startTime = START_TIMES.acquire();
+            startTime.nanos = System.nanoTime();
+            exchange.setProperty(startTimeProperty, startTime);
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Object start = exchange.removeProperty(startTimeProperty);
+            if (start instanceof StartTime startTime) {
+                recorders.record(index, System.nanoTime() - startTime.nanos);
+                START_TIMES.release(startTime);
+            }
+        }
+    }
+
+    static final class StartTime {
+        long nanos;
+    }
+
+    /**
+     * {@link InterceptStrategy} measuring the processing time of each route node. The recorder index is resolved once
+     * when the processor is wrapped.
+     */
+    public static class InterceptStrategyImpl implements InterceptStrategy {
+        private final HdrHistogramLatencyRecorders recorders;
+
+        public InterceptStrategyImpl(HdrHistogramLatencyRecorders recorders) {
+            this.recorders = recorders;
+        }
+
+        @Override
+        public Processor wrapProcessorInInterceptors(CamelContext context, NamedNode definition, Processor target,
+                Processor nextTarget) {
+            String nodeId = definition.getId();
+            if (nodeId == null) {
+                return target;
+            }
+            Tags tags = Tags.of("camelContext", context.getName(), "nodeId", nodeId, "nodeType",
+                    definition.getShortName());
+            return new LatencyProcessor(target, recorders, recorders.register(NODE_LATENCY_METER_NAME, tags));
+        }
+    }
+
+    static final class LatencyProcessor extends DelegateAsyncProcessor {
+        private static final ThreadLocalPool<LatencyCallback> CALLBACKS = new ThreadLocalPool<>(LatencyCallback::new);
+
+        private final HdrHistogramLatencyRecorders recorders;
+        private final int index;
+
+        LatencyProcessor(Processor processor, HdrHistogramLatencyRecorders recorders, int index) {
+            super(processor);
+            this.recorders = recorders;
+            this.index = index;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            LatencyCallback latencyCallback = CALLBACKS.acquire();
+            latencyCallback.init(recorders, index, callback, System.nanoTime());
+            return processor.process(exchange, latencyCallback);
+        }
+    }
+
+    /**
+     * Records the latency of a node and then completes the original callback. Instances are returned to the pool of the
+     * thread completing them, which is the acquiring thread when the node completes synchronously.
+     */
+    static final class LatencyCallback implements AsyncCallback {
+        private HdrHistogramLatencyRecorders recorders;
+        private int index;
+        private AsyncCallback callback;
+        private long startNanos;
+
+        void init(HdrHistogramLatencyRecorders recorders, int index, AsyncCallback callback, long startNanos) {
+            this.recorders = recorders;
+            this.index = index;
+            this.callback = callback;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            AsyncCallback delegate = callback;
+            recorders.record(index, System.nanoTime() - startNanos);
+            recorders = null;
+            callback = null;
+            // Released before completing the original callback, so that the next node can reuse it straight away
+            LatencyProcessor.CALLBACKS.release(this);
+            delegate.done(doneSync);
+        }
+    }
+
+    /**
+     * A bounded per thread free list. Objects released on another thread than the one that acquired them end up in the
+     * free list of the releasing thread, or are left to the garbage collector when that list is full.
+     */
+    static final class ThreadLocalPool<T> {
+        static final int MAX_POOLED = 16;
+
+        private final ThreadLocal<ArrayDeque<T>> pools = ThreadLocal.withInitial(ArrayDeque::new);
+        private final Supplier<T> factory;
+
+        ThreadLocalPool(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        T acquire() {
+            T pooled = pools.get().pollFirst();
+            return pooled != null ? pooled : factory.get();
+        }
+
+        void release(T object) {
+            ArrayDeque<T> pool = pools.get();
+            if (pool.size() < MAX_POOLED) {
+                pool.addFirst(object);
+            }
+        }
+    }
+}
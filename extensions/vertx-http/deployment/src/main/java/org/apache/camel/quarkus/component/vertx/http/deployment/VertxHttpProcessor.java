@@ -16,10 +16,16 @@
  */
 package org.apache.camel.quarkus.component.vertx.http.deployment;
 
+import java.util.Optional;
+
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 import org.apache.camel.component.vertx.http.VertxHttpComponent;
 import org.apache.camel.quarkus.component.vertx.http.CamelVertxHttpRecorder;
@@ -36,9 +42,29 @@ class VertxHttpProcessor {
 
     @Record(ExecutionTime.RUNTIME_INIT)
     @BuildStep
-    CamelRuntimeBeanBuildItem configureVertxComponent(CamelVertxHttpRecorder recorder, VertxBuildItem vertx) {
+    VertxHttpClientProfilesBuildItem createClientProfiles(CamelVertxHttpRecorder recorder) {
+        return new VertxHttpClientProfilesBuildItem(recorder.createClientProfiles());
+    }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    CamelRuntimeBeanBuildItem configureVertxComponent(CamelVertxHttpRecorder recorder, VertxBuildItem vertx,
+            VertxHttpClientProfilesBuildItem clientProfiles) {
         return new CamelRuntimeBeanBuildItem("vertx-http", VertxHttpComponent.class.getName(),
-                recorder.createVertxHttpComponent(vertx.getVertx()));
+                recorder.createVertxHttpComponent(vertx.getVertx(), clientProfiles.getClientProfiles()));
+    }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    void registerClientProfileMetrics(
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            CamelVertxHttpRecorder recorder,
+            VertxHttpClientProfilesBuildItem clientProfiles,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerClientProfileMetrics(clientProfiles.getClientProfiles())));
+        }
     }
 
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.vertx.http;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+@ConfigMapping(prefix = "quarkus.camel.vertx-http")
+public interface CamelVertxHttpConfig {
+
+    /**
+     * HTTP client profiles by name. The `vertx-http` endpoints calling one of the hosts of a profile share a single
+     * Vert.x HTTP client connection pool configured by the profile, instead of creating one pool per endpoint.
+     * Endpoints configured with their own `webClientOptions` or with a proxy do not use the profiles. The
+     * `connectTimeout` and `useCompression` options of the endpoints using a profile are replaced by those of the
+     * profile.
+     *
+     * @asciidoclet
+     */
+    @ConfigDocMapKey("profile-name")
+    Map<String, ClientProfileConfig> clientProfiles();
+
+    @ConfigGroup
+    interface ClientProfileConfig {
+        /**
+         * The hosts whose endpoints use this profile, given as `host` or `host:port`. A `host` entry matches any port
+         * and `*` matches the hosts not listed in any other profile.
+         *
+         * @asciidoclet
+         */
+        List<String> hosts();
+
+        /**
+         * The maximum number of HTTP/1.x connections the pool keeps to each host.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("5")
+        int maxPoolSize();
+
+        /**
+         * The maximum number of requests waiting for a connection from the pool. `-1` means unbounded.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("-1")
+        int maxWaitQueueSize();
+
+        /**
+         * If `true` the client negotiates HTTP/2, using ALPN over TLS and the `h2c` upgrade otherwise, and multiplexes
+         * the requests over the HTTP/2 connections of the pool.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean http2();
+
+        /**
+         * The maximum number of HTTP/2 connections the pool keeps to each host.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("1")
+        int http2MaxPoolSize();
+
+        /**
+         * The maximum number of concurrent requests multiplexed over a single HTTP/2 connection. `-1` means the limit
+         * advertised by the server.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("-1")
+        int http2MultiplexingLimit();
+
+        /**
+         * If `true` HTTP/1.1 requests are pipelined over the pooled connections.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean pipelining();
+
+        /**
+         * The maximum number of requests pipelined over a single HTTP/1.1 connection.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("10")
+        int pipeliningLimit();
+
+        /**
+         * If `true` the pooled connections are kept alive between requests.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("true")
+        boolean keepAlive();
+
+        /**
+         * How long an idle connection is kept alive in the pool.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("60s")
+        Duration keepAliveTimeout();
+
+        /**
+         * The timeout for establishing a new connection.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("60s")
+        Duration connectTimeout();
+
+        /**
+         * If `true` the client requests compressed responses and decompresses them.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean useCompression();
+    }
+}
@@ -16,19 +16,47 @@
  */
 package org.apache.camel.quarkus.component.vertx.http;
 
+import java.util.function.Consumer;
+
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.tracing.TracingPolicy;
 import org.apache.camel.component.vertx.http.VertxHttpComponent;
 
 @Recorder
 public class CamelVertxHttpRecorder {
+    private final RuntimeValue<CamelVertxHttpConfig> config;
+
+    public CamelVertxHttpRecorder(RuntimeValue<CamelVertxHttpConfig> config) {
+        this.config = config;
+    }
 
-    public RuntimeValue<?> createVertxHttpComponent(RuntimeValue<Vertx> vertx) {
-        VertxHttpComponent component = new VertxHttpComponent();
+    public RuntimeValue<VertxHttpClientProfiles> createClientProfiles() {
+        return new RuntimeValue<>(new VertxHttpClientProfiles(config.getValue().clientProfiles()));
+    }
+
+    public RuntimeValue<?> createVertxHttpComponent(RuntimeValue<Vertx> vertx,
+            RuntimeValue<VertxHttpClientProfiles> clientProfiles) {
+        VertxHttpComponent component = new QuarkusVertxHttpComponent(clientProfiles.getValue());
         component.setVertx(vertx.getValue());
         component.setTracingPolicy(TracingPolicy.IGNORE);
         return new RuntimeValue<>(component);
     }
+
+    public Consumer<MetricsFactory> registerClientProfileMetrics(RuntimeValue<VertxHttpClientProfiles> clientProfiles) {
+        return metricsFactory -> {
+            for (VertxHttpClientProfiles.Profile profile : clientProfiles.getValue().profiles()) {
+                metricsFactory.builder("camel.vertx.http.client.connections.open")
+                        .description("Number of open connections in the pool of a vertx-http client profile")
+                        .tag("profile", profile.name())
+                        .buildGauge(profile::openConnections);
+                metricsFactory.builder("camel.vertx.http.client.connections.created")
+                        .description("Number of connections created by the pool of a vertx-http client profile")
+                        .tag("profile", profile.name())
+                        .buildCounter(profile::createdConnections);
+            }
+        };
+    }
 }
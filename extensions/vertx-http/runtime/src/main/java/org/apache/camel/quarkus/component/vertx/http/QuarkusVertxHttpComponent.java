@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.vertx.http;
+
+import java.util.Map;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.component.vertx.http.VertxHttpComponent;
+import org.apache.camel.component.vertx.http.VertxHttpConfiguration;
+import org.apache.camel.component.vertx.http.VertxHttpEndpoint;
+import org.apache.camel.util.URISupport;
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link VertxHttpComponent} handing the {@code WebClientOptions} of the matching client profile to the endpoints
+ * that do not configure their own, so that the endpoints calling the same host share a connection pool.
+ * <p>
+ * Endpoints setting {@code connectTimeout}, {@code useCompression} or SSL options keep their own client: Camel applies
+ * the first two only in the absence of {@code webClientOptions} and a Vert.x shared client keeps the options, including
+ * the TLS ones, of the endpoint that created it.
+ */
+public class QuarkusVertxHttpComponent extends VertxHttpComponent {
+    private static final Logger LOG = Logger.getLogger(QuarkusVertxHttpComponent.class);
+
+    private final VertxHttpClientProfiles clientProfiles;
+
+    public QuarkusVertxHttpComponent(VertxHttpClientProfiles clientProfiles) {
+        this.clientProfiles = clientProfiles;
+    }
+
+    @Override
+    protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+        // Captured before the endpoint consumes the parameters
+        boolean ownClientOptions = parameters.containsKey("connectTimeout") || parameters.containsKey("useCompression");
+        Endpoint endpoint = super.createEndpoint(uri, remaining, parameters);
+        if (endpoint instanceof VertxHttpEndpoint vertxHttpEndpoint) {
+            VertxHttpConfiguration configuration = vertxHttpEndpoint.getConfiguration();
+            if (configuration.getWebClientOptions() == null && configuration.getProxyHost() == null) {
+                VertxHttpClientProfiles.Profile profile = clientProfiles.resolve(configuration.getHttpUri());
+                if (profile != null) {
+                    if (ownClientOptions || configuration.getSslContextParameters() != null) {
+                        LOG.debugf("Not applying client profile %s to %s as it sets its own client options",
+                                profile.name(), URISupport.sanitizeUri(uri));
+                    } else {
+                        configuration.setWebClientOptions(profile.webClientOptions());
+                    }
+                }
+            }
+        }
+        return endpoint;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        clientProfiles.start(getVertx());
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        clientProfiles.stop();
+        super.doStop();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.vertx.http;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
+import org.apache.camel.quarkus.component.vertx.http.CamelVertxHttpConfig.ClientProfileConfig;
+
+/**
+ * The HTTP client profiles configured via {@code quarkus.camel.vertx-http.client-profiles}.
+ * <p>
+ * Each profile is backed by a Vert.x shared HTTP client named after the profile. The endpoints using the profile
+ * create their {@code WebClient} with the same name, so that Vert.x hands them the connection pool of the shared client
+ * instead of creating a new one. The profiles hold a handle on the shared client while the component is started, so
+ * that the pool is created with the options of the profile and its connections can be counted.
+ */
+public final class VertxHttpClientProfiles {
+    static final String ANY_HOST = "*";
+    static final String CLIENT_NAME_PREFIX = "camel-vertx-http-";
+
+    private final List<Profile> profiles = new ArrayList<>();
+    private final Map<String, Profile> profilesByHost = new HashMap<>();
+
+    VertxHttpClientProfiles(Map<String, ClientProfileConfig> config) {
+        config.forEach((name, profileConfig) -> {
+            Profile profile = new Profile(name, webClientOptions(name, profileConfig));
+            profiles.add(profile);
+            for (String host : profileConfig.hosts()) {
+                Profile previous = profilesByHost.put(host.toLowerCase(Locale.ROOT), profile);
+                if (previous != null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Host %s is listed by both the %s and the %s vertx-http client profiles", host,
+                            previous.name, name));
+                }
+            }
+        });
+    }
+
+    /**
+     * @param  httpUri the HTTP URI of an endpoint
+     * @return         the profile for the host of the given URI or {@code null} if no profile applies
+     */
+    Profile resolve(URI httpUri) {
+        if (profilesByHost.isEmpty() || httpUri == null || httpUri.getHost() == null) {
+            return null;
+        }
+        String host = httpUri.getHost().toLowerCase(Locale.ROOT);
+        int port = httpUri.getPort();
+        if (port == -1) {
+            port = "https".equalsIgnoreCase(httpUri.getScheme()) ? 443 : 80;
+        }
+        Profile profile = profilesByHost.get(host + ":" + port);
+        if (profile == null) {
+            profile = profilesByHost.get(host);
+        }
+        return profile != null ? profile : profilesByHost.get(ANY_HOST);
+    }
+
+    List<Profile> profiles() {
+        return Collections.unmodifiableList(profiles);
+    }
+
+    synchronized void start(Vertx vertx) {
+        for (Profile profile : profiles) {
+            profile.start(vertx);
+        }
+    }
+
+    synchronized void stop() {
+        for (Profile profile : profiles) {
+            profile.stop();
+        }
+    }
+
+    static WebClientOptions webClientOptions(String name, ClientProfileConfig config) {
+        WebClientOptions options = new WebClientOptions();
+        options.setShared(true);
+        options.setName(CLIENT_NAME_PREFIX + name);
+        options.setMetricsName(CLIENT_NAME_PREFIX + name);
+        options.setMaxPoolSize(config.maxPoolSize());
+        options.setMaxWaitQueueSize(config.maxWaitQueueSize());
+        if (config.http2()) {
+            options.setProtocolVersion(HttpVersion.HTTP_2);
+            options.setUseAlpn(true);
+        }
+        options.setHttp2MaxPoolSize(config.http2MaxPoolSize());
+        options.setHttp2MultiplexingLimit(config.http2MultiplexingLimit());
+        options.setPipelining(config.pipelining());
+        options.setPipeliningLimit(config.pipeliningLimit());
+        options.setKeepAlive(config.keepAlive());
+        int keepAliveTimeout = (int) config.keepAliveTimeout().toSeconds();
+        options.setKeepAliveTimeout(keepAliveTimeout);
+        options.setHttp2KeepAliveTimeout(keepAliveTimeout);
+        options.setConnectTimeout((int) config.connectTimeout().toMillis());
+        options.setTryUseCompression(config.useCompression());
+        return options;
+    }
+
+    static final class Profile {
+        private final String name;
+        private final WebClientOptions options;
+        private final AtomicInteger openConnections = new AtomicInteger();
+        private final LongAdder createdConnections = new LongAdder();
+        private HttpClient client;
+
+        Profile(String name, WebClientOptions options) {
+            this.name = name;
+            this.options = options;
+        }
+
+        String name() {
+            return name;
+        }
+
+        /**
+         * @return a copy of the options of the profile, to be customized by a single endpoint
+         */
+        WebClientOptions webClientOptions() {
+            return new WebClientOptions(options);
+        }
+
+        int openConnections() {
+            return openConnections.get();
+        }
+
+        long createdConnections() {
+            return createdConnections.sum();
+        }
+
+        void start(Vertx vertx) {
+            if (client == null) {
+                client = vertx.createHttpClient(options);
+                client.connectionHandler(connection -> {
+                    createdConnections.increment();
+                    openConnections.incrementAndGet();
+                    connection.closeHandler(v -> openConnections.decrementAndGet());
+                });
+            }
+        }
+
+        void stop() {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+        }
+    }
+}
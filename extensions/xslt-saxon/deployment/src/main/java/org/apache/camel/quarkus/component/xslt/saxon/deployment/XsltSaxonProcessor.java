@@ -18,6 +18,8 @@ package org.apache.camel.quarkus.component.xslt.saxon.deployment;
 
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
@@ -26,6 +28,12 @@ import net.sf.saxon.functions.StringJoin;
 import net.sf.saxon.functions.String_1;
 import net.sf.saxon.functions.Tokenize_1;
 import org.apache.camel.component.xslt.saxon.XsltSaxonBuilder;
+import org.apache.camel.component.xslt.saxon.XsltSaxonComponent;
+import org.apache.camel.quarkus.component.xslt.CamelXsltConfig;
+import org.apache.camel.quarkus.component.xslt.saxon.CamelXsltSaxonRecorder;
+import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelServiceFilter;
+import org.apache.camel.quarkus.core.deployment.spi.CamelServiceFilterBuildItem;
 import org.jboss.logging.Logger;
 import org.xmlresolver.loaders.XmlLoader;
 
@@ -39,6 +47,30 @@ class XsltSaxonProcessor {
         return new FeatureBuildItem(FEATURE);
     }
 
+    /*
+     * The streaming xslt-saxon component is programmatically configured by the extension thus
+     * we can safely prevent camel to instantiate a default instance.
+     */
+    @BuildStep
+    CamelServiceFilterBuildItem serviceFilter(CamelXsltConfig config) {
+        if (config.streaming().enabled()) {
+            return new CamelServiceFilterBuildItem(CamelServiceFilter.forComponent("xslt-saxon"));
+        }
+        return null;
+    }
+
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    CamelBeanBuildItem xsltSaxonComponent(CamelXsltSaxonRecorder recorder, CamelXsltConfig config) {
+        if (config.streaming().enabled()) {
+            return new CamelBeanBuildItem(
+                    "xslt-saxon",
+                    XsltSaxonComponent.class.getName(),
+                    recorder.createStreamingXsltSaxonComponent());
+        }
+        return null;
+    }
+
     @BuildStep
     void build(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
             BuildProducer<RuntimeInitializedClassBuildItem> runtimeInitializedClasses) {
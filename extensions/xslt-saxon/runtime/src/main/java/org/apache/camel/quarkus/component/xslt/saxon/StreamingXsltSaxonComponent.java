@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xslt.saxon;
+
+import org.apache.camel.Component;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.xslt.XsltBuilder;
+import org.apache.camel.component.xslt.saxon.XsltSaxonComponent;
+import org.apache.camel.component.xslt.saxon.XsltSaxonEndpoint;
+import org.apache.camel.quarkus.component.xslt.XsltStreaming;
+
+/**
+ * The {@code xslt-saxon} component used when {@code quarkus.camel.xslt.streaming.enabled} is {@code true}.
+ */
+public class StreamingXsltSaxonComponent extends XsltSaxonComponent {
+
+    @Override
+    protected XsltSaxonEndpoint createXsltEndpoint(String uri) {
+        return new StreamingXsltSaxonEndpoint(uri, this);
+    }
+
+    static class StreamingXsltSaxonEndpoint extends XsltSaxonEndpoint {
+
+        StreamingXsltSaxonEndpoint(String endpointUri, Component component) {
+            super(endpointUri, component);
+        }
+
+        @Override
+        protected XsltBuilder createXsltBuilder() throws Exception {
+            return XsltStreaming.configure(this, super.createXsltBuilder());
+        }
+
+        @Override
+        protected void onExchange(Exchange exchange) throws Exception {
+            final long start = System.nanoTime();
+            super.onExchange(exchange);
+            XsltStreaming.transformed(this, exchange, start);
+        }
+    }
+}
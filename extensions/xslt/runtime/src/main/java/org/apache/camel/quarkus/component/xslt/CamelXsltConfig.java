@@ -49,4 +49,26 @@ public interface CamelXsltConfig {
      * @asciidoclet
      */
     Map<String, Boolean> features();
+
+    /**
+     * Build time configuration options for streaming XSLT transformations.
+     *
+     * @asciidoclet
+     */
+    StreamingConfig streaming();
+
+    interface StreamingConfig {
+        /**
+         * Whether the `xslt` and `xslt-saxon` endpoints transform large messages without copying them in memory.
+         *
+         * When enabled, the message body is parsed from an `InputStream` through a `SAXSource` instead of being converted
+         * to a `String` or a DOM first. The result of the endpoints with the `string` or `bytes` output is written to a
+         * Camel stream cache, which is spooled to a temporary file above the stream caching spool threshold. The duration
+         * of each transformation is set in milliseconds in the `CamelXsltTransformationTime` message header.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
 }
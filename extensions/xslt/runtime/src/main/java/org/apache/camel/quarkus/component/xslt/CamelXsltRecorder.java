@@ -39,7 +39,7 @@ public class CamelXsltRecorder {
         final RuntimeUriResolver uriResolver = uriResolverBuilder.getValue().build();
         final QuarkusTransformerFactoryConfigurationStrategy strategy = new QuarkusTransformerFactoryConfigurationStrategy(
                 config.packageName(), config.features(), uriResolver);
-        final XsltComponent component = new XsltComponent();
+        final XsltComponent component = config.streaming().enabled() ? new StreamingXsltComponent() : new XsltComponent();
         component.setUriResolverFactory(new QuarkusXsltUriResolverFactory(uriResolver));
         component.setTransformerFactoryConfigurationStrategy(strategy);
         component.setTransformerFactoryClass(XalanTransformerFactory.class.getName());
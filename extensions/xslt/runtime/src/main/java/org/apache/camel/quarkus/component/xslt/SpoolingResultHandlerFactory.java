@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xslt;
+
+import java.io.IOException;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.xslt.ResultHandler;
+import org.apache.camel.component.xslt.ResultHandlerFactory;
+import org.apache.camel.converter.stream.CachedOutputStream;
+
+/**
+ * Writes the result of the transformation to a {@link CachedOutputStream}, which is spooled to a temporary file when the
+ * result exceeds the spool threshold of the Camel stream caching strategy. The message body is then a
+ * {@link org.apache.camel.StreamCache}.
+ */
+public class SpoolingResultHandlerFactory implements ResultHandlerFactory {
+
+    @Override
+    public ResultHandler createResult(Exchange exchange) throws Exception {
+        return new SpoolingResultHandler(new CachedOutputStream(exchange));
+    }
+
+    static class SpoolingResultHandler implements ResultHandler {
+        private final CachedOutputStream out;
+        private final StreamResult result;
+
+        SpoolingResultHandler(CachedOutputStream out) {
+            this.out = out;
+            this.result = new StreamResult(out);
+        }
+
+        @Override
+        public Result getResult() {
+            return result;
+        }
+
+        @Override
+        public void setBody(Message in) {
+            try {
+                in.setBody(out.newStreamCache());
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Could not cache the result of the XSLT transformation", e);
+            }
+        }
+    }
+}
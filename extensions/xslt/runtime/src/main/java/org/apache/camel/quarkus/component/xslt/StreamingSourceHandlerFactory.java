@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xslt;
+
+import java.io.InputStream;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.sax.SAXSource;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExpectedBodyTypeException;
+import org.apache.camel.Expression;
+import org.apache.camel.component.xslt.SourceHandlerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Parses the message body from an {@link InputStream}, so that it is not copied into a {@code String}, a byte array or
+ * a DOM before being transformed.
+ */
+public class StreamingSourceHandlerFactory implements SourceHandlerFactory {
+
+    private final SAXParserFactory parserFactory;
+
+    public StreamingSourceHandlerFactory() {
+        parserFactory = SAXParserFactory.newInstance();
+        parserFactory.setNamespaceAware(true);
+        try {
+            parserFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            parserFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            parserFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IllegalStateException("Could not configure the SAX parser factory", e);
+        }
+    }
+
+    @Override
+    public Source getSource(Exchange exchange, Expression source) throws Exception {
+        final Object body = source != null ? source.evaluate(exchange, Object.class) : exchange.getMessage().getBody();
+        if (body instanceof Source) {
+            return (Source) body;
+        }
+        if (body == null) {
+            throw new ExpectedBodyTypeException(exchange, Source.class);
+        }
+        final InputStream in = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange,
+                body);
+        final XMLReader reader;
+        synchronized (parserFactory) {
+            reader = parserFactory.newSAXParser().getXMLReader();
+        }
+        return new SAXSource(reader, new InputSource(in));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xslt;
+
+import org.apache.camel.Component;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.xslt.XsltBuilder;
+import org.apache.camel.component.xslt.XsltComponent;
+import org.apache.camel.component.xslt.XsltEndpoint;
+
+/**
+ * The {@code xslt} component used when {@code quarkus.camel.xslt.streaming.enabled} is {@code true}.
+ */
+public class StreamingXsltComponent extends XsltComponent {
+
+    @Override
+    protected XsltEndpoint createXsltEndpoint(String uri) {
+        return new StreamingXsltEndpoint(uri, this);
+    }
+
+    static class StreamingXsltEndpoint extends XsltEndpoint {
+
+        StreamingXsltEndpoint(String endpointUri, Component component) {
+            super(endpointUri, component);
+        }
+
+        @Override
+        protected XsltBuilder createXsltBuilder() throws Exception {
+            return XsltStreaming.configure(this, super.createXsltBuilder());
+        }
+
+        @Override
+        protected void onExchange(Exchange exchange) throws Exception {
+            final long start = System.nanoTime();
+            super.onExchange(exchange);
+            XsltStreaming.transformed(this, exchange, start);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xslt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.xslt.XsltBuilder;
+import org.apache.camel.component.xslt.XsltEndpoint;
+import org.apache.camel.component.xslt.XsltOutput;
+import org.jboss.logging.Logger;
+
+/**
+ * Configures the endpoints of the {@code xslt} and {@code xslt-saxon} components for streaming transformations.
+ */
+public final class XsltStreaming {
+    /**
+     * The message header holding the duration of the transformation in milliseconds.
+     */
+    public static final String TRANSFORMATION_TIME = "CamelXsltTransformationTime";
+
+    private static final Logger LOG = Logger.getLogger(XsltStreaming.class);
+
+    private XsltStreaming() {
+    }
+
+    /**
+     * Makes the given builder parse the message body from a stream and, unless the endpoint writes its result to a DOM
+     * or a file, spool the result.
+     */
+    public static XsltBuilder configure(XsltEndpoint endpoint, XsltBuilder xslt) {
+        xslt.setSourceHandlerFactory(new StreamingSourceHandlerFactory());
+        if (endpoint.getOutput() == null || endpoint.getOutput() == XsltOutput.string
+                || endpoint.getOutput() == XsltOutput.bytes) {
+            xslt.setResultHandlerFactory(new SpoolingResultHandlerFactory());
+        }
+        return xslt;
+    }
+
+    /**
+     * Records the duration of a transformation started at the given {@link System#nanoTime()}.
+     */
+    public static void transformed(XsltEndpoint endpoint, Exchange exchange, long startNanos) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        exchange.getMessage().setHeader(TRANSFORMATION_TIME, millis);
+        LOG.debugf("Transformed exchange %s with template %s in %d ms", exchange.getExchangeId(),
+                endpoint.getResourceUri(), millis);
+    }
+}
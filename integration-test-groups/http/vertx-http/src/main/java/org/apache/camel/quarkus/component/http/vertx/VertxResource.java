@@ -19,8 +19,10 @@ package org.apache.camel.quarkus.component.http.vertx;
 import java.nio.charset.StandardCharsets;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.ext.web.multipart.MultipartForm;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -29,10 +31,12 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.PropertyBindingException;
 import org.apache.camel.ResolveEndpointFailedException;
+import org.apache.camel.component.vertx.http.VertxHttpEndpoint;
 import org.apache.camel.http.base.HttpOperationFailedException;
 import org.apache.camel.quarkus.component.http.common.AbstractHttpResource;
 import org.eclipse.microprofile.config.Config;
@@ -44,6 +48,9 @@ import static org.apache.camel.component.vertx.http.VertxHttpConstants.CONTENT_T
 @ApplicationScoped
 public class VertxResource extends AbstractHttpResource {
 
+    @Inject
+    CamelContext context;
+
     @Override
     @Path("/get")
     @GET
@@ -228,4 +235,34 @@ public class VertxResource extends AbstractHttpResource {
 
         return buffer.getBytes();
     }
+
+    @Path("/client-profile")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public String vertxHttpClientProfile(@QueryParam("test-port") int port, @QueryParam("test-ssl-port") int sslPort) {
+        StringBuilder result = new StringBuilder();
+        for (String uri : new String[] {
+                "vertx-http:http://127.0.0.1:" + port + "/service/common/get",
+                "vertx-http:http://127.0.0.1:" + port + "/service/common/get?connectTimeout=5000",
+                "vertx-http:http://localhost:" + port + "/service/common/get" }) {
+            String body = producerTemplate
+                    .to(uri)
+                    .withHeader(Exchange.HTTP_METHOD, "GET")
+                    .request(String.class);
+            WebClientOptions options = context.getEndpoint(uri, VertxHttpEndpoint.class).getConfiguration()
+                    .getWebClientOptions();
+            result.append(body).append(' ').append(options != null ? options.getName() : "none").append('\n');
+        }
+
+        // Endpoints with their own client options or TLS settings never get the shared client of the profile
+        for (String uri : new String[] {
+                "vertx-http:http://127.0.0.1:" + port + "/service/common/get?useCompression=true",
+                "vertx-http:https://127.0.0.1:" + sslPort
+                        + "/service/common/https?sslContextParameters=#sslContextParameters" }) {
+            WebClientOptions options = context.getEndpoint(uri, VertxHttpEndpoint.class).getConfiguration()
+                    .getWebClientOptions();
+            result.append(options != null ? options.getName() : "none").append('\n');
+        }
+        return result.toString();
+    }
 }
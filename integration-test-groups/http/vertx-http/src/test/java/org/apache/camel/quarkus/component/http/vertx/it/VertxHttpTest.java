@@ -116,4 +116,17 @@ public class VertxHttpTest extends AbstractHttpTest {
                 .statusCode(200)
                 .body(is("Compressed response"));
     }
+
+    @Test
+    public void vertxHttpClientProfileShouldBeSharedByHost() {
+        RestAssured
+                .given()
+                .queryParam("test-port", RestAssured.port)
+                .queryParam("test-ssl-port", getPort("quarkus.http.test-ssl-port"))
+                .when()
+                .get("/test/client/vertx-http/client-profile")
+                .then()
+                .statusCode(200)
+                .body(is("get camel-vertx-http-loopback\nget none\nget none\nnone\nnone\n"));
+    }
 }
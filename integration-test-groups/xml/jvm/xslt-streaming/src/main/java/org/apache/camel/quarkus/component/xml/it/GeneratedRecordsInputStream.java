@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xml.it;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates a {@code <records>} document on the fly, so that its size is not limited by the heap.
+ */
+public class GeneratedRecordsInputStream extends InputStream {
+    private final int records;
+    private int record = -1;
+    private byte[] chunk = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><records>".getBytes(StandardCharsets.UTF_8);
+    private int pos;
+
+    public GeneratedRecordsInputStream(int records) {
+        this.records = records;
+    }
+
+    @Override
+    public int read() {
+        if (!nextChunk()) {
+            return -1;
+        }
+        return chunk[pos++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        final int n = Math.min(len, chunk.length - pos);
+        System.arraycopy(chunk, pos, b, off, n);
+        pos += n;
+        return n;
+    }
+
+    private boolean nextChunk() {
+        while (pos == chunk.length) {
+            if (record == records) {
+                return false;
+            }
+            record++;
+            final String xml = record < records
+                    ? String.format("<record id=\"%07d\"><name>Record %07d</name></record>", record, record)
+                    : "</records>";
+            chunk = xml.getBytes(StandardCharsets.UTF_8);
+            pos = 0;
+        }
+        return true;
+    }
+}
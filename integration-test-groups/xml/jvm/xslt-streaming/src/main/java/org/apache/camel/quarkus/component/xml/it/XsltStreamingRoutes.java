@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xml.it;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.converter.stream.FileInputStreamCache;
+import org.apache.camel.quarkus.component.xslt.XsltStreaming;
+
+public class XsltStreamingRoutes extends RouteBuilder {
+
+    @Override
+    public void configure() {
+        from("direct:xslt")
+                .streamCache("false")
+                .to("xslt:xslt/streaming-transform.xsl")
+                .process(XsltStreamingRoutes::summarize);
+
+        from("direct:xslt-saxon")
+                .streamCache("false")
+                .to("xslt-saxon:xslt/streaming-transform.xsl")
+                .process(XsltStreamingRoutes::summarize);
+    }
+
+    /**
+     * Replaces the transformation result with a summary, as the result may be spooled to a file deleted when the exchange
+     * completes.
+     */
+    static void summarize(Exchange exchange) throws Exception {
+        final Object body = exchange.getMessage().getBody();
+        final StreamCache cache = (StreamCache) body;
+        final byte[] closingTag = "</item>".getBytes(StandardCharsets.UTF_8);
+        long items = 0;
+        try (InputStream in = new BufferedInputStream(exchange.getMessage().getBody(InputStream.class))) {
+            int matched = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == closingTag[matched]) {
+                    if (++matched == closingTag.length) {
+                        items++;
+                        matched = 0;
+                    }
+                } else {
+                    matched = b == closingTag[0] ? 1 : 0;
+                }
+            }
+        }
+        exchange.getMessage().setBody(String.format("%s %d %d %d",
+                body instanceof FileInputStreamCache ? "spooled" : "memory",
+                cache.length(),
+                items,
+                exchange.getMessage().getHeader(XsltStreaming.TRANSFORMATION_TIME, Long.class)));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.xml.it;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class XsltStreamingTest {
+    // about 40 MB of input, the test JVM has a 256 MB heap
+    private static final int RECORDS = 750_000;
+    // <item id="0000000">Record 0000000</item>
+    private static final int ITEM_LENGTH = 40;
+
+    @ParameterizedTest
+    @ValueSource(strings = { "xslt", "xslt-saxon" })
+    public void xsltStreaming(String component) {
+        final String[] summary = RestAssured.given()
+                .post("/xml/xslt-streaming/{component}/{records}", component, RECORDS)
+                .then()
+                .statusCode(200)
+                .extract().body().asString().split(" ");
+
+        assertEquals("spooled", summary[0]);
+        assertTrue(Long.parseLong(summary[1]) > (long) RECORDS * ITEM_LENGTH, "Unexpected result length " + summary[1]);
+        assertEquals(RECORDS, Long.parseLong(summary[2]));
+        assertTrue(Long.parseLong(summary[3]) >= 0);
+    }
+}
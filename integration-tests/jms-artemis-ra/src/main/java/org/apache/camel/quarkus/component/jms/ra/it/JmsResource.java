@@ -22,10 +22,16 @@ import jakarta.jms.ConnectionFactory;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import org.apache.camel.CamelContext;
 import org.apache.camel.Produce;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.Route;
+import org.apache.camel.component.jms.JmsConsumer;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.quarkus.component.jms.PooledJmsMessageListenerContainer;
 
 @ApplicationScoped
 @Path("/messaging/jms/ra")
@@ -34,6 +40,9 @@ public class JmsResource {
     @Inject
     ConnectionFactory connectionFactory;
 
+    @Inject
+    CamelContext context;
+
     @Produce("jms:queue:pojoProduce")
     ProducerTemplate pojoProducer;
 
@@ -49,4 +58,33 @@ public class JmsResource {
     public void pojoProducer(String message) {
         pojoProducer.sendBody(message);
     }
+
+    @GET
+    @Path("/listener/container")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String listenerContainerImplementation() throws Exception {
+        for (Route route : context.getRoutes()) {
+            if (route.getConsumer() instanceof JmsConsumer consumer) {
+                return consumer.getListenerContainer().getClass().getName();
+            }
+        }
+        return null;
+    }
+
+    @POST
+    @Path("/listener/pooled/{count}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public long pooledListenerConnections(@PathParam("count") int count) throws Exception {
+        MockEndpoint mockEndpoint = context.getEndpoint("mock:pooledListener", MockEndpoint.class);
+        mockEndpoint.reset();
+        mockEndpoint.expectedMessageCount(count);
+        for (int i = 0; i < count; i++) {
+            pojoProducer.sendBody("jms:queue:pooledListener", "Message " + i);
+        }
+        mockEndpoint.assertIsSatisfied(10000);
+
+        JmsConsumer consumer = (JmsConsumer) context.getRoute("pooledListener").getConsumer();
+        PooledJmsMessageListenerContainer container = (PooledJmsMessageListenerContainer) consumer.getListenerContainer();
+        return container.getPooledConnectionFactory().createdConnections();
+    }
 }
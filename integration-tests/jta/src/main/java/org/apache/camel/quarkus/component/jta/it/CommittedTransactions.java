@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jta.it;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+
+/**
+ * Records the transaction an exchange ran in once it is committed, by route, so that a test can tell how many
+ * transactions its messages were committed in.
+ */
+@ApplicationScoped
+@Named("committedTransactions")
+public class CommittedTransactions implements Processor {
+    private final Map<String, Set<Object>> committed = new ConcurrentHashMap<>();
+
+    @Inject
+    TransactionSynchronizationRegistry registry;
+
+    @Override
+    public void process(Exchange exchange) {
+        String routeId = exchange.getFromRouteId();
+        Object transaction = registry.getTransactionKey();
+        registry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    committed.computeIfAbsent(routeId, id -> ConcurrentHashMap.newKeySet()).add(transaction);
+                }
+            }
+        });
+    }
+
+    public int count(String routeId) {
+        Set<Object> transactions = committed.get(routeId);
+        return transactions == null ? 0 : transactions.size();
+    }
+}
@@ -20,6 +20,11 @@ import java.net.URI;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import io.agroal.api.AgroalDataSource;
@@ -34,9 +39,11 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.component.mock.MockEndpoint;
 import org.apache.camel.quarkus.main.events.AfterStart;
@@ -57,6 +64,9 @@ public class JtaResource {
     @Inject
     CamelContext context;
 
+    @Inject
+    CommittedTransactions committedTransactions;
+
     void postConstruct(@Observes AfterStart event) throws SQLException {
         try (Connection conn = dataSource.getConnection()) {
             try (Statement statement = conn.createStatement()) {
@@ -108,6 +118,47 @@ public class JtaResource {
                 .build();
     }
 
+    /**
+     * Sends {@code count} messages to the given route from {@code concurrency} threads, one of them the
+     * {@code poison} message if set, and returns how many milliseconds that took.
+     */
+    @Path("/load/{route}/{count}/{concurrency}")
+    @POST
+    @Produces(MediaType.TEXT_PLAIN)
+    public long load(@PathParam("route") String route, @PathParam("count") int count,
+            @PathParam("concurrency") int concurrency, @QueryParam("poison") String poison) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> sent = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String message = poison != null && i == count / 2 ? poison : route + "-" + i;
+                sent.add(executor.submit(() -> {
+                    try {
+                        producerTemplate.requestBody("direct:" + route, message, String.class);
+                    } catch (CamelExecutionException e) {
+                        LOG.infof("Message %s failed: %s", message, e.getCause().getMessage());
+                    }
+                }));
+            }
+            for (Future<?> future : sent) {
+                future.get();
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            LOG.infof("Sent %d messages to %s from %d threads in %d ms", count, route, concurrency, elapsed);
+            return elapsed;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Path("/transactions/{route}")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public int transactions(@PathParam("route") String route) {
+        return committedTransactions.count(route);
+    }
+
     @Path("/mock/{name}/{count}/{timeout}")
     @Produces(MediaType.TEXT_PLAIN)
     @GET
@@ -114,5 +114,21 @@ public class JtaRoutes extends RouteBuilder {
         from("jms:queue:sqltxRollback?connectionFactory=#xaConnectionFactory")
                 .to("mock:sqltxRollback");
 
+        loadRoute("unbatched", "PROPAGATION_REQUIRED");
+        loadRoute("batched", "PROPAGATION_REQUIRED_BATCH");
+    }
+
+    private void loadRoute(String name, String policy) {
+        from("direct:" + name)
+                .routeId(name)
+                .transacted(policy)
+                .process("committedTransactions")
+                .setHeader("message", body())
+                .to("jms:queue:" + name + "?connectionFactory=#xaConnectionFactory&disableReplyTo=true")
+                .to("sql:insert into example(message, origin) values (:#message, '" + name + "')")
+                .filter(header("message").startsWith("poison"))
+                .throwException(new RuntimeException("Poisoned message"))
+                .end()
+                .transform().simple("${header.message} added");
     }
 }
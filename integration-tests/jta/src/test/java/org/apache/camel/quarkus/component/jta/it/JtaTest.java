@@ -197,6 +197,56 @@ class JtaTest {
                 .body(Matchers.is(msg));
     }
 
+    @Test
+    public void testBatchedTx() throws SQLException {
+        final int count = 64;
+        final int concurrency = 8;
+
+        long unbatched = Long.parseLong(RestAssured.given()
+                .post("/jta/load/unbatched/" + count + "/" + concurrency)
+                .then()
+                .statusCode(200)
+                .extract().asString());
+        Assertions.assertEquals(count, countDBRows("unbatched"));
+
+        // the poisoned message fails its batch, which is then replayed one message at a time
+        long batched = Long.parseLong(RestAssured.given()
+                .queryParam("poison", "poison")
+                .post("/jta/load/batched/" + count + "/" + concurrency)
+                .then()
+                .statusCode(200)
+                .extract().asString());
+        Assertions.assertEquals(count - 1, countDBRows("batched"));
+
+        // one transaction per message without batching, fewer than the messages committed with it
+        Assertions.assertEquals(count, committedTransactions("unbatched"));
+        int batchedTransactions = committedTransactions("batched");
+        Assertions.assertTrue(batchedTransactions < count - 1,
+                "expected the batched messages to share transactions, got " + batchedTransactions + " transactions");
+
+        LOG.info("{} messages from {} threads: {} ms with PROPAGATION_REQUIRED, {} ms and {} transactions with "
+                + "PROPAGATION_REQUIRED_BATCH", count, concurrency, unbatched, batched, batchedTransactions);
+    }
+
+    private int committedTransactions(String route) {
+        return Integer.parseInt(RestAssured.get("/jta/transactions/" + route)
+                .then()
+                .statusCode(200)
+                .extract().asString());
+    }
+
+    private int countDBRows(String source) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:tcp://localhost/mem:test")) {
+            try (Statement statement = connection.createStatement()) {
+                try (ResultSet resultSet = statement
+                        .executeQuery("SELECT count(*) FROM example WHERE origin = '" + source + "'")) {
+                    resultSet.next();
+                    return resultSet.getInt(1);
+                }
+            }
+        }
+    }
+
     private void assertDBRows(String source, String... expectedMessages) throws SQLException {
         try (Connection connection = DriverManager.getConnection("jdbc:h2:tcp://localhost/mem:test")) {
             try (Statement statement = connection.createStatement()) {
@@ -43,6 +43,13 @@ public class IngestItProducers {
         return new InMemoryEmbeddingStore<>();
     }
 
+    @Produces
+    @Singleton
+    @Named("synced-store")
+    EmbeddingStore<TextSegment> syncedStore() {
+        return new InMemoryEmbeddingStore<>();
+    }
+
     @Produces
     @Singleton
     @Named("built-store")
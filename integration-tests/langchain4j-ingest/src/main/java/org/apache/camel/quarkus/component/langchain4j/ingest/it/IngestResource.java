@@ -19,6 +19,7 @@ package org.apache.camel.quarkus.component.langchain4j.ingest.it;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
@@ -27,6 +28,7 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PathParam;
@@ -54,6 +56,10 @@ public class IngestResource {
     @Named("custom-store")
     EmbeddingStore<TextSegment> customStore;
 
+    @Inject
+    @Named("synced-store")
+    EmbeddingStore<TextSegment> syncedStore;
+
     @Inject
     @Named("built-store")
     EmbeddingStore<TextSegment> builtStore;
@@ -88,6 +94,7 @@ public class IngestResource {
     public List<SearchHit> search(@QueryParam("q") String query, @QueryParam("store") String storeName) {
         EmbeddingStore<TextSegment> store = switch (storeName == null ? "products" : storeName) {
         case "custom" -> customStore;
+        case "synced" -> syncedStore;
         case "built" -> builtStore;
         case "s3" -> s3Store;
         case "events" -> eventsStore;
@@ -120,10 +127,27 @@ public class IngestResource {
     @Produces(MediaType.TEXT_PLAIN)
     public String feed(@PathParam("pipeline") String pipeline, @PathParam("documentId") String documentId,
             String content) {
-        String uri = "built".equals(pipeline) ? "direct:built-source" : "direct:custom-source";
-        IngestResult result = producerTemplate.requestBodyAndHeader(uri, content, IngestHeaders.DOCUMENT_ID,
-                documentId, IngestResult.class);
+        IngestResult result = producerTemplate.requestBodyAndHeader(sourceUri(pipeline), content,
+                IngestHeaders.DOCUMENT_ID, documentId, IngestResult.class);
+        return result.outcome().label();
+    }
+
+    /** Removes a document from a push pipeline through the delete header. */
+    @DELETE
+    @jakarta.ws.rs.Path("/feed/{pipeline}/{documentId:.+}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String delete(@PathParam("pipeline") String pipeline, @PathParam("documentId") String documentId) {
+        IngestResult result = producerTemplate.requestBodyAndHeaders(sourceUri(pipeline), null,
+                Map.of(IngestHeaders.DOCUMENT_ID, documentId, IngestHeaders.DELETE, true), IngestResult.class);
         return result.outcome().label();
     }
 
+    private static String sourceUri(String pipeline) {
+        return switch (pipeline) {
+        case "built" -> "direct:built-source";
+        case "synced" -> "direct:synced-source";
+        default -> "direct:custom-source";
+        };
+    }
+
 }
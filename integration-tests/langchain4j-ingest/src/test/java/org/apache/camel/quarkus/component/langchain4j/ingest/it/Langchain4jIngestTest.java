@@ -96,6 +96,45 @@ class Langchain4jIngestTest {
         assertEquals("datasheets/sigma.txt", hit.get("documentId"));
     }
 
+    /**
+     * With the ledger on, feeding a document again costs nothing unless it changed, a change
+     * replaces only the segments it touched, and a delete takes the vectors with it.
+     */
+    @Test
+    void ledgerMakesIngestionIncremental() {
+        // each sentence close to max-segment-size, so each lands in a segment of its own
+        String first = "The LAMBDA-5 pump is rated for 40 bar of continuous outlet pressure at full load. ";
+        String second = "Its mechanical seals are serviced every 2000 operating hours by a certified fitter. ";
+        String third = "Spare impellers for the LAMBDA-5 pump ship from the central warehouse within a week. ";
+        feed("synced", "pumps/lambda.txt", first + second + third, "ingested");
+        int stored = syncedHits().size();
+        assertTrue(stored > 1, "the document must span several segments");
+
+        feed("synced", "pumps/lambda.txt", first + second + third, "unchanged");
+        assertEquals(stored, syncedHits().size(), "unchanged content must not be written again");
+
+        String edited = third.replace("within a week", "within two days");
+        feed("synced", "pumps/lambda.txt", first + second + edited, "updated");
+        List<Map<String, String>> updated = syncedHits();
+        assertTrue(updated.stream().anyMatch(hit -> hit.get("text").contains("two days")));
+        assertTrue(updated.stream().noneMatch(hit -> hit.get("text").contains("within a week")),
+                "the superseded segments must be removed");
+
+        RestAssured.delete("/langchain4j-ingest/feed/synced/pumps/lambda.txt")
+                .then().statusCode(200).body(org.hamcrest.Matchers.is("deleted"));
+        assertTrue(syncedHits().isEmpty(), "a deleted document must leave no vectors behind");
+    }
+
+    static void feed(String pipeline, String documentId, String content, String expectedOutcome) {
+        RestAssured.given().contentType(ContentType.TEXT).body(content)
+                .post("/langchain4j-ingest/feed/" + pipeline + "/" + documentId)
+                .then().statusCode(200).body(org.hamcrest.Matchers.is(expectedOutcome));
+    }
+
+    static List<Map<String, String>> syncedHits() {
+        return hits("pump", "synced");
+    }
+
     static void write(String name, String content) {
         RestAssured.given().contentType(ContentType.TEXT).body(content)
                 .post("/langchain4j-ingest/file/" + name)
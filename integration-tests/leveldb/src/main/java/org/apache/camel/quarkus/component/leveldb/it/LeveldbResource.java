@@ -16,7 +16,9 @@
  */
 package org.apache.camel.quarkus.component.leveldb.it;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -35,8 +37,16 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.leveldb.LevelDBAggregationRepository;
+import org.apache.camel.component.leveldb.serializer.JacksonLevelDBSerializer;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.quarkus.component.leveldb.BinaryLevelDBSerializer;
+import org.apache.camel.quarkus.component.leveldb.QuarkusLevelDBAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceHelper;
+import org.iq80.leveldb.DBIterator;
 
 import static java.util.stream.Collectors.joining;
 
@@ -121,7 +131,63 @@ public class LeveldbResource {
 
     }
 
-    private List<Map<String, Object>> extractDataFromMock(MockEndpoint mockEndpoint) {
+    @Path("/migrate")
+    @POST
+    @Consumes(MediaType.TEXT_PLAIN)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Object> migrate(String message) throws Exception {
+        final String file = LeveldbRouteBuilder.DATA_FOLDER + "leveldbMigration.dat";
+        final Map<String, Object> result = new HashMap<>();
+
+        LevelDBAggregationRepository jacksonRepo = new LevelDBAggregationRepository("migration", file);
+        jacksonRepo.setSerializer(new JacksonLevelDBSerializer());
+        ServiceHelper.startService(jacksonRepo);
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getMessage().setBody(message);
+            exchange.getMessage().setHeader("id", 123);
+            jacksonRepo.add(context, "jackson", exchange);
+        } finally {
+            ServiceHelper.stopService(jacksonRepo);
+        }
+
+        QuarkusLevelDBAggregationRepository repo = new QuarkusLevelDBAggregationRepository("migration", file);
+        ServiceHelper.startService(repo);
+        try {
+            Exchange migrated = repo.get(context, "jackson");
+            result.put("jacksonBody", migrated.getMessage().getBody());
+            result.put("jacksonId", migrated.getMessage().getHeader("id"));
+
+            repo.add(context, "binary", migrated);
+            // the entries as stored, not as the serializer would write them now
+            result.put("jacksonFormat", BinaryLevelDBSerializer.isBinary(storedEntry(repo, "jackson")));
+            result.put("binaryFormat", BinaryLevelDBSerializer.isBinary(storedEntry(repo, "binary")));
+            Exchange binary = repo.get(context, "binary");
+            result.put("binaryBody", binary.getMessage().getBody());
+            result.put("binaryId", binary.getMessage().getHeader("id"));
+        } finally {
+            ServiceHelper.stopService(repo);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the raw value stored in the LevelDB file of the given repository for the exchange with the given key, which
+     * must not be part of another key of the file.
+     */
+    private static byte[] storedEntry(LevelDBAggregationRepository repo, String key) throws IOException {
+        try (DBIterator iterator = repo.getLevelDBFile().getDb().iterator()) {
+            for (iterator.seekToFirst(); iterator.hasNext();) {
+                final Map.Entry<byte[], byte[]> entry = iterator.next();
+                if (new String(entry.getKey(), StandardCharsets.UTF_8).contains(key)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        throw new IllegalStateException("No entry stored for " + key);
+    }
+
+        private List<Map<String, Object>> extractDataFromMock(MockEndpoint mockEndpoint) {
         List<Map<String, Object>> data = mockEndpoint.getReceivedExchanges().stream().sequential()
                 .map(exchange -> {
                     Map<String, Object> map = new HashMap<>(exchange.getIn().getHeaders());
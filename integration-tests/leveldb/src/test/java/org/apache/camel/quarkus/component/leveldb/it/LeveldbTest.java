@@ -105,6 +105,26 @@ class LeveldbTest {
         assertTrue(theSame);
     }
 
+    @Test
+    public void testJacksonEntriesMigration() {
+        Map<String, Object> result = RestAssured.given()
+                .contentType(ContentType.TEXT)
+                .body("Sheldon")
+                .post("/leveldb/migrate")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(new TypeRef<>() {
+                });
+
+        assertEquals("Sheldon", result.get("jacksonBody"));
+        assertEquals(123, result.get("jacksonId"));
+        assertEquals(Boolean.FALSE, result.get("jacksonFormat"));
+        assertEquals(Boolean.TRUE, result.get("binaryFormat"));
+        assertEquals("Sheldon", result.get("binaryBody"));
+        assertEquals(123, result.get("binaryId"));
+    }
+
     private Map<String, List<Map<String, Object>>> testAggregate(String path, List<String> messages) {
         return testAggregate(path, messages, null);
     }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.quarkus.component.mcp.server.it;
 
+import java.util.Map;
+
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -24,6 +26,8 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import org.apache.camel.CamelContext;
+import org.apache.camel.quarkus.component.mcp.server.McpToolMetrics;
+import org.apache.camel.quarkus.component.mcp.server.QuarkusMcpServerEngine;
 
 @Path("/mcp-server")
 public class McpServerResource {
@@ -43,6 +47,20 @@ public class McpServerResource {
         camelContext.getRouteController().stopRoute(routeId);
     }
 
+    @Path("/tool/{name}/metrics")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Long> toolMetrics(@PathParam("name") String name) {
+        QuarkusMcpServerEngine engine = camelContext.getRegistry()
+                .lookupByNameAndType("quarkusCamelMcpServerEngine", QuarkusMcpServerEngine.class);
+        McpToolMetrics metrics = engine.getToolMetrics().get(name);
+        return Map.of(
+                "calls", metrics.getCalls(),
+                "timeouts", metrics.getTimeouts(),
+                "rejected", metrics.getRejected(),
+                "inFlight", (long) metrics.getInFlight());
+    }
+
     @Path("/route/{routeId}/status")
     @GET
     @Produces(MediaType.TEXT_PLAIN)
@@ -41,6 +41,10 @@ public class McpServerRoutes extends RouteBuilder {
                 .delay(6000)
                 .setBody(constant("done"));
 
+        from("ai-tool:busy_tool?tags=conformance&description=Takes a while, within the tool timeout")
+                .delay(1500)
+                .setBody(constant("done"));
+
         from("ai-tool:hidden_tool?description=Untagged tool, must not be exposed")
                 .setBody(constant("hidden"));
 
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.mcp.server.it;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.quarkiverse.mcp.server.TextContent;
+import io.quarkiverse.mcp.server.ToolResponse;
+import io.quarkiverse.mcp.server.test.McpAssured;
+import io.quarkiverse.mcp.server.test.McpAssured.McpStreamableTestClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.RestAssured;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tool calls invoked asynchronously: the same results as the blocking path, plus the per-tool concurrency limits and
+ * timeouts that only the asynchronous path enforces.
+ */
+@QuarkusTest
+@TestProfile(McpServerAsyncTest.AsyncTools.class)
+class McpServerAsyncTest {
+
+    @Test
+    void testCallToolSuccess() {
+        assertThat(textOf(call("say_hello", Map.of("name", "World")))).isEqualTo("Hello World");
+    }
+
+    @Test
+    void testPerToolTimeoutAnswersBeforeTheToolTimeout() {
+        long start = System.nanoTime();
+        ToolResponse response = call("slow_tool", Map.of());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(response.isError()).isTrue();
+        assertThat(textOf(response)).contains("timed out");
+        // the per-tool 500 ms, not the 2000 ms tool-timeout
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(metric("slow_tool", "timeouts")).isPositive();
+    }
+
+    @Test
+    void testConcurrencyLimitRefusesExcessCalls() {
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        List<ToolResponse> responses;
+        try {
+            List<CompletableFuture<ToolResponse>> calls = IntStream.range(0, 2)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> call("busy_tool", Map.of()), callers))
+                    .toList();
+            responses = calls.stream().map(CompletableFuture::join).toList();
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(responses).filteredOn(response -> textOf(response).equals("done")).hasSize(1);
+        assertThat(responses).filteredOn(response -> textOf(response).contains("concurrency limit")).hasSize(1);
+        assertThat(metric("busy_tool", "rejected")).isEqualTo(1);
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(metric("busy_tool", "inFlight")).isZero());
+    }
+
+    /** One call over a client of its own, so concurrent calls share nothing on the client side. */
+    private static ToolResponse call(String tool, Map<String, Object> arguments) {
+        McpStreamableTestClient client = McpAssured.newStreamableClient()
+                .setBaseUri(URI.create("http://localhost:%d".formatted(
+                        ConfigProvider.getConfig().getValue("quarkus.http.test-port", Integer.class))))
+                .build()
+                .connect();
+        try {
+            ToolResponse[] result = new ToolResponse[1];
+            client.when()
+                    .toolsCall(tool, arguments, response -> result[0] = response)
+                    .thenAssertResults();
+            return result[0];
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    private static long metric(String tool, String name) {
+        return RestAssured.given()
+                .when()
+                .get("/mcp-server/tool/" + tool + "/metrics")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getLong(name);
+    }
+
+    private static String textOf(ToolResponse response) {
+        return response.content().stream()
+                .filter(TextContent.class::isInstance)
+                .map(content -> ((TextContent) content).text())
+                .collect(Collectors.joining());
+    }
+
+    public static class AsyncTools implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.camel.mcp-server.async.enabled", "true",
+                    "quarkus.camel.mcp-server.async.tools.busy_tool.max-concurrent-calls", "1",
+                    "quarkus.camel.mcp-server.async.tools.slow_tool.timeout", "500");
+        }
+    }
+}
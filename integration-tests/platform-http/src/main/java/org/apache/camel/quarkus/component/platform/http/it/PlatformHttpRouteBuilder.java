@@ -17,6 +17,7 @@
 package org.apache.camel.quarkus.component.platform.http.it;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.security.Principal;
 import java.util.Locale;
 import java.util.Map;
@@ -187,5 +188,24 @@ public class PlatformHttpRouteBuilder extends RouteBuilder {
         from("platform-http:/platform-http/timeout?requestTimeout=500")
                 .delay(1000)
                 .setBody().constant("Client won't see this due to request timeout");
+
+        // Streaming of large request bodies
+        from("platform-http:/platform-http/streaming?useStreaming=true&httpMethodRestrict=POST")
+                .process(exchange -> {
+                    Message message = exchange.getMessage();
+                    Object body = message.getBody();
+                    long size = 0;
+                    long available;
+                    try (InputStream in = message.getMandatoryBody(InputStream.class)) {
+                        // An aggregated body would be available in full before anything is read
+                        available = in.available();
+                        byte[] buffer = new byte[8192];
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            size += read;
+                        }
+                    }
+                    message.setBody(body.getClass().getName() + ":" + size + ":" + available);
+                });
     }
 }
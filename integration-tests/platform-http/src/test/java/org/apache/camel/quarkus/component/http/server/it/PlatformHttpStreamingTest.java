@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.http.server.it;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.RestAssured;
+import io.smallrye.certs.Format;
+import io.smallrye.certs.junit5.Certificate;
+import org.apache.camel.quarkus.test.support.certificate.TestCertificates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs in JVM mode only, with a body size limit raised for this test alone.
+ */
+@TestCertificates(certificates = {
+        @Certificate(name = "platform-http", formats = {
+                Format.PKCS12, Format.PEM }, password = "changeit") })
+@QuarkusTest
+@TestProfile(PlatformHttpStreamingTest.StreamingProfile.class)
+class PlatformHttpStreamingTest {
+    private static final long BODY_SIZE = 64L * 1024 * 1024;
+
+    @BeforeAll
+    public static void beforeAll() {
+        RestAssured.trustStore("target/certs/platform-http-truststore.p12", "changeit");
+    }
+
+    @Test
+    public void streaming() throws Exception {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(Paths.get("target/certs/platform-http-truststore.p12"))) {
+            trustStore.load(in, "changeit".toCharArray());
+        }
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+
+        HttpClient client = HttpClient.newBuilder().sslContext(sslContext).build();
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create(RestAssured.baseURI + ":" + RestAssured.port + "/platform-http/streaming"))
+                .POST(HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofInputStream(() -> new GeneratedInputStream(BODY_SIZE)), BODY_SIZE))
+                .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(200, response.statusCode());
+
+        String[] result = response.body().split(":");
+        Assertions.assertNotEquals("[B", result[0]);
+        Assertions.assertFalse(result[0].contains("Buffer"), "Expected a streamed body but was " + result[0]);
+        Assertions.assertEquals(BODY_SIZE, Long.parseLong(result[1]));
+
+        // An aggregated body would be available in full when the route starts reading it
+        long available = Long.parseLong(result[2]);
+        Assertions.assertTrue(available < BODY_SIZE,
+                "Expected the body not to be held in memory but " + available + " bytes were available up front");
+    }
+
+    public static class StreamingProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.http.limits.max-body-size", "128M");
+        }
+    }
+
+    /**
+     * Produces the given number of bytes without holding them in memory.
+     */
+    static final class GeneratedInputStream extends InputStream {
+        private long remaining;
+
+        GeneratedInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 'x';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + count, (byte) 'x');
+            remaining -= count;
+            return count;
+        }
+    }
+}
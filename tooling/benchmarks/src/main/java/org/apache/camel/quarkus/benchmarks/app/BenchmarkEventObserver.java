@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks.app;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.apache.camel.impl.event.CamelContextStartedEvent;
+import org.apache.camel.impl.event.ExchangeCompletedEvent;
+
+/**
+ * Makes the event bridges deliver events so that their overhead shows in the benchmarks, unless disabled through
+ * {@code quarkus.camel.event-bridge.enabled}.
+ */
+@ApplicationScoped
+public class BenchmarkEventObserver {
+    private final LongAdder completedExchanges = new LongAdder();
+    private volatile boolean started;
+
+    void onExchangeCompleted(@Observes ExchangeCompletedEvent event) {
+        completedExchanges.increment();
+    }
+
+    void onContextStarted(@Observes CamelContextStartedEvent event) {
+        started = true;
+    }
+
+    public long getCompletedExchanges() {
+        return completedExchanges.sum();
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+}
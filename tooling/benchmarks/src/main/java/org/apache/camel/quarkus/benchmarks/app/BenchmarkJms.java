@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks.app;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.apache.camel.CamelContext;
+
+/**
+ * An embedded Artemis broker, listening on a local TCP port, and the messages received from it by the {@code jms}
+ * route. The broker is only started by the {@code jms.receive} benchmark target.
+ */
+@ApplicationScoped
+@Named("benchmarkJms")
+public class BenchmarkJms {
+    public static final int BATCH_SIZE = 100;
+
+    private final String brokerUrl = "tcp://localhost:" + freePort();
+    private final AtomicLong received = new AtomicLong();
+    private EmbeddedActiveMQ broker;
+    private Connection connection;
+    private Session session;
+    private MessageProducer producer;
+    private long sent;
+
+    @Produces
+    @Singleton
+    ConnectionFactory connectionFactory() {
+        return new ActiveMQConnectionFactory(brokerUrl);
+    }
+
+    public void received() {
+        received.incrementAndGet();
+    }
+
+    synchronized void start(CamelContext context) throws Exception {
+        if (broker == null) {
+            broker = new EmbeddedActiveMQ();
+            broker.setConfiguration(new ConfigurationImpl()
+                    .setPersistenceEnabled(false)
+                    .setSecurityEnabled(false)
+                    .addAcceptorConfiguration("tcp", brokerUrl));
+            broker.start();
+
+            connection = new ActiveMQConnectionFactory(brokerUrl).createConnection();
+            session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            producer = session.createProducer(session.createQueue("benchmark"));
+            context.getRouteController().startRoute("jms");
+        }
+    }
+
+    /**
+     * Sends a batch of messages and waits until the {@code jms} route received all of them.
+     */
+    Object sendAndAwaitBatch() {
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                producer.send(session.createTextMessage("Hello"));
+            }
+        } catch (JMSException e) {
+            throw new IllegalStateException(e);
+        }
+        sent += BATCH_SIZE;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.get() < sent) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Received " + received.get() + " messages out of " + sent);
+            }
+            LockSupport.parkNanos(10_000);
+        }
+        return sent;
+    }
+
+    @PreDestroy
+    synchronized void stop() throws Exception {
+        if (broker != null) {
+            connection.close();
+            broker.stop();
+            broker = null;
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
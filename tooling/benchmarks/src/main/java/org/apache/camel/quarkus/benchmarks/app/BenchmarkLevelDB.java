@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks.app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.leveldb.LevelDBAggregationRepository;
+import org.apache.camel.component.leveldb.serializer.JacksonLevelDBSerializer;
+import org.apache.camel.quarkus.component.leveldb.QuarkusLevelDBAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * Aggregation repository operations against a LevelDB repository storing the exchanges with the
+ * {@code BinaryLevelDBSerializer} or the {@code JacksonLevelDBSerializer}.
+ */
+final class BenchmarkLevelDB {
+    private static final int KEYS = 1000;
+    private static final int BODY_SIZE = 8192;
+
+    private BenchmarkLevelDB() {
+    }
+
+    /**
+     * Adds an exchange to the repository, as the aggregator does on each aggregated message, and gets it back.
+     */
+    static Supplier<Object> aggregate(CamelContext context, String serializer) {
+        final Path directory = directory(serializer);
+        deleteRecursively(directory);
+        final LevelDBAggregationRepository repository = new QuarkusLevelDBAggregationRepository("benchmark",
+                directory.resolve("leveldb.dat").toString());
+        if ("jackson".equals(serializer)) {
+            repository.setSerializer(new JacksonLevelDBSerializer());
+        }
+        ServiceHelper.startService(repository);
+
+        final Exchange exchange = exchange(context);
+        final int[] counter = new int[1];
+        return () -> {
+            final String key = "key-" + (counter[0]++ % KEYS);
+            repository.add(context, key, exchange);
+            return repository.get(context, key);
+        };
+    }
+
+    /**
+     * @return the size in bytes of the files of the repository
+     */
+    static Supplier<Object> size(String serializer) {
+        return () -> {
+            try (Stream<Path> files = Files.walk(directory(serializer))) {
+                return files.map(Path::toFile).filter(File::isFile).mapToLong(File::length).sum();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static Exchange exchange(CamelContext context) {
+        final byte[] body = new byte[BODY_SIZE];
+        new Random(42).nextBytes(body);
+        final Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        for (int i = 0; i < 5; i++) {
+            exchange.getMessage().setHeader("string" + i, "value-" + i);
+            exchange.getMessage().setHeader("integer" + i, i);
+            exchange.getMessage().setHeader("long" + i, (long) i << 40);
+        }
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 10);
+        exchange.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, "key");
+        return exchange;
+    }
+
+    private static Path directory(String serializer) {
+        return Path.of("target", "leveldb-benchmark", serializer);
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.getNameCount() - a.getNameCount()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
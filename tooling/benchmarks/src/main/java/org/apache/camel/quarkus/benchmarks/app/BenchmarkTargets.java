@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks.app;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.Arc;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.engine.DefaultComponentResolver;
+import org.apache.camel.spi.ClassResolver;
+import org.apache.camel.spi.FactoryFinder;
+import org.apache.camel.spi.Language;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.DefaultExchange;
+
+/**
+ * The operations measured by the benchmarks. They are created in the class loader of the running application and
+ * exposed through JDK types only, so that the benchmarks, loaded by the system class loader, can call them without
+ * sharing any Camel class with the application.
+ */
+public final class BenchmarkTargets {
+    private BenchmarkTargets() {
+    }
+
+    public static Supplier<Object> target(String name) {
+        final CamelContext context = Arc.container().instance(CamelContext.class).get();
+        switch (name) {
+        case "typeConverter.stringToInteger": {
+            final TypeConverter converter = context.getTypeConverter();
+            return () -> converter.convertTo(Integer.class, "42");
+        }
+        case "typeConverter.integerToString": {
+            final TypeConverter converter = context.getTypeConverter();
+            final Integer value = 42;
+            return () -> converter.convertTo(String.class, value);
+        }
+        case "typeConverter.miss": {
+            final TypeConverter converter = context.getTypeConverter();
+            final BenchmarkBean value = new BenchmarkBean();
+            return () -> converter.tryConvertTo(Thread.class, value);
+        }
+        case "factoryFinder.findClass": {
+            final FactoryFinder finder = context.getCamelContextExtension()
+                    .getFactoryFinder(DefaultComponentResolver.RESOURCE_PATH);
+            return () -> finder.findClass("direct").orElse(null);
+        }
+        case "factoryFinder.newInstance": {
+            final FactoryFinder finder = context.getCamelContextExtension()
+                    .getFactoryFinder(DefaultComponentResolver.RESOURCE_PATH);
+            return () -> finder.newInstance("direct").orElse(null);
+        }
+        case "registry.lookupByNameAndType": {
+            final Registry registry = context.getRegistry();
+            return () -> registry.lookupByNameAndType("benchmarkBean", BenchmarkBean.class);
+        }
+        case "registry.findSingleByType": {
+            final Registry registry = context.getRegistry();
+            return () -> registry.findSingleByType(BenchmarkBean.class);
+        }
+        case "classResolver.hit": {
+            final ClassResolver resolver = context.getClassResolver();
+            return () -> resolver.resolveClass(BenchmarkBean.class.getName());
+        }
+        case "classResolver.miss": {
+            final ClassResolver resolver = context.getClassResolver();
+            return () -> resolver.resolveClass("org.apache.camel.quarkus.benchmarks.app.Missing");
+        }
+        case "csimple.expression":
+            return expression(context, "csimple", "Hello ${body}");
+        case "csimple.predicate":
+            return predicate(context, "csimple", "${body} > 10");
+        case "simple.expression":
+            return expression(context, "simple", "Hello ${body}");
+        case "simple.predicate":
+            return predicate(context, "simple", "${body} > 10");
+        case "route.direct": {
+            final ProducerTemplate template = context.createProducerTemplate();
+            return () -> template.requestBody("direct:benchmark", 42);
+        }
+        case "route.consume": {
+            final ProducerTemplate template = context.createProducerTemplate();
+            return () -> template.requestBodyAndHeader("direct:consume", 42, "greeting", "Hello");
+        }
+        case "jms.receive": {
+            final BenchmarkJms jms = Arc.container().instance(BenchmarkJms.class).get();
+            try {
+                jms.start(context);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return jms::sendAndAwaitBatch;
+        }
+        case "leveldb.aggregate.binary":
+        case "leveldb.aggregate.jackson":
+            return BenchmarkLevelDB.aggregate(context, name.substring(name.lastIndexOf('.') + 1));
+        case "leveldb.size.binary":
+        case "leveldb.size.jackson":
+            return BenchmarkLevelDB.size(name.substring(name.lastIndexOf('.') + 1));
+        case "route.router": {
+            final ProducerTemplate template = context.createProducerTemplate();
+            final Map<String, Object> headers = Map.of(
+                    "type", "type-" + (ContentBasedRouterRoutes.BRANCHES - 1),
+                    "priority", 100);
+            return () -> template.requestBodyAndHeaders("direct:router", "Hello", headers);
+        }
+        default:
+            throw new IllegalArgumentException("Unknown benchmark target " + name);
+        }
+    }
+
+    public static long completedExchanges() {
+        return Arc.container().instance(BenchmarkEventObserver.class).get().getCompletedExchanges();
+    }
+
+    private static Supplier<Object> expression(CamelContext context, String language, String text) {
+        final Language lang = context.resolveLanguage(language);
+        final Expression expression = lang.createExpression(text);
+        expression.init(context);
+        final Exchange exchange = exchange(context);
+        return () -> expression.evaluate(exchange, String.class);
+    }
+
+    private static Supplier<Object> predicate(CamelContext context, String language, String text) {
+        final Language lang = context.resolveLanguage(language);
+        final Predicate predicate = lang.createPredicate(text);
+        predicate.init(context);
+        final Exchange exchange = exchange(context);
+        return () -> predicate.matches(exchange);
+    }
+
+    private static Exchange exchange(CamelContext context) {
+        final Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(42);
+        return exchange;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks.app;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ChoiceDefinition;
+
+/**
+ * A content based router with many CSimple predicates, like the generated ones.
+ */
+public class ContentBasedRouterRoutes extends RouteBuilder {
+    public static final int BRANCHES = 500;
+
+    @Override
+    public void configure() {
+        final ChoiceDefinition choice = from("direct:router").routeId("router").choice();
+        for (int i = 0; i < BRANCHES; i++) {
+            choice.when().csimple("${header.type} == 'type-" + i + "' && ${header.priority} > " + (i % 10))
+                    .setBody().csimple("${body} routed to " + i);
+        }
+        choice.otherwise().setBody().constant("unrouted");
+    }
+}
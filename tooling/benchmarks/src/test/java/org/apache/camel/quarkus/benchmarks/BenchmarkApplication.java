@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.quarkus.bootstrap.app.CuratedApplication;
+import io.quarkus.bootstrap.app.QuarkusBootstrap;
+import io.quarkus.bootstrap.app.RunningQuarkusApplication;
+import io.quarkus.bootstrap.app.StartupAction;
+
+/**
+ * Boots the application under {@code src/main} with the Quarkus test bootstrap, so that the benchmarks measure a
+ * {@code FastCamelContext} configured by the same build steps and recorders as in a real application.
+ */
+final class BenchmarkApplication implements AutoCloseable {
+    private static final String TARGETS_CLASS = "org.apache.camel.quarkus.benchmarks.app.BenchmarkTargets";
+
+    private final Map<String, String> config;
+    private final CuratedApplication curatedApplication;
+    private final StartupAction startupAction;
+    private RunningQuarkusApplication runningApplication;
+
+    private BenchmarkApplication(Map<String, String> config, CuratedApplication curatedApplication,
+            StartupAction startupAction) {
+        this.config = config;
+        this.curatedApplication = curatedApplication;
+        this.startupAction = startupAction;
+    }
+
+    /**
+     * Runs the Quarkus build steps for the application, overriding its configuration with the given properties.
+     */
+    static BenchmarkApplication augment(Map<String, String> config) throws Exception {
+        config.forEach(System::setProperty);
+        final Path projectRoot = Paths.get("").toAbsolutePath();
+        final Path target = projectRoot.resolve("target");
+        final CuratedApplication curatedApplication = QuarkusBootstrap.builder()
+                .setApplicationRoot(target.resolve("classes"))
+                .setProjectRoot(projectRoot)
+                .setTargetDirectory(target)
+                // Keep the JMH generated classes out of the application
+                .addExcludedPath(target.resolve("test-classes"))
+                .setMode(QuarkusBootstrap.Mode.TEST)
+                .build()
+                .bootstrap();
+        try {
+            return new BenchmarkApplication(config, curatedApplication,
+                    curatedApplication.createAugmentor().createInitialRuntimeApplication());
+        } catch (Exception | Error e) {
+            curatedApplication.close();
+            config.keySet().forEach(System::clearProperty);
+            throw e;
+        }
+    }
+
+    static BenchmarkApplication start(Map<String, String> config) throws Exception {
+        final BenchmarkApplication application = augment(config);
+        application.start();
+        return application;
+    }
+
+    /**
+     * Runs the static and runtime initialization of the application, i.e. starts the Camel context.
+     */
+    void start() throws Exception {
+        runningApplication = startupAction.run();
+    }
+
+    /**
+     * @param  name the name of the operation, see {@code BenchmarkTargets}
+     * @return      the operation bound to the Camel context of the running application
+     */
+    @SuppressWarnings("unchecked")
+    Supplier<Object> target(String name) throws Exception {
+        return (Supplier<Object>) targetsMethod("target", String.class).invoke(null, name);
+    }
+
+    long completedExchanges() throws Exception {
+        return (Long) targetsMethod("completedExchanges").invoke(null);
+    }
+
+    private Method targetsMethod(String name, Class<?>... parameterTypes) throws Exception {
+        if (runningApplication == null) {
+            throw new IllegalStateException("The application is not started");
+        }
+        return runningApplication.getClassLoader().loadClass(TARGETS_CLASS).getMethod(name, parameterTypes);
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            if (runningApplication != null) {
+                runningApplication.close();
+            }
+        } finally {
+            curatedApplication.close();
+            config.keySet().forEach(System::clearProperty);
+        }
+    }
+}
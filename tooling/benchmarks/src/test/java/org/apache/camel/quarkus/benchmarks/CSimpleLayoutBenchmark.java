@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a content based router with many CSimple predicates compiled one per class and compiled in groups of
+ * expressions. The loaded classes and the used metaspace of the benchmark JVM are reported as secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CSimpleLayoutBenchmark {
+    @Param({ "1", "100" })
+    public String expressionsPerClass;
+
+    private BenchmarkApplication application;
+    private Supplier<Object> router;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long loadedClasses;
+        public long metaspaceKiB;
+
+        @Setup(Level.Iteration)
+        public void measure() {
+            loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+            metaspaceKiB = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> "Metaspace".equals(pool.getName()))
+                    .map(MemoryPoolMXBean::getUsage)
+                    .mapToLong(usage -> usage.getUsed() / 1024)
+                    .sum();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        application = BenchmarkApplication.start(Map.of("quarkus.camel.csimple.expressions-per-class", expressionsPerClass));
+        router = application.target("route.router");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        application.close();
+    }
+
+    @Benchmark
+    public Object router(Footprint footprint) {
+        return router.get();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency added to a route by the delivery of Camel management events to CDI observers, with the event
+ * bridges disabled, delivering synchronously and delivering asynchronously.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBridgeBenchmark {
+    @Param({ "disabled", "sync", "async" })
+    public String eventBridge;
+
+    private BenchmarkApplication application;
+    private Supplier<Object> route;
+
+    @Setup
+    public void setup() throws Exception {
+        application = BenchmarkApplication.start(Map.of(
+                "quarkus.camel.event-bridge.enabled", String.valueOf(!"disabled".equals(eventBridge)),
+                "quarkus.camel.event-bridge.async.enabled", String.valueOf("async".equals(eventBridge))));
+        route = application.target("route.direct");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (!"disabled".equals(eventBridge) && application.completedExchanges() == 0) {
+            throw new IllegalStateException("No ExchangeCompletedEvent was delivered with the " + eventBridge
+                    + " event bridge");
+        }
+        application.close();
+    }
+
+    @Benchmark
+    public Object route() {
+        return route.get();
+    }
+}
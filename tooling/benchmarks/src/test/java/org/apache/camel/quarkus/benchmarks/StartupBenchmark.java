@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the static and runtime initialization of the application, i.e. the time from the end of the Quarkus build
+ * to a started Camel context, with and without the startup profiler and with the CSimple expressions compiled one per
+ * class or in groups. The build itself is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+    @Param({ "false", "true" })
+    public String startupProfiler;
+
+    @Param({ "1", "100" })
+    public String csimpleExpressionsPerClass;
+
+    private BenchmarkApplication application;
+
+    @Setup(Level.Invocation)
+    public void setup() throws Exception {
+        application = BenchmarkApplication.augment(Map.of(
+                "quarkus.camel.startup-profiler.enabled", startupProfiler,
+                "quarkus.camel.csimple.expressions-per-class", csimpleExpressionsPerClass));
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws Exception {
+        application.close();
+    }
+
+    @Benchmark
+    public void start() throws Exception {
+        application.start();
+    }
+}
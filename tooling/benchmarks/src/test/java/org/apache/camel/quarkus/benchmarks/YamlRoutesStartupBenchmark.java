@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to a started Camel context of the application with 320 YAML routes, next to the route configuration
+ * of {@code src/main/resources/yaml-routes}, parsed at runtime and parsed at build time. The routes are generated into
+ * the application classes before the first build. The build itself is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class YamlRoutesStartupBenchmark {
+    private static final int FILES = 32;
+    private static final int ROUTES_PER_FILE = 10;
+    private static final String ROUTE = """
+            - route:
+                id: "yaml-%1$d"
+                from:
+                    uri: "direct:yaml-%1$d"
+                    steps:
+                        - setHeader:
+                            name: "route"
+                            constant: "%1$d"
+                        - choice:
+                            when:
+                                - simple: "${body} == null"
+                                  steps:
+                                      - setBody:
+                                          constant: "empty"
+                            otherwise:
+                                steps:
+                                    - setBody:
+                                        simple: "route ${header.route}: ${body}"
+                        - convertBodyTo:
+                            type: "java.lang.String"
+
+            """;
+
+    @Param({ "false", "true" })
+    public String preParseRoutes;
+
+    private BenchmarkApplication application;
+
+    @Setup(Level.Trial)
+    public void generateRoutes() throws IOException {
+        final Path directory = Paths.get("target", "classes", "yaml-routes");
+        Files.createDirectories(directory);
+        for (int file = 0; file < FILES; file++) {
+            final StringBuilder routes = new StringBuilder();
+            for (int route = file * ROUTES_PER_FILE; route < (file + 1) * ROUTES_PER_FILE; route++) {
+                routes.append(String.format(ROUTE, route));
+            }
+            Files.writeString(directory.resolve(String.format("routes-%02d.yaml", file)), routes);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() throws Exception {
+        application = BenchmarkApplication.augment(Map.of(
+                "camel.main.routes-include-pattern", "classpath:yaml-routes/*.yaml",
+                "quarkus.camel.yaml-dsl.pre-parse-routes", preParseRoutes));
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws Exception {
+        application.close();
+    }
+
+    @Benchmark
+    public void start() throws Exception {
+        application.start();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.performance.regression;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * Exposes the memory and startup metrics collected by the performance regression tool once a scenario is over.
+ */
+public class PerfMetricsRouteBuilder extends RouteBuilder {
+
+    private final AtomicLong firstRequestTime = new AtomicLong(-1);
+
+    @Override
+    public void configure() throws Exception {
+        // Polled by maven right after the application is started, the first successful request marks the end of startup
+        from("platform-http:/perf/ready")
+                .process(exchange -> firstRequestTime.compareAndSet(-1, System.currentTimeMillis()))
+                .setBody(constant("ready"));
+
+        from("platform-http:/perf/metrics")
+                .process(exchange -> exchange.getMessage().setBody(collectMetrics()));
+    }
+
+    private String collectMetrics() {
+        long startTime = ProcessHandle.current().info().startInstant().map(Instant::toEpochMilli).orElse(-1L);
+        long timeToFirstRequest = startTime < 0 || firstRequestTime.get() < 0 ? -1 : firstRequestTime.get() - startTime;
+
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heapAfterGc = runtime.totalMemory() - runtime.freeMemory();
+
+        return "rss.bytes=" + readRss() + "\n"
+                + "heap.after.gc.bytes=" + heapAfterGc + "\n"
+                + "time.to.first.request.ms=" + timeToFirstRequest + "\n";
+    }
+
+    // Linux only, e.g. "VmRSS:	  123456 kB", -1 elsewhere
+    private static long readRss() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    String kiloBytes = line.substring("VmRSS:".length()).replace("kB", "").trim();
+                    return Long.parseLong(kiloBytes) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not available on this platform
+        }
+        return -1;
+    }
+
+}
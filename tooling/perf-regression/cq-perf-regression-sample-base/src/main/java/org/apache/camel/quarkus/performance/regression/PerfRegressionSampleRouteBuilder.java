@@ -16,13 +16,43 @@
  */
 package org.apache.camel.quarkus.performance.regression;
 
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.AggregationStrategies;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.dataformat.JsonLibrary;
 
 public class PerfRegressionSampleRouteBuilder extends RouteBuilder {
 
     @Override
     public void configure() throws Exception {
+        // hello scenario
         from("platform-http:/hello").transform(simple("Hello ${body}"));
+
+        // split-aggregate scenario
+        from("platform-http:/split-aggregate")
+                .split(body().tokenize(","), AggregationStrategies.string(","))
+                .transform(simple("${body.toUpperCase()}"))
+                .end();
+
+        // marshalling scenario
+        from("platform-http:/marshalling")
+                .unmarshal().json(JsonLibrary.Jackson, Map.class)
+                .marshal().json(JsonLibrary.Jackson);
+
+        // file-polling scenario
+        from("platform-http:/file-polling")
+                .setHeader(Exchange.FILE_NAME, simple("${exchangeId}.txt"))
+                .to("file:target/perf-files");
+        from("file:target/perf-files?delete=true&delay=10")
+                .convertBodyTo(String.class);
+
+        // kafka scenario, only started on demand as it needs a broker
+        from("platform-http:/kafka").autoStartup("{{perf.kafka.enabled}}")
+                .to("kafka:cq-perf-regression?brokers={{perf.kafka.brokers}}");
+        from("kafka:cq-perf-regression?brokers={{perf.kafka.brokers}}").autoStartup("{{perf.kafka.enabled}}")
+                .convertBodyTo(String.class);
     }
 
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.performance.regression;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.RegExUtils;
+
+public class MeasureExtractionHelper {
+
+    private static final NumberFormat US_NUMBER_FORMAT = NumberFormat.getInstance(Locale.US);
+
+    // A row of the HdrHistogram percentile distribution, e.g. "       1.327 0.990000000000      98765         100.00"
+    private static final Pattern PERCENTILE_ROW = Pattern.compile("([0-9.]+)\\s+([01]\\.[0-9]{12})\\s+[0-9]+");
+
+    private static final double BYTES_PER_MIB = 1024.0 * 1024.0;
+
+    // Extract the throughput from a log line like "15:26:23,110 INFO  (main) [i.h.m.RunMojo] Requests/sec: 1153.56"
+    public static double extractThroughput(String stdout) {
+        String throughput = RegExUtils.replacePattern((CharSequence) stdout, ".*RunMojo] Requests/sec: ([0-9.]+).*", "$1");
+
+        try {
+            return US_NUMBER_FORMAT.parse(throughput).doubleValue();
+        } catch (ParseException pex) {
+            throw new RuntimeException(
+                    "An issue occured while parsing the mean throughput measured by the hyperfoil-maven-plugin", pex);
+        }
+    }
+
+    /**
+     * Extract the latency percentiles, in milliseconds, from the percentile distribution printed by the
+     * hyperfoil-maven-plugin when outputPercentileDistribution is enabled. The values of the distribution are expected in
+     * microseconds. Missing percentiles are reported as NaN.
+     */
+    public static Map<Metric, Double> extractLatencyPercentiles(String stdout) {
+        // Only the last distribution printed is of interest, a new one starts whenever the percentile goes down
+        List<double[]> rows = new ArrayList<>();
+        Matcher matcher = PERCENTILE_ROW.matcher(stdout);
+        while (matcher.find()) {
+            double value = Double.parseDouble(matcher.group(1));
+            double percentile = Double.parseDouble(matcher.group(2));
+            if (!rows.isEmpty() && percentile < rows.get(rows.size() - 1)[1]) {
+                rows.clear();
+            }
+            rows.add(new double[] { value, percentile });
+        }
+
+        Map<Metric, Double> percentiles = new EnumMap<>(Metric.class);
+        percentiles.put(Metric.LATENCY_P50, valueAtPercentile(rows, 0.50));
+        percentiles.put(Metric.LATENCY_P99, valueAtPercentile(rows, 0.99));
+        percentiles.put(Metric.LATENCY_P999, valueAtPercentile(rows, 0.999));
+        return percentiles;
+    }
+
+    private static double valueAtPercentile(List<double[]> rows, double percentile) {
+        for (double[] row : rows) {
+            if (row[1] >= percentile) {
+                return row[0] / 1000.0;
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Read the memory and startup metrics that the sample application reported once the scenario was over. Metrics the
+     * application could not collect, or a missing report, are reported as NaN.
+     */
+    public static Map<Metric, Double> readApplicationMetrics(Path cqVersionUnderTestFolder) throws IOException {
+        Properties properties = new Properties();
+        Path metricsFile = cqVersionUnderTestFolder.resolve("target/perf-metrics.properties");
+        if (Files.exists(metricsFile)) {
+            try (Reader reader = Files.newBufferedReader(metricsFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+
+        Map<Metric, Double> metrics = new EnumMap<>(Metric.class);
+        metrics.put(Metric.RSS, readMetric(properties, "rss.bytes") / BYTES_PER_MIB);
+        metrics.put(Metric.HEAP_AFTER_GC, readMetric(properties, "heap.after.gc.bytes") / BYTES_PER_MIB);
+        metrics.put(Metric.TIME_TO_FIRST_REQUEST, readMetric(properties, "time.to.first.request.ms"));
+        return metrics;
+    }
+
+    private static double readMetric(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.startsWith("-")) {
+            return Double.NaN;
+        }
+        return Double.parseDouble(value.trim());
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.performance.regression;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A measure collected for each scenario run, along with the threshold beyond which a change compared to the reference
+ * version is reported as a potential regression.
+ */
+public enum Metric {
+
+    THROUGHPUT("throughput", "req/s", "req/s", true, 5.0),
+    LATENCY_P50("p50", "p50", "ms", false, 5.0),
+    LATENCY_P99("p99", "p99", "ms", false, 10.0),
+    LATENCY_P999("p99.9", "p99.9", "ms", false, 20.0),
+    RSS("rss", "RSS", "MiB", false, 10.0),
+    HEAP_AFTER_GC("heap", "Heap after GC", "MiB", false, 10.0),
+    TIME_TO_FIRST_REQUEST("first-request", "First request", "ms", false, 10.0);
+
+    private final String id;
+    private final String label;
+    private final String unit;
+    private final boolean higherIsBetter;
+    private final double defaultThreshold;
+
+    Metric(String id, String label, String unit, boolean higherIsBetter, double defaultThreshold) {
+        this.id = id;
+        this.label = label;
+        this.unit = unit;
+        this.higherIsBetter = higherIsBetter;
+        this.defaultThreshold = defaultThreshold;
+    }
+
+    /**
+     * @return the name used to refer to this metric on the command line, e.g. in {@code --threshold p99=15}
+     */
+    public String getId() {
+        return id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public boolean isHigherBetter() {
+        return higherIsBetter;
+    }
+
+    /**
+     * @return the default percent change in the wrong direction from which a regression is reported
+     */
+    public double getDefaultThreshold() {
+        return defaultThreshold;
+    }
+
+    /**
+     * @return whether a {@code percentChange} compared to the reference version exceeds {@code threshold} percent in
+     *         the wrong direction for this metric
+     */
+    public boolean isRegression(double percentChange, double threshold) {
+        return higherIsBetter ? percentChange <= -threshold : percentChange >= threshold;
+    }
+
+    public static Metric fromId(String id) {
+        for (Metric metric : values()) {
+            if (metric.id.equals(id)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Unknown metric '" + id + "', expected one of: "
+                + Arrays.stream(values()).map(Metric::getId).collect(Collectors.joining(", ")));
+    }
+}
@@ -23,23 +23,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DateFormat;
-import java.text.NumberFormat;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Locale;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.RegExUtils;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
-@picocli.CommandLine.Command(description = "Run a performance test against a list of Camel Quarkus versions and print a report")
+@picocli.CommandLine.Command(description = "Run a suite of performance scenarios against a list of Camel Quarkus versions and print a report")
 public class PerfRegressionCommand implements Runnable {
 
-    private static NumberFormat US_NUMBER_FORMAT = NumberFormat.getInstance(Locale.US);
-
     private static Path PERF_SAMPLE_TEMPLATE_FOLDER = Paths.get("cq-perf-regression-sample-base");
 
     @Parameters(paramLabel = "<versions>", arity = "1..*", description = "A list of versions, e.g: 2.7.0 2.8.0-SNAPSHOT")
@@ -54,9 +51,25 @@ public class PerfRegressionCommand implements Runnable {
     private String camelStagingRepository;
 
     @Option(names = { "-d",
-            "--duration" }, defaultValue = "10m", description = "The duration of a single performance test scenario (e.g. 45s, 30m, 1h). Up to 2 scenarios per version could be run.")
+            "--duration" }, defaultValue = "10m", description = "The duration of a single performance test scenario (e.g. 45s, 30m, 1h). Each scenario is run once per version and mode.")
     private String singleScenarioDuration;
 
+    @Option(names = { "-s",
+            "--scenarios" }, split = ",", defaultValue = "hello,split-aggregate,marshalling,file-polling", description = "The scenarios to run, among hello, split-aggregate, marshalling, file-polling and kafka. The kafka scenario needs a broker, see --kafka-brokers.")
+    private String[] scenarios = {};
+
+    @Option(names = { "-kb",
+            "--kafka-brokers" }, defaultValue = "localhost:9092", description = "The Kafka brokers used by the kafka scenario, which is expected to be able to create its own topic.")
+    private String kafkaBrokers;
+
+    @Option(names = { "-b",
+            "--baseline" }, description = "The version every other version is compared to, e.g: 3.20.0. By default, each version is compared to the previous one.")
+    private String baselineVersion;
+
+    @Option(names = { "-t",
+            "--threshold" }, paramLabel = "<metric>=<percent>", description = "The percent change in the wrong direction from which a metric is reported as a potential regression, e.g: -t p99=15 -t rss=20. Metrics are throughput, p50, p99, p99.9, rss, heap and first-request.")
+    private Map<String, Double> thresholds = new HashMap<>();
+
     @Option(names = { "-an",
             "--also-run-native-mode" }, description = "Tells whether the throughput test should also be run in native mode. By default, run in JVM mode only.")
     private boolean alsoRunNativeMode;
@@ -67,7 +80,15 @@ public class PerfRegressionCommand implements Runnable {
 
     @Override
     public void run() {
-        PerformanceRegressionReport report = new PerformanceRegressionReport(singleScenarioDuration);
+        Map<Metric, Double> metricThresholds = new EnumMap<>(Metric.class);
+        thresholds.forEach((id, threshold) -> metricThresholds.put(Metric.fromId(id), threshold));
+        for (String scenario : scenarios) {
+            if (!Files.exists(PERF_SAMPLE_TEMPLATE_FOLDER.resolve("scenarios").resolve(scenario + ".hf.yaml"))) {
+                throw new IllegalArgumentException("Unknown scenario '" + scenario + "'");
+            }
+        }
+        PerformanceRegressionReport report = new PerformanceRegressionReport(singleScenarioDuration, baselineVersion,
+                metricThresholds);
 
         Path cqVersionsUnderTestFolder = Paths.get("target/cq-versions-under-test");
         try {
@@ -100,7 +121,7 @@ public class PerfRegressionCommand implements Runnable {
         // Copy the template project into a folder dedicated to cqVersion tests
         FileUtils.copyDirectory(PERF_SAMPLE_TEMPLATE_FOLDER.toFile(), cqVersionUnderTestFolder.toFile());
 
-        FileEditionHelper.instantiateHyperfoilBenchmark(cqVersionUnderTestFolder, singleScenarioDuration);
+        FileEditionHelper.instantiateHyperfoilBenchmarks(cqVersionUnderTestFolder, singleScenarioDuration);
         FileEditionHelper.instantiatePomFile(cqVersionUnderTestFolder, cqVersion, cqStagingRepository, camelStagingRepository);
 
         // Locally sets the right maven version in the maven wrapper
@@ -110,19 +131,43 @@ public class PerfRegressionCommand implements Runnable {
         String targetMavenVersion = getTargetMavenVersion(cqVersionUnderTestFolder);
         setMvnwMavenVersion(cqVersionUnderTestFolder, targetMavenVersion);
 
-        // Run performance regression test in JVM mode
-        double jvmThroughput = runPerfRegression(cqVersionUnderTestFolder, "integration-test -Denforcer.skip=true");
-        report.setCategoryMeasureForVersion(cqVersion, "JVM", jvmThroughput);
+        // Run performance regression scenarios in JVM mode
+        runScenarios(cqVersionUnderTestFolder, cqVersion, "JVM", "verify -Denforcer.skip=true", report);
 
-        // Run performance regression test in native mode
+        // Run performance regression scenarios in native mode
         if (alsoRunNativeMode) {
-            String nativeCommandArgs = "integration-test -Dnative -Dquarkus.native.container-build=true -Denforcer.skip=true";
+            String nativeCommandArgs = "verify -Dnative -Dquarkus.native.container-build=true -Denforcer.skip=true";
             if (useMandrelNativeBuilder) {
                 nativeCommandArgs += " -Dquarkus.native.builder-image=mandrel";
             }
-            double nativeThroughput = runPerfRegression(cqVersionUnderTestFolder, nativeCommandArgs);
+            runScenarios(cqVersionUnderTestFolder, cqVersion, "Native", nativeCommandArgs, report);
+        }
+    }
+
+    private void runScenarios(Path cqVersionUnderTestFolder, String cqVersion, String category, String args,
+            PerformanceRegressionReport report) throws IOException {
+        boolean built = false;
+        for (String scenario : scenarios) {
+            String scenarioArgs = args + " -Dperf.scenario=" + scenario;
+            if ("kafka".equals(scenario)) {
+                scenarioArgs += " -Dperf.kafka.enabled=true -Dperf.kafka.brokers=" + kafkaBrokers;
+            }
+            // All scenarios are served by the same application, there is no need to build it more than once per mode
+            if (built) {
+                scenarioArgs += " -Dquarkus.build.skip=true";
+            }
 
-            report.setCategoryMeasureForVersion(cqVersion, "Native", nativeThroughput);
+            // The application reports its memory and startup metrics at the end of each scenario
+            Files.deleteIfExists(cqVersionUnderTestFolder.resolve("target/perf-metrics.properties"));
+            String stdout = MvnwCmdHelper.execute(cqVersionUnderTestFolder, scenarioArgs);
+            built = true;
+
+            report.setMeasure(cqVersion, scenario, category, Metric.THROUGHPUT,
+                    MeasureExtractionHelper.extractThroughput(stdout));
+            MeasureExtractionHelper.extractLatencyPercentiles(stdout)
+                    .forEach((metric, value) -> report.setMeasure(cqVersion, scenario, category, metric, value));
+            MeasureExtractionHelper.readApplicationMetrics(cqVersionUnderTestFolder)
+                    .forEach((metric, value) -> report.setMeasure(cqVersion, scenario, category, metric, value));
         }
     }
 
@@ -139,18 +184,4 @@ public class PerfRegressionCommand implements Runnable {
         MvnwCmdHelper.execute(cqVersionUnderTestFolder, "wrapper:wrapper -Dmaven=" + targetMavenVersion);
     }
 
-    private static double runPerfRegression(Path cqVersionUnderTestFolder, String args) {
-        String stdout = MvnwCmdHelper.execute(cqVersionUnderTestFolder, args);
-
-        // Extract the throughput from a log line like "15:26:23,110 INFO  (main) [i.h.m.RunMojo] Requests/sec: 1153.56"
-        String throughput = RegExUtils.replacePattern((CharSequence) stdout, ".*RunMojo] Requests/sec: ([0-9.]+).*", "$1");
-
-        try {
-            return US_NUMBER_FORMAT.parse(throughput).doubleValue();
-        } catch (ParseException pex) {
-            throw new RuntimeException(
-                    "An issue occured while parsing the mean throughput measured by the hyperfoil-maven-plugin", pex);
-        }
-    }
-
 }
@@ -16,9 +16,14 @@
  */
 package org.apache.camel.quarkus.performance.regression;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.apache.maven.artifact.versioning.ComparableVersion;
@@ -27,69 +32,101 @@ import tech.tablesaw.api.Table;
 
 /**
  * Provide a human readable performance regression report ready to be printed to
- * the console. For each camel-quarkus version, the report will print:
- * + The throughput for each measure in a category (JVM, Native) in a new column
- * + The percent increase throughput compared to the previous row in the same column
+ * the console. For each scenario and category (JVM, Native), a table is printed with for each camel-quarkus version:
+ * + Each collected metric in its own column
+ * + The percent change of each metric compared to the baseline version, or to the previous row when no baseline is set
+ * + The metrics whose change exceeds their threshold in the wrong direction, if any
  */
 public class PerformanceRegressionReport {
 
-    private String duration;
-    private TreeMap<ComparableVersion, Map<String, Double>> measuresPerVersion = new TreeMap<>();
+    private final String duration;
+    private final ComparableVersion baselineVersion;
+    private final Map<Metric, Double> thresholds = new EnumMap<>(Metric.class);
+    private final Map<String, Map<String, TreeMap<ComparableVersion, Map<Metric, Double>>>> measuresPerScenario;
 
     public PerformanceRegressionReport(String duration) {
+        this(duration, null, Map.of());
+    }
+
+    /**
+     * @param baselineVersion the version every other version is compared to, or {@code null} to compare each version
+     *                        to the previous one
+     * @param thresholds      the thresholds overriding {@link Metric#getDefaultThreshold()}, in percent
+     */
+    public PerformanceRegressionReport(String duration, String baselineVersion, Map<Metric, Double> thresholds) {
         this.duration = duration;
+        this.measuresPerScenario = new LinkedHashMap<>();
+        this.baselineVersion = baselineVersion == null ? null : new ComparableVersion(baselineVersion);
+        for (Metric metric : Metric.values()) {
+            this.thresholds.put(metric, thresholds.getOrDefault(metric, metric.getDefaultThreshold()));
+        }
     }
 
-    public void setCategoryMeasureForVersion(String cqVersion, String category, double throughput) {
+    public void setMeasure(String cqVersion, String scenario, String category, Metric metric, double value) {
+        if (Double.isNaN(value)) {
+            // Not collected by this run, e.g. when the application under test could not report its memory usage
+            return;
+        }
         ComparableVersion version = new ComparableVersion(cqVersion);
-        measuresPerVersion.computeIfAbsent(version, k -> new HashMap<>()).put(category, throughput);
+        measuresPerScenario.computeIfAbsent(scenario, k -> new LinkedHashMap<>())
+                .computeIfAbsent(category, k -> new TreeMap<>())
+                .computeIfAbsent(version, k -> new EnumMap<>(Metric.class))
+                .put(metric, value);
     }
 
     public String printAll() {
-        Table table = Table.create("Camel Quarkus Throughput Performance Increase Compared to Previous Version");
+        List<String> tables = new ArrayList<>();
+        measuresPerScenario.forEach((scenario, measuresPerCategory) -> measuresPerCategory
+                .forEach((category, measures) -> tables.add(printTable(scenario, category, measures))));
+        return String.join(System.lineSeparator() + System.lineSeparator(), tables);
+    }
+
+    private String printTable(String scenario, String category, TreeMap<ComparableVersion, Map<Metric, Double>> measures) {
+        Map<Metric, Double> baselineMeasures = baselineVersion == null ? null : measures.get(baselineVersion);
+        String reference = baselineMeasures == null ? "Previous Version" : "Version " + baselineVersion;
+        Table table = Table.create("Camel Quarkus '" + scenario + "' Scenario in " + category + " Mode Compared to "
+                + reference);
+
+        Set<Metric> metrics = EnumSet.noneOf(Metric.class);
+        measures.values().forEach(m -> metrics.addAll(m.keySet()));
 
         StringColumn cqVersionsColumn = StringColumn.create("Camel Quarkus version");
         StringColumn durationsColumn = StringColumn.create("Duration");
-        StringColumn jvmMeasuresColumn = StringColumn.create("JVM req/s [%increase]");
-        StringColumn nativeMeasuresColumn = StringColumn.create("Native req/s [%increase]");
+        Map<Metric, StringColumn> metricColumns = new EnumMap<>(Metric.class);
+        for (Metric metric : metrics) {
+            metricColumns.put(metric, StringColumn.create(metric.getLabel() + " [%change]"));
+        }
         StringColumn statusColumn = StringColumn.create("Status");
-        double previousJvmMeasure = Double.POSITIVE_INFINITY;
-        double previousNativeMeasure = Double.POSITIVE_INFINITY;
 
-        for (Map.Entry<ComparableVersion, Map<String, Double>> measurePerVersion : measuresPerVersion.entrySet()) {
-            cqVersionsColumn.append(measurePerVersion.getKey().toString());
+        Map<Metric, Double> previousMeasures = new EnumMap<>(Metric.class);
+        for (Map.Entry<ComparableVersion, Map<Metric, Double>> measuresPerVersion : measures.entrySet()) {
+            cqVersionsColumn.append(measuresPerVersion.getKey().toString());
             durationsColumn.append(duration);
-            boolean regressionDetected = false;
-
-            double jvmMeasure = measurePerVersion.getValue().get("JVM");
-            double percentIncreaseJvm = (previousJvmMeasure == Double.POSITIVE_INFINITY) ? 0.0
-                    : ((jvmMeasure / previousJvmMeasure) - 1.0) * 100.0;
-            jvmMeasuresColumn.append(String.format(Locale.US, "%.2f req/s [%+.2f%%]", jvmMeasure, percentIncreaseJvm));
-            previousJvmMeasure = jvmMeasure;
-            if (percentIncreaseJvm <= -5.00) {
-                regressionDetected = true;
-            }
+            List<String> regressions = new ArrayList<>();
 
-            if (measurePerVersion.getValue().containsKey("Native")) {
-                double nativeMeasure = measurePerVersion.getValue().get("Native");
-                double percentIncreaseNative = (previousNativeMeasure == Double.POSITIVE_INFINITY) ? 0.0
-                        : ((nativeMeasure / previousNativeMeasure) - 1.0) * 100.0;
-                nativeMeasuresColumn
-                        .append(String.format(Locale.US, "%.2f req/s [%+.2f%%]", nativeMeasure, percentIncreaseNative));
-                previousNativeMeasure = nativeMeasure;
-                if (percentIncreaseNative <= -5.00) {
-                    regressionDetected = true;
+            for (Metric metric : metrics) {
+                Double measure = measuresPerVersion.getValue().get(metric);
+                if (measure == null) {
+                    metricColumns.get(metric).append("n/a");
+                    continue;
+                }
+                Double referenceMeasure = baselineMeasures != null ? baselineMeasures.get(metric)
+                        : previousMeasures.get(metric);
+                double percentChange = referenceMeasure == null ? 0.0 : ((measure / referenceMeasure) - 1.0) * 100.0;
+                metricColumns.get(metric).append(
+                        String.format(Locale.US, "%.2f %s [%+.2f%%]", measure, metric.getUnit(), percentChange));
+                previousMeasures.put(metric, measure);
+                if (metric.isRegression(percentChange, thresholds.get(metric))) {
+                    regressions.add(metric.getId());
                 }
             }
 
-            statusColumn.append(regressionDetected ? "Potential performance regression" : "OK");
+            statusColumn.append(regressions.isEmpty() ? "OK" : "Potential regression: " + String.join(", ", regressions));
         }
 
-        if (!nativeMeasuresColumn.isEmpty()) {
-            table.addColumns(cqVersionsColumn, durationsColumn, jvmMeasuresColumn, nativeMeasuresColumn, statusColumn);
-        } else {
-            table.addColumns(cqVersionsColumn, durationsColumn, jvmMeasuresColumn, statusColumn);
-        }
+        table.addColumns(cqVersionsColumn, durationsColumn);
+        metricColumns.values().forEach(table::addColumns);
+        table.addColumns(statusColumn);
 
         return table.printAll();
     }
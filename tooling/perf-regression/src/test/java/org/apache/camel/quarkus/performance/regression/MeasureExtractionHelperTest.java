@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.performance.regression;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MeasureExtractionHelperTest {
+
+    @Test
+    public void extractThroughputAndPercentilesShouldSucceed() throws IOException {
+        String stdout = IOUtils.resourceToString("/hyperfoil-run-output.txt", StandardCharsets.UTF_8);
+
+        assertEquals(1153.56, MeasureExtractionHelper.extractThroughput(stdout), 0.001);
+
+        Map<Metric, Double> percentiles = MeasureExtractionHelper.extractLatencyPercentiles(stdout);
+        assertEquals(83.902, percentiles.get(Metric.LATENCY_P50), 0.001);
+        assertEquals(128.513, percentiles.get(Metric.LATENCY_P99), 0.001);
+        assertEquals(181.246, percentiles.get(Metric.LATENCY_P999), 0.001);
+    }
+
+    @Test
+    public void extractPercentilesWithoutDistributionShouldReturnNaN() {
+        Map<Metric, Double> percentiles = MeasureExtractionHelper
+                .extractLatencyPercentiles("15:26:23,110 INFO  (main) [i.h.m.RunMojo] Requests/sec: 1153.56");
+        assertTrue(percentiles.values().stream().allMatch(value -> value.isNaN()));
+    }
+
+    @Test
+    public void readApplicationMetricsShouldSucceed(@TempDir Path cqVersionUnderTestFolder) throws IOException {
+        Files.createDirectories(cqVersionUnderTestFolder.resolve("target"));
+        Files.writeString(cqVersionUnderTestFolder.resolve("target/perf-metrics.properties"),
+                "rss.bytes=157286400\nheap.after.gc.bytes=-1\ntime.to.first.request.ms=734\n");
+
+        Map<Metric, Double> metrics = MeasureExtractionHelper.readApplicationMetrics(cqVersionUnderTestFolder);
+        assertEquals(150.0, metrics.get(Metric.RSS), 0.001);
+        assertTrue(metrics.get(Metric.HEAP_AFTER_GC).isNaN());
+        assertEquals(734.0, metrics.get(Metric.TIME_TO_FIRST_REQUEST), 0.001);
+    }
+}
@@ -18,6 +18,7 @@ package org.apache.camel.quarkus.performance.regression;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
@@ -29,17 +30,17 @@ public class PerformanceRegressionReportTest {
     @Test
     public void printAllJvmAndNativeShouldSucceed() throws IOException {
         PerformanceRegressionReport sut = new PerformanceRegressionReport("10m");
-        sut.setCategoryMeasureForVersion("2.10.0", "JVM", 333.45);
-        sut.setCategoryMeasureForVersion("2.6.0", "JVM", 380.0);
-        sut.setCategoryMeasureForVersion("2.8.75", "JVM", 370.5);
-        sut.setCategoryMeasureForVersion("2.7.0", "JVM", 390.0);
-        sut.setCategoryMeasureForVersion("2.9.0", "JVM", 370.5);
-
-        sut.setCategoryMeasureForVersion("2.10.0", "Native", 225.0);
-        sut.setCategoryMeasureForVersion("2.6.0", "Native", 1080.0);
-        sut.setCategoryMeasureForVersion("2.8.75", "Native", 1134.0);
-        sut.setCategoryMeasureForVersion("2.7.0", "Native", 1134.0);
-        sut.setCategoryMeasureForVersion("2.9.0", "Native", 250.0);
+        sut.setMeasure("2.10.0", "hello", "JVM", Metric.THROUGHPUT, 333.45);
+        sut.setMeasure("2.6.0", "hello", "JVM", Metric.THROUGHPUT, 380.0);
+        sut.setMeasure("2.8.75", "hello", "JVM", Metric.THROUGHPUT, 370.5);
+        sut.setMeasure("2.7.0", "hello", "JVM", Metric.THROUGHPUT, 390.0);
+        sut.setMeasure("2.9.0", "hello", "JVM", Metric.THROUGHPUT, 370.5);
+
+        sut.setMeasure("2.10.0", "hello", "Native", Metric.THROUGHPUT, 225.0);
+        sut.setMeasure("2.6.0", "hello", "Native", Metric.THROUGHPUT, 1080.0);
+        sut.setMeasure("2.8.75", "hello", "Native", Metric.THROUGHPUT, 1134.0);
+        sut.setMeasure("2.7.0", "hello", "Native", Metric.THROUGHPUT, 1134.0);
+        sut.setMeasure("2.9.0", "hello", "Native", Metric.THROUGHPUT, 250.0);
 
         String expected = IOUtils.resourceToString("/expecteds/jvm-and-native.txt", StandardCharsets.UTF_8);
         expected = expected.replaceAll("\\n", System.lineSeparator());
@@ -49,12 +50,33 @@ public class PerformanceRegressionReportTest {
     @Test
     public void printAllJvmShouldSucceed() throws IOException {
         PerformanceRegressionReport sut = new PerformanceRegressionReport("1h");
-        sut.setCategoryMeasureForVersion("2.10.0", "JVM", 900.00);
-        sut.setCategoryMeasureForVersion("2.6.0", "JVM", 300.0);
-        sut.setCategoryMeasureForVersion("3.61.15", "JVM", 300.0);
+        sut.setMeasure("2.10.0", "hello", "JVM", Metric.THROUGHPUT, 900.00);
+        sut.setMeasure("2.6.0", "hello", "JVM", Metric.THROUGHPUT, 300.0);
+        sut.setMeasure("3.61.15", "hello", "JVM", Metric.THROUGHPUT, 300.0);
 
         String expected = IOUtils.resourceToString("/expecteds/jvm-only.txt", StandardCharsets.UTF_8);
         expected = expected.replaceAll("\\n", System.lineSeparator());
         assertEquals(expected, sut.printAll());
     }
+
+    @Test
+    public void printAllAgainstBaselineWithThresholdsShouldSucceed() throws IOException {
+        PerformanceRegressionReport sut = new PerformanceRegressionReport("30s", "2.7.0",
+                Map.of(Metric.LATENCY_P99, 15.0, Metric.RSS, 20.0));
+        setMeasures(sut, "2.6.0", 1200.0, 1.2, 4.8, 12.5, 180.25, 42.5, 850.0);
+        setMeasures(sut, "2.7.0", 1250.0, 1.1, 4.0, 10.0, 160.0, 40.0, 800.0);
+        // The time to first request could not be collected for this version
+        setMeasures(sut, "2.8.0", 1180.0, 1.15, 4.5, 13.0, 200.0, 41.0, Double.NaN);
+
+        String expected = IOUtils.resourceToString("/expecteds/baseline-and-thresholds.txt", StandardCharsets.UTF_8);
+        expected = expected.replaceAll("\\n", System.lineSeparator());
+        assertEquals(expected, sut.printAll());
+    }
+
+    private static void setMeasures(PerformanceRegressionReport sut, String cqVersion, double... measures) {
+        Metric[] metrics = Metric.values();
+        for (int i = 0; i < metrics.length; i++) {
+            sut.setMeasure(cqVersion, "split-aggregate", "JVM", metrics[i], measures[i]);
+        }
+    }
 }
@@ -55,6 +55,10 @@ public class PerfRegressionIT {
             assertThat(processOutput, containsString("-cqs, --camel-quarkus-staging-repository=<cqStagingRepository>"));
             assertThat(processOutput, containsString("-cs, --camel-staging-repository=<camelStagingRepository>"));
             assertThat(processOutput, containsString("-d, --duration=<singleScenarioDuration>"));
+            assertThat(processOutput, containsString("-s, --scenarios=<scenarios>"));
+            assertThat(processOutput, containsString("-kb, --kafka-brokers=<kafkaBrokers>"));
+            assertThat(processOutput, containsString("-b, --baseline=<baselineVersion>"));
+            assertThat(processOutput, containsString("-t, --threshold=<metric>=<percent>"));
             assertThat(processOutput, containsString("-umnb, --use-mandrel-native-builder"));
         } catch (InvalidExitValueException ievex) {
             fail("The perf-regression process has finished with an unexpected exit value", ievex);
@@ -89,14 +93,14 @@ public class PerfRegressionIT {
             }
 
             String processOutput = new ProcessExecutor()
-                    .command(javaCommand, "-jar", "target/quarkus-app/quarkus-run.jar", "-d", "1s", cqVersion)
+                    .command(javaCommand, "-jar", "target/quarkus-app/quarkus-run.jar", "-d", "1s", "-s", "hello", cqVersion)
                     .environment("LANG", locale + ".UTF-8")
                     .readOutput(true)
                     .exitValue(0)
                     .execute()
                     .outputUTF8();
 
-            String reportSummary = "Camel Quarkus Throughput Performance Increase Compared to Previous Version";
+            String reportSummary = "Camel Quarkus 'hello' Scenario in JVM Mode Compared to Previous Version";
             assertThat(processOutput, containsString(reportSummary));
 
             String reportAndStopLogs = StringUtils.substringAfter(processOutput, reportSummary);
@@ -105,7 +109,10 @@ public class PerfRegressionIT {
             assertThat(reportAndStopLines.length, greaterThanOrEqualTo(4));
 
             String titleLine = reportAndStopLines[1];
-            assertThat(titleLine, containsString(" JVM req/s [%increase] "));
+            assertThat(titleLine, containsString(" req/s [%change] "));
+            assertThat(titleLine, containsString(" p99 [%change] "));
+            assertThat(titleLine, containsString(" RSS [%change] "));
+            assertThat(titleLine, containsString(" First request [%change] "));
 
             String reportLine = reportAndStopLines[3];
             assertThat(reportLine, containsString(" " + cqVersion + " "));